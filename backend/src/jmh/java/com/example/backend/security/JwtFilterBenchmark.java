@@ -0,0 +1,126 @@
+package com.example.backend.security;
+
+import com.example.backend.entity.user.User;
+import com.example.backend.entity.user.enumeration.AuthProvider;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.entity.user.enumeration.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 처리량 비교 (requests/sec)
+ * - dbLookup  : 기존 방식. 요청마다 email 로 사용자 SELECT
+ * - stateless : 토큰 claims 로 principal 생성. DB I/O 없음
+ * DB 는 in-memory H2 라 네트워크 왕복이 없는 하한값. 실제 DB 에서는 차이가 더 벌어짐
+ *
+ * ./gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private Connection connection;
+    private JwtFilter dbLookupFilter;
+    private JwtFilter statelessFilter;
+    private String token;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jwt-bench;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table users (id bigint primary key, email varchar(255) unique, role varchar(32), language varchar(8), auth_provider varchar(16))");
+            statement.execute("insert into users values (1, '" + EMAIL + "', 'ROLE_PREMIER', 'KO', 'LOCAL')");
+        }
+
+        byte[] secret = new byte[32];
+        new java.security.SecureRandom().nextBytes(secret);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtProvider jwtProvider = new JwtProvider(Base64.getEncoder().encodeToString(secret), 3_600_000L, meterRegistry);
+        // Redis 없이 인스턴스 로컬 폐기 목록만 사용
+        TokenRevocationStore revocationStore = new TokenRevocationStore(
+                new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class), 3_600_000L, 5000);
+        CustomUserDetailsService jdbcUserDetailsService = new JdbcUserDetailsService(connection);
+
+        dbLookupFilter = new JwtFilter(jwtProvider, jdbcUserDetailsService, revocationStore, false, meterRegistry);
+        statelessFilter = new JwtFilter(jwtProvider, jdbcUserDetailsService, revocationStore, true, meterRegistry);
+        token = jwtProvider.tokenProvide(jdbcUserDetailsService.loadUserByUsername(EMAIL));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public Object dbLookup() throws Exception {
+        return filter(dbLookupFilter);
+    }
+
+    @Benchmark
+    public Object stateless() throws Exception {
+        return filter(statelessFilter);
+    }
+
+    private Object filter(JwtFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+        request.setCookies(new Cookie("ACCESS_TOKEN", token));
+        filter.doFilter(request, new MockHttpServletResponse(), NOOP_CHAIN);
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    // UserRepository.findByEmail 과 같은 SELECT 를 JDBC 로 수행
+    private static class JdbcUserDetailsService extends CustomUserDetailsService {
+
+        private final Connection connection;
+
+        JdbcUserDetailsService(Connection connection) {
+            super(null);
+            this.connection = connection;
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String email) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "select id, email, role, language, auth_provider from users where email = ?")) {
+                statement.setString(1, email);
+                try (ResultSet rs = statement.executeQuery()) {
+                    if(!rs.next()) return null;
+                    return new CustomUserDetails(User.builder()
+                            .id(rs.getLong(1))
+                            .email(rs.getString(2))
+                            .role(Role.valueOf(rs.getString(3)))
+                            .language(Language.valueOf(rs.getString(4)))
+                            .authProvider(AuthProvider.valueOf(rs.getString(5)))
+                            .build());
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.backend.service.book;
+
+import com.example.backend.entity.book.enumeration.RightsStatus;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.service.book.utility.BookSnapshot;
+import com.example.backend.service.book.utility.LongBookTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1M 권 카탈로그에서 id 로 Book 한 건 조회
+ * - cache : LongBookTable (heap / off-heap arena)
+ * - jdbc  : in-memory H2 primary key SELECT. JPA(영속성 컨텍스트, 엔티티 생성) 비용이 빠진 DB 경로의 하한값
+ * setup 에서 100만 권 기준 heap / off-heap 사용량을 출력
+ *
+ * ./gradlew jmh -Pjmh.includes=BookCatalogCacheBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BookCatalogCacheBenchmark {
+
+    @Param({"1000000"})
+    public int books;
+
+    @Param({"false", "true"})
+    public boolean offHeap;
+
+    private LongBookTable table;
+    private Connection connection;
+    private PreparedStatement select;
+    private long[] ids;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws SQLException {
+        SplittableRandom random = new SplittableRandom(42);
+        table = new LongBookTable(books, offHeap);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:catalog-bench-" + offHeap + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table book (id bigint primary key, title varchar(255), author varchar(255), language varchar(8), publication_year int, rights_status varchar(16))");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("insert into book values (?, ?, ?, ?, ?, ?)")) {
+            for(long id = 1; id <= books; id++) {
+                String title = "The History of Something Volume " + id;
+                String author = "Author " + (id % 50_000) + ", 1800-1870";
+                int year = 1800 + random.nextInt(150);
+                table.put(new BookSnapshot(id, title, author, Language.EN, year, RightsStatus.PUBLIC_DOMAIN));
+
+                insert.setLong(1, id);
+                insert.setString(2, title);
+                insert.setString(3, author);
+                insert.setString(4, Language.EN.name());
+                insert.setInt(5, year);
+                insert.setString(6, RightsStatus.PUBLIC_DOMAIN.name());
+                insert.addBatch();
+                if(id % 10_000 == 0) insert.executeBatch();
+            }
+            insert.executeBatch();
+        }
+        select = connection.prepareStatement("select id, title, author, language, publication_year, rights_status from book where id = ?");
+
+        double perMillion = 1_000_000.0 / table.size();
+        System.out.printf("%nbooks=%d, offHeap=%s, heap=%.1f MB, off-heap=%.1f MB (per 1M books: heap %.1f MB, off-heap %.1f MB)%n",
+                table.size(), offHeap,
+                table.heapBytes() / 1024.0 / 1024.0, table.offHeapBytes() / 1024.0 / 1024.0,
+                table.heapBytes() * perMillion / 1024.0 / 1024.0, table.offHeapBytes() * perMillion / 1024.0 / 1024.0);
+
+        ids = new long[4096];
+        for(int i = 0; i < ids.length; i++) {
+            ids[i] = 1 + random.nextInt(books);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        select.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public BookSnapshot cache() {
+        return table.get(ids[cursor++ & (ids.length - 1)]);
+    }
+
+    @Benchmark
+    public BookSnapshot jdbc() throws SQLException {
+        select.setLong(1, ids[cursor++ & (ids.length - 1)]);
+        try (ResultSet resultSet = select.executeQuery()) {
+            if(!resultSet.next()) return null;
+            return new BookSnapshot(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                    Language.valueOf(resultSet.getString(4)), resultSet.getInt(5),
+                    RightsStatus.valueOf(resultSet.getString(6)));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.backend.service.search;
+
+import com.example.backend.service.search.utility.FuzzyTermIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1M term 사전에서 편집 거리 2 lookup: 정렬 배열 + Levenshtein automaton 순회 vs 전체 term 비교
+ *
+ * ./gradlew jmh -Pjmh.includes=FuzzyTermIndexBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FuzzyTermIndexBenchmark {
+
+    @Param({"1000000"})
+    public int terms;
+
+    private FuzzyTermIndex index;
+    private String[] dictionary;
+    private String[] queries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        FuzzyTermIndex.Builder builder = FuzzyTermIndex.builder();
+        List<String> words = new ArrayList<>(terms);
+        for(int i = 0; i < terms; i++) {
+            String word = randomWord(random);
+            words.add(word);
+            builder.add(word, i);
+        }
+        index = builder.build();
+        dictionary = words.toArray(new String[0]);
+        System.out.printf("%nterms=%d, estimated heap=%.1f MB%n", index.size(), index.estimatedBytes() / 1024.0 / 1024.0);
+
+        // 사전에 있는 단어에 오타 1~2개를 넣은 검색어
+        queries = new String[256];
+        for(int i = 0; i < queries.length; i++) {
+            char[] chars = dictionary[random.nextInt(dictionary.length)].toCharArray();
+            int typos = 1 + random.nextInt(2);
+            for(int t = 0; t < typos; t++) {
+                chars[random.nextInt(chars.length)] = (char) ('a' + random.nextInt(26));
+            }
+            queries[i] = new String(chars);
+        }
+    }
+
+    @Benchmark
+    public List<FuzzyTermIndex.Match> automaton() {
+        return index.lookup(queries[cursor++ & (queries.length - 1)], 2);
+    }
+
+    @Benchmark
+    public List<String> naiveScan() {
+        String query = queries[cursor++ & (queries.length - 1)];
+        List<String> matches = new ArrayList<>();
+        for(String word : dictionary) {
+            if(Math.abs(word.length() - query.length()) <= 2 && levenshtein(query, word) <= 2) {
+                matches.add(word);
+            }
+        }
+        return matches;
+    }
+
+    private static String randomWord(SplittableRandom random) {
+        int length = 5 + random.nextInt(8);
+        StringBuilder builder = new StringBuilder(length);
+        for(int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(26)));
+        }
+        return builder.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for(int j = 0; j <= b.length(); j++) previous[j] = j;
+        for(int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for(int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(previous[j - 1] + cost, Math.min(previous[j] + 1, current[j - 1] + 1));
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.backend.service.search;
+
+import com.example.backend.service.search.utility.PrefixIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1M 제목 카탈로그 자동완성 지연시간 (p99 는 SampleTime 결과의 p0.99 참고)
+ * setup 에서 index 추정 메모리 사용량을 출력
+ *
+ * ./gradlew jmh -Pjmh.includes=PrefixIndexBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PrefixIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "history", "of", "adventures", "war", "peace", "love", "letters", "journey", "tales",
+            "poems", "life", "sea", "night", "king", "queen", "garden", "secret", "island", "mystery"
+    };
+
+    @Param({"1000000"})
+    public int titles;
+
+    private PrefixIndex index;
+    private String[] prefixes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        PrefixIndex.Builder builder = PrefixIndex.builder();
+        for(int i = 0; i < titles; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            builder.add(title, PrefixIndex.TITLE, i, random.nextInt(10_000));
+            if(i % 10 == 0) builder.add("Author " + (i / 10), PrefixIndex.AUTHOR, i, random.nextInt(10_000));
+        }
+        index = builder.build();
+        System.out.printf("%nentries=%d, estimated heap=%.1f MB%n", index.size(), index.estimatedBytes() / 1024.0 / 1024.0);
+
+        prefixes = new String[1024];
+        for(int i = 0; i < prefixes.length; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            prefixes[i] = word.substring(0, 1 + random.nextInt(word.length()));
+        }
+    }
+
+    @Benchmark
+    public List<PrefixIndex.Suggestion> suggestTop10() {
+        return index.suggest(prefixes[cursor++ & (prefixes.length - 1)], 10);
+    }
+}
@@ -1,4 +1,135 @@
 package com.example.backend.controller;
 
+import com.example.backend.controller.utility.ResponseController;
+import com.example.backend.dto.book.BookIngestStatusResponse;
+import com.example.backend.dto.book.BookReindexStatusResponse;
+import com.example.backend.dto.book.BookTextPipelineStatusResponse;
+import com.example.backend.dto.user.UserImportStatusResponse;
+import com.example.backend.service.UserImportService;
+import com.example.backend.service.book.BookCatalogCache;
+import com.example.backend.service.book.BookIngestService;
+import com.example.backend.service.book.BookTextPipelineService;
+import com.example.backend.service.mail.MailOutboxService;
+import com.example.backend.service.profiler.RequestProfiler;
+import com.example.backend.service.search.AutocompleteService;
+import com.example.backend.service.search.BookIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j @RequiredArgsConstructor
+@RestController @RequestMapping("/api/admin")
 public class AdminController {
+
+    private final BookIndexService bookIndexService;
+    private final BookIngestService bookIngestService;
+    private final AutocompleteService autocompleteService;
+    private final BookCatalogCache bookCatalogCache;
+    private final BookTextPipelineService bookTextPipelineService;
+    private final RequestProfiler requestProfiler;
+    private final MailOutboxService mailOutboxService;
+    private final UserImportService userImportService;
+
+
+    // ***** <<<<<SEARCH INDEX>>>>> ***** //
+    // 새 인덱스에 partition 병렬 재색인 후 교체. 중단된 재색인이 있으면 이어서 진행
+    @PostMapping("/book/index")
+    public ResponseEntity<?> indexBooks() throws Exception {
+        BookReindexStatusResponse status = bookIndexService.start();
+        return ResponseController.success(status);
+    }
+
+    @GetMapping("/book/index")
+    public ResponseEntity<?> getIndexStatus() throws Exception {
+        return ResponseController.success(bookIndexService.getStatus());
+    }
+
+    // 끝나지 않은 재색인을 이어서 하지 않고 버림 (checkpoint, 변경 기록, 만들던 인덱스 삭제)
+    @DeleteMapping("/book/index")
+    public ResponseEntity<?> abandonIndexBuild() throws Exception {
+        bookIndexService.abandon();
+        return ResponseController.success(null);
+    }
+
+
+    // ***** <<<<<CATALOG INGEST>>>>> ***** //
+    @PostMapping("/book/ingest")
+    public ResponseEntity<?> ingestBooks(@RequestParam String source) throws Exception {
+        BookIngestStatusResponse status = bookIngestService.start(source);
+        return ResponseController.success(status);
+    }
+
+    @GetMapping("/book/ingest")
+    public ResponseEntity<?> getIngestStatus() throws Exception {
+        return ResponseController.success(bookIngestService.getStatus());
+    }
+
+
+    // ***** <<<<<TEXT PIPELINE>>>>> ***** //
+    @PostMapping("/book/text-pipeline")
+    public ResponseEntity<?> processBookTexts(@RequestParam String source) throws Exception {
+        BookTextPipelineStatusResponse status = bookTextPipelineService.start(source);
+        return ResponseController.success(status);
+    }
+
+    @GetMapping("/book/text-pipeline")
+    public ResponseEntity<?> getTextPipelineStatus() throws Exception {
+        return ResponseController.success(bookTextPipelineService.getStatus());
+    }
+
+
+    // ***** <<<<<AUTOCOMPLETE>>>>> ***** //
+    @GetMapping("/book/autocomplete")
+    public ResponseEntity<?> getAutocompleteStats() throws Exception {
+        return ResponseController.success(autocompleteService.getStats());
+    }
+
+    @PostMapping("/book/autocomplete")
+    public ResponseEntity<?> rebuildAutocomplete() throws Exception {
+        autocompleteService.requestRebuild();
+        return ResponseController.success(autocompleteService.getStats());
+    }
+
+
+    // ***** <<<<<CATALOG CACHE>>>>> ***** //
+    @GetMapping("/book/catalog-cache")
+    public ResponseEntity<?> getCatalogCacheStats() throws Exception {
+        return ResponseController.success(bookCatalogCache.getStats());
+    }
+
+
+    // ***** <<<<<PROFILER>>>>> ***** //
+    // endpoint 별 p50/p90/p99/p999 + 느린 요청(filter/DB/원격 구간)
+    @GetMapping("/profiler")
+    public ResponseEntity<?> getProfile(@RequestParam(defaultValue = "50") int slow) throws Exception {
+        return ResponseController.success(requestProfiler.getProfile(slow));
+    }
+
+    @DeleteMapping("/profiler")
+    public ResponseEntity<?> resetProfile() throws Exception {
+        requestProfiler.reset();
+        return ResponseController.success(null);
+    }
+
+
+    // ***** <<<<<USER IMPORT>>>>> ***** //
+    // 서버 경로의 사용자 CSV 를 JDBC batch 로 등록. 진행 상황과 처리 속도(rows/sec)는 GET 으로 조회
+    @PostMapping("/user/import")
+    public ResponseEntity<?> importUsers(@RequestParam String source) throws Exception {
+        UserImportStatusResponse status = userImportService.start(source);
+        return ResponseController.success(status);
+    }
+
+    @GetMapping("/user/import")
+    public ResponseEntity<?> getUserImportStatus() throws Exception {
+        return ResponseController.success(userImportService.getStatus());
+    }
+
+
+    // ***** <<<<<MAIL OUTBOX>>>>> ***** //
+    @GetMapping("/mail")
+    public ResponseEntity<?> getMailOutboxStatus() throws Exception {
+        return ResponseController.success(mailOutboxService.getStatus());
+    }
 }
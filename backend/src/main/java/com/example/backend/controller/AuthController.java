@@ -3,56 +3,88 @@ package com.example.backend.controller;
 import com.example.backend.controller.utility.ResponseController;
 import com.example.backend.dto.auth.AuthMyInfoResponse;
 import com.example.backend.dto.auth.AuthResetPasswordRequest;
-import com.example.backend.dto.auth.google.GoogleUserInfoResponse;
 import com.example.backend.dto.auth.local.LocalLoginRequest;
 import com.example.backend.dto.auth.local.LocalResisterRequest;
-import com.example.backend.dto.auth.naver.NaverUserInfoResponse;
 import com.example.backend.entity.user.User;
 import com.example.backend.entity.user.enumeration.AuthProvider;
 import com.example.backend.entity.user.enumeration.Language;
 import com.example.backend.security.CustomUserDetails;
-import com.example.backend.security.CustomUserDetailsService;
 import com.example.backend.security.JwtProvider;
+import com.example.backend.security.PasswordHashingExecutor;
 import com.example.backend.service.UserService;
 import com.example.backend.service.auth.GoogleService;
 import com.example.backend.service.auth.NaverService;
+import com.example.backend.service.auth.utility.OutcomeTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-@Slf4j @RequiredArgsConstructor
+import java.net.URI;
+
+@Slf4j
 @RestController @RequestMapping("/api/auth")
 public class AuthController {
 
-    private final CustomUserDetailsService customUserDetailsService;
     private final JwtProvider jwtProvider;
-    private final AuthenticationManager authenticationManager;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     private final UserService userService;
     private final NaverService naverService;
     private final GoogleService googleService;
 
+    // auth.request{action, provider, outcome}
+    private final OutcomeTimer registerLocalTimer;
+    private final OutcomeTimer loginLocalTimer;
+    private final OutcomeTimer loginNaverTimer;
+    private final OutcomeTimer loginGoogleTimer;
+
+    public AuthController(JwtProvider jwtProvider,
+                          PasswordHashingExecutor passwordHashingExecutor,
+                          UserService userService,
+                          NaverService naverService,
+                          GoogleService googleService,
+                          MeterRegistry meterRegistry) {
+        this.jwtProvider = jwtProvider;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.userService = userService;
+        this.naverService = naverService;
+        this.googleService = googleService;
+        this.registerLocalTimer = authTimer(meterRegistry, "register", "local");
+        this.loginLocalTimer = authTimer(meterRegistry, "login", "local");
+        this.loginNaverTimer = authTimer(meterRegistry, "login", "naver");
+        this.loginGoogleTimer = authTimer(meterRegistry, "login", "google");
+    }
+
 
     // ***** <<<<<RESISTER>>>>> ***** //
     @PostMapping("/resister/local")
     public ResponseEntity<?> resisterByLocal(@RequestBody LocalResisterRequest dto) throws Exception {
-        String email = dto.getEmail();
-        String username = dto.getUsername();
-        String encodedPassword = passwordEncoder.encode(dto.getPassword());
-        Language language = Language.fromLocale(dto.getLanguage());
-
-        userService.createUser(email, username, encodedPassword, AuthProvider.LOCAL, language);
-        return ResponseController.success(null);
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            String email = dto.getEmail();
+            String username = dto.getUsername();
+            String encodedPassword = passwordHashingExecutor.encode(dto.getPassword());
+            Language language = Language.fromLocale(dto.getLanguage());
+
+            userService.createUser(email, username, encodedPassword, AuthProvider.LOCAL, language);
+            succeeded = true;
+            return ResponseController.success(null);
+        } finally {
+            registerLocalTimer.record(start, succeeded);
+        }
     }
 
 
@@ -61,93 +93,86 @@ public class AuthController {
     // ***** LOCAL ***** //
     @PostMapping("/login/local")
     public ResponseEntity<?> loginByLocal(@RequestBody LocalLoginRequest dto, HttpServletResponse response) throws Exception {
-        String email = dto.getEmail();
-        String password = dto.getPassword();
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email,password));
-
-        if(!userService.checkAuthProvider(email, AuthProvider.LOCAL)) {
-            throw new IllegalAccessException("다른 방식으로 가입된 회원입니다.");
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            String email = dto.getEmail();
+            String password = dto.getPassword();
+            // 사용자 조회 1회 + BCrypt 전용 pool 에서 비밀번호 확인
+            User user = userService.loginByLocal(email, password);
+
+            String token = jwtProvider.tokenProvide(new CustomUserDetails(user));
+
+            Cookie cookie = new Cookie("ACCESS_TOKEN", token);
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge(3600);
+
+            response.addCookie(cookie);
+            succeeded = true;
+
+            return ResponseController.success(null);
+        } finally {
+            loginLocalTimer.record(start, succeeded);
         }
-
-        CustomUserDetails userDetails = (CustomUserDetails) customUserDetailsService.loadUserByUsername(email);
-        String token = jwtProvider.tokenProvide(userDetails);
-
-        Cookie cookie = new Cookie("ACCESS_TOKEN", token);
-        cookie.setPath("/");
-        cookie.setHttpOnly(true);
-        cookie.setMaxAge(3600);
-
-        response.addCookie(cookie);
-
-        return ResponseController.success(null);
     }
 
     // ***** NAVER ***** //
+    // 원격 호출 동안 Tomcat 스레드를 반환하고, 사용자 저장(JPA)만 boundedElastic 에서 수행
     @GetMapping("/callback/naver")
-    public ResponseEntity<?> callbackByNaver (
+    public Mono<ResponseEntity<Void>> callbackByNaver (
             @RequestParam String code,
             @RequestParam String state,
             @RequestParam(required = false) String error,
-            @RequestParam(required = false, name = "error_description") String errorDescription,
-            HttpServletResponse response) throws Exception {
+            @RequestParam(required = false, name = "error_description") String errorDescription) throws Exception {
 
         if(StringUtils.hasText(error) || StringUtils.hasText(errorDescription)) {
             throw new IllegalAccessException("fail login with naver");
         }
 
-        NaverUserInfoResponse userInfoResponse = naverService.getUsernameAndEmail(code, state);
+        // 원격 호출 + 사용자 저장 + 토큰 발급 전체 시간
+        return loginNaverTimer.time(naverService.getUsernameAndEmail(code, state)
+                .publishOn(Schedulers.boundedElastic())
+                .map(userInfoResponse -> {
+                    String email = userInfoResponse.getEmail();
+                    String username = userInfoResponse.getNickname();
 
-        String email = userInfoResponse.getEmail();
-        String username = userInfoResponse.getNickname();
+                    User user = userService.createUser(email, username, null, AuthProvider.NAVER, Language.KO);
 
-        User user = userService.createUser(email, username, null, AuthProvider.NAVER, Language.KO);
+                    // 방금 저장/조회한 사용자로 바로 발급 (다시 조회하지 않음)
+                    String jwtToken = jwtProvider.tokenProvide(new CustomUserDetails(user));
 
-        CustomUserDetails userDetails = (CustomUserDetails) customUserDetailsService.loadUserByUsername(user.getEmail());
-        String jwtToken = jwtProvider.tokenProvide(userDetails);
-
-        Cookie cookie = new Cookie("ACCESS_TOKEN", jwtToken);
-        cookie.setHttpOnly(true);
-        cookie.setPath("/");
-        cookie.setMaxAge(3600);
-        response.addCookie(cookie);
-
-        // 프론트엔드로 리다이렉트
-        response.sendRedirect("http://localhost:3000?callback=success");
-        return null;
+                    // 프론트엔드로 리다이렉트
+                    return redirectWithToken(jwtToken);
+                }));
     }
 
     // ***** GOOGLE ***** //
     @GetMapping("/callback/google")
-    public ResponseEntity<?> callbackByGoogle (
+    public Mono<ResponseEntity<Void>> callbackByGoogle (
             @RequestParam String code,
             @RequestParam String state,
             @RequestParam(required = false) String error,
-            @RequestParam(required = false, name = "error_description") String errorDescription,
-            HttpServletResponse response) throws Exception {
+            @RequestParam(required = false, name = "error_description") String errorDescription) throws Exception {
 
         if(StringUtils.hasText(error) || StringUtils.hasText(errorDescription)) {
             throw new IllegalAccessException("fail login with google");
         }
 
-        GoogleUserInfoResponse userInfoResponse = googleService.getUsernameAndEmailAndLocale(code, state);
-
-        String email = userInfoResponse.getEmail();
-        String username = userInfoResponse.getName(); // Google은 'name' 필드를 사용합니다.
-        Language language = Language.fromLocale(userInfoResponse.getLocale());
-
-        User user = userService.createUser(email, username, null, AuthProvider.GOOGLE, language);
+        return loginGoogleTimer.time(googleService.getUsernameAndEmailAndLocale(code, state)
+                .publishOn(Schedulers.boundedElastic())
+                .map(userInfoResponse -> {
+                    String email = userInfoResponse.getEmail();
+                    String username = userInfoResponse.getName(); // Google은 'name' 필드를 사용합니다.
+                    Language language = Language.fromLocale(userInfoResponse.getLocale());
 
-        CustomUserDetails userDetails = (CustomUserDetails) customUserDetailsService.loadUserByUsername(user.getEmail());
-        String jwtToken = jwtProvider.tokenProvide(userDetails);
+                    User user = userService.createUser(email, username, null, AuthProvider.GOOGLE, language);
 
-        Cookie cookie = new Cookie("ACCESS_TOKEN", jwtToken);
-        cookie.setHttpOnly(true);
-        cookie.setPath("/");
-        cookie.setMaxAge(3600);
-        response.addCookie(cookie);
+                    // 방금 저장/조회한 사용자로 바로 발급 (다시 조회하지 않음)
+                    String jwtToken = jwtProvider.tokenProvide(new CustomUserDetails(user));
 
-        response.sendRedirect("http://localhost:3000?callback=success");
-        return null;
+                    return redirectWithToken(jwtToken);
+                }));
     }
 
     // ***** <<<<<LOGOUT>>>>> ***** //
@@ -169,10 +194,30 @@ public class AuthController {
         return ResponseController.success(user);
     }
 
+    // 알림 메일은 outbox 에 저장만 하고 바로 응답 (SMTP 는 MailOutboxService 가 백그라운드로)
     @PostMapping("/reset-password")
     public ResponseEntity<?> resetPassword(@AuthenticationPrincipal CustomUserDetails userDetails, @Valid @RequestBody AuthResetPasswordRequest dto) throws Exception {
         String email = userDetails.getUsername();
-        userService.resetPassword(email, dto);
-        return ResponseController.success("Password reset link has been sent to your email.");
+        String encodedPassword = passwordHashingExecutor.encode(dto.getPassword());
+        userService.resetPassword(email, encodedPassword);
+        return ResponseController.success("비밀번호가 변경되었습니다. 확인 메일이 곧 발송됩니다.");
+    }
+
+    private ResponseEntity<Void> redirectWithToken(String jwtToken) {
+        ResponseCookie cookie = ResponseCookie.from("ACCESS_TOKEN", jwtToken)
+                .httpOnly(true)
+                .path("/")
+                .maxAge(3600)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create("http://localhost:3000?callback=success"))
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .build();
+    }
+
+    private static OutcomeTimer authTimer(MeterRegistry meterRegistry, String action, String provider) {
+        return new OutcomeTimer(meterRegistry, "auth.request", "로그인/회원가입 처리 시간",
+                Tags.of("action", action, "provider", provider));
     }
 }
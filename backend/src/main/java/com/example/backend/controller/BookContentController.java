@@ -0,0 +1,172 @@
+package com.example.backend.controller;
+
+import com.example.backend.controller.utility.ResponseController;
+import com.example.backend.dto.book.BookTextSearchResponse;
+import com.example.backend.dto.utility.ResponseDto;
+import com.example.backend.service.book.BookContentService;
+import com.example.backend.service.book.BookContentService.Content;
+import com.example.backend.service.book.BookTextSearchService;
+import com.example.backend.service.book.utility.ByteRange;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * 책 본문 전송
+ * 본문은 heap 을 거치지 않고 Tomcat sendfile 또는 FileChannel.transferTo 로 소켓에 직접 복사
+ */
+@Slf4j @RequiredArgsConstructor
+@RestController @RequestMapping("/api/book")
+public class BookContentController {
+
+    // Tomcat 이 sendfile 을 지원하면 요청 속성으로 알려줌 (NIO/NIO2 connector, useSendfile=true)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 sendfile 핸드오프 비용이 더 큼 (Tomcat DefaultServlet 기준값)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private final BookContentService bookContentService;
+    private final BookTextSearchService bookTextSearchService;
+
+    @RequestMapping(value = "/{id}/content", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public ResponseEntity<?> content(
+            @PathVariable Long id,
+            HttpServletRequest request,
+            HttpServletResponse response) throws Exception {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        boolean acceptGzip = rangeHeader == null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        Optional<Content> resolved = bookContentService.resolve(id, acceptGzip);
+        if(resolved.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ResponseDto.builder().message("본문 파일이 없습니다.").build());
+        }
+        Content content = resolved.get();
+
+        // 조건부 요청: 변경 없으면 본문 없이 304
+        if(matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), content.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(content.etag())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        // If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체 전송
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if(ifRange != null && !ifRange.trim().equals(content.etag())) {
+            rangeHeader = null;
+        }
+
+        ByteRange range = content.gzip() ? null : ByteRange.parse(rangeHeader, content.length());
+        if(range == ByteRange.UNSATISFIABLE) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + content.length())
+                    .build();
+        }
+
+        long start = range == null ? 0 : range.start();
+        long length = range == null ? content.length() : range.length();
+
+        response.setStatus(range == null ? HttpServletResponse.SC_OK : HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType(content.contentType());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.ETAG, content.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, content.lastModified());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if(content.gzip()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if(range != null) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + content.length());
+        }
+
+        if(!HttpMethod.HEAD.matches(request.getMethod()) && length > 0) {
+            write(request, response, content, start, length);
+        }
+        // 응답은 직접 작성했으므로 message converter 를 타지 않음
+        return null;
+    }
+
+    /**
+     * 본문 내 검색. hit 의 position 을 Range 시작 위치로 쓰면 해당 구간으로 바로 이동
+     */
+    @GetMapping("/{id}/content/search")
+    public ResponseEntity<?> searchContent(
+            @PathVariable Long id,
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int from,
+            @RequestParam(defaultValue = "20") int size) throws Exception {
+        BookTextSearchResponse result = bookTextSearchService.search(id, query, from, size);
+        return ResponseController.success(result);
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private void write(HttpServletRequest request, HttpServletResponse response, Content content, long start, long length) throws IOException {
+        if(length >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, content.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(content.path(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while(remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                // 요청 이후 파일이 잘린 경우
+                if(transferred <= 0) break;
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if(acceptEncoding == null) return false;
+        for(String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if(!parts[0].trim().equalsIgnoreCase("gzip")) continue;
+            for(int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if(!parameter.startsWith("q=")) continue;
+                try {
+                    if(Double.parseDouble(parameter.substring(2)) <= 0) return false;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // If-None-Match 는 weak 비교 (W/ 접두어 무시)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if(ifNoneMatch == null) return false;
+        for(String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if(tag.equals("*")) return true;
+            if(tag.startsWith("W/")) tag = tag.substring(2);
+            if(tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
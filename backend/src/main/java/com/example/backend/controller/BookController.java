@@ -0,0 +1,105 @@
+package com.example.backend.controller;
+
+import com.example.backend.controller.utility.ResponseController;
+import com.example.backend.dto.book.BookFacetSearchResponse;
+import com.example.backend.dto.book.BookSearchResponse;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.security.CustomUserDetails;
+import com.example.backend.service.book.BookExportService;
+import com.example.backend.service.book.utility.ExportFormat;
+import com.example.backend.service.search.AutocompleteService;
+import com.example.backend.service.search.BookFacetService;
+import com.example.backend.service.search.BookSearchService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j @RequiredArgsConstructor
+@RestController @RequestMapping("/api/book")
+public class BookController {
+
+    private final BookSearchService bookSearchService;
+    private final AutocompleteService autocompleteService;
+    private final BookFacetService bookFacetService;
+    private final BookExportService bookExportService;
+
+
+    // ***** <<<<<SEARCH>>>>> ***** //
+    @GetMapping("/search")
+    public ResponseEntity<?> search(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+            @RequestParam String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean fuzzy) throws Exception {
+        BookSearchResponse result = bookSearchService.search(query, cursor, size, resolveLanguage(userDetails, acceptLanguage), fuzzy);
+        return ResponseController.success(result);
+    }
+
+    /**
+     * 검색 결과 전체를 NDJSON/CSV 로 streaming (export.search.max-rows 까지). 로그인 사용자만 (SecurityConfig)
+     * 응답 헤더를 쓰기 전에 검색어/형식을 검증해서 잘못된 요청은 400 으로 응답
+     */
+    @GetMapping("/search/export")
+    public ResponseEntity<?> exportSearch(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+            @RequestParam String query,
+            @RequestParam(required = false) String format,
+            HttpServletResponse response) throws Exception {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        BookExportService.requireKeyword(query);
+        ResponseController.export(response, exportFormat, "search");
+        bookExportService.exportSearch(query, resolveLanguage(userDetails, acceptLanguage), exportFormat, response.getOutputStream());
+        return null;
+    }
+
+    /**
+     * facet 필터 + 건수. 검색어 없이 카탈로그 탐색도 가능
+     */
+    @GetMapping("/browse")
+    public ResponseEntity<?> browse(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) List<String> author,
+            @RequestParam(required = false) List<String> language,
+            @RequestParam(required = false) List<String> decade,
+            @RequestParam(required = false) List<String> rights,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) throws Exception {
+        Map<String, List<String>> selections = new HashMap<>();
+        if(author != null) selections.put(BookFacetService.AUTHOR, author);
+        if(language != null) selections.put(BookFacetService.LANGUAGE, language);
+        if(decade != null) selections.put(BookFacetService.DECADE, decade);
+        if(rights != null) selections.put(BookFacetService.RIGHTS, rights);
+
+        BookFacetSearchResponse result = bookFacetService.search(query, resolveLanguage(userDetails, acceptLanguage), selections, cursor, size);
+        return ResponseController.success(result);
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) throws Exception {
+        return ResponseController.success(autocompleteService.suggest(prefix, size));
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // 로그인 사용자는 설정 언어, 비로그인은 Accept-Language 기준
+    private Language resolveLanguage(CustomUserDetails userDetails, String acceptLanguage) {
+        if(userDetails != null && userDetails.getUser().getLanguage() != null) {
+            return userDetails.getUser().getLanguage();
+        }
+        return Language.fromLocale(acceptLanguage);
+    }
+}
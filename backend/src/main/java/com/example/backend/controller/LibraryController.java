@@ -0,0 +1,70 @@
+package com.example.backend.controller;
+
+import com.example.backend.controller.utility.ResponseController;
+import com.example.backend.security.CustomUserDetails;
+import com.example.backend.service.book.BookExportService;
+import com.example.backend.service.book.LibraryService;
+import com.example.backend.service.book.utility.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j @RequiredArgsConstructor
+@RestController @RequestMapping("/api/user/library")
+public class LibraryController {
+
+    private final LibraryService libraryService;
+    private final BookExportService bookExportService;
+
+
+    // ***** <<<<<LIBRARY>>>>> ***** //
+    @GetMapping
+    public ResponseEntity<?> getLibrary(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "20") int size) throws Exception {
+        return ResponseController.success(libraryService.getLibrary(userDetails.getUser().getId(), size));
+    }
+
+    @GetMapping("/favorites")
+    public ResponseEntity<?> getFavorites(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) throws Exception {
+        return ResponseController.success(libraryService.getFavorites(userDetails.getUser().getId(), cursor, size));
+    }
+
+    @GetMapping("/recents")
+    public ResponseEntity<?> getRecents(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) throws Exception {
+        return ResponseController.success(libraryService.getRecents(userDetails.getUser().getId(), cursor, size));
+    }
+
+
+    // ***** <<<<<EXPORT>>>>> ***** //
+    @GetMapping("/favorites/export")
+    public ResponseEntity<?> exportFavorites(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String format,
+            HttpServletResponse response) throws Exception {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ResponseController.export(response, exportFormat, "favorites");
+        bookExportService.exportFavorites(userDetails.getUser().getId(), exportFormat, response.getOutputStream());
+        return null;
+    }
+
+    @GetMapping("/recents/export")
+    public ResponseEntity<?> exportRecents(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String format,
+            HttpServletResponse response) throws Exception {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ResponseController.export(response, exportFormat, "recents");
+        bookExportService.exportRecents(userDetails.getUser().getId(), exportFormat, response.getOutputStream());
+        return null;
+    }
+}
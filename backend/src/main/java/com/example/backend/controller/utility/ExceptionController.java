@@ -1,15 +1,19 @@
 package com.example.backend.controller.utility;
 
 import com.example.backend.dto.utility.ResponseDto;
+import com.example.backend.security.RateLimitExceededException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestControllerAdvice
@@ -66,6 +70,21 @@ public class ExceptionController {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
     }
 
+    /**
+     * BadCredentialsException 처리
+     * 이메일/비밀번호 불일치. 어느 쪽이 틀렸는지는 구분하지 않음
+     */
+    @ExceptionHandler(BadCredentialsException.class)
+    public ResponseEntity<ResponseDto<?>> handleBadCredentialsException(BadCredentialsException e) {
+        log.warn("Bad credentials: {}", e.getMessage());
+
+        ResponseDto<?> response = ResponseDto.builder()
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+    }
+
     /**
      * IllegalArgumentException 처리
      */
@@ -79,5 +98,37 @@ public class ExceptionController {
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
-}
 
+    /**
+     * RejectedExecutionException 처리
+     * 전용 worker pool(BCrypt 등)이 포화 상태일 때 대기시키지 않고 503 으로 즉시 응답
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ResponseDto<?>> handleRejectedExecutionException(RejectedExecutionException e) {
+        log.warn("Worker pool saturated: {}", e.getMessage());
+
+        ResponseDto<?> response = ResponseDto.builder()
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    /**
+     * RateLimitExceededException 처리
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ResponseDto<?>> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.warn("Rate limit exceeded: {}", e.getMessage());
+
+        ResponseDto<?> response = ResponseDto.builder()
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+}
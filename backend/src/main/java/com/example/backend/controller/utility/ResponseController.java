@@ -1,6 +1,9 @@
 package com.example.backend.controller.utility;
 
 import com.example.backend.dto.utility.ResponseDto;
+import com.example.backend.service.book.utility.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 public class ResponseController {
@@ -14,4 +17,14 @@ public class ResponseController {
         ResponseDto<?> response = ResponseDto.builder().message(e.getMessage()).build();
         return ResponseEntity.badRequest().body(response);
     }
+
+    /**
+     * streaming export 응답 헤더. 본문은 호출 측이 response stream 에 직접 씀
+     */
+    public static void export(HttpServletResponse response, ExportFormat format, String name) {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+        // 길이를 미리 알 수 없어 chunked 로 전송됨. 사용자별 데이터라 캐시 금지
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+    }
 }
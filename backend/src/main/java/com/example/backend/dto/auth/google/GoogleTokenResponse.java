@@ -16,5 +16,7 @@ public class GoogleTokenResponse {
     private String token_type;
     private String scope;
     private String refresh_token;
+    // scope 에 openid 가 포함되면 발급되는 서명된 OIDC id_token
+    private String id_token;
 
 }
@@ -0,0 +1,21 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class AutocompleteStatsResponse {
+
+    private int entries;
+    private long estimatedBytes;
+    private long buildMillis;
+    private LocalDateTime builtAt;
+    private boolean rebuilding;
+}
@@ -0,0 +1,24 @@
+package com.example.backend.dto.book;
+
+import com.example.backend.service.search.utility.FacetIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BookFacetSearchResponse {
+
+    private List<BookSearchItem> books;
+    private long totalHits;
+    // 다음 페이지 요청 시 그대로 전달. 마지막 페이지면 null
+    private String nextCursor;
+    // facet 이름 -> 값별 건수 (건수 내림차순)
+    private Map<String, List<FacetIndex.FacetCount>> facets;
+}
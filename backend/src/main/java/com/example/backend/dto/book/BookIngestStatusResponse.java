@@ -0,0 +1,22 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BookIngestStatusResponse {
+
+    private String source;
+    private boolean running;
+    private long resumedFrom;
+    private long writtenRows;
+    private long skippedRows;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private String error;
+}
@@ -0,0 +1,32 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BookReindexStatusResponse {
+
+    private String buildId;
+    // 색인 중인 새 인덱스 이름 (publish 전까지 검색에 노출되지 않음)
+    private String target;
+    private boolean running;
+    private boolean published;
+    private int parallelism;
+    private int partitions;
+    private int completedPartitions;
+    // 시작 시점 Book 수 (진행률/ETA 기준)
+    private long totalBooks;
+    // 이전 실행에서 checkpoint 까지 색인한 수
+    private long resumedBooks;
+    private long indexedBooks;
+    private long elapsedMillis;
+    private double booksPerSecond;
+    // 남은 예상 시간. 아직 계산할 수 없으면 null
+    private Long etaMillis;
+    private String error;
+}
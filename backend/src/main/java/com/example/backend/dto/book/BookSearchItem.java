@@ -0,0 +1,18 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BookSearchItem {
+
+    private Long id;
+    private String title;
+    private String author;
+    private float score;
+}
@@ -0,0 +1,20 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BookSearchResponse {
+
+    private List<BookSearchItem> books;
+    private long totalHits;
+    // 다음 페이지 요청 시 그대로 전달. 마지막 페이지면 null
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BookTextHit {
+
+    // 본문 파일 byte 위치. /content 에 Range: bytes={position}- 로 바로 이동
+    private long position;
+    private int length;
+    private String snippet;
+    // snippet 안의 강조 구간 [highlightStart, highlightEnd)
+    private int highlightStart;
+    private int highlightEnd;
+}
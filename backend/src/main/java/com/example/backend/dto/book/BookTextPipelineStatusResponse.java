@@ -0,0 +1,27 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BookTextPipelineStatusResponse {
+
+    private String source;
+    private boolean running;
+    private int parallelism;
+    private long totalFiles;
+    private long processedBooks;
+    // 파일은 처리했지만 Book 테이블에 id 가 없는 경우
+    private long unmatchedBooks;
+    private long failedBooks;
+    private long bytesRead;
+    private long elapsedMillis;
+    private double megabytesPerSecond;
+    private double booksPerSecond;
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BookTextSearchResponse {
+
+    private Long bookId;
+    private long totalHits;
+    private List<BookTextHit> hits;
+    // 다음 페이지 요청 시 from 으로 전달. 마지막 페이지면 null
+    private Integer nextFrom;
+}
@@ -0,0 +1,25 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class CatalogCacheStatsResponse {
+
+    private int entries;
+    private long heapBytes;
+    private long offHeapBytes;
+    // 100만 권 기준으로 환산한 heap 사용량
+    private long heapBytesPerMillion;
+    private long hits;
+    private long misses;
+    private long warmMillis;
+    private LocalDateTime warmedAt;
+}
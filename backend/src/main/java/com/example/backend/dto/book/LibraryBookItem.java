@@ -0,0 +1,22 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 즐겨찾기/최근 본 책 한 줄. JPQL 생성자 표현식으로 바로 만듦
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class LibraryBookItem {
+
+    // FavoriteBook/RecentBook 의 id (cursor)
+    private Long entryId;
+    private Long bookId;
+    private String title;
+    private String author;
+}
@@ -0,0 +1,19 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class LibraryPageResponse {
+
+    private List<LibraryBookItem> books;
+    // 다음 페이지 요청 시 그대로 전달. 마지막 페이지면 null
+    private String nextCursor;
+}
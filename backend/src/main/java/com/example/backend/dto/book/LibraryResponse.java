@@ -0,0 +1,16 @@
+package com.example.backend.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class LibraryResponse {
+
+    private LibraryPageResponse favorites;
+    private LibraryPageResponse recents;
+}
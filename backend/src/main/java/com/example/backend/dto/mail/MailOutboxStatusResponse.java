@@ -0,0 +1,22 @@
+package com.example.backend.dto.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class MailOutboxStatusResponse {
+
+    // SMTP 설정이 없으면 false (메일은 PENDING 으로 쌓임)
+    private boolean enabled;
+    private long pending;
+    private long sending;
+    private long sent;
+    private long failed;
+    private long sentSinceStart;
+    private long failedAttemptsSinceStart;
+}
@@ -0,0 +1,31 @@
+package com.example.backend.dto.profiler;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class EndpointLatencyItem {
+
+    // Controller.method
+    private String handler;
+    // "GET /api/book/{id}"
+    private String pattern;
+    private long count;
+    // 5xx 응답 수
+    private long errors;
+    private double p50Millis;
+    private double p90Millis;
+    private double p99Millis;
+    private double p999Millis;
+    private double maxMillis;
+    private double meanMillis;
+    // 구간별 평균. DB 에는 filter 단계의 사용자 조회도 포함되어 합이 전체보다 클 수 있음
+    private double meanFilterMillis;
+    private double meanDbMillis;
+    private double meanRemoteMillis;
+}
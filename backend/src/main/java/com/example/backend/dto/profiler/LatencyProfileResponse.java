@@ -0,0 +1,24 @@
+package com.example.backend.dto.profiler;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class LatencyProfileResponse {
+
+    // 마지막 초기화 시각. 이후 요청만 집계
+    private LocalDateTime since;
+    private long slowThresholdMillis;
+    // p99 내림차순
+    private List<EndpointLatencyItem> endpoints;
+    // 전체 시간 내림차순
+    private List<SlowRequestItem> slowRequests;
+}
@@ -0,0 +1,25 @@
+package com.example.backend.dto.profiler;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class SlowRequestItem {
+
+    private String handler;
+    private String method;
+    private String uri;
+    private int status;
+    private LocalDateTime requestedAt;
+    private double totalMillis;
+    private double filterMillis;
+    private double dbMillis;
+    private double remoteMillis;
+}
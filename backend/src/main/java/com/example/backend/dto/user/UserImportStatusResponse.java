@@ -0,0 +1,25 @@
+package com.example.backend.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UserImportStatusResponse {
+
+    private String source;
+    private boolean running;
+    private long readRows;
+    private long insertedRows;
+    // DB 또는 파일 안에 이미 있는 email/username
+    private long duplicateRows;
+    // 형식 오류 (email, BCrypt 가 아닌 비밀번호, 알 수 없는 provider/role)
+    private long rejectedRows;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private String error;
+}
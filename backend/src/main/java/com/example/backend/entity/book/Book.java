@@ -1,5 +1,8 @@
 package com.example.backend.entity.book;
 
+import com.example.backend.entity.book.enumeration.RightsStatus;
+import com.example.backend.entity.outbox.OutboxEntityListener;
+import com.example.backend.entity.user.enumeration.Language;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,14 +15,43 @@ import lombok.NoArgsConstructor;
 @Data
 
 @Entity
+@EntityListeners({BookEntityListener.class, OutboxEntityListener.class})
 public class Book {
 
     @Id
-    private Long Id;
+    private Long id;
 
     @Column
     private String title;
 
     @Column
     private String author;
+
+    // 검색 analyzer 선택 기준. 모르면 null (EN 으로 취급)
+    @Enumerated(EnumType.STRING)
+    @Column
+    private Language language;
+
+    @Column
+    private Integer publicationYear;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private RightsStatus rightsStatus;
+
+    // 파일 저장소(book.file-store.root) 기준 상대 경로. 없으면 {id}.txt / {id}.epub
+    @Column
+    private String contentPath;
+
+    // 본문 처리(GutenbergTextProcessor) 결과. 처리 전이면 null
+    @Column
+    private Integer wordCount;
+
+    @Column
+    private Integer readingMinutes;
+
+    // 정규화된 본문 기준 장 시작 byte 위치 (쉼표 구분)
+    @Lob
+    @Column
+    private String chapterOffsets;
 }
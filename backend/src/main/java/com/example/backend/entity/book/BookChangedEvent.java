@@ -0,0 +1,21 @@
+package com.example.backend.entity.book;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Book 변경 알림. 검색 캐시/facet index 처럼 Book 에서 파생된 메모리 구조가 구독
+ * 트랜잭션 안에서 발행되면 commit 이후에 전달됨 (@TransactionalEventListener)
+ * @param saved      추가/수정된 책
+ * @param removedIds 삭제된 책 id
+ */
+public record BookChangedEvent(Collection<Book> saved, Collection<Long> removedIds) {
+
+    public static BookChangedEvent saved(Collection<Book> books) {
+        return new BookChangedEvent(books, List.of());
+    }
+
+    public static BookChangedEvent removed(Collection<Long> bookIds) {
+        return new BookChangedEvent(List.of(), bookIds);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.backend.entity.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Document(indexName = "books")
+public class BookDocument {
+
+    // search_after 의 tiebreaker 로 사용하므로 _source 에도 long 으로 저장
+    @Id
+    @Field(type = FieldType.Long)
+    private Long id;
+
+    @Field(type = FieldType.Text)
+    private String title;
+
+    @Field(type = FieldType.Text)
+    private String author;
+
+    @Field(type = FieldType.Keyword)
+    private String language;
+
+    public static BookDocument from(Book book) {
+        return BookDocument.builder()
+                .id(book.getId())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .language(book.getLanguage() != null ? book.getLanguage().name() : null)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.backend.entity.book;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JPA 로 Book 이 추가/수정/삭제되면 BookChangedEvent 발행
+ * Hibernate 가 Spring bean container 로 listener 를 생성하므로 생성자 주입 가능
+ * 구독자가 repository 에 의존해도 순환 참조가 생기지 않도록 event publisher 만 주입
+ */
+@Component
+@RequiredArgsConstructor
+public class BookEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Book book) {
+        eventPublisher.publishEvent(BookChangedEvent.saved(List.of(book)));
+    }
+
+    @PostRemove
+    public void onRemove(Book book) {
+        eventPublisher.publishEvent(BookChangedEvent.removed(List.of(book.getId())));
+    }
+}
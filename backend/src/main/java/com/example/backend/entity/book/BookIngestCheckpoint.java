@@ -0,0 +1,38 @@
+package com.example.backend.entity.book;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+public class BookIngestCheckpoint {
+
+    // 입력 파일 절대경로
+    @Id
+    private String source;
+
+    // 파일 크기 + 수정시각 + 내용 hash. 파일이 바뀌면 처음부터 다시 적재
+    @Column
+    private String fingerprint;
+
+    // 마지막으로 커밋된 레코드 수 (헤더 제외)
+    @Column
+    private long committedRows;
+
+    @Column
+    private boolean completed;
+
+    @Column
+    private LocalDateTime modifiedDate;
+}
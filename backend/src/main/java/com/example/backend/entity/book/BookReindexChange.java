@@ -0,0 +1,31 @@
+package com.example.backend.entity.book;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재색인 build 가 끝나지 않은 동안 바뀐 책 id
+ * 어느 인스턴스가 변경을 반영하든 DB 에 남으므로, 재시작/다른 인스턴스 변경도 publish 전에 새 인덱스에 반영됨
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+public class BookReindexChange {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column
+    private Long bookId;
+
+    @Column
+    private LocalDateTime createdDate;
+}
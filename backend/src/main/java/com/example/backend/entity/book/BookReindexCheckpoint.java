@@ -0,0 +1,48 @@
+package com.example.backend.entity.book;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+public class BookReindexCheckpoint {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 재색인 대상 인덱스 구분. publish 후 해당 build 의 행은 삭제
+    @Column
+    private String buildId;
+
+    @Column
+    private int partitionNo;
+
+    // (lowerId, upperId] 구간
+    @Column
+    private long lowerId;
+
+    @Column
+    private long upperId;
+
+    // 마지막으로 flush 된 book id. 재시작 시 이 다음부터 읽음
+    @Column
+    private long lastId;
+
+    @Column
+    private long indexedBooks;
+
+    @Column
+    private boolean completed;
+
+    @Column
+    private LocalDateTime modifiedDate;
+}
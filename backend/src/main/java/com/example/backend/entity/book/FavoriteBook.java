@@ -1,5 +1,6 @@
 package com.example.backend.entity.book;
 
+import com.example.backend.entity.outbox.OutboxEntityListener;
 import com.example.backend.entity.user.User;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -13,14 +14,15 @@ import lombok.NoArgsConstructor;
 @Data
 
 @Entity
+@EntityListeners(OutboxEntityListener.class)
 public class FavoriteBook {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Book book;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 }
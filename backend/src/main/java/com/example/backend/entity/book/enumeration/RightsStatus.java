@@ -0,0 +1,24 @@
+package com.example.backend.entity.book.enumeration;
+
+import java.util.Locale;
+
+public enum RightsStatus {
+    PUBLIC_DOMAIN,
+    COPYRIGHTED,
+    UNKNOWN;
+
+    // "Public domain in the USA." / "Copyrighted. Read the copyright notice ..." 같은 카탈로그 문구 처리
+    public static RightsStatus fromText(String text) {
+        if(text == null || text.isBlank()) {
+            return UNKNOWN;
+        }
+        String normalized = text.trim().toLowerCase(Locale.ROOT);
+        if(normalized.startsWith("public domain") || normalized.equals("public_domain")) {
+            return PUBLIC_DOMAIN;
+        }
+        if(normalized.startsWith("copyright")) {
+            return COPYRIGHTED;
+        }
+        return UNKNOWN;
+    }
+}
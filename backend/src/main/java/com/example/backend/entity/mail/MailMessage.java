@@ -0,0 +1,57 @@
+package com.example.backend.entity.mail;
+
+import com.example.backend.entity.mail.enumeration.MailStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 outbox. 요청 트랜잭션에서 저장하고 MailOutboxService 가 백그라운드로 발송
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+public class MailMessage {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 같은 key 는 한 번만 저장. Message-ID 로도 사용해서 재발송돼도 수신 측에서 같은 메일로 취급
+    @Column(unique = true, nullable = false)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column
+    private String subject;
+
+    @Column(length = 4000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    private MailStatus status;
+
+    @Column
+    private int attempts;
+
+    // PENDING: 다음 발송 가능 시각 (backoff), SENDING: 점유 만료 시각
+    @Column
+    private LocalDateTime nextAttemptDate;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column
+    private LocalDateTime createdDate;
+
+    @Column
+    private LocalDateTime sentDate;
+}
@@ -0,0 +1,11 @@
+package com.example.backend.entity.mail.enumeration;
+
+public enum MailStatus {
+    // 발송 대기 (재시도 대기 포함)
+    PENDING,
+    // worker 가 가져감. nextAttemptDate 까지 결과가 없으면 다시 PENDING 으로 취급
+    SENDING,
+    SENT,
+    // 최대 시도 횟수 초과
+    FAILED
+}
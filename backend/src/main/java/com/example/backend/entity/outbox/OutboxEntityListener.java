@@ -0,0 +1,43 @@
+package com.example.backend.entity.outbox;
+
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.book.FavoriteBook;
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.entity.outbox.enumeration.OutboxOperation;
+import com.example.backend.service.outbox.OutboxWriter;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Book / FavoriteBook 변경을 같은 트랜잭션 안에서 outbox 에 기록
+ * Post* 콜백은 flush 중 SQL 실행 직후에 호출되므로 원본 행과 outbox 행이 함께 commit 됨
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEntityListener {
+
+    private final OutboxWriter outboxWriter;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        append(entity, OutboxOperation.UPSERT);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        append(entity, OutboxOperation.DELETE);
+    }
+
+    private void append(Object entity, OutboxOperation operation) {
+        if(entity instanceof Book book) {
+            outboxWriter.append(OutboxAggregate.BOOK, operation, book.getId());
+        } else if(entity instanceof FavoriteBook favorite && favorite.getBook() != null) {
+            // 즐겨찾기 추가/삭제는 해당 책의 인기도 변경
+            outboxWriter.append(OutboxAggregate.FAVORITE_BOOK, operation, favorite.getBook().getId());
+        }
+    }
+}
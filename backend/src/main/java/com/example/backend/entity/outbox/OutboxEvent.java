@@ -0,0 +1,61 @@
+package com.example.backend.entity.outbox;
+
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.entity.outbox.enumeration.OutboxOperation;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 이벤트 outbox. 원본 행과 같은 트랜잭션에서 OutboxWriter 가 JDBC 로 기록하고 OutboxRelay 가 읽음
+ * OutboxRelay 가 claimOwner 와 점유 만료 시각(nextAttemptDate)을 조건부 update 로 기록해서 가져간 인스턴스만 공유 handler 에 반영
+ * 공유 handler 에 반영하면 relayed 로 표시하고, 각 인스턴스가 노드별 캐시에 반영할 수 있도록 보관 기간 동안 남겨둔 뒤 삭제
+ * 반영에 실패한 행은 attempts 를 올려 backoff 후 재시도하고, max-attempts 를 넘으면 deadLetter 로 남겨 더는 읽지 않음
+ * 테이블 생성용 매핑 (읽기/쓰기는 JDBC)
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+public class OutboxEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxAggregate aggregateType;
+
+    @Column
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxOperation operation;
+
+    @Column
+    private boolean relayed;
+
+    @Column
+    private int attempts;
+
+    @Column
+    private boolean deadLetter;
+
+    // 재시도 시각, 또는 가져간 인스턴스의 점유 만료 시각
+    @Column
+    private LocalDateTime nextAttemptDate;
+
+    @Column(length = 64)
+    private String claimOwner;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column
+    private LocalDateTime createdDate;
+}
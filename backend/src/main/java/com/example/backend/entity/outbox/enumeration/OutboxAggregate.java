@@ -0,0 +1,7 @@
+package com.example.backend.entity.outbox.enumeration;
+
+// 변경 이벤트의 대상. FAVORITE_BOOK 은 즐겨찾기된 book id 기준
+public enum OutboxAggregate {
+    BOOK,
+    FAVORITE_BOOK;
+}
@@ -0,0 +1,6 @@
+package com.example.backend.entity.outbox.enumeration;
+
+public enum OutboxOperation {
+    UPSERT,
+    DELETE;
+}
@@ -0,0 +1,9 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.book.BookIngestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookIngestCheckpointRepository extends JpaRepository<BookIngestCheckpoint, String> {
+}
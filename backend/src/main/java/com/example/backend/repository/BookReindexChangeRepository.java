@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.book.BookReindexChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BookReindexChangeRepository extends JpaRepository<BookReindexChange, Long> {
+
+    List<BookReindexChange> findAllByOrderByIdAsc(Pageable pageable);
+}
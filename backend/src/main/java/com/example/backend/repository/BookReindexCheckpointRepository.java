@@ -0,0 +1,18 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.book.BookReindexCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookReindexCheckpointRepository extends JpaRepository<BookReindexCheckpoint, Long> {
+
+    List<BookReindexCheckpoint> findAllByOrderByModifiedDateDesc();
+
+    Optional<BookReindexCheckpoint> findFirstByOrderByModifiedDateDesc();
+
+    List<BookReindexCheckpoint> findByBuildIdOrderByPartitionNoAsc(String buildId);
+}
@@ -0,0 +1,36 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.book.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BookRepository extends JpaRepository<Book, Long> {
+
+    // keyset pagination: offset 없이 마지막 id 이후만 조회
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 제목/저자 index 용: 세 컬럼만 읽음 (본문 위치 등 큰 컬럼을 싣지 않음)
+    List<TitleAuthor> findTitleAuthorByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 재색인 partition 용: (id, upperId] 구간 keyset pagination
+    List<Book> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long id, Long upperId, Pageable pageable);
+
+    @Query("select min(b.id) from Book b")
+    Long findMinId();
+
+    @Query("select max(b.id) from Book b")
+    Long findMaxId();
+
+    interface TitleAuthor {
+        Long getId();
+
+        String getTitle();
+
+        String getAuthor();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.book.LibraryBookItem;
+import com.example.backend.entity.book.FavoriteBook;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface FavoriteBookRepository extends JpaRepository<FavoriteBook, Long> {
+
+    // [bookId, count]
+    @Query("select f.book.id, count(f) from FavoriteBook f group by f.book.id")
+    List<Object[]> countGroupByBook();
+
+    // 최신순 keyset 페이지. Book 은 join 해서 DTO 로 바로 받으므로 행 수와 무관하게 쿼리 1번
+    @Query("select new com.example.backend.dto.book.LibraryBookItem(f.id, b.id, b.title, b.author) " +
+            "from FavoriteBook f join f.book b " +
+            "where f.user.id = :userId and f.id < :cursor " +
+            "order by f.id desc")
+    List<LibraryBookItem> findLibraryPage(@Param("userId") Long userId, @Param("cursor") long cursor, Pageable pageable);
+
+    // export 용. 한 번에 읽지 않고 fetch size 단위로 cursor 를 따라감 (호출 측 트랜잭션 안에서 소비)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.backend.dto.book.LibraryBookItem(f.id, b.id, b.title, b.author) " +
+            "from FavoriteBook f join f.book b " +
+            "where f.user.id = :userId " +
+            "order by f.id desc")
+    Stream<LibraryBookItem> streamLibrary(@Param("userId") Long userId);
+}
@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.mail.MailMessage;
+import com.example.backend.entity.mail.enumeration.MailStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MailMessageRepository extends JpaRepository<MailMessage, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    long countByStatus(MailStatus status);
+}
@@ -0,0 +1,38 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.book.LibraryBookItem;
+import com.example.backend.entity.book.RecentBook;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface RecentBookRepository extends JpaRepository<RecentBook, Long> {
+
+    // [bookId, count]
+    @Query("select r.book.id, count(r) from RecentBook r group by r.book.id")
+    List<Object[]> countGroupByBook();
+
+    // 최신순 keyset 페이지. Book 은 join 해서 DTO 로 바로 받으므로 행 수와 무관하게 쿼리 1번
+    @Query("select new com.example.backend.dto.book.LibraryBookItem(r.id, b.id, b.title, b.author) " +
+            "from RecentBook r join r.book b " +
+            "where r.user.id = :userId and r.id < :cursor " +
+            "order by r.id desc")
+    List<LibraryBookItem> findLibraryPage(@Param("userId") Long userId, @Param("cursor") long cursor, Pageable pageable);
+
+    // export 용. 한 번에 읽지 않고 fetch size 단위로 cursor 를 따라감 (호출 측 트랜잭션 안에서 소비)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.backend.dto.book.LibraryBookItem(r.id, b.id, b.title, b.author) " +
+            "from RecentBook r join r.book b " +
+            "where r.user.id = :userId " +
+            "order by r.id desc")
+    Stream<LibraryBookItem> streamLibrary(@Param("userId") Long userId);
+}
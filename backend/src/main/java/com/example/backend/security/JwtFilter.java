@@ -1,12 +1,18 @@
 package com.example.backend.security;
 
+import com.example.backend.entity.user.enumeration.Role;
+import com.example.backend.security.utility.TierTimers;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,35 +23,71 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
-
+import java.util.concurrent.TimeUnit;
 @Service
-@Slf4j @RequiredArgsConstructor
+@Slf4j
 public class JwtFilter extends OncePerRequestFilter {
 
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
     private final JwtProvider tokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenRevocationStore tokenRevocationStore;
+    // true 면 토큰 claims 로 principal 을 만들고 DB 를 조회하지 않음
+    private final boolean statelessPrincipal;
+
+    private final Timer parseTimer;
+    private final Timer verifyTimer;
+    // principal 생성 경로(claims / db) x 역할 등급
+    private final TierTimers claimsLoadTimers;
+    private final TierTimers dbLoadTimers;
+
+    public JwtFilter(JwtProvider tokenProvider,
+                     CustomUserDetailsService customUserDetailsService,
+                     TokenRevocationStore tokenRevocationStore,
+                     @Value("${jwt.stateless-principal:false}") boolean statelessPrincipal,
+                     MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.customUserDetailsService = customUserDetailsService;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.statelessPrincipal = statelessPrincipal;
+
+        this.parseTimer = stageTimer(meterRegistry, "parse");
+        this.verifyTimer = stageTimer(meterRegistry, "verify");
+        this.claimsLoadTimers = new TierTimers(meterRegistry, "jwt.user.load", "JWT principal 생성 시간", Tags.of("source", "claims"));
+        this.dbLoadTimers = new TierTimers(meterRegistry, "jwt.user.load", "JWT principal 생성 시간", Tags.of("source", "db"));
+    }
 
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
         try {
 
+            // 단계별 시간은 nanoTime 차이로 기록 (Timer.Sample 객체를 만들지 않음)
+            long start = System.nanoTime();
             String token = parseJwtToken(request);
+            long parsed = System.nanoTime();
+            parseTimer.record(parsed - start, TimeUnit.NANOSECONDS);
 
             if(StringUtils.hasText(token)) {
 
-                String email = tokenProvider.validateAndGetUsername(token);
+                // 실패 사유는 JwtProvider 에서 counter 로 집계
+                Claims claims = tokenProvider.verify(token);
+                boolean valid = claims != null && !tokenRevocationStore.isRevoked(claims.getSubject(), claims.getIssuedAt());
+                long verified = System.nanoTime();
+                verifyTimer.record(verified - parsed, TimeUnit.NANOSECONDS);
 
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+                if(valid) {
+                    UserDetails userDetails = loadUserDetails(claims, verified);
 
-                if(userDetails != null) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    if(userDetails != null) {
+                        UsernamePasswordAuthenticationToken authentication =
+                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        authentication.setDetails(DETAILS_SOURCE.buildDetails(request));
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
                 }
             }
         } catch (Exception e) {
@@ -54,6 +96,32 @@ public class JwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadUserDetails(Claims claims, long start) {
+        if(statelessPrincipal) {
+            UserDetails userDetails = tokenProvider.toUserDetails(claims);
+            // role claim 이 없는 이전 토큰은 DB 조회로 대체
+            if(userDetails != null) {
+                record(claimsLoadTimers, userDetails, start);
+                return userDetails;
+            }
+        }
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(claims.getSubject());
+        record(dbLoadTimers, userDetails, start);
+        return userDetails;
+    }
+
+    private static void record(TierTimers timers, UserDetails userDetails, long start) {
+        Role role = userDetails instanceof CustomUserDetails custom ? custom.getUser().getRole() : null;
+        timers.get(role).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("jwt.filter")
+                .description("JWT 필터 단계별 시간")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
     private String parseJwtToken(HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
         if (cookies == null) {
@@ -61,10 +129,11 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         // 'ACCESS_TOKEN' 이름의 쿠키를 찾아 값을 반환합니다.
-        return Arrays.stream(cookies)
-                .filter(cookie -> "ACCESS_TOKEN".equals(cookie.getName()))
-                .findFirst()
-                .map(Cookie::getValue)
-                .orElse(null);
+        for (Cookie cookie : cookies) {
+            if ("ACCESS_TOKEN".equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
     }
 }
@@ -1,10 +1,21 @@
 package com.example.backend.security;
 
+import com.example.backend.entity.user.User;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.entity.user.enumeration.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -16,14 +27,39 @@ import java.util.Date;
 @Service
 public class JwtProvider {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_LANGUAGE = "lang";
+
+    // 우리가 발급하는 토큰은 수백 byte. 이보다 길면 파싱하지 않고 거절
+    public static final int MAX_TOKEN_LENGTH = 4096;
+    // HS256 서명(32 byte)의 base64url 길이
+    private static final int HS256_SIGNATURE_LENGTH = 43;
+
     private SecretKey key;
     private long expiration;
+    // 불변 객체라 스레드 간 공유 가능. 요청마다 새로 만들지 않음
+    private final JwtParser parser;
+
+    private final Counter malformedCounter;
+    private final Counter expiredCounter;
+    private final Counter signatureCounter;
+    private final Counter invalidCounter;
+
     // Data Init
+    @Autowired
     public JwtProvider(@Value("${jwt.secret}") String secretKey,
-                       @Value("${jwt.expiration}") long secretExpiration) {
+                       @Value("${jwt.expiration}") long secretExpiration,
+                       MeterRegistry meterRegistry) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.expiration = secretExpiration;
+        this.parser = Jwts.parser().verifyWith(key).build();
+
+        this.malformedCounter = failureCounter(meterRegistry, "malformed");
+        this.expiredCounter = failureCounter(meterRegistry, "expired");
+        this.signatureCounter = failureCounter(meterRegistry, "signature");
+        this.invalidCounter = failureCounter(meterRegistry, "invalid");
     }
 
     // JWT Provide
@@ -31,26 +67,108 @@ public class JwtProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userDetails.getUsername())
                 .issuedAt(now)
-                .expiration(expiryDate)
+                .expiration(expiryDate);
+
+        // stateless principal 모드에서 DB 조회 없이 권한을 복원할 수 있도록 role/language 포함
+        if(userDetails instanceof CustomUserDetails customUserDetails) {
+            User user = customUserDetails.getUser();
+            if(user.getId() != null) builder.claim(CLAIM_USER_ID, user.getId());
+            if(user.getRole() != null) builder.claim(CLAIM_ROLE, user.getRole().name());
+            if(user.getLanguage() != null) builder.claim(CLAIM_LANGUAGE, user.getLanguage().name());
+        }
+
+        return builder
                 .signWith(key, Jwts.SIG.HS256)
                 .compact();
     }
 
     // JWT Validate
     public String validateAndGetUsername(String token) {
+        return validateAndGetClaims(token).getSubject();
+    }
+
+    public Claims validateAndGetClaims(String token) {
+        Claims claims = verify(token);
+        if(claims == null) {
+            throw new JwtException("Invalid JWT token");
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰 검증. 실패하면 예외 대신 null 을 반환하고 사유별 counter(jwt.verify.failure)만 증가
+     * 구조/길이 검사를 먼저 해서 잘못된 쿠키는 base64 디코딩, HMAC 계산 전에 거절
+     */
+    public Claims verify(String token) {
+        if(!isWellFormed(token)) {
+            malformedCounter.increment();
+            return null;
+        }
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
-        } catch (Exception e) {
-            log.error("e", e);
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            expiredCounter.increment();
+        } catch (SignatureException e) {
+            signatureCounter.increment();
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidCounter.increment();
+            log.debug("invalid jwt: {}", e.getMessage());
         }
-        throw new JwtException("Invalid JWT token");
+        return null;
+    }
+
+    /**
+     * 검증된 claims 로 principal 생성. role claim 이 없는 (이전 버전) 토큰이면 null
+     */
+    public CustomUserDetails toUserDetails(Claims claims) {
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if(role == null) return null;
+
+        String language = claims.get(CLAIM_LANGUAGE, String.class);
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+
+        User user = User.builder()
+                .id(userId != null ? userId.longValue() : null)
+                .email(claims.getSubject())
+                .role(Role.valueOf(role))
+                .language(language != null ? Language.valueOf(language) : null)
+                .build();
+        return new CustomUserDetails(user);
+    }
+
+    // header.payload.signature 형태, base64url 문자만 사용, HS256 서명 길이 확인
+    static boolean isWellFormed(String token) {
+        int length = token != null ? token.length() : 0;
+        if(length == 0 || length > MAX_TOKEN_LENGTH) return false;
+
+        int firstDot = -1;
+        int secondDot = -1;
+        for(int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if(c == '.') {
+                if(firstDot < 0) firstDot = i;
+                else if(secondDot < 0) secondDot = i;
+                else return false;
+            } else if(!isBase64Url(c)) {
+                return false;
+            }
+        }
+        return firstDot > 0
+                && secondDot > firstDot + 1
+                && length - secondDot - 1 == HS256_SIGNATURE_LENGTH;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("jwt.verify.failure")
+                .description("JWT 검증 실패 횟수")
+                .tag("reason", reason)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,129 @@
+package com.example.backend.security;
+
+import com.example.backend.dto.utility.ResponseDto;
+import com.example.backend.security.utility.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 인증/검색 API 요청 수 제한. JwtFilter 다음에 위치해서 로그인 사용자는 등급별, 비로그인 요청은 IP 별로 제한
+ * 신뢰하는 proxy 를 거친 요청은 forwarded header 에서 proxy 가 아닌 마지막 주소를 클라이언트 IP 로 사용
+ */
+@Service
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    // IPv4/IPv6 literal 만 비교 (hostname 이면 DNS 조회가 일어나므로 제외)
+    private static final Pattern IP_LITERAL = Pattern.compile("^[0-9A-Fa-f:.]+$");
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.trustedProxies = properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+    }
+
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if(!properties.isEnabled()) return true;
+        String path = request.getRequestURI();
+        for(String pattern : properties.getPaths()) {
+            if(PATH_MATCHER.match(pattern, path)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String key;
+        long limit;
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if(authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getUser().getRole() != null) {
+            key = "user:" + userDetails.getUsername();
+            limit = properties.getRoleLimits().getOrDefault(userDetails.getUser().getRole(), properties.getIpLimit());
+        } else {
+            key = "ip:" + clientIp(request, trustedProxies, properties.getForwardedHeader());
+            limit = properties.getIpLimit();
+        }
+
+        if(!rateLimiter.tryAcquire(key, limit)) {
+            reject(response, rateLimiter.retryAfterSeconds());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 연결 주소가 신뢰하는 proxy 면 header 의 주소를 오른쪽부터 보면서 proxy 가 아닌 첫 주소를 반환
+     * 클라이언트가 직접 넣은 왼쪽 값은 신뢰하는 proxy 가 뒤에 덧붙인 주소보다 먼저 나오므로 사용되지 않음
+     */
+    static String clientIp(HttpServletRequest request, List<IpAddressMatcher> trustedProxies, String header) {
+        String remote = request.getRemoteAddr();
+        if(trustedProxies.isEmpty() || !isTrusted(remote, trustedProxies)) return remote;
+
+        String forwarded = request.getHeader(header);
+        if(forwarded == null || forwarded.isBlank()) return remote;
+
+        String[] hops = forwarded.split(",");
+        for(int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if(hop.isEmpty()) continue;
+            if(!isTrusted(hop, trustedProxies)) return hop;
+        }
+        // 모두 proxy 면 가장 앞의 주소
+        String first = hops[0].trim();
+        return first.isEmpty() ? remote : first;
+    }
+
+    private static boolean isTrusted(String address, List<IpAddressMatcher> trustedProxies) {
+        if(!IP_LITERAL.matcher(address).matches()) return false;
+        for(IpAddressMatcher matcher : trustedProxies) {
+            try {
+                if(matcher.matches(address)) return true;
+            } catch (IllegalArgumentException e) {
+                // IP 형식이 아닌 값 (위조된 header 등)
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        ResponseDto<?> body = ResponseDto.builder()
+                .message("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.")
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.backend.security;
+
+import com.example.backend.security.utility.RateLimitProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * sliding window counter 방식의 분산 rate limiter
+ * - 판단은 로컬에서: (이전 window 전역 카운트 × 남은 비율) + 현재 window 전역 카운트 + 아직 보내지 않은 로컬 카운트
+ * - 로컬 카운트는 LongAdder(striped counter)에 쌓고 sync 주기마다 Redis 로 pipeline 한 번에 INCRBY
+ *   window 경계에서 아직 보내지 않은 카운트는 다음 sync 때 이전 window key 로 INCRBY
+ *   → 대부분의 요청은 Redis 왕복 없이 처리되고, 노드 간 오차는 sync 주기 동안의 요청 수 이내
+ * - Redis 장애 시 로컬 카운트만으로 계속 제한
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, WindowCounter> counters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean redisAvailable = true;
+
+    public RateLimiter(RateLimitProperties properties, ObjectProvider<StringRedisTemplate> redisTemplate) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate.getIfAvailable();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if(properties.isEnabled()) {
+            scheduler.scheduleWithFixedDelay(this::sync, properties.getSyncIntervalMs(), properties.getSyncIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 허용되면 카운트를 1 증가시키고 true
+     */
+    public boolean tryAcquire(String key, long limit) {
+        if(!properties.isEnabled()) return true;
+
+        long now = System.currentTimeMillis();
+        long window = properties.getWindowMs();
+        WindowCounter counter = counters.computeIfAbsent(key, k -> new WindowCounter(now / window));
+        counter.rotate(now / window);
+        counter.lastAccess = now;
+
+        double previousWeight = 1.0 - (double) (now % window) / window;
+        double estimated = counter.globalPrevious * previousWeight + counter.globalCurrent + counter.unsynced.sum();
+        if(estimated >= limit) {
+            return false;
+        }
+        counter.unsynced.increment();
+        return true;
+    }
+
+    public long retryAfterSeconds() {
+        long window = properties.getWindowMs();
+        return Math.max(1, (window - System.currentTimeMillis() % window) / 1000);
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    // ***** <<<<<SYNC>>>>> ***** //
+    void sync() {
+        try {
+            long now = System.currentTimeMillis();
+            long window = properties.getWindowMs();
+            long currentWindow = now / window;
+
+            // 2 window 동안 사용되지 않은 key 정리
+            counters.entrySet().removeIf(entry -> now - entry.getValue().lastAccess > window * 2);
+            if(redisTemplate == null || counters.isEmpty()) return;
+
+            List<String> keys = new ArrayList<>(counters.size());
+            List<WindowCounter> batch = new ArrayList<>(counters.size());
+            List<Long> deltas = new ArrayList<>(counters.size());
+            List<Long> previousDeltas = new ArrayList<>(counters.size());
+            counters.forEach((key, counter) -> {
+                counter.rotate(currentWindow);
+                keys.add(key);
+                batch.add(counter);
+                deltas.add(counter.unsynced.sumThenReset());
+                previousDeltas.add(counter.takePendingPrevious(currentWindow - 1));
+            });
+
+            // 이전 window 는 보낼 것이 없어도 INCRBY 0 으로 현재 값을 받음
+            List<Object> results;
+            try {
+                results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for(int i = 0; i < keys.size(); i++) {
+                        byte[] current = redisKey(keys.get(i), currentWindow);
+                        byte[] previous = redisKey(keys.get(i), currentWindow - 1);
+                        connection.stringCommands().incrBy(current, deltas.get(i));
+                        connection.keyCommands().pExpire(current, window * 2);
+                        connection.stringCommands().incrBy(previous, previousDeltas.get(i));
+                        connection.keyCommands().pExpire(previous, window);
+                    }
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                // 보내지 못한 카운트는 로컬에 되돌려 놓음
+                for(int i = 0; i < batch.size(); i++) {
+                    batch.get(i).unsynced.add(deltas.get(i));
+                    batch.get(i).restorePendingPrevious(previousDeltas.get(i), currentWindow - 1);
+                }
+                if(redisAvailable) {
+                    log.warn("rate limit redis sync failed, falling back to local counters: {}", e.getMessage());
+                    redisAvailable = false;
+                }
+                return;
+            }
+
+            if(!redisAvailable) {
+                log.info("rate limit redis sync recovered");
+                redisAvailable = true;
+            }
+            for(int i = 0; i < batch.size(); i++) {
+                WindowCounter counter = batch.get(i);
+                counter.globalCurrent = toLong(results.get(i * 4));
+                counter.globalPrevious = toLong(results.get(i * 4 + 2));
+            }
+        } catch (RuntimeException e) {
+            log.warn("rate limit sync error", e);
+        }
+    }
+
+    private byte[] redisKey(String key, long window) {
+        return (properties.getRedisKeyPrefix() + key + ":" + window).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toLong(Object value) {
+        if(value instanceof Number number) return number.longValue();
+        if(value instanceof String text) return Long.parseLong(text);
+        if(value instanceof byte[] bytes) return Long.parseLong(new String(bytes, StandardCharsets.UTF_8));
+        return 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    static class WindowCounter {
+        // 이 노드에서 아직 Redis 로 보내지 않은 카운트
+        final LongAdder unsynced = new LongAdder();
+        // 마지막 sync 시점의 전역 카운트
+        volatile long globalCurrent;
+        volatile long globalPrevious;
+        volatile long window;
+        volatile long lastAccess;
+        // window 가 바뀔 때 아직 보내지 않았던 카운트와 그 window. 다음 sync 에서 그 window key 로 보냄
+        private long pendingPrevious;
+        private long pendingWindow;
+
+        WindowCounter(long window) {
+            this.window = window;
+        }
+
+        // window 가 바뀌면 현재 전역 카운트(+ 로컬분)를 이전 window 로 넘기고, 로컬분은 이전 window 몫으로 보관
+        void rotate(long currentWindow) {
+            if(currentWindow == window) return;
+            synchronized (this) {
+                if(currentWindow == window) return;
+                long pending = unsynced.sumThenReset();
+                boolean adjacent = currentWindow == window + 1;
+                globalPrevious = adjacent ? globalCurrent + pending : 0;
+                // 두 window 이상 지났으면 이미 가중치가 0 이라 보낼 필요 없음
+                pendingPrevious = adjacent ? pending : 0;
+                pendingWindow = window;
+                globalCurrent = 0;
+                window = currentWindow;
+            }
+        }
+
+        synchronized long takePendingPrevious(long previousWindow) {
+            long pending = pendingWindow == previousWindow ? pendingPrevious : 0;
+            pendingPrevious = 0;
+            return pending;
+        }
+
+        synchronized void restorePendingPrevious(long pending, long previousWindow) {
+            if(pending == 0 || window != previousWindow + 1) return;
+            pendingPrevious += pending;
+            pendingWindow = previousWindow;
+        }
+    }
+}
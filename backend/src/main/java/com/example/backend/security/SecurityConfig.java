@@ -22,6 +22,7 @@ import org.springframework.web.filter.CorsFilter;
 public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -50,10 +51,15 @@ public class SecurityConfig {
                         .requestMatchers("/api/economic/**").hasRole("ECONOMIC")
                         .requestMatchers("/api/premier/**").hasRole("PREMIER")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        // 검색 결과 전체 export 는 검색 엔진을 오래 점유하므로 로그인 사용자만
+                        .requestMatchers("/api/book/search/export").authenticated()
                         .anyRequest().permitAll())
 
                 .addFilterAfter(
                         jwtFilter, CorsFilter.class
+                )
+                .addFilterAfter(
+                        rateLimitFilter, JwtFilter.class
                 );
 
         return http.build();
@@ -0,0 +1,91 @@
+package com.example.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 단위 토큰 폐기 목록
+ * 토큰을 하나씩 저장하지 않고 email -> 폐기 시각 하나만 보관해서, 그 시각 이전에 발급된 토큰을 모두 무효로 처리
+ * 폐기 시각은 Redis 에 토큰 만료 시간만큼 저장하므로 모든 인스턴스가 공유하고 재시작해도 유지됨
+ * 요청마다 Redis 를 조회하지 않도록 cache-ms 동안 인스턴스별로 캐시 (다른 인스턴스에서 폐기한 토큰은 최대 cache-ms 늦게 거절)
+ * Redis 가 없거나 장애면 이 인스턴스에서 폐기한 것만 알 수 있음
+ * iat 가 초 단위라 폐기와 같은 초에 발급된 토큰은 유효로 봄 (폐기 직후 다시 로그인한 토큰이 바로 거절되지 않도록)
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final String KEY_PREFIX = "token-revoked:";
+    // 캐시에서 "폐기 기록 없음"
+    private static final long NONE = 0L;
+
+    // FIELD
+    private final StringRedisTemplate redisTemplate;
+    private final long retentionSeconds;
+    // email -> 폐기 시각 (epoch seconds, JWT iat 와 같은 단위)
+    private final Cache<String, Long> revokedBefore;
+    // Redis 장애 중에도 이 인스턴스에서 폐기한 것은 거절하도록 보관
+    private final Map<String, Long> localRevocations = new ConcurrentHashMap<>();
+
+    public TokenRevocationStore(ObjectProvider<StringRedisTemplate> redisTemplate,
+                                @Value("${jwt.expiration}") long expiration,
+                                @Value("${jwt.revocation.cache-ms:5000}") long cacheMillis) {
+        this.redisTemplate = redisTemplate.getIfAvailable();
+        this.retentionSeconds = expiration / 1000 + 1;
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(cacheMillis, 1)))
+                .maximumSize(100_000)
+                .build();
+        if(this.redisTemplate == null) {
+            log.warn("redis is not configured: token revocations are kept only in this instance");
+        }
+    }
+
+    // METHOD
+
+    // 비밀번호 변경 시 호출. 권한을 바꾸는 기능이 생기면 그때도 호출해야 함 (현재는 가입 시 ROLE_USER 고정)
+    public void revokeAll(String email) {
+        long now = System.currentTimeMillis() / 1000;
+        localRevocations.put(email, now);
+        localRevocations.values().removeIf(revokedAt -> revokedAt < now - retentionSeconds);
+        revokedBefore.put(email, now);
+
+        if(redisTemplate != null) {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + email, String.valueOf(now), Duration.ofSeconds(retentionSeconds));
+            } catch (RuntimeException e) {
+                log.warn("token revocation for {} not shared through redis: {}", email, e.getMessage());
+            }
+        }
+    }
+
+    public boolean isRevoked(String email, Date issuedAt) {
+        long revokedAt = revokedBefore.get(email, this::load);
+        if(revokedAt == NONE) return false;
+        return issuedAt == null || issuedAt.getTime() / 1000 < revokedAt;
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // Redis 와 이 인스턴스의 기록 중 늦은 시각
+    private long load(String email) {
+        long revokedAt = localRevocations.getOrDefault(email, NONE);
+        if(redisTemplate == null) return revokedAt;
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + email);
+            if(value != null) revokedAt = Math.max(revokedAt, Long.parseLong(value));
+        } catch (RuntimeException e) {
+            log.warn("token revocation lookup failed, using local revocations: {}", e.getMessage());
+        }
+        return revokedAt;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.backend.security.utility;
+
+import com.example.backend.entity.user.enumeration.Role;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // sliding window 크기
+    private long windowMs = 60_000;
+    // 로컬 카운트를 Redis 로 모아서 보내는 주기
+    private long syncIntervalMs = 200;
+    private String redisKeyPrefix = "rl:";
+
+    // 제한 대상 경로 (Ant pattern). 인증과 검색 엔진을 쓰는 검색만 (자동완성/본문 Range 요청은 요청 수가 많아 제외)
+    private List<String> paths = List.of(
+            "/api/auth/login/**",
+            "/api/auth/resister/**",
+            "/api/auth/callback/**",
+            "/api/book/search",
+            "/api/book/search/**",
+            "/api/book/*/content/search");
+
+    // 이 주소(IP 또는 CIDR)에서 온 요청만 forwardedHeader 를 믿고 클라이언트 IP 를 꺼냄. 비어 있으면 연결 주소 사용
+    private List<String> trustedProxies = List.of();
+    private String forwardedHeader = "X-Forwarded-For";
+
+    // 비로그인 요청: IP 당 window 내 허용 횟수
+    private long ipLimit = 60;
+    // 로컬 로그인: 계정(email) 당 window 내 허용 횟수
+    private long accountLimit = 10;
+    // 로그인 사용자: 등급별 window 내 허용 횟수
+    private Map<Role, Long> roleLimits = new EnumMap<>(Map.of(
+            Role.ROLE_USER, 300L,
+            Role.ROLE_ECONOMIC, 600L,
+            Role.ROLE_PREMIER, 1200L,
+            Role.ROLE_ADMIN, 5000L));
+}
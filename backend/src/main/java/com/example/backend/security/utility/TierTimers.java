@@ -0,0 +1,63 @@
+package com.example.backend.security.utility;
+
+import com.example.backend.entity.user.enumeration.Role;
+import com.example.backend.security.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 역할 등급(tier) 태그별 Timer 묶음
+ * 등급마다 미리 등록해두고 요청 경로에서는 EnumMap 조회만 함 (태그/ID 객체 생성 없음)
+ */
+public final class TierTimers {
+
+    public static final String ANONYMOUS = "anonymous";
+
+    // FIELD
+    private final Map<Role, Timer> byRole = new EnumMap<>(Role.class);
+    private final Timer anonymous;
+
+    public TierTimers(MeterRegistry meterRegistry, String name, String description, Tags tags) {
+        for(Role role : Role.values()) {
+            byRole.put(role, register(meterRegistry, name, description, tags, tier(role)));
+        }
+        this.anonymous = register(meterRegistry, name, description, tags, ANONYMOUS);
+    }
+
+    // METHOD
+    public Timer get(Role role) {
+        return role != null ? byRole.get(role) : anonymous;
+    }
+
+    /**
+     * 현재 SecurityContext 의 사용자 등급
+     */
+    public Timer current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if(authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return get(userDetails.getUser().getRole());
+        }
+        return anonymous;
+    }
+
+    // ROLE_PREMIER -> premier
+    public static String tier(Role role) {
+        return role.name().substring("ROLE_".length()).toLowerCase(Locale.ROOT);
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private static Timer register(MeterRegistry meterRegistry, String name, String description, Tags tags, String tier) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.user.UserImportStatusResponse;
+import com.example.backend.entity.user.enumeration.AuthProvider;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.entity.user.enumeration.Role;
+import com.example.backend.service.book.utility.CsvRecordReader;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 CSV 일괄 등록 (email, username, password, provider, role, language)
+ * BATCH_SIZE 행마다 이미 있는 email/username 을 한 번에 조회해서 빼고 나머지를 JDBC batch insert
+ * 이미 있는 사용자는 건너뛰므로 같은 파일을 다시 실행해도 됨
+ * 비밀번호는 BCrypt 해시만 받음 (평문은 거절). 비어 있으면 소셜 가입 회원으로 취급
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    public static final int BATCH_SIZE = 1000;
+    public static final int MAX_COLUMN_LENGTH = 255;
+    // 다른 요청(OAuth 첫 로그인 등)과 같은 email 을 동시에 넣어 batch 가 실패하면 다시 조회해서 재시도
+    private static final int MAX_BATCH_RETRIES = 3;
+
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    // FIELD
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ImportProgress> current = new AtomicReference<>();
+
+    public UserImportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // METHOD
+
+    /**
+     * 백그라운드로 등록 시작. 이미 진행 중이면 예외
+     */
+    public UserImportStatusResponse start(String source) {
+        Path file = Path.of(source).toAbsolutePath().normalize();
+        if(!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("파일을 찾을 수 없습니다: " + file);
+        }
+
+        ImportProgress progress = new ImportProgress(file.toString());
+        ImportProgress previous = current.get();
+        if((previous != null && previous.running) || !current.compareAndSet(previous, progress)) {
+            throw new IllegalArgumentException("이미 사용자 등록이 진행 중입니다.");
+        }
+
+        executor.execute(() -> importUsers(file, progress));
+        return progress.toResponse();
+    }
+
+    public UserImportStatusResponse getStatus() {
+        ImportProgress progress = current.get();
+        return progress != null ? progress.toResponse() : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void importUsers(Path file, ImportProgress progress) {
+        try (CsvRecordReader reader = new CsvRecordReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+
+            List<String> header = reader.next();
+            if(header == null) return;
+            UserColumns columns = UserColumns.from(header);
+
+            List<UserRow> batch = new ArrayList<>(BATCH_SIZE);
+            List<String> record;
+            while((record = nextRecord(reader)) != null) {
+                progress.readRows.incrementAndGet();
+                UserRow row = record.isEmpty() ? null : columns.toRow(record);
+                if(row != null) {
+                    batch.add(row);
+                } else {
+                    progress.rejectedRows.incrementAndGet();
+                }
+
+                if(batch.size() == BATCH_SIZE) {
+                    write(batch, progress);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            write(batch, progress);
+        } catch (Exception e) {
+            progress.fail(e);
+        } finally {
+            progress.finish();
+            log.info("user import finished: {} inserted, {} duplicates, {} rejected in {} ms ({} rows/sec)",
+                    progress.insertedRows.get(), progress.duplicateRows.get(), progress.rejectedRows.get(),
+                    progress.elapsedMillis(), String.format("%.1f", progress.rowsPerSecond()));
+        }
+    }
+
+    // 길이 제한을 넘은 레코드는 빈 목록 (정상 레코드는 필드가 최소 1개)
+    private static List<String> nextRecord(CsvRecordReader reader) throws IOException {
+        try {
+            return reader.next();
+        } catch (CsvRecordReader.RecordTooLongException e) {
+            log.debug("oversized csv record skipped: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    // ***** <<<<<WRITER>>>>> ***** //
+    private void write(List<UserRow> batch, ImportProgress progress) {
+        if(batch.isEmpty()) return;
+        for(int attempt = 1; ; attempt++) {
+            try {
+                int[] result = transactionTemplate.execute(status -> insertNew(batch));
+                progress.insertedRows.addAndGet(result[0]);
+                progress.duplicateRows.addAndGet(result[1]);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if(attempt >= MAX_BATCH_RETRIES) throw e;
+                log.debug("user import batch conflicted, retrying: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 파일 안 + DB 에 이미 있는 email/username 을 빼고 insert. [insert 수, 중복 수]
+    private int[] insertNew(List<UserRow> batch) {
+        Set<String> existingEmails = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "select email from users where email in (:values)",
+                Map.of("values", batch.stream().map(UserRow::email).toList()), String.class));
+        List<String> usernames = batch.stream().map(UserRow::username).filter(Objects::nonNull).toList();
+        Set<String> existingUsernames = usernames.isEmpty() ? new HashSet<>() : new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "select username from users where username in (:values)",
+                Map.of("values", usernames), String.class));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>(batch.size());
+        for(UserRow row : batch) {
+            // add 가 false 면 DB 또는 같은 파일 앞쪽에 이미 있음
+            if(!existingEmails.add(row.email())) continue;
+            if(row.username() != null && !existingUsernames.add(row.username())) continue;
+            inserts.add(new Object[]{row.provider().name(), row.email(), row.username(), row.password(),
+                    row.role().name(), row.language().name(), now, now});
+        }
+
+        if(!inserts.isEmpty()) {
+            // 새 사용자는 아직 어떤 캐시에도 없으므로 outbox 기록은 필요 없음
+            jdbcTemplate.batchUpdate(
+                    "insert into users (auth_provider, email, username, password, role, language, created_date, modified_date) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                    inserts);
+        }
+        return new int[]{inserts.size(), batch.size() - inserts.size()};
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private record UserRow(String email, String username, String password, AuthProvider provider, Role role, Language language) {
+    }
+
+    private record UserColumns(int email, int username, int password, int provider, int role, int language) {
+
+        static UserColumns from(List<String> header) {
+            int email = -1, username = -1, password = -1, provider = -1, role = -1, language = -1;
+            for(int i = 0; i < header.size(); i++) {
+                String name = header.get(i).trim().toLowerCase(Locale.ROOT);
+                switch (name) {
+                    case "email" -> email = i;
+                    case "username", "name", "nickname" -> username = i;
+                    case "password", "password_hash" -> password = i;
+                    case "provider", "auth_provider" -> provider = i;
+                    case "role" -> role = i;
+                    case "language", "locale" -> language = i;
+                    default -> { }
+                }
+            }
+            if(email < 0) {
+                throw new IllegalArgumentException("사용자 CSV 헤더에 email 컬럼이 없습니다: " + header);
+            }
+            return new UserColumns(email, username, password, provider, role, language);
+        }
+
+        // email 형식이 아니거나, 비밀번호가 BCrypt 가 아니거나, LOCAL 인데 비밀번호가 없거나, 알 수 없는 provider/role 이면 null
+        UserRow toRow(List<String> record) {
+            String emailValue = value(record, email);
+            if(emailValue == null || emailValue.indexOf('@') <= 0 || emailValue.length() > MAX_COLUMN_LENGTH) return null;
+
+            String passwordValue = value(record, password);
+            if(passwordValue != null && !BCRYPT.matcher(passwordValue).matches()) return null;
+
+            try {
+                String providerValue = value(record, provider);
+                AuthProvider authProvider = providerValue != null
+                        ? AuthProvider.valueOf(providerValue.toUpperCase(Locale.ROOT))
+                        : (passwordValue != null ? AuthProvider.LOCAL : null);
+                if(authProvider == null || (authProvider == AuthProvider.LOCAL && passwordValue == null)) return null;
+
+                String roleValue = value(record, role);
+                Role userRole = roleValue != null ? toRole(roleValue) : Role.ROLE_USER;
+
+                String usernameValue = value(record, username);
+                if(usernameValue != null && usernameValue.length() > MAX_COLUMN_LENGTH) {
+                    usernameValue = usernameValue.substring(0, MAX_COLUMN_LENGTH);
+                }
+                return new UserRow(emailValue, usernameValue, passwordValue, authProvider, userRole,
+                        Language.fromLocale(value(record, language)));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        // "admin", "ROLE_ADMIN" 둘 다 허용
+        private static Role toRole(String value) {
+            String upper = value.toUpperCase(Locale.ROOT);
+            return Role.valueOf(upper.startsWith("ROLE_") ? upper : "ROLE_" + upper);
+        }
+
+        private static String value(List<String> record, int index) {
+            if(index < 0 || index >= record.size()) return null;
+            String trimmed = record.get(index).trim();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+    }
+
+    static class ImportProgress {
+        final String source;
+        final long startedAt = System.currentTimeMillis();
+        final AtomicLong readRows = new AtomicLong();
+        final AtomicLong insertedRows = new AtomicLong();
+        final AtomicLong duplicateRows = new AtomicLong();
+        final AtomicLong rejectedRows = new AtomicLong();
+        final AtomicReference<Exception> error = new AtomicReference<>();
+        volatile long finishedAt;
+        volatile boolean running = true;
+
+        ImportProgress(String source) {
+            this.source = source;
+        }
+
+        void fail(Exception e) {
+            if(error.compareAndSet(null, e)) {
+                log.error("user import failed: {}", source, e);
+            }
+        }
+
+        void finish() {
+            finishedAt = System.currentTimeMillis();
+            running = false;
+        }
+
+        long elapsedMillis() {
+            return (running ? System.currentTimeMillis() : finishedAt) - startedAt;
+        }
+
+        // 읽은 행 기준 처리 속도 (중복/거절 포함)
+        double rowsPerSecond() {
+            long elapsed = elapsedMillis();
+            return elapsed > 0 ? readRows.get() * 1000.0 / elapsed : 0;
+        }
+
+        UserImportStatusResponse toResponse() {
+            Exception e = error.get();
+            return UserImportStatusResponse.builder()
+                    .source(source)
+                    .running(running)
+                    .readRows(readRows.get())
+                    .insertedRows(insertedRows.get())
+                    .duplicateRows(duplicateRows.get())
+                    .rejectedRows(rejectedRows.get())
+                    .elapsedMillis(elapsedMillis())
+                    .rowsPerSecond(rowsPerSecond())
+                    .error(e != null ? e.getMessage() : null)
+                    .build();
+        }
+    }
+}
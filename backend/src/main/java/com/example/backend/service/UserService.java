@@ -1,34 +1,171 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.auth.AuthMyInfoResponse;
 import com.example.backend.entity.user.User;
 import com.example.backend.entity.user.enumeration.AuthProvider;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.security.PasswordHashingExecutor;
+import com.example.backend.security.RateLimitExceededException;
+import com.example.backend.security.RateLimiter;
+import com.example.backend.security.TokenRevocationStore;
+import com.example.backend.security.utility.RateLimitProperties;
+import com.example.backend.service.mail.MailOutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.example.backend.dto.auth.naver.NaverUserInfoResponse;
 import com.example.backend.repository.UserRepository;
 
-import lombok.RequiredArgsConstructor;
-
 import java.util.Objects;
 
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
+    // 없는 이메일도 BCrypt 비교를 한 번 수행해서 응답 시간으로 가입 여부가 드러나지 않게 함
+    // SecurityConfig 의 BCryptPasswordEncoder 와 같은 cost(10) 여야 함
+    static final String DUMMY_BCRYPT_HASH = "$2a$10$dXJ3SW6G7P50lGmMkkmwe.20cQQubK3.HZWzG3YB1tlRy.fqvM/BG";
+
     private final UserRepository userRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final MailOutboxService mailOutboxService;
 
-    public User createUser(String email, String username, String password, AuthProvider auth) {
-        if(userRepository.existsByEmail(email)) {
-            return userRepository.findByEmail(email).orElse(null);
-        } else {
-            User newUser = User.createUser(auth, email, username, password);
-            return userRepository.save(newUser);
+    private final Timer findByEmailTimer;
+    private final Timer saveTimer;
+
+    public UserService(UserRepository userRepository,
+                       PasswordHashingExecutor passwordHashingExecutor,
+                       RateLimiter rateLimiter,
+                       RateLimitProperties rateLimitProperties,
+                       TokenRevocationStore tokenRevocationStore,
+                       MailOutboxService mailOutboxService,
+                       MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.rateLimiter = rateLimiter;
+        this.rateLimitProperties = rateLimitProperties;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.mailOutboxService = mailOutboxService;
+        this.findByEmailTimer = dbTimer(meterRegistry, "find_by_email");
+        this.saveTimer = dbTimer(meterRegistry, "save");
+    }
+
+    /**
+     * 이메일로 사용자를 찾고 없으면 저장 (OAuth 로그인, 회원가입)
+     * 기존 사용자는 조회 1회로 끝남
+     * 같은 이메일의 첫 로그인이 동시에 들어오면 email unique 제약으로 한쪽 insert 가 실패하고, 실패한 쪽은 먼저 저장된 사용자를 다시 읽음
+     */
+    public User createUser(String email, String username, String password, AuthProvider auth, Language language) {
+        User existing = findByEmail(email);
+        if(existing != null) return existing;
+
+        User newUser = User.createUser(auth, email, username, password, language);
+        try {
+            return saveTimer.record(() -> userRepository.save(newUser));
+        } catch (DataIntegrityViolationException e) {
+            User saved = findByEmail(email);
+            // username 중복 등 다른 제약 위반
+            if(saved == null) throw e;
+            return saved;
         }
     }
 
     public boolean checkAuthProvider(String email, AuthProvider auth) {
-        User user = userRepository.findByEmail(email).orElse(null);
+        User user = findByEmail(email);
         if(user != null) return user.getAuthProvider().equals(auth);
         return false;
     }
+
+    /**
+     * 로컬 로그인: 사용자 조회 1회로 가입 방식과 비밀번호를 함께 확인
+     * 비밀번호 비교(BCrypt)는 전용 pool 에서 수행. 없는 이메일이나 비밀번호 없는 계정도 같은 비용으로 비교
+     * 없는 이메일, 소셜 가입 회원, 비밀번호 불일치 모두 같은 BadCredentialsException (가입 여부/방식이 드러나지 않도록)
+     */
+    public User loginByLocal(String email, String password) {
+        // 같은 계정에 대한 비밀번호 대입은 IP 와 무관하게 계정 단위로 제한
+        if(!rateLimiter.tryAcquire("account:" + email, rateLimitProperties.getAccountLimit())) {
+            throw new RateLimitExceededException(rateLimiter.retryAfterSeconds());
+        }
+        User user = findByEmail(email);
+        if(user == null) {
+            passwordHashingExecutor.matches(password, DUMMY_BCRYPT_HASH);
+            throw new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
+        // 소셜 가입 회원(비밀번호 없음)도 BCrypt 를 한 번 수행한 뒤 같은 예외로 거절
+        String encoded = user.getPassword() != null ? user.getPassword() : DUMMY_BCRYPT_HASH;
+        boolean matched = passwordHashingExecutor.matches(password, encoded);
+        if(!matched || user.getPassword() == null || user.getAuthProvider() != AuthProvider.LOCAL) {
+            throw new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
+        return user;
+    }
+
+    public AuthMyInfoResponse getUserByEmail(String email) {
+        User user = findByEmail(email);
+        if(user == null) return null;
+        return AuthMyInfoResponse.builder()
+                .email(user.getEmail())
+                .username(user.getUsername())
+                .role(user.getRole())
+                .build();
+    }
+
+    /**
+     * 비밀번호 변경 + 알림 메일을 같은 트랜잭션에서 outbox 에 저장. 메일은 MailOutboxService 가 백그라운드로 발송
+     * 기존 토큰은 commit 후에 모두 폐기 (rollback 되면 비밀번호도 그대로이므로 폐기하지 않음)
+     * @param encodedPassword 호출 전에 PasswordHashingExecutor 로 인코딩한 값 (BCrypt 동안 트랜잭션을 잡지 않도록)
+     */
+    @Transactional
+    public void resetPassword(String email, String encodedPassword) throws IllegalAccessException {
+        User user = findByEmail(email);
+        if(user == null) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        if(user.getAuthProvider() != AuthProvider.LOCAL) {
+            throw new IllegalAccessException("다른 방식으로 가입된 회원입니다.");
+        }
+        user.setPassword(encodedPassword);
+        saveTimer.record(() -> userRepository.save(user));
+
+        // 같은 초 안의 중복 요청은 메일 한 통
+        String idempotencyKey = "password-changed." + user.getId() + "." + System.currentTimeMillis() / 1000;
+        mailOutboxService.enqueue(idempotencyKey, email,
+                "비밀번호가 변경되었습니다",
+                user.getUsername() + "님, 계정 비밀번호가 변경되었습니다.\n본인이 변경하지 않았다면 즉시 비밀번호를 다시 설정해 주세요.");
+        afterCommit(() -> tokenRevocationStore.revokeAll(email));
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // 트랜잭션 밖에서 호출되면 바로 실행
+    private static void afterCommit(Runnable action) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private User findByEmail(String email) {
+        return findByEmailTimer.record(() -> userRepository.findByEmail(email)).orElse(null);
+    }
+
+    private static Timer dbTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("user.db")
+                .description("UserService DB 호출 시간")
+                .tag("op", operation)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,171 @@
+package com.example.backend.service.auth;
+
+import com.example.backend.dto.auth.google.GoogleUserInfoResponse;
+import com.example.backend.service.auth.utility.GoogleOAuthProviderProperties;
+import com.example.backend.service.auth.utility.GoogleOAuthRegistrationProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Google OIDC id_token 로컬 검증
+ * JWKS(서명 공개키 목록)를 메모리에 캐시하고 refresh 주기가 지나면 백그라운드에서 갱신
+ * 캐시에 없는 kid(키 교체 직후 등)면 null 을 반환해 호출 측이 userinfo 조회로 대체하도록 함
+ */
+@Slf4j
+@Service
+public class GoogleIdTokenVerifier {
+
+    private static final Set<String> ISSUERS = Set.of("https://accounts.google.com", "accounts.google.com");
+
+    // FIELD
+    private final WebClient googleWebClient;
+    private final GoogleOAuthProviderProperties googleProviderProperties;
+    private final GoogleOAuthRegistrationProperties googleOAuthProperties;
+    private final ObjectMapper objectMapper;
+    private final long refreshIntervalMillis;
+
+    // kid -> 공개키. 갱신 시 통째로 교체
+    private volatile KeyRing keyRing = new KeyRing(Map.of(), 0);
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final JwtParser parser;
+
+    public GoogleIdTokenVerifier(@Qualifier("googleWebClient") WebClient googleWebClient,
+                                 GoogleOAuthProviderProperties googleProviderProperties,
+                                 GoogleOAuthRegistrationProperties googleOAuthProperties,
+                                 ObjectMapper objectMapper,
+                                 @Value("${oauth.google.jwks-refresh-ms:3600000}") long refreshIntervalMillis) {
+        this.googleWebClient = googleWebClient;
+        this.googleProviderProperties = googleProviderProperties;
+        this.googleOAuthProperties = googleOAuthProperties;
+        this.objectMapper = objectMapper;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.parser = Jwts.parser()
+                .keyLocator(header -> keyRing.keys().get(((ProtectedHeader) header).getKeyId()))
+                .clockSkewSeconds(60)
+                .build();
+    }
+
+    @PostConstruct
+    public void warmUp() {
+        refreshInBackground();
+    }
+
+    // METHOD
+
+    /**
+     * id_token 검증 후 사용자 정보 반환
+     * @return id_token 이 없거나 서명 키를 모르면 null (userinfo 로 대체)
+     * @throws IllegalAccessException 서명/발급자/대상/만료 검증 실패
+     */
+    public GoogleUserInfoResponse verify(String idToken) throws IllegalAccessException {
+        if(idToken == null || idToken.isBlank()) return null;
+
+        KeyRing current = keyRing;
+        if(System.currentTimeMillis() - current.loadedAt() > refreshIntervalMillis) {
+            refreshInBackground();
+        }
+
+        String kid = readKeyId(idToken);
+        if(kid == null || !current.keys().containsKey(kid)) {
+            log.info("unknown google signing key: {}", kid);
+            refreshInBackground();
+            return null;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(idToken).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new IllegalAccessException("Google id_token 검증 실패");
+        }
+
+        if(!ISSUERS.contains(claims.getIssuer())
+                || claims.getAudience() == null
+                || !claims.getAudience().contains(googleOAuthProperties.getClientId())) {
+            throw new IllegalAccessException("Google id_token 검증 실패");
+        }
+
+        String email = claims.get("email", String.class);
+        if(email == null || Boolean.FALSE.equals(claims.get("email_verified", Boolean.class))) {
+            throw new IllegalAccessException("Google 이메일 인증이 필요합니다.");
+        }
+
+        return GoogleUserInfoResponse.builder()
+                .id(claims.getSubject())
+                .email(email)
+                .name(claims.get("name", String.class))
+                .locale(claims.get("locale", String.class))
+                .build();
+    }
+
+    public Mono<Void> refresh() {
+        return googleWebClient.get()
+                .uri(googleProviderProperties.getJwkSetUri())
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(GoogleIdTokenVerifier::parseKeyRing)
+                .doOnNext(ring -> {
+                    keyRing = ring;
+                    log.info("google jwks refreshed: {} keys", ring.keys().size());
+                })
+                .then();
+    }
+
+    private void refreshInBackground() {
+        if(!refreshing.compareAndSet(false, true)) return;
+        refresh()
+                .doFinally(signal -> refreshing.set(false))
+                .subscribe(null, e -> log.warn("google jwks refresh failed: {}", e.toString()));
+    }
+
+    // 서명 검증 전에 header 의 kid 만 확인
+    private String readKeyId(String token) {
+        int dot = token.indexOf('.');
+        if(dot <= 0) return null;
+        try {
+            byte[] header = Base64.getUrlDecoder().decode(token.substring(0, dot));
+            JsonNode kid = objectMapper.readTree(new String(header, StandardCharsets.UTF_8)).get("kid");
+            return kid != null ? kid.asText() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static KeyRing parseKeyRing(String json) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        Map<String, Key> keys = new HashMap<>();
+        for(Jwk<?> jwk : jwkSet.getKeys()) {
+            if(jwk instanceof PublicJwk<?> publicJwk && jwk.getId() != null) {
+                keys.put(jwk.getId(), publicJwk.toKey());
+            }
+        }
+        return new KeyRing(Map.copyOf(keys), System.currentTimeMillis());
+    }
+
+    private record KeyRing(Map<String, Key> keys, long loadedAt) {
+    }
+}
@@ -4,66 +4,72 @@ import com.example.backend.dto.auth.google.GoogleTokenResponse;
 import com.example.backend.dto.auth.google.GoogleUserInfoResponse;
 import com.example.backend.service.auth.utility.GoogleOAuthRegistrationProperties;
 import com.example.backend.service.auth.utility.GoogleOAuthProviderProperties;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.service.auth.utility.OAuthErrors;
+import com.example.backend.service.auth.utility.OutcomeTimer;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
-@Slf4j @RequiredArgsConstructor
+@Slf4j
 @Service
 public class GoogleService {
 
     // Field
-    private final RestTemplate restTemplate;
+    private final WebClient googleWebClient;
     private final GoogleOAuthRegistrationProperties googleOAuthProperties;
     private final GoogleOAuthProviderProperties googleProviderProperties;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final OutcomeTimer tokenTimer;
+    private final OutcomeTimer idTokenTimer;
+    private final OutcomeTimer userInfoTimer;
 
-    // Method
-    public GoogleUserInfoResponse getUsernameAndEmailAndLocale(String code, String state) throws Exception{
-        // 1. Access Token 요청
-        String tokenExchangeUrl = googleProviderProperties.getTokenUri() + "?"
-                + "grant_type=authorization_code"
-                + "&client_id=" + googleOAuthProperties.getClientId()
-                + "&client_secret=" + googleOAuthProperties.getClientSecret()
-                + "&code=" + code
-                + "&state=" + state
-                + "&redirect_uri=" + googleOAuthProperties.getRedirectUri(); // 리디렉션 URI는 토큰 요청 시에도 필요합니다.
-
-        HttpHeaders headers = new HttpHeaders();
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        ResponseEntity<GoogleTokenResponse> tokenResponse = restTemplate.exchange(
-                tokenExchangeUrl,
-                HttpMethod.POST, // Google은 POST 요청을 권장합니다.
-                entity,
-                GoogleTokenResponse.class);
-
-        GoogleTokenResponse tokenResponseBody = tokenResponse.getBody();
-        if(!tokenResponse.getStatusCode().is2xxSuccessful() || tokenResponseBody == null) {
-            throw new IllegalAccessError("Google Access Token 발급 실패");
-        }
-
-        String accessToken = tokenResponseBody.getAccess_token();
-
-        // 2. 사용자 정보 요청
-        HttpHeaders infoHeaders = new HttpHeaders();
-        infoHeaders.setBearerAuth(accessToken);
-        HttpEntity<String> infoEntity = new HttpEntity<>(infoHeaders);
+    public GoogleService(@Qualifier("googleWebClient") WebClient googleWebClient,
+                         GoogleOAuthRegistrationProperties googleOAuthProperties,
+                         GoogleOAuthProviderProperties googleProviderProperties,
+                         GoogleIdTokenVerifier googleIdTokenVerifier,
+                         MeterRegistry meterRegistry) {
+        this.googleWebClient = googleWebClient;
+        this.googleOAuthProperties = googleOAuthProperties;
+        this.googleProviderProperties = googleProviderProperties;
+        this.googleIdTokenVerifier = googleIdTokenVerifier;
+        this.tokenTimer = OutcomeTimer.remote(meterRegistry, "google", "token");
+        // JWKS 캐시 hit 이면 로컬 검증만, miss 면 JWKS 원격 조회 포함
+        this.idTokenTimer = OutcomeTimer.remote(meterRegistry, "google", "id_token");
+        this.userInfoTimer = OutcomeTimer.remote(meterRegistry, "google", "userinfo");
+    }
 
-        // Google은 userInfoUri(user-info-uri)을 통해 사용자 정보를 제공합니다.
-        ResponseEntity<GoogleUserInfoResponse> userInfoResponse = restTemplate.exchange(
-                googleProviderProperties.getUserInfoUri(),
-                HttpMethod.GET,
-                infoEntity,
-                GoogleUserInfoResponse.class);
+    // Method
+    public Mono<GoogleUserInfoResponse> getUsernameAndEmailAndLocale(String code, String state) {
+        // 1. Access Token 요청 (form body 로 전송)
+        return tokenTimer.time(googleWebClient.post()
+                .uri(googleProviderProperties.getTokenUri())
+                .body(BodyInserters.fromFormData("grant_type", "authorization_code")
+                        .with("client_id", googleOAuthProperties.getClientId())
+                        .with("client_secret", googleOAuthProperties.getClientSecret())
+                        .with("code", code)
+                        .with("state", state)
+                        .with("redirect_uri", googleOAuthProperties.getRedirectUri())) // 리디렉션 URI는 토큰 요청 시에도 필요합니다.
+                .retrieve()
+                .bodyToMono(GoogleTokenResponse.class))
+                .filter(tokenResponse -> tokenResponse.getAccess_token() != null)
+                .switchIfEmpty(Mono.error(() -> new IllegalAccessException("Google Access Token 발급 실패")))
+                // 2. id_token 을 캐시된 JWKS 로 로컬 검증. 키를 모를 때만 userinfo 요청
+                .flatMap(tokenResponse -> idTokenTimer.time(Mono.fromCallable(() -> googleIdTokenVerifier.verify(tokenResponse.getId_token())))
+                        .switchIfEmpty(Mono.defer(() -> getUserInfo(tokenResponse.getAccess_token()))))
+                .switchIfEmpty(Mono.error(() -> new IllegalAccessException("Google 사용자 정보 요청 실패")))
+                .onErrorMap(e -> OAuthErrors.translate("google", e));
+    }
 
-        if(!userInfoResponse.getStatusCode().is2xxSuccessful() || userInfoResponse.getBody() == null) {
-            throw new IllegalAccessError("Google 사용자 정보 요청 실패");
-        }
-        return userInfoResponse.getBody();
+    // Google은 userInfoUri(user-info-uri)을 통해 사용자 정보를 제공합니다.
+    private Mono<GoogleUserInfoResponse> getUserInfo(String accessToken) {
+        return userInfoTimer.time(googleWebClient.get()
+                .uri(googleProviderProperties.getUserInfoUri())
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .bodyToMono(GoogleUserInfoResponse.class));
     }
 }
@@ -2,60 +2,68 @@ package com.example.backend.service.auth;
 
 import com.example.backend.service.auth.utility.NaverOAuthRegistrationProperties;
 import com.example.backend.service.auth.utility.NaverOAuthProviderProperties;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import com.example.backend.service.auth.utility.OAuthErrors;
+import com.example.backend.service.auth.utility.OutcomeTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.example.backend.dto.auth.naver.NaverTokenResponse;
 import com.example.backend.dto.auth.naver.NaverUserInfoResponse;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 @Service
-@RequiredArgsConstructor @Slf4j
+@Slf4j
 public class NaverService {
 
     // FIELD
-    private final RestTemplate restTemplate;
+    private final WebClient naverWebClient;
     private final NaverOAuthRegistrationProperties naverOAuthProperties;
     private final NaverOAuthProviderProperties naverProviderProperties;
+    private final OutcomeTimer tokenTimer;
+    private final OutcomeTimer userInfoTimer;
+
+    @Autowired
+    public NaverService(@Qualifier("naverWebClient") WebClient naverWebClient,
+                        NaverOAuthRegistrationProperties naverOAuthProperties,
+                        NaverOAuthProviderProperties naverProviderProperties,
+                        MeterRegistry meterRegistry) {
+        this.naverWebClient = naverWebClient;
+        this.naverOAuthProperties = naverOAuthProperties;
+        this.naverProviderProperties = naverProviderProperties;
+        this.tokenTimer = OutcomeTimer.remote(meterRegistry, "naver", "token");
+        this.userInfoTimer = OutcomeTimer.remote(meterRegistry, "naver", "userinfo");
+    }
 
     // METHOD
-    public NaverUserInfoResponse getUsernameAndEmail(String code, String state) throws Exception{
-        String url = naverProviderProperties.getTokenUri() + "?"
-                + "grant_type=" + naverOAuthProperties.getAuthorizationGrantType()
-                + "&client_id=" + naverOAuthProperties.getClientId()
-                + "&client_secret=" + naverOAuthProperties.getClientSecret()
-                + "&code=" + code
-                + "&state=" + state;
-
-        HttpHeaders headers = new HttpHeaders();
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        ResponseEntity<NaverTokenResponse> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                NaverTokenResponse.class);
-
-        NaverTokenResponse tokenResponse = response.getBody();
-        if(response.getStatusCode().is2xxSuccessful() && tokenResponse != null) {
-            String accessToken = tokenResponse.getAccess_token();
-
-            headers.setBearerAuth(accessToken);
-            entity = new HttpEntity<>(headers);
-            ResponseEntity<NaverUserInfoResponse> accessResponse = restTemplate.exchange(
-                    naverProviderProperties.getUserInfoUri(),
-                    HttpMethod.GET,
-                    entity,
-                    NaverUserInfoResponse.class);
-            return accessResponse.getBody();
-        } else {
-            throw new IllegalAccessError("fail login with naver");
-        }
+    // 토큰 발급 -> 사용자 정보 조회를 요청 스레드를 점유하지 않고 이어서 수행
+    public Mono<NaverUserInfoResponse> getUsernameAndEmail(String code, String state) {
+        String url = UriComponentsBuilder.fromUriString(naverProviderProperties.getTokenUri())
+                .queryParam("grant_type", naverOAuthProperties.getAuthorizationGrantType())
+                .queryParam("client_id", naverOAuthProperties.getClientId())
+                .queryParam("client_secret", naverOAuthProperties.getClientSecret())
+                .queryParam("code", code)
+                .queryParam("state", state)
+                .encode()
+                .toUriString();
+
+        return tokenTimer.time(naverWebClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .bodyToMono(NaverTokenResponse.class))
+                .filter(tokenResponse -> tokenResponse.getAccess_token() != null)
+                .switchIfEmpty(Mono.error(() -> new IllegalAccessException("fail login with naver")))
+                .flatMap(tokenResponse -> userInfoTimer.time(naverWebClient.get()
+                        .uri(naverProviderProperties.getUserInfoUri())
+                        .headers(headers -> headers.setBearerAuth(tokenResponse.getAccess_token()))
+                        .retrieve()
+                        .bodyToMono(NaverUserInfoResponse.class)))
+                .switchIfEmpty(Mono.error(() -> new IllegalAccessException("fail login with naver")))
+                .onErrorMap(e -> OAuthErrors.translate("naver", e));
     }
 }
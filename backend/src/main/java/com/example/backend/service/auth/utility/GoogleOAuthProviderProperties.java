@@ -13,4 +13,5 @@ public class GoogleOAuthProviderProperties {
     private String authorizationUri;
     private String tokenUri;
     private String userInfoUri;
+    private String jwkSetUri = "https://www.googleapis.com/oauth2/v3/certs";
 }
@@ -0,0 +1,48 @@
+package com.example.backend.service.auth.utility;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * OAuth 원격 호출 오류를 ExceptionController 가 처리하는 예외로 변환
+ * - provider 지연/연결 실패/pool 포화 : RejectedExecutionException (503)
+ * - provider 가 거절한 요청          : IllegalAccessException (403)
+ */
+@Slf4j
+public final class OAuthErrors {
+
+    private OAuthErrors() {
+    }
+
+    public static Throwable translate(String provider, Throwable e) {
+        if(e instanceof IllegalAccessException || e instanceof RejectedExecutionException) {
+            return e;
+        }
+        if(e instanceof WebClientResponseException responseException) {
+            log.warn("{} oauth rejected: {}", provider, responseException.getStatusCode());
+            return new IllegalAccessException("fail login with " + provider);
+        }
+        if(isUnavailable(e)) {
+            log.warn("{} oauth unavailable: {}", provider, e.toString());
+            return new RejectedExecutionException(provider + " 로그인 서버가 응답하지 않습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return e;
+    }
+
+    private static boolean isUnavailable(Throwable e) {
+        for(Throwable cause = e; cause != null; cause = cause.getCause()) {
+            // 연결 실패, pool 대기 초과 등 요청 전송 단계의 오류는 WebClientRequestException 으로 감싸져 전달됨
+            if(cause instanceof WebClientRequestException
+                    || cause instanceof TimeoutException
+                    || cause instanceof ReadTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.service.auth.utility;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "oauth.http-client")
+public class OAuthHttpClientProperties {
+    // provider 별 connection pool 최대 연결 수 (= 동시에 진행되는 원격 호출 수 상한)
+    private int maxConnections = 50;
+    // pool 이 가득 찼을 때 대기할 수 있는 요청 수. 초과하면 즉시 실패
+    private int pendingAcquireMaxCount = 100;
+    private long pendingAcquireTimeoutMs = 2000;
+    private int connectTimeoutMs = 2000;
+    private long responseTimeoutMs = 3000;
+    private long maxIdleTimeMs = 30000;
+}
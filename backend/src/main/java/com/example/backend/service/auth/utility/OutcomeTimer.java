@@ -0,0 +1,84 @@
+package com.example.backend.service.auth.utility;
+
+import com.example.backend.service.profiler.utility.RequestSample;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 성공/실패(outcome 태그)를 나눠 기록하는 Timer 쌍. 두 Timer 를 미리 등록해 기록 시 조회 비용이 없음
+ */
+public final class OutcomeTimer {
+
+    // FIELD
+    private final Timer success;
+    private final Timer failure;
+    // true 면 걸린 시간을 요청 profiler 의 원격 호출 구간에도 더함
+    private final boolean remote;
+
+    public OutcomeTimer(MeterRegistry meterRegistry, String name, String description, Tags tags) {
+        this(meterRegistry, name, description, tags, false);
+    }
+
+    private OutcomeTimer(MeterRegistry meterRegistry, String name, String description, Tags tags, boolean remote) {
+        this.success = register(meterRegistry, name, description, tags, "success");
+        this.failure = register(meterRegistry, name, description, tags, "failure");
+        this.remote = remote;
+    }
+
+    /**
+     * OAuth 제공자 원격 호출 (oauth.remote)
+     */
+    public static OutcomeTimer remote(MeterRegistry meterRegistry, String provider, String call) {
+        return new OutcomeTimer(meterRegistry, "oauth.remote", "OAuth 제공자 원격 호출 시간",
+                Tags.of("provider", provider, "call", call), true);
+    }
+
+    // METHOD
+    /**
+     * @param startNanos System.nanoTime() 기준 시작 시각
+     */
+    public void record(long startNanos, boolean succeeded) {
+        record(startNanos, succeeded, RequestSample.current());
+    }
+
+    /**
+     * 구독 시점부터 완료/실패까지 기록 (취소는 기록하지 않음)
+     * 요청 스레드에서 구독하면 그 요청의 RequestSample 을 Reactor Context 로 넘겨서
+     * reactor-netty 스레드에서 끝나는 원격 호출도 해당 요청에 더해짐
+     */
+    public <T> Mono<T> time(Mono<T> call) {
+        return Mono.deferContextual(context -> {
+            RequestSample sample = context.getOrDefault(RequestSample.class, null);
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(result -> record(start, true, sample))
+                    .doOnError(e -> record(start, false, sample));
+        }).contextWrite(OutcomeTimer::withRequestSample);
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private void record(long startNanos, boolean succeeded, RequestSample sample) {
+        long elapsed = System.nanoTime() - startNanos;
+        (succeeded ? success : failure).record(elapsed, TimeUnit.NANOSECONDS);
+        if(remote && sample != null) sample.addRemote(elapsed);
+    }
+
+    private static Context withRequestSample(Context context) {
+        if(context.hasKey(RequestSample.class)) return context;
+        RequestSample sample = RequestSample.current();
+        return sample != null ? context.put(RequestSample.class, sample) : context;
+    }
+
+    private static Timer register(MeterRegistry meterRegistry, String name, String description, Tags tags, String outcome) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
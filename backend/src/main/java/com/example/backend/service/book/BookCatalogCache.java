@@ -0,0 +1,214 @@
+package com.example.backend.service.book;
+
+import com.example.backend.dto.book.CatalogCacheStatsResponse;
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.book.BookChangedEvent;
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.repository.BookRepository;
+import com.example.backend.service.book.utility.BookSnapshot;
+import com.example.backend.service.book.utility.LongBookTable;
+import com.example.backend.service.outbox.OutboxHandler;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Book read-through 캐시
+ * 시작할 때 카탈로그 전체를 LongBookTable 에 올리고, 이후에는 BookChangedEvent 로 변경분만 반영
+ * 다른 인스턴스에서 바뀐 책은 OutboxRelay 가 모든 인스턴스에 전달하므로 해당 id 를 빼서 다음 조회 때 다시 읽음
+ * 캐시에 없는 id 는 DB 에서 읽어 채움
+ * 놓친 이벤트가 있을 수 있으므로 reconcile 때 새 table 을 DB 에서 채워 통째로 교체 (채우는 동안 바뀐 id 는 교체 후 빼서 다시 읽게 함)
+ */
+@Slf4j
+@Service
+public class BookCatalogCache implements OutboxHandler {
+
+    private static final int PAGE_SIZE = 10_000;
+
+    // FIELD
+    private final BookRepository bookRepository;
+    private final int expectedSize;
+    private final boolean offHeap;
+    private volatile LongBookTable table;
+    // reconcile 로 새 table 을 채우는 동안 바뀐 id. 교체와 변경 반영은 this 로 동기화
+    private Set<Long> changedDuringReload;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile long warmMillis;
+    private volatile LocalDateTime warmedAt;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-warm");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BookCatalogCache(BookRepository bookRepository,
+                            @Value("${catalog.cache.expected-size:100000}") int expectedSize,
+                            @Value("${catalog.cache.off-heap:false}") boolean offHeap) {
+        this.bookRepository = bookRepository;
+        this.expectedSize = expectedSize;
+        this.offHeap = offHeap;
+        this.table = new LongBookTable(expectedSize, offHeap);
+    }
+
+    // METHOD
+    public Optional<BookSnapshot> get(long id) {
+        BookSnapshot cached = table.get(id);
+        if(cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        return bookRepository.findById(id).map(this::put);
+    }
+
+    /**
+     * 여러 id 조회. 캐시에 없는 id 만 모아서 DB 조회 1번
+     */
+    public Map<Long, BookSnapshot> getAll(Collection<Long> ids) {
+        Map<Long, BookSnapshot> result = new HashMap<>(ids.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for(Long id : ids) {
+            BookSnapshot cached = table.get(id);
+            if(cached != null) result.put(id, cached);
+            else missing.add(id);
+        }
+        hits.add(result.size());
+        if(missing.isEmpty()) return result;
+
+        misses.add(missing.size());
+        for(Book book : bookRepository.findAllById(missing)) {
+            result.put(book.getId(), put(book));
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        event.saved().forEach(this::put);
+        event.removedIds().forEach(table::remove);
+        markChanged(event.saved().stream().map(Book::getId).toList());
+        markChanged(event.removedIds());
+    }
+
+    @Override
+    public boolean supports(OutboxAggregate aggregate) {
+        return aggregate == OutboxAggregate.BOOK;
+    }
+
+    @Override
+    public boolean isPerInstance() {
+        return true;
+    }
+
+    @Override
+    public synchronized void apply(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted) {
+        upserted.forEach(table::remove);
+        deleted.forEach(table::remove);
+        markChanged(upserted);
+        markChanged(deleted);
+    }
+
+    @Override
+    public void reconcile() {
+        executor.execute(() -> {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changedDuringReload = null;
+                }
+                log.error("catalog cache reload failed", e);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestWarm() {
+        executor.execute(() -> {
+            try {
+                warm();
+            } catch (RuntimeException e) {
+                log.error("catalog cache warm failed", e);
+            }
+        });
+    }
+
+    void warm() {
+        long start = System.currentTimeMillis();
+        fill(table);
+        warmMillis = System.currentTimeMillis() - start;
+        warmedAt = LocalDateTime.now();
+        log.info("catalog cache warmed: {} books, heap ~{} MB, off-heap ~{} MB, {} ms",
+                table.size(), table.heapBytes() / (1024 * 1024), table.offHeapBytes() / (1024 * 1024), warmMillis);
+    }
+
+    public CatalogCacheStatsResponse getStats() {
+        int entries = table.size();
+        long heapBytes = table.heapBytes();
+        return CatalogCacheStatsResponse.builder()
+                .entries(entries)
+                .heapBytes(heapBytes)
+                .offHeapBytes(table.offHeapBytes())
+                .heapBytesPerMillion(entries > 0 ? heapBytes * 1_000_000L / entries : 0)
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .warmMillis(warmMillis)
+                .warmedAt(warmedAt)
+                .build();
+    }
+
+    // 새 table 을 DB 에서 채워 교체. 삭제된 책이나 놓친 수정도 이때 빠짐
+    void reload() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            changedDuringReload = new HashSet<>();
+        }
+        LongBookTable fresh = new LongBookTable(expectedSize, offHeap);
+        fill(fresh);
+        synchronized (this) {
+            changedDuringReload.forEach(fresh::remove);
+            changedDuringReload = null;
+            table = fresh;
+        }
+        log.info("catalog cache reloaded: {} books, {} ms", fresh.size(), System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private void fill(LongBookTable target) {
+        long lastId = Long.MIN_VALUE;
+        while(true) {
+            List<Book> books = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(PAGE_SIZE));
+            if(books.isEmpty()) break;
+            books.forEach(book -> target.put(BookSnapshot.from(book)));
+            lastId = books.get(books.size() - 1).getId();
+        }
+    }
+
+    private void markChanged(Collection<Long> ids) {
+        if(changedDuringReload != null) changedDuringReload.addAll(ids);
+    }
+
+    private BookSnapshot put(Book book) {
+        BookSnapshot snapshot = BookSnapshot.from(book);
+        table.put(snapshot);
+        return snapshot;
+    }
+}
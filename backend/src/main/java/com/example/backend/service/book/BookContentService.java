@@ -0,0 +1,70 @@
+package com.example.backend.service.book;
+
+import com.example.backend.entity.book.Book;
+import com.example.backend.repository.BookRepository;
+import com.example.backend.service.book.BookFileStore.StoredFile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 책 본문 표현(representation) 선택
+ * 원본 파일 옆에 "{파일}.gz" 가 있고 원본보다 오래되지 않았으면 gzip 사전 압축본을 그대로 전송
+ */
+@Service @RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookContentService {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    // FIELD
+    private final BookRepository bookRepository;
+    private final BookFileStore bookFileStore;
+
+    // METHOD
+    /**
+     * @param acceptGzip Accept-Encoding 에 gzip 포함 + Range 요청 아님
+     */
+    public Optional<Content> resolve(Long bookId, boolean acceptGzip) {
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책입니다."));
+
+        Optional<StoredFile> original = bookFileStore.locate(book).flatMap(bookFileStore::stat);
+        if(original.isEmpty()) return Optional.empty();
+
+        StoredFile file = original.get();
+        String contentType = contentType(file.path());
+
+        if(acceptGzip) {
+            Path gzipPath = file.path().resolveSibling(file.path().getFileName() + GZIP_SUFFIX);
+            Optional<StoredFile> gzip = bookFileStore.stat(gzipPath)
+                    .filter(variant -> variant.lastModified() >= file.lastModified());
+            if(gzip.isPresent()) {
+                StoredFile variant = gzip.get();
+                // 표현마다 ETag 가 달라야 strong 비교가 성립
+                return Optional.of(new Content(variant.path(), contentType, variant.size(), variant.lastModified(),
+                        "\"" + file.hash() + "-gz\"", true));
+            }
+        }
+        return Optional.of(new Content(file.path(), contentType, file.size(), file.lastModified(),
+                "\"" + file.hash() + "\"", false));
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private static String contentType(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if(name.endsWith(".epub")) return "application/epub+zip";
+        if(name.endsWith(".txt")) return "text/plain; charset=UTF-8";
+        return "application/octet-stream";
+    }
+
+    /**
+     * @param gzip true 면 Content-Encoding: gzip 으로 전송
+     */
+    public record Content(Path path, String contentType, long length, long lastModified, String etag, boolean gzip) {
+    }
+}
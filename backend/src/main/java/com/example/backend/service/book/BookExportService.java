@@ -0,0 +1,108 @@
+package com.example.backend.service.book;
+
+import com.example.backend.dto.book.BookSearchItem;
+import com.example.backend.dto.book.LibraryBookItem;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.repository.FavoriteBookRepository;
+import com.example.backend.repository.RecentBookRepository;
+import com.example.backend.service.book.utility.ExportFormat;
+import com.example.backend.service.book.utility.ExportWriter;
+import com.example.backend.service.search.engine.BookSearchEngine;
+import com.example.backend.service.search.engine.SearchAfter;
+import com.example.backend.service.search.engine.SearchPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 즐겨찾기/최근 본 책/검색 결과 streaming export
+ * DB cursor 또는 검색 엔진 search_after 페이지를 따라가며 한 행씩 바로 출력 (결과 크기와 무관하게 메모리 일정)
+ */
+@Slf4j
+@Service
+public class BookExportService {
+
+    public static final List<String> LIBRARY_COLUMNS = List.of("entryId", "bookId", "title", "author");
+    public static final List<String> SEARCH_COLUMNS = List.of("bookId", "title", "author", "score");
+    public static final int SEARCH_PAGE_SIZE = 500;
+
+    // FIELD
+    private final FavoriteBookRepository favoriteBookRepository;
+    private final RecentBookRepository recentBookRepository;
+    private final BookSearchEngine bookSearchEngine;
+    private final long maxSearchRows;
+
+    public BookExportService(FavoriteBookRepository favoriteBookRepository,
+                             RecentBookRepository recentBookRepository,
+                             BookSearchEngine bookSearchEngine,
+                             @Value("${export.search.max-rows:10000}") long maxSearchRows) {
+        this.favoriteBookRepository = favoriteBookRepository;
+        this.recentBookRepository = recentBookRepository;
+        this.bookSearchEngine = bookSearchEngine;
+        this.maxSearchRows = maxSearchRows;
+    }
+
+    // METHOD
+    @Transactional(readOnly = true)
+    public long exportFavorites(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<LibraryBookItem> items = favoriteBookRepository.streamLibrary(userId)) {
+            return writeLibrary(items, format, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportRecents(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<LibraryBookItem> items = recentBookRepository.streamLibrary(userId)) {
+            return writeLibrary(items, format, out);
+        }
+    }
+
+    /**
+     * 관련도순 전체 결과. search_after 로 SEARCH_PAGE_SIZE 씩 받아 바로 출력하고 export.search.max-rows 에서 중단
+     */
+    public long exportSearch(String keyword, Language language, ExportFormat format, OutputStream out) throws IOException {
+        requireKeyword(keyword);
+        try (ExportWriter writer = ExportWriter.open(format, out, SEARCH_COLUMNS)) {
+            SearchAfter after = null;
+            do {
+                int size = (int) Math.min(SEARCH_PAGE_SIZE, maxSearchRows - writer.getRows());
+                SearchPage page = bookSearchEngine.search(keyword, language, after, size);
+                for(BookSearchItem book : page.books()) {
+                    writer.row(book.getId(), book.getTitle(), book.getAuthor(), Float.toString(book.getScore()));
+                }
+                after = page.last();
+            } while(after != null && writer.getRows() < maxSearchRows);
+            return writer.getRows();
+        }
+    }
+
+    /**
+     * 응답 헤더를 쓰기 전에 호출해야 400 으로 응답할 수 있음
+     */
+    public static void requireKeyword(String keyword) {
+        if(!StringUtils.hasText(keyword)) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private long writeLibrary(Stream<LibraryBookItem> items, ExportFormat format, OutputStream out) throws IOException {
+        try (ExportWriter writer = ExportWriter.open(format, out, LIBRARY_COLUMNS)) {
+            // DTO projection 이라 영속성 컨텍스트에 엔티티가 쌓이지 않음
+            Iterator<LibraryBookItem> iterator = items.iterator();
+            while(iterator.hasNext()) {
+                LibraryBookItem item = iterator.next();
+                writer.row(item.getEntryId(), item.getBookId(), item.getTitle(), item.getAuthor());
+            }
+            return writer.getRows();
+        }
+    }
+}
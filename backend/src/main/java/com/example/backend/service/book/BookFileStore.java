@@ -0,0 +1,116 @@
+package com.example.backend.service.book;
+
+import com.example.backend.entity.book.Book;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 책 본문 파일 저장소
+ * book.file-store.root 아래의 상대 경로만 허용하고, 파일별 strong ETag(내용 SHA-256)를 (크기, 수정 시각) 기준으로 캐시
+ */
+@Slf4j
+@Component
+public class BookFileStore {
+
+    private static final int HASH_CHUNK = 64 * 1024 * 1024;
+
+    // FIELD
+    private final Path root;
+    private final Map<Path, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    public BookFileStore(@Value("${book.file-store.root:./data/books}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    // METHOD
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * 저장소 밖을 가리키는 경로(../ 등)는 거부
+     */
+    public Path resolve(String relativePath) {
+        Path resolved = root.resolve(relativePath).normalize();
+        if(!resolved.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return resolved;
+    }
+
+    /**
+     * 책 본문 파일 위치. contentPath 가 없으면 {id}.txt, {id}.epub 순서로 탐색
+     */
+    public Optional<Path> locate(Book book) {
+        if(book.getContentPath() != null) {
+            return Optional.of(resolve(book.getContentPath())).filter(Files::isRegularFile);
+        }
+        Path text = resolve(book.getId() + ".txt");
+        if(Files.isRegularFile(text)) return Optional.of(text);
+        return Optional.of(resolve(book.getId() + ".epub")).filter(Files::isRegularFile);
+    }
+
+    /**
+     * 일반 파일이면 크기/수정 시각/ETag
+     */
+    public Optional<StoredFile> stat(Path path) {
+        try {
+            if(!Files.isRegularFile(path)) return Optional.empty();
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+
+            Fingerprint cached = fingerprints.get(path);
+            if(cached == null || cached.size() != size || cached.modified() != modified) {
+                cached = new Fingerprint(size, modified, hash(path, size));
+                fingerprints.put(path, cached);
+            }
+            return Optional.of(new StoredFile(path, size, modified, cached.hash()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // heap 으로 읽지 않고 mmap 구간을 그대로 digest
+    private static String hash(Path path, long size) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for(long position = 0; position < size; position += HASH_CHUNK) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(HASH_CHUNK, size - position));
+                digest.update(buffer);
+            }
+        }
+        // 앞 16 byte 면 충돌 가능성은 무시할 수준
+        byte[] hash = digest.digest();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+    }
+
+    public record StoredFile(Path path, long size, long lastModified, String hash) {
+    }
+
+    private record Fingerprint(long size, long modified, String hash) {
+    }
+}
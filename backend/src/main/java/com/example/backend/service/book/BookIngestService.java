@@ -0,0 +1,401 @@
+package com.example.backend.service.book;
+
+import com.example.backend.dto.book.BookIngestStatusResponse;
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.book.BookChangedEvent;
+import com.example.backend.entity.book.BookIngestCheckpoint;
+import com.example.backend.entity.book.enumeration.RightsStatus;
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.entity.outbox.enumeration.OutboxOperation;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.repository.BookIngestCheckpointRepository;
+import com.example.backend.service.book.utility.CsvRecordReader;
+import com.example.backend.service.outbox.OutboxWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gutenberg 형식 카탈로그 CSV 를 Book 테이블로 스트리밍 적재
+ * reader 스레드가 한 레코드씩 파싱해 BATCH_SIZE 단위 batch 를 bounded queue 에 넣고 (가득 차면 대기 = backpressure)
+ * writer 스레드가 JDBC batch 로 쓰면서 같은 트랜잭션 안에서 checkpoint 와 outbox(검색 인덱스 반영용)를 기록
+ * 중간에 죽으면 checkpoint 이후 레코드부터 다시 적재
+ * 같은 경로라도 크기/수정시각/내용 hash 중 하나라도 다르면 다른 파일로 보고 처음부터 적재 (같은 파일을 다시 실행하면 건너뜀)
+ */
+@Slf4j
+@Service
+public class BookIngestService {
+
+    public static final int BATCH_SIZE = 1000;
+    public static final int QUEUE_CAPACITY = 8;
+    public static final int MAX_COLUMN_LENGTH = 255;
+
+    private static final Pattern YEAR = Pattern.compile("\\d{4}");
+
+    private static final IngestBatch END = new IngestBatch(List.of(), -1);
+
+    // FIELD
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookIngestCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "book-ingest");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<IngestProgress> current = new AtomicReference<>();
+
+    public BookIngestService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             BookIngestCheckpointRepository checkpointRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             OutboxWriter outboxWriter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpointRepository = checkpointRepository;
+        this.eventPublisher = eventPublisher;
+        this.outboxWriter = outboxWriter;
+    }
+
+    // METHOD
+
+    /**
+     * 백그라운드로 적재 시작. 이미 진행 중이면 예외
+     */
+    public BookIngestStatusResponse start(String source) {
+        Path file = Path.of(source).toAbsolutePath().normalize();
+        if(!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("파일을 찾을 수 없습니다: " + file);
+        }
+
+        IngestProgress progress = new IngestProgress(file.toString());
+        IngestProgress previous = current.get();
+        if((previous != null && previous.running) || !current.compareAndSet(previous, progress)) {
+            throw new IllegalArgumentException("이미 적재가 진행 중입니다.");
+        }
+
+        executor.execute(() -> ingest(file, progress));
+        return progress.toResponse();
+    }
+
+    public BookIngestStatusResponse getStatus() {
+        IngestProgress progress = current.get();
+        return progress != null ? progress.toResponse() : null;
+    }
+
+    void ingest(Path file, IngestProgress progress) {
+        try {
+            String fingerprint = fingerprint(file);
+            BookIngestCheckpoint checkpoint = checkpointRepository.findById(progress.source)
+                    .filter(c -> fingerprint.equals(c.getFingerprint()))
+                    .orElseGet(() -> BookIngestCheckpoint.builder()
+                            .source(progress.source)
+                            .fingerprint(fingerprint)
+                            .build());
+            if(checkpoint.isCompleted()) {
+                log.info("book ingest already completed: {}", progress.source);
+                return;
+            }
+            progress.resumedFrom = checkpoint.getCommittedRows();
+
+            BlockingQueue<IngestBatch> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            Future<?> reader = executor.submit(() -> read(file, progress, queue));
+            write(checkpoint, progress, queue);
+            reader.get();
+
+            if(progress.error.get() == null) {
+                checkpoint.setCompleted(true);
+                checkpoint.setModifiedDate(LocalDateTime.now());
+                checkpointRepository.save(checkpoint);
+            }
+        } catch (Exception e) {
+            progress.fail(e);
+        } finally {
+            progress.finish();
+            log.info("book ingest finished: {} rows in {} ms ({} rows/sec)",
+                    progress.writtenRows.get(), progress.elapsedMillis(), String.format("%.1f", progress.rowsPerSecond()));
+        }
+    }
+
+    // ***** <<<<<READER>>>>> ***** //
+    private void read(Path file, IngestProgress progress, BlockingQueue<IngestBatch> queue) {
+        try (CsvRecordReader reader = new CsvRecordReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+
+            List<String> header = reader.next();
+            if(header == null) return;
+            CatalogColumns columns = CatalogColumns.from(header);
+
+            long row = 0;
+            List<Book> books = new ArrayList<>(BATCH_SIZE);
+            List<String> record;
+            while((record = nextRecord(reader)) != null && progress.error.get() == null) {
+                row++;
+                if(row <= progress.resumedFrom) continue;
+
+                Book book = record.isEmpty() ? null : columns.toBook(record);
+                if(book != null) {
+                    books.add(book);
+                } else {
+                    progress.skippedRows.incrementAndGet();
+                }
+
+                if(books.size() == BATCH_SIZE) {
+                    put(queue, new IngestBatch(books, row), progress);
+                    books = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            // 마지막 batch 는 비어 있어도 checkpoint 갱신을 위해 전달
+            put(queue, new IngestBatch(books, row), progress);
+        } catch (Exception e) {
+            progress.fail(e);
+        } finally {
+            try {
+                put(queue, END, progress);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 길이 제한을 넘은 레코드는 빈 목록 (정상 레코드는 필드가 최소 1개)
+    private static List<String> nextRecord(CsvRecordReader reader) throws IOException {
+        try {
+            return reader.next();
+        } catch (CsvRecordReader.RecordTooLongException e) {
+            log.debug("oversized csv record skipped: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void put(BlockingQueue<IngestBatch> queue, IngestBatch batch, IngestProgress progress) throws InterruptedException {
+        // writer 가 실패해 멈춘 경우 무한 대기하지 않도록 timeout 마다 상태 확인
+        while(!queue.offer(batch, 1, TimeUnit.SECONDS)) {
+            if(progress.error.get() != null && batch != END) return;
+        }
+    }
+
+    // ***** <<<<<WRITER>>>>> ***** //
+    private void write(BookIngestCheckpoint checkpoint, IngestProgress progress, BlockingQueue<IngestBatch> queue) throws InterruptedException {
+        while(true) {
+            IngestBatch batch = queue.take();
+            if(batch == END) return;
+            if(progress.error.get() != null) continue;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    upsert(batch.books());
+                    checkpoint.setCommittedRows(batch.endRow());
+                    checkpoint.setModifiedDate(LocalDateTime.now());
+                    checkpointRepository.save(checkpoint);
+                });
+                // JDBC 로 쓰므로 entity listener 대신 commit 이후 직접 발행 (검색 캐시, facet index 갱신)
+                if(!batch.books().isEmpty()) eventPublisher.publishEvent(BookChangedEvent.saved(batch.books()));
+            } catch (RuntimeException e) {
+                progress.fail(e);
+                continue;
+            }
+
+            long written = progress.writtenRows.addAndGet(batch.books().size());
+            if(written > 0 && written % (BATCH_SIZE * 50L) == 0) {
+                log.info("book ingest progress: {} rows ({} rows/sec)", written, String.format("%.1f", progress.rowsPerSecond()));
+            }
+        }
+    }
+
+    // 이미 있는 id 는 update, 없는 id 는 insert. batch 당 조회 1회 + batch insert + batch update + outbox batch insert
+    private void upsert(List<Book> books) {
+        if(books.isEmpty()) return;
+
+        Map<Long, Book> byId = new LinkedHashMap<>();
+        for(Book book : books) {
+            byId.put(book.getId(), book);
+        }
+
+        Set<Long> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "select id from book where id in (:ids)",
+                Map.of("ids", byId.keySet()),
+                Long.class));
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        for(Book book : byId.values()) {
+            if(existing.contains(book.getId())) {
+                updates.add(new Object[]{book.getTitle(), book.getAuthor(), languageName(book), book.getPublicationYear(), rightsName(book), book.getId()});
+            } else {
+                inserts.add(new Object[]{book.getId(), book.getTitle(), book.getAuthor(), languageName(book), book.getPublicationYear(), rightsName(book)});
+            }
+        }
+
+        if(!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into book (id, title, author, language, publication_year, rights_status) values (?, ?, ?, ?, ?, ?)", inserts);
+        }
+        if(!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("update book set title = ?, author = ?, language = ?, publication_year = ?, rights_status = ? where id = ?", updates);
+        }
+        // JDBC 로 쓰므로 entity listener 가 호출되지 않음
+        outboxWriter.appendAll(OutboxAggregate.BOOK, OutboxOperation.UPSERT, byId.keySet());
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // 크기-수정시각-SHA-256. 크기와 수정시각이 그대로인 채 내용만 바뀐 파일(복사 시 시각 유지 등)도 구분
+    static String fingerprint(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return Files.size(file) + "-" + Files.getLastModifiedTime(file).toMillis() + "-" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String languageName(Book book) {
+        return book.getLanguage() != null ? book.getLanguage().name() : null;
+    }
+
+    private static String rightsName(Book book) {
+        return book.getRightsStatus() != null ? book.getRightsStatus().name() : null;
+    }
+
+    private record IngestBatch(List<Book> books, long endRow) {
+    }
+
+    private record CatalogColumns(int id, int type, int title, int author, int language, int year, int rights) {
+
+        static CatalogColumns from(List<String> header) {
+            int id = -1, type = -1, title = -1, author = -1, language = -1, year = -1, rights = -1;
+            for(int i = 0; i < header.size(); i++) {
+                String name = header.get(i).trim().toLowerCase(Locale.ROOT);
+                switch (name) {
+                    case "text#", "id" -> id = i;
+                    case "type" -> type = i;
+                    case "title" -> title = i;
+                    case "authors", "author" -> author = i;
+                    case "language" -> language = i;
+                    case "year", "publication year", "publicationyear" -> year = i;
+                    case "rights", "copyright status" -> rights = i;
+                    default -> { }
+                }
+            }
+            if(id < 0 || title < 0) {
+                throw new IllegalArgumentException("카탈로그 헤더에 id/title 컬럼이 없습니다: " + header);
+            }
+            return new CatalogColumns(id, type, title, author, language, year, rights);
+        }
+
+        // Text 가 아닌 항목(Sound 등)이나 id 가 숫자가 아닌 행은 null
+        Book toBook(List<String> record) {
+            if(record.size() <= Math.max(id, title)) return null;
+            if(type >= 0 && type < record.size() && !"Text".equalsIgnoreCase(record.get(type).trim())) return null;
+            try {
+                return Book.builder()
+                        .id(Long.parseLong(record.get(id).trim()))
+                        .title(truncate(record.get(title)))
+                        .author(author >= 0 && author < record.size() ? truncate(record.get(author)) : null)
+                        .language(language >= 0 && language < record.size() ? toLanguage(record.get(language)) : null)
+                        .publicationYear(year >= 0 && year < record.size() ? toYear(record.get(year)) : null)
+                        .rightsStatus(rights >= 0 && rights < record.size() ? RightsStatus.fromText(record.get(rights)) : null)
+                        .build();
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        // "en", "ko; en" 처럼 여러 개면 첫 번째 언어. 비어 있으면 null
+        private static Language toLanguage(String value) {
+            String first = value.split(";")[0].trim();
+            return first.isEmpty() ? null : Language.fromLocale(first);
+        }
+
+        // "c. 1850?" 처럼 적혀 있어도 처음 나오는 4자리 숫자를 연도로 사용
+        private static Integer toYear(String value) {
+            Matcher matcher = YEAR.matcher(value);
+            return matcher.find() ? Integer.valueOf(matcher.group()) : null;
+        }
+
+        private static String truncate(String value) {
+            String trimmed = value.trim();
+            if(trimmed.isEmpty()) return null;
+            return trimmed.length() > MAX_COLUMN_LENGTH ? trimmed.substring(0, MAX_COLUMN_LENGTH) : trimmed;
+        }
+    }
+
+    static class IngestProgress {
+        final String source;
+        final long startedAt = System.currentTimeMillis();
+        final AtomicLong writtenRows = new AtomicLong();
+        final AtomicLong skippedRows = new AtomicLong();
+        final AtomicReference<Exception> error = new AtomicReference<>();
+        volatile long resumedFrom;
+        volatile long finishedAt;
+        volatile boolean running = true;
+
+        IngestProgress(String source) {
+            this.source = source;
+        }
+
+        void fail(Exception e) {
+            if(error.compareAndSet(null, e)) {
+                log.error("book ingest failed: {}", source, e);
+            }
+        }
+
+        void finish() {
+            finishedAt = System.currentTimeMillis();
+            running = false;
+        }
+
+        long elapsedMillis() {
+            return (running ? System.currentTimeMillis() : finishedAt) - startedAt;
+        }
+
+        double rowsPerSecond() {
+            long elapsed = elapsedMillis();
+            return elapsed > 0 ? writtenRows.get() * 1000.0 / elapsed : 0;
+        }
+
+        BookIngestStatusResponse toResponse() {
+            Exception e = error.get();
+            return BookIngestStatusResponse.builder()
+                    .source(source)
+                    .running(running)
+                    .resumedFrom(resumedFrom)
+                    .writtenRows(writtenRows.get())
+                    .skippedRows(skippedRows.get())
+                    .elapsedMillis(elapsedMillis())
+                    .rowsPerSecond(rowsPerSecond())
+                    .error(e != null ? e.getMessage() : null)
+                    .build();
+        }
+    }
+}
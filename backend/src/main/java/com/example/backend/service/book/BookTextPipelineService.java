@@ -0,0 +1,350 @@
+package com.example.backend.service.book;
+
+import com.example.backend.dto.book.BookTextPipelineStatusResponse;
+import com.example.backend.entity.book.BookChangedEvent;
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.entity.outbox.enumeration.OutboxOperation;
+import com.example.backend.repository.BookRepository;
+import com.example.backend.service.book.utility.GutenbergTextProcessor;
+import com.example.backend.service.book.utility.GutenbergTextProcessor.TextStats;
+import com.example.backend.service.outbox.OutboxWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 원문 디렉터리의 Gutenberg 텍스트를 병렬로 정규화해 파일 저장소와 Book 에 반영
+ * fork-join worker 가 파일 하나씩 GutenbergTextProcessor 로 처리하고 (worker 당 메모리는 IO buffer + header 구간으로 고정)
+ * 결과는 bounded queue 를 거쳐 writer 가 JDBC batch 로 기록. 큐가 가득 차면 worker 가 대기 (backpressure)
+ */
+@Slf4j
+@Service
+public class BookTextPipelineService {
+
+    public static final int BATCH_SIZE = 200;
+
+    // "1342.txt", "pg1342.txt", "1342-0.txt"
+    private static final Pattern SOURCE_NAME = Pattern.compile("^(?:pg)?(\\d+)(?:-\\d+)?\\.txt$");
+    private static final ProcessedText END = new ProcessedText(-1, null);
+
+    // FIELD
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookRepository bookRepository;
+    private final BookFileStore bookFileStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
+    private final GutenbergTextProcessor processor;
+    private final int parallelism;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "text-pipeline");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<PipelineProgress> current = new AtomicReference<>();
+
+    public BookTextPipelineService(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   BookRepository bookRepository,
+                                   BookFileStore bookFileStore,
+                                   ApplicationEventPublisher eventPublisher,
+                                   OutboxWriter outboxWriter,
+                                   @Value("${book.text-pipeline.parallelism:0}") int parallelism,
+                                   @Value("${book.text-pipeline.words-per-minute:230}") int wordsPerMinute) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bookRepository = bookRepository;
+        this.bookFileStore = bookFileStore;
+        this.eventPublisher = eventPublisher;
+        this.outboxWriter = outboxWriter;
+        this.processor = new GutenbergTextProcessor(wordsPerMinute);
+        // 0 이면 코어 수만큼
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    // METHOD
+
+    /**
+     * 백그라운드로 처리 시작. 이미 진행 중이면 예외
+     */
+    public BookTextPipelineStatusResponse start(String source) {
+        Path directory = Path.of(source).toAbsolutePath().normalize();
+        if(!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("디렉터리를 찾을 수 없습니다: " + directory);
+        }
+
+        PipelineProgress progress = new PipelineProgress(directory.toString(), parallelism);
+        PipelineProgress previous = current.get();
+        if((previous != null && previous.running) || !current.compareAndSet(previous, progress)) {
+            throw new IllegalArgumentException("이미 본문 처리가 진행 중입니다.");
+        }
+
+        executor.execute(() -> run(directory, progress));
+        return progress.toResponse();
+    }
+
+    public BookTextPipelineStatusResponse getStatus() {
+        PipelineProgress progress = current.get();
+        return progress != null ? progress.toResponse() : null;
+    }
+
+    void run(Path directory, PipelineProgress progress) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing.filter(path -> SOURCE_NAME.matcher(path.getFileName().toString()).matches())
+                        .filter(Files::isRegularFile)
+                        .sorted()
+                        .toList();
+            }
+            progress.totalFiles = files.size();
+            Files.createDirectories(bookFileStore.getRoot());
+
+            BlockingQueue<ProcessedText> queue = new ArrayBlockingQueue<>(BATCH_SIZE * 2);
+            ForkJoinTask<Void> task = pool.submit(new ProcessTask(files, 0, files.size(), queue, progress));
+            // 모든 worker 가 끝나면 END 를 넣어 writer 종료
+            CompletableFuture.runAsync(() -> {
+                try {
+                    task.join();
+                } catch (RuntimeException e) {
+                    progress.fail(e);
+                } finally {
+                    try {
+                        queue.put(END);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, pool);
+            write(queue, progress);
+        } catch (Exception e) {
+            progress.fail(e);
+        } finally {
+            // writer 가 중간에 끝난 경우 큐에서 대기 중인 worker 를 깨움
+            pool.shutdownNow();
+            progress.finish();
+            log.info("text pipeline finished: {} books, {} MB in {} ms ({} MB/s, {} books/s)",
+                    progress.processedBooks.get(), progress.bytesRead.get() / (1024 * 1024), progress.elapsedMillis(),
+                    String.format("%.1f", progress.megabytesPerSecond()), String.format("%.1f", progress.booksPerSecond()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ***** <<<<<WORKER>>>>> ***** //
+    // 파일 목록을 반씩 나눠 fork. 파일 하나 단위까지 쪼개서 큰 파일이 몰려도 work-stealing 으로 분산
+    private class ProcessTask extends RecursiveAction {
+        private final List<Path> files;
+        private final int from;
+        private final int to;
+        private final BlockingQueue<ProcessedText> queue;
+        private final PipelineProgress progress;
+
+        ProcessTask(List<Path> files, int from, int to, BlockingQueue<ProcessedText> queue, PipelineProgress progress) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+            this.queue = queue;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ProcessTask(files, from, mid, queue, progress), new ProcessTask(files, mid, to, queue, progress));
+                return;
+            }
+            if(to == from || progress.error.get() != null) return;
+
+            Path file = files.get(from);
+            try {
+                ProcessedText result = process(file);
+                progress.bytesRead.addAndGet(result.stats().bytesRead());
+                // managedBlock 으로 감싸지 않음: 보상 스레드가 생기면 동시에 처리하는 파일 수(메모리)가 parallelism 을 넘음
+                queue.put(result);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                progress.failedBooks.incrementAndGet();
+                log.warn("text pipeline failed: {}", file, e);
+            }
+        }
+    }
+
+    // 원문 -> 저장소 "{id}.txt" (+ ".gz"). 임시 파일에 쓴 뒤 교체
+    private ProcessedText process(Path source) throws IOException {
+        Matcher matcher = SOURCE_NAME.matcher(source.getFileName().toString());
+        if(!matcher.matches()) throw new IllegalArgumentException("잘못된 파일 이름입니다: " + source);
+        long bookId = Long.parseLong(matcher.group(1));
+
+        Path target = bookFileStore.resolve(bookId + ".txt");
+        Path gzipTarget = bookFileStore.resolve(bookId + ".txt.gz");
+        Path temp = Files.createTempFile(bookFileStore.getRoot(), bookId + "-", ".txt.tmp");
+        Path gzipTemp = Files.createTempFile(bookFileStore.getRoot(), bookId + "-", ".gz.tmp");
+        try {
+            TextStats stats = processor.process(source, temp, gzipTemp);
+            move(temp, target);
+            move(gzipTemp, gzipTarget);
+            // gzip 사전 압축본은 원본보다 오래되지 않아야 사용됨 (BookContentService)
+            FileTime modified = Files.getLastModifiedTime(target);
+            Files.setLastModifiedTime(gzipTarget, modified);
+            return new ProcessedText(bookId, stats);
+        } finally {
+            Files.deleteIfExists(temp);
+            Files.deleteIfExists(gzipTemp);
+        }
+    }
+
+    // ***** <<<<<WRITER>>>>> ***** //
+    private void write(BlockingQueue<ProcessedText> queue, PipelineProgress progress) throws InterruptedException {
+        List<ProcessedText> batch = new ArrayList<>(BATCH_SIZE);
+        while(true) {
+            ProcessedText result = queue.take();
+            if(result != END) batch.add(result);
+            if(batch.size() == BATCH_SIZE || (result == END && !batch.isEmpty())) {
+                flush(batch, progress);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+            if(result == END) return;
+        }
+    }
+
+    private void flush(List<ProcessedText> batch, PipelineProgress progress) {
+        List<Object[]> updates = batch.stream().map(result -> {
+            TextStats stats = result.stats();
+            String chapters = stats.chapterOffsets().stream().map(String::valueOf).collect(Collectors.joining(","));
+            return new Object[]{
+                    result.bookId() + ".txt", stats.wordCount(), stats.readingMinutes(), chapters,
+                    stats.language() != null ? stats.language().name() : null, result.bookId()};
+        }).toList();
+
+        try {
+            List<Long> updated = transactionTemplate.execute(status -> {
+                int[][] counts = jdbcTemplate.batchUpdate(
+                        // 카탈로그에 언어가 있으면 그대로 두고, 없을 때만 본문에서 판정한 언어 사용
+                        "update book set content_path = ?, word_count = ?, reading_minutes = ?, chapter_offsets = ?, language = coalesce(language, ?) where id = ?",
+                        updates, updates.size(), (statement, row) -> {
+                            for(int i = 0; i < row.length; i++) statement.setObject(i + 1, row[i]);
+                        });
+
+                List<Long> ids = new ArrayList<>(batch.size());
+                int index = 0;
+                for(int[] chunk : counts) {
+                    for(int count : chunk) {
+                        // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2)
+                        if(count != 0) ids.add(batch.get(index).bookId());
+                        index++;
+                    }
+                }
+                // 본문에서 판정한 언어가 검색 인덱스 분석기에 반영되도록 같은 트랜잭션에서 outbox 기록
+                outboxWriter.appendAll(OutboxAggregate.BOOK, OutboxOperation.UPSERT, ids);
+                return ids;
+            });
+            progress.processedBooks.addAndGet(updated.size());
+            progress.unmatchedBooks.addAndGet(batch.size() - updated.size());
+            // JDBC 로 썼으므로 직접 발행 (카탈로그 캐시, 본문 위치 색인 갱신)
+            if(!updated.isEmpty()) eventPublisher.publishEvent(BookChangedEvent.saved(bookRepository.findAllById(updated)));
+        } catch (RuntimeException e) {
+            progress.fail(e);
+        }
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private record ProcessedText(long bookId, TextStats stats) {
+    }
+
+    static class PipelineProgress {
+        final String source;
+        final int parallelism;
+        final long startedAt = System.currentTimeMillis();
+        final AtomicLong processedBooks = new AtomicLong();
+        final AtomicLong unmatchedBooks = new AtomicLong();
+        final AtomicLong failedBooks = new AtomicLong();
+        final AtomicLong bytesRead = new AtomicLong();
+        final AtomicReference<Exception> error = new AtomicReference<>();
+        volatile long totalFiles;
+        volatile long finishedAt;
+        volatile boolean running = true;
+
+        PipelineProgress(String source, int parallelism) {
+            this.source = source;
+            this.parallelism = parallelism;
+        }
+
+        void fail(Exception e) {
+            if(error.compareAndSet(null, e)) {
+                log.error("text pipeline failed: {}", source, e);
+            }
+        }
+
+        void finish() {
+            finishedAt = System.currentTimeMillis();
+            running = false;
+        }
+
+        long elapsedMillis() {
+            return (running ? System.currentTimeMillis() : finishedAt) - startedAt;
+        }
+
+        double megabytesPerSecond() {
+            long elapsed = elapsedMillis();
+            return elapsed > 0 ? bytesRead.get() / (1024.0 * 1024.0) * 1000.0 / elapsed : 0;
+        }
+
+        double booksPerSecond() {
+            long elapsed = elapsedMillis();
+            long books = processedBooks.get() + unmatchedBooks.get();
+            return elapsed > 0 ? books * 1000.0 / elapsed : 0;
+        }
+
+        BookTextPipelineStatusResponse toResponse() {
+            Exception e = error.get();
+            return BookTextPipelineStatusResponse.builder()
+                    .source(source)
+                    .running(running)
+                    .parallelism(parallelism)
+                    .totalFiles(totalFiles)
+                    .processedBooks(processedBooks.get())
+                    .unmatchedBooks(unmatchedBooks.get())
+                    .failedBooks(failedBooks.get())
+                    .bytesRead(bytesRead.get())
+                    .elapsedMillis(elapsedMillis())
+                    .megabytesPerSecond(megabytesPerSecond())
+                    .booksPerSecond(booksPerSecond())
+                    .error(e != null ? e.getMessage() : null)
+                    .build();
+        }
+    }
+}
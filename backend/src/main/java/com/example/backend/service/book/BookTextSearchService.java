@@ -0,0 +1,161 @@
+package com.example.backend.service.book;
+
+import com.example.backend.dto.book.BookTextHit;
+import com.example.backend.dto.book.BookTextSearchResponse;
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.book.BookChangedEvent;
+import com.example.backend.repository.BookRepository;
+import com.example.backend.service.book.utility.TextPositionIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 책 본문 내 검색
+ * 본문(.txt) 옆에 위치 색인(.idx)을 수집 시점에 한 번 만들고, 검색은 mmap 된 색인과 본문만 읽음
+ * 색인이 없거나 본문이 바뀌었으면 조회 시점에 다시 생성
+ */
+@Slf4j
+@Service
+public class BookTextSearchService {
+
+    public static final int MAX_SIZE = 100;
+    private static final String INDEX_SUFFIX = ".idx";
+
+    // FIELD
+    private final BookRepository bookRepository;
+    private final BookFileStore bookFileStore;
+    private final int snippetContext;
+    // 열린 색인 (mmap). 본문 경로 기준
+    private final Cache<Path, TextPositionIndex> indexes;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "text-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BookTextSearchService(BookRepository bookRepository,
+                                 BookFileStore bookFileStore,
+                                 @Value("${book.text-search.open-indexes:256}") long openIndexes,
+                                 @Value("${book.text-search.snippet-context:80}") int snippetContext) {
+        this.bookRepository = bookRepository;
+        this.bookFileStore = bookFileStore;
+        this.snippetContext = snippetContext;
+        this.indexes = Caffeine.newBuilder().maximumSize(openIndexes).build();
+    }
+
+    // METHOD
+    public BookTextSearchResponse search(Long bookId, String query, int from, int size) {
+        if(TextPositionIndex.tokenize(query).isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        int offset = Math.max(from, 0);
+
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책입니다."));
+        Path text = locateText(book)
+                .orElseThrow(() -> new IllegalArgumentException("검색할 수 있는 텍스트 본문이 없습니다."));
+
+        TextPositionIndex index = open(text);
+        TextPositionIndex.Result result = index.search(query, offset, limit);
+        List<BookTextHit> hits = result.hits().stream().map(hit -> {
+            TextPositionIndex.Snippet snippet = index.snippet(hit, snippetContext);
+            return BookTextHit.builder()
+                    .position(hit.offset())
+                    .length(hit.length())
+                    .snippet(snippet.text())
+                    .highlightStart(snippet.highlightStart())
+                    .highlightEnd(snippet.highlightEnd())
+                    .build();
+        }).toList();
+
+        int next = offset + hits.size();
+        return BookTextSearchResponse.builder()
+                .bookId(bookId)
+                .totalHits(result.totalHits())
+                .hits(hits)
+                .nextFrom(next < result.totalHits() ? next : null)
+                .build();
+    }
+
+    /**
+     * 수집/수정된 책의 색인을 백그라운드에서 미리 생성
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if(event.saved().isEmpty()) return;
+        List<Book> saved = List.copyOf(event.saved());
+        executor.execute(() -> saved.forEach(book -> {
+            try {
+                locateText(book).ifPresent(this::ensureIndex);
+            } catch (RuntimeException e) {
+                log.warn("text index build failed: bookId={}", book.getId(), e);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private Optional<Path> locateText(Book book) {
+        return bookFileStore.locate(book)
+                .filter(path -> path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".txt"));
+    }
+
+    private TextPositionIndex open(Path text) {
+        try {
+            long size = Files.size(text);
+            long modified = Files.getLastModifiedTime(text).toMillis();
+            TextPositionIndex cached = indexes.getIfPresent(text);
+            if(cached != null && cached.textSize() == size && cached.textModified() == modified) {
+                return cached;
+            }
+            // 본문이 바뀐 경우: 이전 mapping 은 버리고 새로 생성
+            indexes.asMap().remove(text, cached);
+            return indexes.get(text, key -> {
+                try {
+                    return TextPositionIndex.open(key, indexPath(key));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensureIndex(Path text) {
+        try {
+            Path index = indexPath(text);
+            if(!TextPositionIndex.isCurrent(index, Files.size(text), Files.getLastModifiedTime(text).toMillis())) {
+                long start = System.currentTimeMillis();
+                TextPositionIndex.write(text, index);
+                log.debug("text index built: {} in {} ms", text, System.currentTimeMillis() - start);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path indexPath(Path text) {
+        return text.resolveSibling(text.getFileName() + INDEX_SUFFIX);
+    }
+}
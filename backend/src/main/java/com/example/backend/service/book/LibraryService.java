@@ -0,0 +1,78 @@
+package com.example.backend.service.book;
+
+import com.example.backend.dto.book.LibraryBookItem;
+import com.example.backend.dto.book.LibraryPageResponse;
+import com.example.backend.dto.book.LibraryResponse;
+import com.example.backend.repository.FavoriteBookRepository;
+import com.example.backend.repository.RecentBookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 내 서재 (즐겨찾기 / 최근 본 책)
+ * User 의 컬렉션을 순회하지 않고 목록별 projection 쿼리 1번으로 Book 정보까지 가져옴
+ * 페이지는 entry id 기준 keyset (최신순)
+ */
+@Slf4j @RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class LibraryService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // FIELD
+    private final FavoriteBookRepository favoriteBookRepository;
+    private final RecentBookRepository recentBookRepository;
+
+    // METHOD
+
+    /**
+     * 첫 페이지 두 목록. 쿼리 2번
+     */
+    public LibraryResponse getLibrary(Long userId, int size) {
+        return LibraryResponse.builder()
+                .favorites(getFavorites(userId, null, size))
+                .recents(getRecents(userId, null, size))
+                .build();
+    }
+
+    public LibraryPageResponse getFavorites(Long userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        return toPage(favoriteBookRepository.findLibraryPage(userId, decodeCursor(cursor), PageRequest.ofSize(pageSize + 1)), pageSize);
+    }
+
+    public LibraryPageResponse getRecents(Long userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        return toPage(recentBookRepository.findLibraryPage(userId, decodeCursor(cursor), PageRequest.ofSize(pageSize + 1)), pageSize);
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // pageSize + 1 개를 읽어 다음 페이지 존재 여부를 count 쿼리 없이 판단
+    private static LibraryPageResponse toPage(List<LibraryBookItem> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<LibraryBookItem> books = hasNext ? rows.subList(0, pageSize) : rows;
+        return LibraryPageResponse.builder()
+                .books(books)
+                .nextCursor(hasNext ? String.valueOf(books.get(books.size() - 1).getEntryId()) : null)
+                .build();
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private static long decodeCursor(String cursor) {
+        if(!StringUtils.hasText(cursor)) return Long.MAX_VALUE;
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.service.book.utility;
+
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.book.enumeration.RightsStatus;
+import com.example.backend.entity.user.enumeration.Language;
+
+/**
+ * 카탈로그 캐시에서 꺼낸 읽기 전용 Book 값
+ */
+public record BookSnapshot(long id, String title, String author, Language language,
+                           Integer publicationYear, RightsStatus rightsStatus) {
+
+    public static BookSnapshot from(Book book) {
+        return new BookSnapshot(book.getId(), book.getTitle(), book.getAuthor(), book.getLanguage(),
+                book.getPublicationYear(), book.getRightsStatus());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.backend.service.book.utility;
+
+/**
+ * 단일 byte 구간 [start, end] (end 포함)
+ * Range 헤더는 "bytes=a-b", "bytes=a-", "bytes=-n" 한 구간만 지원하고
+ * 여러 구간(multipart/byteranges)은 null 을 돌려 200 전체 응답으로 처리
+ */
+public record ByteRange(long start, long end) {
+
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * @return 무시할 헤더면 null, 만족 불가면 UNSATISFIABLE
+     */
+    public static ByteRange parse(String header, long size) {
+        if(header == null || !header.startsWith("bytes=")) return null;
+        String spec = header.substring("bytes=".length()).trim();
+        if(spec.isEmpty() || spec.indexOf(',') >= 0) return null;
+
+        int dash = spec.indexOf('-');
+        if(dash < 0) return null;
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+
+        try {
+            if(first.isEmpty()) {
+                // suffix: 마지막 n byte
+                if(last.isEmpty()) return null;
+                long suffix = Long.parseLong(last);
+                if(suffix <= 0 || size == 0) return UNSATISFIABLE;
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if(start < 0 || end < start) return null;
+            if(start >= size) return UNSATISFIABLE;
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.backend.service.book.utility;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 를 한 레코드씩 읽는 스트리밍 파서
+ * 파일 전체를 메모리에 올리지 않고, 따옴표 안의 쉼표/줄바꿈/"" 이스케이프를 처리
+ * 필드/레코드가 최대 길이를 넘으면 레코드 끝까지 저장하지 않고 읽어 버린 뒤 RecordTooLongException (큰 필드가 메모리에 쌓이지 않도록)
+ * 버릴 때도 따옴표 상태를 따라가므로 따옴표 안의 줄바꿈에서 멈추지 않고, 다음 호출은 그다음 레코드부터 읽음
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_FIELD_LENGTH = 64 * 1024;
+    public static final int DEFAULT_MAX_RECORD_LENGTH = 1024 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private final StringBuilder field = new StringBuilder(256);
+    private final int maxFieldLength;
+    private final int maxRecordLength;
+
+    public CsvRecordReader(Reader reader) {
+        this(reader, DEFAULT_MAX_FIELD_LENGTH, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    public CsvRecordReader(Reader reader, int maxFieldLength, int maxRecordLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * 다음 레코드를 반환. 파일 끝이면 null
+     * @throws RecordTooLongException 길이 제한을 넘은 레코드. 다음 레코드부터 계속 읽을 수 있음
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if(c == -1) return null;
+
+        List<String> record = new ArrayList<>();
+        boolean quoted = false;
+        field.setLength(0);
+        int recordLength = 0;
+
+        while(true) {
+            if(++recordLength > maxRecordLength || field.length() > maxFieldLength) {
+                skipRecord(c, quoted, field.isEmpty());
+                field.setLength(0);
+                throw new RecordTooLongException(maxFieldLength, maxRecordLength);
+            }
+            if(quoted) {
+                if(c == -1) {
+                    throw new IOException("닫히지 않은 따옴표가 있는 CSV 레코드입니다.");
+                }
+                if(c == '"') {
+                    int n = read();
+                    if(n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else {
+                if(c == -1 || c == '\n') {
+                    record.add(field.toString());
+                    return record;
+                }
+                if(c == '\r') {
+                    // CRLF 는 하나의 줄바꿈으로 처리
+                } else if(c == ',') {
+                    record.add(field.toString());
+                    field.setLength(0);
+                } else if(c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+            }
+            c = read();
+        }
+    }
+
+    // next() 와 같은 규칙으로 레코드 끝(따옴표 밖의 \n)까지 읽기만 함. c 는 아직 처리하지 않은 문자
+    private void skipRecord(int c, boolean quoted, boolean fieldStart) throws IOException {
+        while(c != -1) {
+            if(quoted) {
+                if(c == '"') {
+                    int n = read();
+                    if(n != '"') {
+                        // 닫는 따옴표
+                        quoted = false;
+                        fieldStart = false;
+                        c = n;
+                        continue;
+                    }
+                }
+            } else if(c == '\n') {
+                return;
+            } else if(c == ',') {
+                fieldStart = true;
+            } else if(c == '"' && fieldStart) {
+                quoted = true;
+            } else if(c != '\r') {
+                fieldStart = false;
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if(position == limit) {
+            limit = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if(limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    public static class RecordTooLongException extends IOException {
+
+        public RecordTooLongException(int maxFieldLength, int maxRecordLength) {
+            super("CSV 레코드가 너무 깁니다 (필드 최대 " + maxFieldLength + "자, 레코드 최대 " + maxRecordLength + "자).");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.service.book.utility;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 행 단위 export. NDJSON 과 CSV 모두 Jackson streaming generator 로 한 행씩 바로 출력
+ * 행을 모아두지 않으므로 메모리는 출력 buffer 크기로 고정
+ */
+public class ExportWriter implements AutoCloseable {
+
+    // 이 행 수마다 flush 해서 클라이언트가 받기 시작하도록 함
+    public static final int FLUSH_ROWS = 500;
+
+    private static final JsonFactory JSON = JsonFactory.builder().build();
+    private static final CsvFactory CSV = CsvFactory.builder().build();
+
+    // FIELD
+    private final JsonGenerator generator;
+    private final ExportFormat format;
+    private final List<String> columns;
+    private long rows;
+
+    private ExportWriter(JsonGenerator generator, ExportFormat format, List<String> columns) {
+        this.generator = generator;
+        this.format = format;
+        this.columns = columns;
+    }
+
+    // METHOD
+    public static ExportWriter open(ExportFormat format, OutputStream out, List<String> columns) throws IOException {
+        // 응답 stream 은 servlet container 가 닫음
+        JsonGenerator generator;
+        if(format == ExportFormat.CSV) {
+            generator = CSV.createGenerator(out);
+            CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+            columns.forEach(schema::addColumn);
+            generator.setSchema(schema.build());
+        } else {
+            generator = JSON.createGenerator(out);
+            // 값 사이 기본 구분자(공백) 대신 행마다 직접 줄바꿈
+            generator.setRootValueSeparator(null);
+        }
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return new ExportWriter(generator, format, columns);
+    }
+
+    /**
+     * @param values columns 순서대로
+     */
+    public void row(Object... values) throws IOException {
+        generator.writeStartObject();
+        for(int i = 0; i < columns.size(); i++) {
+            Object value = i < values.length ? values[i] : null;
+            generator.writeFieldName(columns.get(i));
+            if(value == null) generator.writeNull();
+            else if(value instanceof Long number) generator.writeNumber(number);
+            else if(value instanceof Integer number) generator.writeNumber(number);
+            else generator.writeString(value.toString());
+        }
+        generator.writeEndObject();
+        if(format == ExportFormat.NDJSON) generator.writeRaw('\n');
+
+        if(++rows % FLUSH_ROWS == 0) generator.flush();
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.backend.service.book.utility;
+
+import com.example.backend.entity.user.enumeration.Language;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gutenberg 원문 한 권 정규화
+ * 라이선스 header/footer 를 잘라낸 본문을 UTF-8 로 쓰면서 단어 수, 언어, 장(chapter) 시작 위치를 한 번에 계산
+ * 원문 전체를 메모리에 올리지 않고 줄 단위로 흘려보냄 (header 탐색 구간 HEADER_WINDOW 만 보관)
+ * 한 줄은 MAX_LINE_LENGTH 까지만 읽고 넘으면 여러 줄로 나눔 (줄바꿈이 없는 원문도 메모리가 한 줄 크기로 제한됨)
+ */
+public class GutenbergTextProcessor {
+
+    public static final int HEADER_WINDOW = 64 * 1024;
+    public static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int IO_BUFFER = 64 * 1024;
+
+    private static final Pattern START = Pattern.compile(
+            "^\\s*(\\*{3}\\s*START OF (THE|THIS) PROJECT GUTENBERG.*|\\*END\\*THE SMALL PRINT.*)$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern END = Pattern.compile(
+            "^\\s*(\\*{3}\\s*END OF (THE|THIS) PROJECT GUTENBERG.*|END OF (THE )?PROJECT GUTENBERG.*)$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ENCODING = Pattern.compile("Character set encoding:\\s*([A-Za-z0-9_.:\\-]+)", Pattern.CASE_INSENSITIVE);
+    // "CHAPTER XII.", "Chapter 3", "BOOK II", "PART ONE", "제 3 장"
+    private static final Pattern CHAPTER = Pattern.compile(
+            "^((CHAPTER|BOOK|PART|LETTER)\\s+([0-9]+|[IVXLCDM]+|[A-Z][A-Za-z\\-]+)\\b.*|제\\s*[0-9一二三四五六七八九十百]+\\s*[장부편].*)$", Pattern.CASE_INSENSITIVE);
+    private static final int MAX_CHAPTER_LINE = 80;
+    // 한글 글자 비율이 이 값 이상이면 KO
+    private static final double KOREAN_RATIO = 0.3;
+
+    // FIELD
+    private final int wordsPerMinute;
+
+    public GutenbergTextProcessor(int wordsPerMinute) {
+        this.wordsPerMinute = Math.max(wordsPerMinute, 1);
+    }
+
+    // METHOD
+    /**
+     * @param target     정규화된 본문 (UTF-8, \n 줄바꿈)
+     * @param gzipTarget 같은 본문의 gzip 사전 압축본. null 이면 생략
+     */
+    public TextStats process(Path source, Path target, Path gzipTarget) throws IOException {
+        Charset charset = detectCharset(source);
+
+        Counter counter = new Counter();
+        try (LineReader reader = new LineReader(new InputStreamReader(Files.newInputStream(source), charset), MAX_LINE_LENGTH);
+             OutputStream plain = new BufferedOutputStream(Files.newOutputStream(target), IO_BUFFER);
+             OutputStream gzip = gzipTarget != null ? new GZIPOutputStream(Files.newOutputStream(gzipTarget), IO_BUFFER) : OutputStream.nullOutputStream()) {
+
+            BodyWriter body = new BodyWriter(plain, gzip, counter);
+            List<String> header = new ArrayList<>();
+            int headerChars = 0;
+            boolean inHeader = true;
+
+            String line;
+            boolean first = true;
+            while((line = reader.readLine()) != null) {
+                if(first && !line.isEmpty() && line.charAt(0) == '\uFEFF') line = line.substring(1);
+                first = false;
+
+                if(inHeader) {
+                    if(START.matcher(line).matches()) {
+                        // 시작 표시 이전은 라이선스/메타데이터
+                        header.clear();
+                        inHeader = false;
+                        continue;
+                    }
+                    if(END.matcher(line).matches()) break;
+                    header.add(line);
+                    headerChars += line.length() + 1;
+                    if(headerChars > HEADER_WINDOW) {
+                        // 시작 표시가 없는 원문: 보관한 줄을 본문으로 처리
+                        for(String buffered : header) body.line(buffered);
+                        header.clear();
+                        inHeader = false;
+                    }
+                    continue;
+                }
+                if(END.matcher(line).matches()) break;
+                body.line(line);
+            }
+            for(String buffered : header) body.line(buffered);
+        }
+
+        int words = (int) Math.min(counter.words, Integer.MAX_VALUE);
+        Language language = counter.letters == 0 ? null
+                : (double) counter.hangul / counter.letters >= KOREAN_RATIO ? Language.KO : Language.EN;
+        int minutes = words == 0 ? 0 : Math.max(1, (int) Math.ceil((double) words / wordsPerMinute));
+        return new TextStats(Files.size(source), counter.bytesWritten, words, minutes, language, counter.chapters);
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // header 의 "Character set encoding: ISO-8859-1" 선언을 따름. 없거나 모르는 이름이면 UTF-8
+    static Charset detectCharset(Path source) throws IOException {
+        byte[] head = new byte[HEADER_WINDOW];
+        int read;
+        try (InputStream in = Files.newInputStream(source)) {
+            read = in.readNBytes(head, 0, head.length);
+        }
+        Matcher matcher = ENCODING.matcher(new String(head, 0, read, StandardCharsets.ISO_8859_1));
+        if(!matcher.find()) return StandardCharsets.UTF_8;
+        String name = matcher.group(1);
+        if(name.equalsIgnoreCase("ASCII")) return StandardCharsets.UTF_8;
+        try {
+            return Charset.isSupported(name) ? Charset.forName(name) : StandardCharsets.UTF_8;
+        } catch (IllegalCharsetNameException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    // \n, \r\n, \r 로 끝나는 줄. maxLength 를 넘으면 거기서 잘라 반환하고 나머지는 다음 줄로 이어 읽음
+    // 잘린 자리의 단어는 두 개로 세어질 수 있지만 maxLength 마다 최대 1개
+    static final class LineReader implements Closeable {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[IO_BUFFER];
+        private final StringBuilder line = new StringBuilder(256);
+        private int position;
+        private int limit;
+        private int pushback = -1;
+
+        LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = Math.max(maxLength, 2);
+        }
+
+        /**
+         * 다음 줄 (줄바꿈 제외). 파일 끝이면 null
+         */
+        String readLine() throws IOException {
+            int c = read();
+            if(c == -1) return null;
+
+            line.setLength(0);
+            while(c != -1 && c != '\n') {
+                if(c == '\r') {
+                    int next = read();
+                    if(next != '\n' && next != -1) pushback = next;
+                    break;
+                }
+                // surrogate pair 는 나누지 않음
+                if(line.length() >= maxLength && !Character.isLowSurrogate((char) c)) {
+                    pushback = c;
+                    break;
+                }
+                line.append((char) c);
+                c = read();
+            }
+            return line.toString();
+        }
+
+        private int read() throws IOException {
+            if(pushback != -1) {
+                int c = pushback;
+                pushback = -1;
+                return c;
+            }
+            if(position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if(limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class Counter {
+        long bytesWritten;
+        long words;
+        long letters;
+        long hangul;
+        final List<Long> chapters = new ArrayList<>();
+    }
+
+    // 앞뒤 빈 줄은 버리고, 줄 끝 공백 제거 후 \n 으로 기록
+    private static final class BodyWriter {
+        private static final byte[] NEWLINE = {'\n'};
+
+        private final OutputStream plain;
+        private final OutputStream gzip;
+        private final Counter counter;
+        private int pendingBlankLines;
+        private boolean started;
+
+        BodyWriter(OutputStream plain, OutputStream gzip, Counter counter) {
+            this.plain = plain;
+            this.gzip = gzip;
+            this.counter = counter;
+        }
+
+        void line(String raw) throws IOException {
+            String line = raw.stripTrailing();
+            if(line.isEmpty()) {
+                if(started) pendingBlankLines++;
+                return;
+            }
+            for(; pendingBlankLines > 0; pendingBlankLines--) write(NEWLINE);
+            started = true;
+
+            String trimmed = line.strip();
+            if(trimmed.length() <= MAX_CHAPTER_LINE && CHAPTER.matcher(trimmed).matches()) {
+                counter.chapters.add(counter.bytesWritten);
+            }
+            count(line);
+            write(line.getBytes(StandardCharsets.UTF_8));
+            write(NEWLINE);
+        }
+
+        private void count(String line) {
+            boolean inWord = false;
+            for(int i = 0; i < line.length(); ) {
+                int codePoint = line.codePointAt(i);
+                i += Character.charCount(codePoint);
+                if(Character.isLetterOrDigit(codePoint)) {
+                    if(!inWord) counter.words++;
+                    inWord = true;
+                    if(Character.isLetter(codePoint)) {
+                        counter.letters++;
+                        if(Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL) counter.hangul++;
+                    }
+                } else if(codePoint != '\'' && codePoint != '\u2019') {
+                    // don't, 1’s 처럼 단어 안의 apostrophe 는 같은 단어
+                    inWord = false;
+                }
+            }
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            plain.write(bytes);
+            gzip.write(bytes);
+            counter.bytesWritten += bytes.length;
+        }
+    }
+
+    /**
+     * @param chapterOffsets 정규화된 본문 기준 장 제목 줄의 byte 위치
+     * @param language       한글/라틴 글자 비율로 판정. 글자가 없으면 null
+     */
+    public record TextStats(long bytesRead, long bytesWritten, int wordCount, int readingMinutes,
+                            Language language, List<Long> chapterOffsets) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.backend.service.book.utility;
+
+import com.example.backend.entity.book.enumeration.RightsStatus;
+import com.example.backend.entity.user.enumeration.Language;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * book id(long) -> BookSnapshot 해시 테이블
+ * - key 는 long[] open addressing (linear probing). Long boxing / entry 노드 객체 없음
+ * - 값은 하나의 arena(ByteBuffer) 에 직렬화하고 slot 에는 offset 만 보관. direct buffer 면 off-heap
+ * - 수정은 arena 끝에 새 레코드를 붙이고 offset 만 바꿈. 버려진 레코드가 절반을 넘으면 compact
+ * 읽기는 StampedLock optimistic read 라 쓰기가 없으면 lock 경합 없음
+ *
+ * 레코드: [int titleLen][title][int authorLen][author][byte language][int year][byte rights] (길이 -1 = null)
+ */
+public final class LongBookTable {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final Language[] LANGUAGES = Language.values();
+    private static final RightsStatus[] RIGHTS = RightsStatus.values();
+
+    private final boolean offHeap;
+    private final StampedLock lock = new StampedLock();
+
+    private long[] keys;
+    private int[] offsets;
+    private int size;
+    private ByteBuffer arena;
+    private int used;
+    private int garbage;
+
+    public LongBookTable(int expectedSize, boolean offHeap) {
+        this.offHeap = offHeap;
+        int capacity = tableSize(expectedSize);
+        this.keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        this.offsets = new int[capacity];
+        this.arena = allocate(Math.max(1024, expectedSize * 64));
+    }
+
+    // METHOD
+    public BookSnapshot get(long id) {
+        long stamp = lock.tryOptimisticRead();
+        if(stamp != 0) {
+            try {
+                BookSnapshot snapshot = read(id, keys, offsets, arena);
+                if(lock.validate(stamp)) return snapshot;
+            } catch (RuntimeException e) {
+                // 쓰기와 겹쳐 배열/offset 이 어긋난 경우. 아래에서 read lock 으로 다시 읽음
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return read(id, keys, offsets, arena);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(BookSnapshot book) {
+        if(book.id() == EMPTY) throw new IllegalArgumentException("지원하지 않는 id 입니다.");
+        byte[] title = encode(book.title());
+        byte[] author = encode(book.author());
+        int recordSize = 4 + length(title) + 4 + length(author) + 1 + 4 + 1;
+
+        long stamp = lock.writeLock();
+        try {
+            if(used + recordSize > arena.capacity()) growArena(recordSize);
+
+            int offset = used;
+            arena.putInt(offset, title != null ? title.length : -1);
+            offset += 4;
+            if(title != null) { arena.put(offset, title); offset += title.length; }
+            arena.putInt(offset, author != null ? author.length : -1);
+            offset += 4;
+            if(author != null) { arena.put(offset, author); offset += author.length; }
+            arena.put(offset++, (byte) (book.language() != null ? book.language().ordinal() : -1));
+            arena.putInt(offset, book.publicationYear() != null ? book.publicationYear() : Integer.MIN_VALUE);
+            offset += 4;
+            arena.put(offset, (byte) (book.rightsStatus() != null ? book.rightsStatus().ordinal() : -1));
+
+            int slot = slot(book.id(), keys);
+            if(keys[slot] == book.id()) {
+                garbage += recordLength(offsets[slot]);
+            } else {
+                keys[slot] = book.id();
+                size++;
+            }
+            offsets[slot] = used;
+            used += recordSize;
+
+            if(size > keys.length * LOAD_FACTOR) rehash(keys.length * 2);
+            if(garbage > used / 2) compact();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = slot(id, keys);
+            if(keys[slot] != id) return;
+            garbage += recordLength(offsets[slot]);
+            size--;
+
+            // linear probing 삭제: 뒤따르는 cluster 를 다시 배치해 tombstone 없이 유지
+            keys[slot] = EMPTY;
+            int mask = keys.length - 1;
+            for(int next = (slot + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+                long key = keys[next];
+                int offset = offsets[next];
+                keys[next] = EMPTY;
+                int target = slot(key, keys);
+                keys[target] = key;
+                offsets[target] = offset;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (byte). offHeap 이면 arena 는 heap 밖
+     */
+    public long heapBytes() {
+        long stamp = lock.readLock();
+        try {
+            long bytes = 16 + 8L * keys.length + 16 + 4L * offsets.length;
+            return offHeap ? bytes : bytes + arena.capacity();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long offHeapBytes() {
+        long stamp = lock.readLock();
+        try {
+            return offHeap ? arena.capacity() : 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private static BookSnapshot read(long id, long[] keys, int[] offsets, ByteBuffer arena) {
+        int slot = slot(id, keys);
+        if(keys[slot] != id) return null;
+
+        int offset = offsets[slot];
+        int titleLength = arena.getInt(offset);
+        offset += 4;
+        String title = decode(arena, offset, titleLength);
+        offset += Math.max(titleLength, 0);
+        int authorLength = arena.getInt(offset);
+        offset += 4;
+        String author = decode(arena, offset, authorLength);
+        offset += Math.max(authorLength, 0);
+        byte language = arena.get(offset++);
+        int year = arena.getInt(offset);
+        offset += 4;
+        byte rights = arena.get(offset);
+
+        return new BookSnapshot(id, title, author,
+                language >= 0 ? LANGUAGES[language] : null,
+                year != Integer.MIN_VALUE ? year : null,
+                rights >= 0 ? RIGHTS[rights] : null);
+    }
+
+    // id 가 있으면 그 slot, 없으면 넣을 빈 slot
+    private static int slot(long id, long[] keys) {
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while(keys[slot] != EMPTY && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int recordLength(int offset) {
+        int titleLength = Math.max(arena.getInt(offset), 0);
+        int authorLength = Math.max(arena.getInt(offset + 4 + titleLength), 0);
+        return 4 + titleLength + 4 + authorLength + 1 + 4 + 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldOffsets = offsets;
+        long[] newKeys = new long[capacity];
+        Arrays.fill(newKeys, EMPTY);
+        int[] newOffsets = new int[capacity];
+        for(int i = 0; i < oldKeys.length; i++) {
+            if(oldKeys[i] == EMPTY) continue;
+            int slot = slot(oldKeys[i], newKeys);
+            newKeys[slot] = oldKeys[i];
+            newOffsets[slot] = oldOffsets[i];
+        }
+        keys = newKeys;
+        offsets = newOffsets;
+    }
+
+    private void growArena(int required) {
+        long capacity = Math.max((long) arena.capacity() * 2, (long) used + required);
+        if(capacity > Integer.MAX_VALUE - 8) throw new IllegalStateException("catalog arena 가 2GB 를 넘었습니다.");
+        ByteBuffer grown = allocate((int) capacity);
+        grown.put(0, arena, 0, used);
+        arena = grown;
+    }
+
+    // 살아 있는 레코드만 새 arena 로 복사
+    private void compact() {
+        ByteBuffer compacted = allocate(Math.max(1024, (used - garbage) * 2));
+        int position = 0;
+        for(int i = 0; i < keys.length; i++) {
+            if(keys[i] == EMPTY) continue;
+            int length = recordLength(offsets[i]);
+            compacted.put(position, arena, offsets[i], length);
+            offsets[i] = position;
+            position += length;
+        }
+        arena = compacted;
+        used = position;
+        garbage = 0;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return offHeap ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    private static int tableSize(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(capacity, 16);
+    }
+
+    private static byte[] encode(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int length(byte[] value) {
+        return value != null ? value.length : 0;
+    }
+
+    private static String decode(ByteBuffer arena, int offset, int length) {
+        if(length < 0) return null;
+        // optimistic read 중 어긋난 offset 이면 길이가 엉뚱한 값일 수 있으므로 할당 전에 확인
+        if(length > arena.capacity() - offset) throw new IndexOutOfBoundsException(length);
+        byte[] bytes = new byte[length];
+        arena.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.backend.service.book.utility;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * 책 한 권의 본문 위치 색인. 본문 옆 "{파일}.idx" 에 한 번 기록하고 조회 시에는 mmap 으로만 읽음
+ *
+ * 파일 구조 (big-endian)
+ *   header   : magic, version, 본문 크기, 본문 수정 시각, term 수, token 수
+ *   table    : term 마다 [term 위치, term 길이, postings 위치, postings 수] 16 byte. UTF-8 byte 순 정렬 -> 이진 탐색
+ *   terms    : 소문자 UTF-8 term
+ *   postings : term 마다 (token 순번 delta, byte 위치 delta, byte 길이) varint
+ *
+ * token 은 문자/숫자 연속 구간. byte 위치는 원본 파일 기준이라 본문을 다시 토큰화하지 않고 바로 snippet 을 자름
+ */
+public final class TextPositionIndex {
+
+    private static final int MAGIC = 0x42504931; // "BPI1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int ENTRY_BYTES = 16;
+
+    // FIELD
+    private final MappedByteBuffer index;
+    private final MappedByteBuffer text;
+    private final long textSize;
+    private final long textModified;
+    private final int termCount;
+    private final int tokenCount;
+
+    private TextPositionIndex(MappedByteBuffer index, MappedByteBuffer text) {
+        this.index = index;
+        this.text = text;
+        this.textSize = index.getLong(8);
+        this.textModified = index.getLong(16);
+        this.termCount = index.getInt(24);
+        this.tokenCount = index.getInt(28);
+    }
+
+    // METHOD
+    /**
+     * 색인이 없거나 본문과 맞지 않으면(크기/수정 시각) 다시 생성 후 mmap
+     */
+    public static TextPositionIndex open(Path textPath, Path indexPath) throws IOException {
+        long size = Files.size(textPath);
+        long modified = Files.getLastModifiedTime(textPath).toMillis();
+        if(!isCurrent(indexPath, size, modified)) {
+            write(textPath, indexPath);
+        }
+        MappedByteBuffer index = map(indexPath);
+        MappedByteBuffer text = map(textPath);
+        return new TextPositionIndex(index, text);
+    }
+
+    /**
+     * header 만 읽어 본문과 일치하는지 확인
+     */
+    public static boolean isCurrent(Path indexPath, long textSize, long textModified) throws IOException {
+        if(!Files.isRegularFile(indexPath) || Files.size(indexPath) < HEADER_BYTES) return false;
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while(header.hasRemaining()) {
+                if(channel.read(header) < 0) break;
+            }
+            header.flip();
+            return header.remaining() == HEADER_BYTES
+                    && header.getInt(0) == MAGIC
+                    && header.getInt(4) == VERSION
+                    && header.getLong(8) == textSize
+                    && header.getLong(16) == textModified;
+        }
+    }
+
+    public long textSize() {
+        return textSize;
+    }
+
+    public long textModified() {
+        return textModified;
+    }
+
+    public int termCount() {
+        return termCount;
+    }
+
+    public int tokenCount() {
+        return tokenCount;
+    }
+
+    /**
+     * 검색어 token 이 연속으로 나오는 위치 (검색어가 한 단어면 단순 term 검색)
+     * @return [from, from + limit) 구간의 hit 와 전체 hit 수
+     */
+    public Result search(String query, int from, int limit) {
+        List<String> terms = tokenize(query);
+        if(terms.isEmpty()) return new Result(0, List.of());
+
+        Postings[] postings = new Postings[terms.size()];
+        int anchor = 0;
+        for(int i = 0; i < terms.size(); i++) {
+            postings[i] = postings(terms.get(i));
+            if(postings[i] == null) return new Result(0, List.of());
+            if(postings[i].ordinals.length < postings[anchor].ordinals.length) anchor = i;
+        }
+
+        // 가장 드문 term 을 기준으로 나머지 term 이 정해진 순번에 있는지 확인
+        Postings base = postings[anchor];
+        Postings last = postings[postings.length - 1];
+        List<Hit> hits = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        int total = 0;
+        for(int k = 0; k < base.ordinals.length; k++) {
+            int start = base.ordinals[k] - anchor;
+            if(start < 0) continue;
+            int lastSlot = -1;
+            boolean phrase = true;
+            for(int i = 0; i < postings.length && phrase; i++) {
+                if(i == anchor) continue;
+                int slot = Arrays.binarySearch(postings[i].ordinals, start + i);
+                if(slot < 0) phrase = false;
+                else if(i == postings.length - 1) lastSlot = slot;
+            }
+            if(!phrase) continue;
+
+            if(total >= from && hits.size() < limit) {
+                int firstSlot = anchor == 0 ? k : Arrays.binarySearch(postings[0].ordinals, start);
+                if(anchor == postings.length - 1) lastSlot = k;
+                int begin = postings[0].offsets[firstSlot];
+                int end = last.offsets[lastSlot] + last.lengths[lastSlot];
+                hits.add(new Hit(start, begin, end - begin));
+            }
+            total++;
+        }
+        return new Result(total, hits);
+    }
+
+    /**
+     * hit 앞뒤로 context byte 만큼 자른 본문. UTF-8 문자 경계에 맞추고 공백은 한 칸으로 정리
+     */
+    public Snippet snippet(Hit hit, int context) {
+        int hitStart = hit.offset();
+        int hitEnd = hit.offset() + hit.length();
+        int start = Math.max(0, hitStart - context);
+        int end = (int) Math.min(textSize, (long) hitEnd + context);
+        while(start < hitStart && isContinuation(text.get(start))) start++;
+        while(end > hitEnd && end < textSize && isContinuation(text.get(end))) end--;
+
+        String before = collapse(decode(start, hitStart));
+        String match = collapse(decode(hitStart, hitEnd));
+        String after = collapse(decode(hitEnd, end));
+        if(start > 0) before = "…" + before.stripLeading();
+        if(end < textSize) after = after.stripTrailing() + "…";
+        return new Snippet(before + match + after, before.length(), before.length() + match.length());
+    }
+
+    /**
+     * 검색어 토큰화. 색인과 같은 규칙(문자/숫자 연속, 소문자)
+     */
+    public static List<String> tokenize(String value) {
+        if(value == null || value.isEmpty()) return List.of();
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        value.codePoints().forEach(codePoint -> {
+            if(Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(codePoint);
+            } else if(!token.isEmpty()) {
+                tokens.add(token.toString().toLowerCase(Locale.ROOT));
+                token.setLength(0);
+            }
+        });
+        if(!token.isEmpty()) tokens.add(token.toString().toLowerCase(Locale.ROOT));
+        return tokens;
+    }
+
+    /**
+     * 본문을 토큰화해 색인 파일 작성. 임시 파일에 쓴 뒤 교체하므로 읽는 쪽은 이전 색인이나 완성된 색인만 봄
+     */
+    public static void write(Path textPath, Path indexPath) throws IOException {
+        long modified = Files.getLastModifiedTime(textPath).toMillis();
+        MappedByteBuffer text = map(textPath);
+        int size = text.capacity();
+
+        Map<String, PostingWriter> terms = new HashMap<>();
+        StringBuilder token = new StringBuilder();
+        int tokenStart = -1;
+        int ordinal = 0;
+        int position = 0;
+        while(position <= size) {
+            int codePoint = -1;
+            int width = 1;
+            if(position < size) {
+                int lead = text.get(position) & 0xFF;
+                if(lead < 0x80) {
+                    codePoint = lead;
+                } else if((lead >> 5) == 0x6 && continuation(text, position, 1, size)) {
+                    codePoint = ((lead & 0x1F) << 6) | (text.get(position + 1) & 0x3F);
+                    width = 2;
+                } else if((lead >> 4) == 0xE && continuation(text, position, 2, size)) {
+                    codePoint = ((lead & 0x0F) << 12) | ((text.get(position + 1) & 0x3F) << 6) | (text.get(position + 2) & 0x3F);
+                    width = 3;
+                } else if((lead >> 3) == 0x1E && continuation(text, position, 3, size)) {
+                    codePoint = ((lead & 0x07) << 18) | ((text.get(position + 1) & 0x3F) << 12)
+                            | ((text.get(position + 2) & 0x3F) << 6) | (text.get(position + 3) & 0x3F);
+                    width = 4;
+                }
+                // 잘못된 UTF-8 byte 는 구분자로 취급 (byte 위치는 그대로 유지)
+            }
+
+            if(codePoint >= 0 && Character.isLetterOrDigit(codePoint)) {
+                if(token.isEmpty()) tokenStart = position;
+                token.appendCodePoint(codePoint);
+            } else if(!token.isEmpty()) {
+                String term = token.toString().toLowerCase(Locale.ROOT);
+                terms.computeIfAbsent(term, key -> new PostingWriter()).add(ordinal++, tokenStart, position - tokenStart);
+                token.setLength(0);
+            }
+            position += width;
+        }
+
+        byte[][] keys = new byte[terms.size()][];
+        PostingWriter[] values = new PostingWriter[terms.size()];
+        int n = 0;
+        for(String term : terms.keySet()) keys[n++] = term.getBytes(StandardCharsets.UTF_8);
+        Arrays.sort(keys, Arrays::compareUnsigned);
+
+        long termBytes = 0;
+        long postingBytes = 0;
+        for(int i = 0; i < keys.length; i++) {
+            values[i] = terms.get(new String(keys[i], StandardCharsets.UTF_8));
+            termBytes += keys[i].length;
+            postingBytes += values[i].length;
+        }
+        long total = HEADER_BYTES + (long) keys.length * ENTRY_BYTES + termBytes + postingBytes;
+        if(total > Integer.MAX_VALUE) throw new IOException("색인 크기가 너무 큽니다: " + textPath);
+
+        ByteBuffer out = ByteBuffer.allocate((int) total);
+        out.putInt(MAGIC).putInt(VERSION).putLong(size).putLong(modified).putInt(keys.length).putInt(ordinal);
+        int termPosition = HEADER_BYTES + keys.length * ENTRY_BYTES;
+        int postingPosition = (int) (termPosition + termBytes);
+        for(int i = 0; i < keys.length; i++) {
+            out.putInt(termPosition).putInt(keys[i].length).putInt(postingPosition).putInt(values[i].count);
+            termPosition += keys[i].length;
+            postingPosition += values[i].length;
+        }
+        for(byte[] key : keys) out.put(key);
+        for(PostingWriter value : values) out.put(value.bytes, 0, value.length);
+        out.flip();
+
+        Path temp = Files.createTempFile(indexPath.toAbsolutePath().getParent(), indexPath.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while(out.hasRemaining()) channel.write(out);
+            }
+            try {
+                Files.move(temp, indexPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private Postings postings(String term) {
+        byte[] key = term.getBytes(StandardCharsets.UTF_8);
+        int low = 0, high = termCount - 1;
+        while(low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = HEADER_BYTES + mid * ENTRY_BYTES;
+            int compare = compareTerm(index.getInt(entry), index.getInt(entry + 4), key);
+            if(compare < 0) low = mid + 1;
+            else if(compare > 0) high = mid - 1;
+            else return readPostings(index.getInt(entry + 8), index.getInt(entry + 12));
+        }
+        return null;
+    }
+
+    private int compareTerm(int position, int length, byte[] key) {
+        int common = Math.min(length, key.length);
+        for(int i = 0; i < common; i++) {
+            int compare = Integer.compare(index.get(position + i) & 0xFF, key[i] & 0xFF);
+            if(compare != 0) return compare;
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private Postings readPostings(int position, int count) {
+        int[] ordinals = new int[count];
+        int[] offsets = new int[count];
+        int[] lengths = new int[count];
+        int[] cursor = {position};
+        int ordinal = 0, offset = 0;
+        for(int i = 0; i < count; i++) {
+            ordinal += readVarInt(cursor);
+            offset += readVarInt(cursor);
+            ordinals[i] = ordinal;
+            offsets[i] = offset;
+            lengths[i] = readVarInt(cursor);
+        }
+        return new Postings(ordinals, offsets, lengths);
+    }
+
+    private int readVarInt(int[] cursor) {
+        int value = 0;
+        int shift = 0;
+        while(true) {
+            byte b = index.get(cursor[0]++);
+            value |= (b & 0x7F) << shift;
+            if(b >= 0) return value;
+            shift += 7;
+        }
+    }
+
+    private String decode(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        text.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String collapse(String value) {
+        return value.replaceAll("\\s+", " ");
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static boolean continuation(ByteBuffer text, int position, int count, int size) {
+        if(position + count >= size) return false;
+        for(int i = 1; i <= count; i++) {
+            if(!isContinuation(text.get(position + i))) return false;
+        }
+        return true;
+    }
+
+    private static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if(channel.size() > Integer.MAX_VALUE) throw new IOException("파일이 너무 큽니다: " + path);
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private record Postings(int[] ordinals, int[] offsets, int[] lengths) {
+    }
+
+    /**
+     * @param ordinal 첫 token 순번
+     * @param offset 본문 byte 위치
+     * @param length 구간 byte 길이
+     */
+    public record Hit(int ordinal, int offset, int length) {
+    }
+
+    /**
+     * @param highlightStart snippet 안에서 강조 구간 시작 (char index)
+     * @param highlightEnd 강조 구간 끝 (exclusive)
+     */
+    public record Snippet(String text, int highlightStart, int highlightEnd) {
+    }
+
+    public record Result(int totalHits, List<Hit> hits) {
+    }
+
+    private static final class PostingWriter {
+        private byte[] bytes = new byte[16];
+        private int length;
+        private int count;
+        private int lastOrdinal;
+        private int lastOffset;
+
+        void add(int ordinal, int offset, int tokenLength) {
+            writeVarInt(ordinal - lastOrdinal);
+            writeVarInt(offset - lastOffset);
+            writeVarInt(tokenLength);
+            lastOrdinal = ordinal;
+            lastOffset = offset;
+            count++;
+        }
+
+        private void writeVarInt(int value) {
+            if(length + 5 > bytes.length) bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            while((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+    }
+}
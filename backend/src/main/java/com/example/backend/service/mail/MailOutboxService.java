@@ -0,0 +1,274 @@
+package com.example.backend.service.mail;
+
+import com.example.backend.dto.mail.MailOutboxStatusResponse;
+import com.example.backend.entity.mail.enumeration.MailStatus;
+import com.example.backend.repository.MailMessageRepository;
+import com.example.backend.service.mail.utility.MailBatchSender;
+import com.example.backend.service.mail.utility.MailBatchSender.OutgoingMail;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 outbox
+ * 요청은 enqueue 로 mail_message 에 저장만 하고 바로 반환 (SMTP 지연이 요청 스레드에 걸리지 않음)
+ * dispatch 가 발송할 메일을 점유해서 worker 마다 messages-per-connection 개씩 SMTP connection 하나로 발송
+ * 실패하면 지수 backoff 후 재시도하고 max-attempts 를 넘으면 FAILED
+ * 점유는 조건부 update 라서 여러 인스턴스가 같은 메일을 동시에 가져가지 않음. 발송 후 결과 기록 전에 죽으면 점유 만료 후 다시 보냄 (같은 Message-ID)
+ */
+@Slf4j
+@Service
+public class MailOutboxService {
+
+    private static final long MAX_BACKOFF_MILLIS = 3_600_000;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    // FIELD
+    private final MailMessageRepository mailMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    // spring.mail.host 가 없으면 null. 메일은 PENDING 으로 쌓임
+    private final MailBatchSender sender;
+    private final int batchSize;
+    private final int messagesPerConnection;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long leaseMillis;
+    private final int retentionDays;
+
+    private final ExecutorService workers;
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final AtomicLong sentMails = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    public MailOutboxService(MailMessageRepository mailMessageRepository,
+                             JdbcTemplate jdbcTemplate,
+                             ObjectProvider<JavaMailSender> mailSender,
+                             @Value("${mail.outbox.from:no-reply@localhost}") String from,
+                             @Value("${mail.outbox.workers:2}") int workers,
+                             @Value("${mail.outbox.batch-size:100}") int batchSize,
+                             @Value("${mail.outbox.messages-per-connection:20}") int messagesPerConnection,
+                             @Value("${mail.outbox.max-attempts:6}") int maxAttempts,
+                             @Value("${mail.outbox.backoff-ms:30000}") long backoffMillis,
+                             @Value("${mail.outbox.lease-ms:300000}") long leaseMillis,
+                             @Value("${mail.outbox.retention-days:7}") int retentionDays) {
+        this.mailMessageRepository = mailMessageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        JavaMailSender javaMailSender = mailSender.getIfAvailable();
+        this.sender = javaMailSender != null ? new MailBatchSender(javaMailSender, from) : null;
+        this.batchSize = Math.max(batchSize, 1);
+        this.messagesPerConnection = Math.max(messagesPerConnection, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoffMillis = backoffMillis;
+        this.leaseMillis = leaseMillis;
+        this.retentionDays = retentionDays;
+        this.workers = Executors.newFixedThreadPool(Math.max(workers, 1), runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if(this.sender == null) {
+            log.warn("mail sender is not configured: mail outbox messages stay pending");
+        }
+    }
+
+    // METHOD
+
+    /**
+     * 호출한 쪽 트랜잭션에 참여하므로 원본 변경과 함께 commit 됨
+     * 다른 요청이 같은 key 를 동시에 넣어 unique 제약에 걸리면 savepoint 까지만 되돌리고 이미 저장된 것으로 봄 (호출한 쪽 트랜잭션은 유지)
+     * @return 같은 idempotencyKey 가 이미 있으면 false
+     */
+    public boolean enqueue(String idempotencyKey, String recipient, String subject, String body) {
+        if(mailMessageRepository.existsByIdempotencyKey(idempotencyKey)) return false;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                // 트랜잭션 밖(auto-commit)이면 insert 하나뿐이라 savepoint 가 필요 없음
+                Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "insert into mail_message (idempotency_key, recipient, subject, body, status, attempts, next_attempt_date, created_date) values (?, ?, ?, ?, ?, 0, ?, ?)")) {
+                    statement.setString(1, idempotencyKey);
+                    statement.setString(2, recipient);
+                    statement.setString(3, subject);
+                    statement.setString(4, body);
+                    statement.setString(5, MailStatus.PENDING.name());
+                    statement.setTimestamp(6, now);
+                    statement.setTimestamp(7, now);
+                    int inserted = statement.executeUpdate();
+                    if(savepoint != null) connection.releaseSavepoint(savepoint);
+                    return inserted;
+                } catch (SQLException e) {
+                    if(savepoint != null) connection.rollback(savepoint);
+                    throw e;
+                }
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("mail already enqueued: {}", idempotencyKey);
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.interval-ms:1000}", initialDelayString = "${mail.outbox.interval-ms:1000}")
+    public void dispatch() {
+        if(sender == null || !dispatching.compareAndSet(false, true)) return;
+        try {
+            int claimed;
+            do {
+                Map<Long, Integer> attempts = new HashMap<>();
+                List<OutgoingMail> mails = claim(attempts);
+                claimed = mails.size();
+
+                List<Future<?>> futures = new ArrayList<>();
+                for(int from = 0; from < mails.size(); from += messagesPerConnection) {
+                    List<OutgoingMail> chunk = mails.subList(from, Math.min(mails.size(), from + messagesPerConnection));
+                    futures.add(workers.submit(() -> send(chunk, attempts)));
+                }
+                for(Future<?> future : futures) {
+                    future.get();
+                }
+            } while(claimed == batchSize);
+
+            purgeSent();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("mail outbox dispatch failed", e);
+        } finally {
+            dispatching.set(false);
+        }
+    }
+
+    public MailOutboxStatusResponse getStatus() {
+        return MailOutboxStatusResponse.builder()
+                .enabled(sender != null)
+                .pending(mailMessageRepository.countByStatus(MailStatus.PENDING))
+                .sending(mailMessageRepository.countByStatus(MailStatus.SENDING))
+                .sent(mailMessageRepository.countByStatus(MailStatus.SENT))
+                .failed(mailMessageRepository.countByStatus(MailStatus.FAILED))
+                .sentSinceStart(sentMails.get())
+                .failedAttemptsSinceStart(failedAttempts.get())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // ***** <<<<<CLAIM>>>>> ***** //
+    // 발송 시각이 된 PENDING + 점유가 만료된 SENDING 을 가져가면서 시도 횟수를 올리고 점유 만료 시각을 설정
+    private List<OutgoingMail> claim(Map<Long, Integer> attempts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> due = jdbcTemplate.queryForList(
+                "select id from mail_message where status in ('PENDING', 'SENDING') and next_attempt_date <= ? order by next_attempt_date, id limit ?",
+                Long.class, now, batchSize);
+        if(due.isEmpty()) return List.of();
+
+        Timestamp lease = Timestamp.valueOf(now.toLocalDateTime().plus(leaseMillis, ChronoUnit.MILLIS));
+        List<Object[]> claims = due.stream().map(id -> new Object[]{lease, id, now}).toList();
+        int[] counts = jdbcTemplate.batchUpdate(
+                "update mail_message set status = 'SENDING', attempts = attempts + 1, next_attempt_date = ? " +
+                        "where id = ? and status in ('PENDING', 'SENDING') and next_attempt_date <= ?", claims);
+
+        List<Long> claimed = new ArrayList<>(due.size());
+        for(int i = 0; i < counts.length; i++) {
+            // 다른 인스턴스가 먼저 가져간 행은 0
+            if(counts[i] != 0) claimed.add(due.get(i));
+        }
+        if(claimed.isEmpty()) return List.of();
+
+        return namedParameterJdbcTemplate.query(
+                "select id, idempotency_key, recipient, subject, body, attempts from mail_message where id in (:ids) order by id",
+                Map.of("ids", claimed),
+                (rs, rowNum) -> {
+                    attempts.put(rs.getLong("id"), rs.getInt("attempts"));
+                    return new OutgoingMail(rs.getLong("id"), rs.getString("idempotency_key"),
+                            rs.getString("recipient"), rs.getString("subject"), rs.getString("body"));
+                });
+    }
+
+    // ***** <<<<<SEND>>>>> ***** //
+    private void send(List<OutgoingMail> chunk, Map<Long, Integer> attempts) {
+        Map<Long, Exception> failed = sender.send(chunk);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> sent = new ArrayList<>();
+        List<Object[]> retries = new ArrayList<>();
+        List<Object[]> dead = new ArrayList<>();
+        for(OutgoingMail mail : chunk) {
+            Exception e = failed.get(mail.id());
+            if(e == null) {
+                sent.add(new Object[]{Timestamp.valueOf(now), mail.id()});
+                continue;
+            }
+            int attempt = attempts.get(mail.id());
+            String error = abbreviate(e.getMessage());
+            if(attempt >= maxAttempts) {
+                dead.add(new Object[]{error, mail.id()});
+                log.warn("mail {} to {} failed after {} attempts: {}", mail.id(), mail.recipient(), attempt, error);
+            } else {
+                LocalDateTime next = now.plus(backoffMillis(backoffMillis, attempt), ChronoUnit.MILLIS);
+                retries.add(new Object[]{Timestamp.valueOf(next), error, mail.id()});
+            }
+        }
+
+        if(!sent.isEmpty()) {
+            jdbcTemplate.batchUpdate("update mail_message set status = 'SENT', sent_date = ?, last_error = null where id = ?", sent);
+        }
+        if(!retries.isEmpty()) {
+            jdbcTemplate.batchUpdate("update mail_message set status = 'PENDING', next_attempt_date = ?, last_error = ? where id = ?", retries);
+        }
+        if(!dead.isEmpty()) {
+            jdbcTemplate.batchUpdate("update mail_message set status = 'FAILED', last_error = ? where id = ?", dead);
+        }
+        sentMails.addAndGet(sent.size());
+        failedAttempts.addAndGet(retries.size() + dead.size());
+    }
+
+    // 보관 기간이 지난 SENT 행 정리
+    private void purgeSent() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        jdbcTemplate.update("delete from mail_message where status = 'SENT' and sent_date < ?", before);
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+
+    /**
+     * attempt 번째 실패 후 대기 시간: base, 2*base, 4*base ... (최대 1시간)
+     */
+    static long backoffMillis(long base, int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 20);
+        return Math.min(base << shift, MAX_BACKOFF_MILLIS);
+    }
+
+    private static String abbreviate(String message) {
+        if(message == null) return null;
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.backend.service.mail.utility;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 여러 메일을 SMTP connection 하나로 발송
+ * JavaMailSenderImpl 은 send(MimeMessage...) 한 번에 connection 을 한 번만 열고 메일마다 재사용함
+ * 일부만 실패해도 나머지는 발송되고, 실패한 메일만 결과로 돌려줌
+ */
+public class MailBatchSender {
+
+    // FIELD
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final String messageIdDomain;
+
+    public MailBatchSender(JavaMailSender mailSender, String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+        int at = from.lastIndexOf('@');
+        this.messageIdDomain = at >= 0 ? from.substring(at + 1) : "localhost";
+    }
+
+    // METHOD
+
+    /**
+     * @return 실패한 메일 id -> 원인. 비어 있으면 모두 발송됨
+     */
+    public Map<Long, Exception> send(List<OutgoingMail> mails) {
+        Map<Long, Exception> failed = new HashMap<>();
+        Map<MimeMessage, Long> ids = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(mails.size());
+        for(OutgoingMail mail : mails) {
+            try {
+                MimeMessage message = toMessage(mail);
+                messages.add(message);
+                ids.put(message, mail.id());
+            } catch (MessagingException e) {
+                failed.put(mail.id(), e);
+            }
+        }
+        if(messages.isEmpty()) return failed;
+
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // 연결 실패면 남은 메일 전체, 수신자 거절이면 해당 메일만 들어 있음
+            if(e.getFailedMessages().isEmpty()) {
+                messages.forEach(message -> failed.put(ids.get(message), e));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> failed.put(ids.get(message), cause));
+            }
+        } catch (MailException e) {
+            // 인증 실패 등. 아무것도 발송되지 않음
+            messages.forEach(message -> failed.put(ids.get(message), e));
+        }
+        return failed;
+    }
+
+    /**
+     * 재발송해도 같은 Message-ID 를 쓰므로 수신 측에서 중복을 걸러낼 수 있음
+     */
+    public String messageId(String idempotencyKey) {
+        return "<" + idempotencyKey.replaceAll("[^A-Za-z0-9._-]", "-") + "@" + messageIdDomain + ">";
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private MimeMessage toMessage(OutgoingMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(mail.recipient());
+        helper.setSubject(mail.subject());
+        helper.setText(mail.body());
+        // JavaMailSenderImpl 은 미리 지정된 Message-ID 를 유지함
+        message.setHeader("Message-ID", messageId(mail.idempotencyKey()));
+        return message;
+    }
+
+    public record OutgoingMail(long id, String idempotencyKey, String recipient, String subject, String body) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.backend.service.outbox;
+
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+
+import java.util.Set;
+
+/**
+ * OutboxRelay 가 모은 변경을 반영하는 쪽 (검색 인덱스, 캐시)
+ * 같은 id 의 여러 이벤트는 마지막 것만 전달됨. 실패하거나 겹쳐 읽으면 같은 이벤트가 다시 전달되므로 반영은 멱등이어야 함
+ */
+public interface OutboxHandler {
+
+    boolean supports(OutboxAggregate aggregate);
+
+    /**
+     * true 면 모든 인스턴스가 각자 반영 (노드별 메모리 캐시/index). false 면 클러스터에서 한 번만 반영 (공유 검색 인덱스)
+     */
+    default boolean isPerInstance() {
+        return false;
+    }
+
+    /**
+     * @param upserted 추가/수정된 id (현재 상태는 DB 에서 다시 읽음)
+     * @param deleted  삭제된 id
+     */
+    void apply(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted);
+
+    /**
+     * 노드별 handler 가 놓쳤을 수 있는 이벤트를 DB 기준으로 다시 맞춤. 호출 스레드를 오래 잡지 않도록 백그라운드로 실행
+     */
+    default void reconcile() {
+    }
+}
@@ -0,0 +1,363 @@
+package com.example.backend.service.outbox;
+
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.entity.outbox.enumeration.OutboxOperation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox_event 를 batch 로 읽어 OutboxHandler 에 반영
+ * 1) relay : 공유 handler (검색 인덱스) 에 클러스터에서 한 번 반영하고 relayed 로 표시. 보관 기간이 지나면 삭제
+ *    MailOutboxService 처럼 조건부 update 로 claim_owner 와 점유 만료 시각(next_attempt_date)을 기록한 행만 반영해서
+ *    여러 인스턴스가 같은 행을 동시에 반영하지 않음. 반영 중 죽은 인스턴스의 행은 lease 가 지나면 다른 인스턴스가 가져감
+ * 2) local : 인스턴스마다 최근 행을 직접 읽어 노드별 handler (메모리 캐시) 에 반영. relayed 여부와 상관없이 모든 행을 봄
+ * batch 안에서 (대상, id) 별로 마지막 이벤트만 남겨(last-write-wins) 같은 책이 여러 번 바뀌어도 한 번만 반영
+ * 공유 handler 가 실패하면 id 하나씩 다시 반영해서 실패한 id 의 행만 남기고 나머지는 삭제 (한 행 때문에 뒤의 이벤트가 막히지 않음)
+ * 남긴 행은 attempts 를 올려 지수 backoff 후 재시도하고, max-attempts 를 넘으면 deadLetter 로 표시해서 더는 읽지 않음
+ * local 은 IDENTITY id 가 commit 순서와 다를 수 있어서 created_date 기준으로 overlap 만큼 겹쳐 읽고 이미 본 id 는 건너뜀
+ * overlap 보다 오래 걸린 트랜잭션의 이벤트나 retention 보다 오래 멈춰 있던 인스턴스가 놓친 이벤트는
+ * reconcile-ms 주기로 (poll 간격이 retention 을 넘었으면 바로) 노드별 handler 의 reconcile 로 DB 와 다시 맞춤
+ */
+@Slf4j
+@Service
+public class OutboxRelay {
+
+    private static final long MAX_BACKOFF_MILLIS = 600_000;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    // FIELD
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final List<OutboxHandler> handlers;
+    private final List<OutboxHandler> localHandlers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long leaseMillis;
+    private final long retentionMillis;
+    private final long overlapMillis;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    // 이 인스턴스가 가져간 행 표시
+    private final String owner = UUID.randomUUID().toString();
+    // local 읽기 시작 시각과 그 이후에 이미 반영한 id -> created_date (polling 중인 스레드만 접근)
+    private long localSince;
+    private long lastPollMillis;
+    private final Map<Long, Long> seenIds = new HashMap<>();
+    private final AtomicLong relayedEvents = new AtomicLong();
+    private final AtomicLong appliedChanges = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       List<OutboxHandler> handlers,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.backoff-ms:1000}") long backoffMillis,
+                       @Value("${outbox.relay.lease-ms:60000}") long leaseMillis,
+                       @Value("${outbox.relay.retention-ms:600000}") long retentionMillis,
+                       @Value("${outbox.local.overlap-ms:10000}") long overlapMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.handlers = handlers.stream().filter(handler -> !handler.isPerInstance()).toList();
+        this.localHandlers = handlers.stream().filter(OutboxHandler::isPerInstance).toList();
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoffMillis = backoffMillis;
+        this.leaseMillis = Math.max(leaseMillis, 1);
+        this.retentionMillis = retentionMillis;
+        this.overlapMillis = overlapMillis;
+        // 캐시는 시작 후 DB 에서 채우므로 그 전 이벤트는 overlap 만큼만 다시 봄
+        this.lastPollMillis = System.currentTimeMillis();
+        this.localSince = lastPollMillis - overlapMillis;
+    }
+
+    // METHOD
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}", initialDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        if(!draining.compareAndSet(false, true)) return;
+        try {
+            // batch 가 가득 차 있으면 밀린 것이므로 주기를 기다리지 않고 이어서 처리
+            int drained;
+            do {
+                drained = drain();
+            } while(drained == batchSize);
+
+            purgeRelayed();
+        } catch (RuntimeException e) {
+            log.error("outbox relay failed", e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}", initialDelayString = "${outbox.relay.interval-ms:500}")
+    public void relayLocal() {
+        if(localHandlers.isEmpty() || !polling.compareAndSet(false, true)) return;
+        try {
+            pollLocal();
+        } catch (RuntimeException e) {
+            log.error("outbox local relay failed", e);
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    // 놓친 이벤트가 있어도 노드별 캐시가 DB 와 어긋난 채로 남지 않도록 주기적으로 다시 맞춤
+    @Scheduled(fixedDelayString = "${outbox.local.reconcile-ms:3600000}", initialDelayString = "${outbox.local.reconcile-ms:3600000}")
+    public void reconcileLocal() {
+        for(OutboxHandler handler : localHandlers) {
+            try {
+                handler.reconcile();
+            } catch (RuntimeException e) {
+                log.warn("outbox local handler {} reconcile failed: {}", handler.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return 가져간 이벤트 수 (재시도로 남긴 행 포함). 다른 인스턴스가 먼저 가져간 행은 세지 않음
+     */
+    int drain() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<OutboxRow> rows = claim(now);
+        if(rows.isEmpty()) return 0;
+
+        Map<OutboxAggregate, Changes> coalesced = coalesce(rows);
+        Map<OutboxAggregate, Map<Long, RuntimeException>> failures = new EnumMap<>(OutboxAggregate.class);
+        for(Map.Entry<OutboxAggregate, Changes> entry : coalesced.entrySet()) {
+            Map<Long, RuntimeException> failed = apply(entry.getKey(), entry.getValue());
+            if(!failed.isEmpty()) failures.put(entry.getKey(), failed);
+            appliedChanges.addAndGet(entry.getValue().upserted().size() + entry.getValue().deleted().size() - failed.size());
+        }
+
+        List<Long> done = new ArrayList<>(rows.size());
+        List<Object[]> retries = new ArrayList<>();
+        for(OutboxRow row : rows) {
+            RuntimeException e = failures.getOrDefault(row.aggregate(), Map.of()).get(row.aggregateId());
+            if(e == null) {
+                done.add(row.id());
+                continue;
+            }
+            int attempt = row.attempts() + 1;
+            boolean dead = attempt >= maxAttempts;
+            if(dead) {
+                log.warn("outbox event {} ({} {}) moved to dead letter after {} attempts: {}",
+                        row.id(), row.aggregate(), row.aggregateId(), attempt, e.getMessage());
+            }
+            Timestamp next = Timestamp.valueOf(now.toLocalDateTime().plus(backoffMillis(backoffMillis, attempt), ChronoUnit.MILLIS));
+            retries.add(new Object[]{attempt, dead, next, abbreviate(e.getMessage()), row.id(), owner});
+        }
+
+        if(!done.isEmpty()) {
+            namedParameterJdbcTemplate.update("update outbox_event set relayed = true, claim_owner = null where id in (:ids)", Map.of("ids", done));
+        }
+        if(!retries.isEmpty()) {
+            // lease 가 지나 다른 인스턴스가 다시 가져간 행은 그쪽 결과를 따름
+            jdbcTemplate.batchUpdate(
+                    "update outbox_event set attempts = ?, dead_letter = ?, next_attempt_date = ?, last_error = ?, claim_owner = null " +
+                            "where id = ? and claim_owner = ?",
+                    retries);
+        }
+        relayedEvents.addAndGet(done.size());
+        failedEvents.addAndGet(retries.size());
+        return rows.size();
+    }
+
+    /**
+     * 지난 poll 이후(overlap 포함) 기록된 행 중 아직 보지 않은 것을 노드별 handler 에 반영
+     * @return 새로 반영한 이벤트 수
+     */
+    int pollLocal() {
+        long pollStart = System.currentTimeMillis();
+        // retention 보다 오래 poll 하지 못했으면 그 사이 이벤트가 이미 지워졌을 수 있음
+        long pausedMillis = pollStart - lastPollMillis;
+        Timestamp since = new Timestamp(localSince);
+
+        List<OutboxRow> fresh = new ArrayList<>();
+        long lastId = Long.MIN_VALUE;
+        while(true) {
+            List<Long> createdMillis = new ArrayList<>();
+            List<OutboxRow> page = jdbcTemplate.query(
+                    "select id, aggregate_type, aggregate_id, operation, created_date from outbox_event " +
+                            "where created_date >= ? and id > ? order by id limit ?",
+                    (rs, rowNum) -> {
+                        createdMillis.add(rs.getTimestamp("created_date").getTime());
+                        return new OutboxRow(
+                                rs.getLong("id"),
+                                OutboxAggregate.valueOf(rs.getString("aggregate_type")),
+                                rs.getLong("aggregate_id"),
+                                OutboxOperation.valueOf(rs.getString("operation")),
+                                0);
+                    },
+                    since, lastId, batchSize);
+            for(int i = 0; i < page.size(); i++) {
+                if(seenIds.putIfAbsent(page.get(i).id(), createdMillis.get(i)) == null) fresh.add(page.get(i));
+            }
+            if(page.size() < batchSize) break;
+            lastId = page.get(page.size() - 1).id();
+        }
+
+        // 메모리 캐시 반영 실패는 다시 읽어도 같으므로 기록만 하고 넘어감
+        for(Map.Entry<OutboxAggregate, Changes> entry : coalesce(fresh).entrySet()) {
+            for(OutboxHandler handler : localHandlers) {
+                if(!handler.supports(entry.getKey())) continue;
+                try {
+                    handler.apply(entry.getKey(), entry.getValue().upserted(), entry.getValue().deleted());
+                } catch (RuntimeException e) {
+                    log.warn("outbox local handler {} failed on {}: {}",
+                            handler.getClass().getSimpleName(), entry.getKey(), e.getMessage());
+                }
+            }
+        }
+
+        localSince = pollStart - overlapMillis;
+        lastPollMillis = pollStart;
+        seenIds.values().removeIf(created -> created < localSince);
+        if(pausedMillis > retentionMillis) {
+            log.warn("outbox local relay paused for {} ms, reconciling instance caches", pausedMillis);
+            reconcileLocal();
+        }
+        return fresh.size();
+    }
+
+    // 공유 handler 에 반영했고 보관 기간이 지난 행 정리 (dead letter 는 남김)
+    void purgeRelayed() {
+        Timestamp before = new Timestamp(System.currentTimeMillis() - retentionMillis);
+        jdbcTemplate.update("delete from outbox_event where relayed = true and created_date < ?", before);
+    }
+
+    public long getRelayedEvents() {
+        return relayedEvents.get();
+    }
+
+    public long getAppliedChanges() {
+        return appliedChanges.get();
+    }
+
+    public long getFailedEvents() {
+        return failedEvents.get();
+    }
+
+    public long countDeadLetters() {
+        Long count = jdbcTemplate.queryForObject("select count(*) from outbox_event where dead_letter = true", Long.class);
+        return count != null ? count : 0;
+    }
+
+    // ***** <<<<<CLAIM>>>>> ***** //
+    // 반영할 시각이 된 행 + 점유가 만료된 행을 가져가면서 owner 와 점유 만료 시각을 기록
+    private List<OutboxRow> claim(Timestamp now) {
+        List<Long> due = jdbcTemplate.queryForList(
+                "select id from outbox_event where relayed = false and dead_letter = false and next_attempt_date <= ? order by id limit ?",
+                Long.class, now, batchSize);
+        if(due.isEmpty()) return List.of();
+
+        Timestamp lease = Timestamp.valueOf(now.toLocalDateTime().plus(leaseMillis, ChronoUnit.MILLIS));
+        List<Object[]> claims = due.stream().map(id -> new Object[]{owner, lease, id, now}).toList();
+        int[] counts = jdbcTemplate.batchUpdate(
+                "update outbox_event set claim_owner = ?, next_attempt_date = ? " +
+                        "where id = ? and relayed = false and dead_letter = false and next_attempt_date <= ?", claims);
+
+        List<Long> claimed = new ArrayList<>(due.size());
+        for(int i = 0; i < counts.length; i++) {
+            // 다른 인스턴스가 먼저 가져간 행은 0
+            if(counts[i] != 0) claimed.add(due.get(i));
+        }
+        if(claimed.isEmpty()) return List.of();
+
+        return namedParameterJdbcTemplate.query(
+                "select id, aggregate_type, aggregate_id, operation, attempts from outbox_event where id in (:ids) order by id",
+                Map.of("ids", claimed),
+                (rs, rowNum) -> new OutboxRow(
+                        rs.getLong("id"),
+                        OutboxAggregate.valueOf(rs.getString("aggregate_type")),
+                        rs.getLong("aggregate_id"),
+                        OutboxOperation.valueOf(rs.getString("operation")),
+                        rs.getInt("attempts")));
+    }
+
+    // ***** <<<<<APPLY>>>>> ***** //
+    // 한 번에 반영하고, 실패하면 id 하나씩 다시 반영해서 실패한 id -> 원인을 돌려줌 (반영은 멱등이라 다시 해도 됨)
+    private Map<Long, RuntimeException> apply(OutboxAggregate aggregate, Changes changes) {
+        try {
+            applyAll(aggregate, changes.upserted(), changes.deleted());
+            return Map.of();
+        } catch (RuntimeException e) {
+            log.warn("outbox {} batch of {} changes failed, applying one by one: {}",
+                    aggregate, changes.upserted().size() + changes.deleted().size(), e.getMessage());
+        }
+
+        Map<Long, RuntimeException> failed = new HashMap<>();
+        for(Long id : changes.upserted()) {
+            try {
+                applyAll(aggregate, Set.of(id), Set.of());
+            } catch (RuntimeException e) {
+                failed.put(id, e);
+            }
+        }
+        for(Long id : changes.deleted()) {
+            try {
+                applyAll(aggregate, Set.of(), Set.of(id));
+            } catch (RuntimeException e) {
+                failed.put(id, e);
+            }
+        }
+        return failed;
+    }
+
+    private void applyAll(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted) {
+        for(OutboxHandler handler : handlers) {
+            if(handler.supports(aggregate)) {
+                handler.apply(aggregate, upserted, deleted);
+            }
+        }
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // id 순서로 덮어써서 (대상, id) 마다 마지막 operation 만 남김
+    static Map<OutboxAggregate, Changes> coalesce(List<OutboxRow> rows) {
+        Map<OutboxAggregate, Map<Long, OutboxOperation>> latest = new EnumMap<>(OutboxAggregate.class);
+        for(OutboxRow row : rows) {
+            latest.computeIfAbsent(row.aggregate(), key -> new LinkedHashMap<>()).put(row.aggregateId(), row.operation());
+        }
+
+        Map<OutboxAggregate, Changes> result = new EnumMap<>(OutboxAggregate.class);
+        for(Map.Entry<OutboxAggregate, Map<Long, OutboxOperation>> entry : latest.entrySet()) {
+            Set<Long> upserted = new LinkedHashSet<>();
+            Set<Long> deleted = new LinkedHashSet<>();
+            entry.getValue().forEach((id, operation) -> (operation == OutboxOperation.DELETE ? deleted : upserted).add(id));
+            result.put(entry.getKey(), new Changes(upserted, deleted));
+        }
+        return result;
+    }
+
+    /**
+     * attempt 번째 실패 후 대기 시간: base, 2*base, 4*base ... (최대 10분)
+     */
+    static long backoffMillis(long base, int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 20);
+        return Math.min(base << shift, MAX_BACKOFF_MILLIS);
+    }
+
+    private static String abbreviate(String message) {
+        if(message == null) return null;
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    record OutboxRow(long id, OutboxAggregate aggregate, long aggregateId, OutboxOperation operation, int attempts) {
+    }
+
+    record Changes(Set<Long> upserted, Set<Long> deleted) {
+    }
+}
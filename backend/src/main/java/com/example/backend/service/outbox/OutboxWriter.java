@@ -0,0 +1,44 @@
+package com.example.backend.service.outbox;
+
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.entity.outbox.enumeration.OutboxOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * outbox_event 기록
+ * 호출한 쪽의 트랜잭션 connection 을 그대로 쓰므로 원본 변경과 함께 commit/rollback 됨
+ * JPA flush 도중(entity listener)에도 호출되므로 EntityManager 대신 JdbcTemplate 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private static final String INSERT = "insert into outbox_event (aggregate_type, aggregate_id, operation, relayed, attempts, dead_letter, next_attempt_date, created_date) values (?, ?, ?, false, 0, false, ?, ?)";
+
+    // FIELD
+    private final JdbcTemplate jdbcTemplate;
+
+    // METHOD
+    public void append(OutboxAggregate aggregate, OutboxOperation operation, long aggregateId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT, aggregate.name(), aggregateId, operation.name(), now, now);
+    }
+
+    public void appendAll(OutboxAggregate aggregate, OutboxOperation operation, Collection<Long> aggregateIds) {
+        if(aggregateIds.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(aggregateIds.size());
+        for(Long aggregateId : aggregateIds) {
+            rows.add(new Object[]{aggregate.name(), aggregateId, operation.name(), now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+}
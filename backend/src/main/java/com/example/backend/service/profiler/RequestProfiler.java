@@ -0,0 +1,166 @@
+package com.example.backend.service.profiler;
+
+import com.example.backend.dto.profiler.EndpointLatencyItem;
+import com.example.backend.dto.profiler.LatencyProfileResponse;
+import com.example.backend.dto.profiler.SlowRequestItem;
+import com.example.backend.service.profiler.utility.EndpointStats;
+import com.example.backend.service.profiler.utility.LatencyHistogram;
+import com.example.backend.service.profiler.utility.RequestSample;
+import com.example.backend.service.profiler.utility.SlowRequestRing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 운영 중 endpoint 별 지연 분포와 느린 요청을 모으는 recorder
+ * RequestProfilingFilter / RequestProfilingInterceptor 가 요청마다 호출
+ * 기록 경로는 미리 만든 객체의 atomic 연산만 사용 (endpoint 첫 요청에만 EndpointStats 생성)
+ */
+@Slf4j
+@Service
+public class RequestProfiler {
+
+    // FIELD
+    private final boolean enabled;
+    private final long slowThresholdNanos;
+    private final Map<Method, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final SlowRequestRing slowRequests;
+    // 컨트롤러에 도달하지 않은 요청 (인증/요청 제한 거절, 정적 리소스, 404)
+    private final EndpointStats unmatched = new EndpointStats("(unmatched)", "(no handler)");
+    private volatile LocalDateTime since = LocalDateTime.now();
+
+    public RequestProfiler(@Value("${profiler.enabled:true}") boolean enabled,
+                           @Value("${profiler.slow-threshold-ms:500}") long slowThresholdMillis,
+                           @Value("${profiler.slow-capacity:256}") int slowCapacity) {
+        this.enabled = enabled;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.slowRequests = new SlowRequestRing(slowCapacity);
+    }
+
+    // METHOD
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 컨트롤러 메서드별 기록. 처음 보는 메서드만 생성
+     * 표시용 이름("GET /api/book/{id}")은 첫 요청 기준으로 만들어서 이후 요청은 문자열을 만들지 않음
+     */
+    public EndpointStats endpoint(Method handlerMethod, String httpMethod, Object pattern) {
+        EndpointStats stats = endpoints.get(handlerMethod);
+        if(stats != null) return stats;
+        return endpoints.computeIfAbsent(handlerMethod, method ->
+                new EndpointStats(method.getDeclaringClass().getSimpleName() + "." + method.getName(), httpMethod + " " + pattern));
+    }
+
+    /**
+     * 요청 종료 시 호출. sample 은 이후 재사용됨
+     */
+    public void record(RequestSample sample, String method, String uri, int status) {
+        long end = System.nanoTime();
+        long total = end - sample.getStartNanos();
+        long filter = sample.getFilterNanos(end);
+        long db = sample.getDbNanos();
+        long remote = sample.getRemoteNanos();
+        EndpointStats stats = sample.getEndpoint() != null ? sample.getEndpoint() : unmatched;
+        sample.end();
+
+        stats.record(total, filter, db, remote, status >= 500);
+        if(total >= slowThresholdNanos) {
+            slowRequests.offer(stats, method, uri, status, System.currentTimeMillis(), total, filter, db, remote);
+        }
+    }
+
+    /**
+     * @param slowLimit 느린 요청 최대 개수
+     */
+    public LatencyProfileResponse getProfile(int slowLimit) {
+        List<EndpointLatencyItem> endpointItems = Stream.concat(endpoints.values().stream(), Stream.of(unmatched))
+                .map(RequestProfiler::toEndpointItem)
+                .filter(item -> item.getCount() > 0)
+                .sorted(Comparator.comparingDouble(EndpointLatencyItem::getP99Millis).reversed())
+                .toList();
+
+        List<SlowRequestItem> slowItems = slowRequests.snapshot().stream()
+                .sorted(Comparator.comparingLong(SlowRequestRing.Entry::totalNanos).reversed())
+                .limit(Math.max(slowLimit, 0))
+                .map(RequestProfiler::toSlowItem)
+                .toList();
+
+        return LatencyProfileResponse.builder()
+                .since(since)
+                .slowThresholdMillis(TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos))
+                .endpoints(endpointItems)
+                .slowRequests(slowItems)
+                .build();
+    }
+
+    /**
+     * 배포 직후 등 새 구간부터 다시 집계
+     */
+    public void reset() {
+        endpoints.values().forEach(EndpointStats::reset);
+        unmatched.reset();
+        slowRequests.clear();
+        since = LocalDateTime.now();
+        log.info("request profiler reset");
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private static EndpointLatencyItem toEndpointItem(EndpointStats stats) {
+        LatencyHistogram.Snapshot snapshot = stats.getTotal().snapshot();
+        long count = snapshot.total();
+        return EndpointLatencyItem.builder()
+                .handler(stats.getHandler())
+                .pattern(stats.getPattern())
+                .count(count)
+                .errors(stats.getErrors())
+                .p50Millis(micros(snapshot.percentile(0.5)))
+                .p90Millis(micros(snapshot.percentile(0.9)))
+                .p99Millis(micros(snapshot.percentile(0.99)))
+                .p999Millis(micros(snapshot.percentile(0.999)))
+                .maxMillis(micros(snapshot.max()))
+                .meanMillis(mean(stats.getTotal().getSum(), count))
+                .meanFilterMillis(mean(stats.getFilterMicros(), count))
+                .meanDbMillis(mean(stats.getDbMicros(), count))
+                .meanRemoteMillis(mean(stats.getRemoteMicros(), count))
+                .build();
+    }
+
+    private static SlowRequestItem toSlowItem(SlowRequestRing.Entry entry) {
+        return SlowRequestItem.builder()
+                .handler(entry.endpoint().getHandler())
+                .method(entry.method())
+                .uri(entry.uri())
+                .status(entry.status())
+                .requestedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.epochMillis()), ZoneId.systemDefault()))
+                .totalMillis(nanos(entry.totalNanos()))
+                .filterMillis(nanos(entry.filterNanos()))
+                .dbMillis(nanos(entry.dbNanos()))
+                .remoteMillis(nanos(entry.remoteNanos()))
+                .build();
+    }
+
+    private static double micros(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static double nanos(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double mean(long sumMicros, long count) {
+        return count == 0 ? 0 : sumMicros / 1_000.0 / count;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.service.profiler.utility;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * endpoint 하나의 누적 기록: 전체 시간 histogram + 구간별(filter, DB, 원격) 합계
+ */
+public final class EndpointStats {
+
+    // FIELD
+    private final String handler;
+    private final String pattern;
+    private final LatencyHistogram total = new LatencyHistogram();
+    private final AtomicLong filterMicros = new AtomicLong();
+    private final AtomicLong dbMicros = new AtomicLong();
+    private final AtomicLong remoteMicros = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public EndpointStats(String handler, String pattern) {
+        this.handler = handler;
+        this.pattern = pattern;
+    }
+
+    // METHOD
+    public void record(long totalNanos, long filterNanos, long dbNanos, long remoteNanos, boolean error) {
+        total.record(TimeUnit.NANOSECONDS.toMicros(totalNanos));
+        filterMicros.addAndGet(TimeUnit.NANOSECONDS.toMicros(filterNanos));
+        dbMicros.addAndGet(TimeUnit.NANOSECONDS.toMicros(dbNanos));
+        remoteMicros.addAndGet(TimeUnit.NANOSECONDS.toMicros(remoteNanos));
+        if(error) errors.incrementAndGet();
+    }
+
+    public void reset() {
+        total.reset();
+        filterMicros.set(0);
+        dbMicros.set(0);
+        remoteMicros.set(0);
+        errors.set(0);
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public LatencyHistogram getTotal() {
+        return total;
+    }
+
+    public long getFilterMicros() {
+        return filterMicros.get();
+    }
+
+    public long getDbMicros() {
+        return dbMicros.get();
+    }
+
+    public long getRemoteMicros() {
+        return remoteMicros.get();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+}
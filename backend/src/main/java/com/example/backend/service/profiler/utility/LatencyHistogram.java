@@ -0,0 +1,104 @@
+package com.example.backend.service.profiler.utility;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HDR 방식(log-linear) 지연 시간 histogram. 단위는 µs
+ * 2의 거듭제곱 구간마다 SUB_BUCKETS 개로 나눠서 상대 오차를 약 3% 이내로 유지
+ * 기록은 배열 index 계산 + CAS 뿐이라 lock/할당이 없음
+ */
+public final class LatencyHistogram {
+
+    // 구간당 16칸 (구간 앞 절반은 이전 구간과 겹치므로 유효 32칸 정밀도)
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF = SUB_BUCKETS >> 1;
+    // 2^26 µs (약 67초) 이상은 마지막 칸으로 모음
+    public static final long MAX_MICROS = (1L << 26) - 1;
+    private static final int BUCKETS = index(MAX_MICROS) + 1;
+
+    // FIELD
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    // METHOD
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_MICROS);
+        counts.incrementAndGet(index(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getSum() {
+        return sum.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 기록 도중 읽어도 되지만 칸 사이 값은 조금 어긋날 수 있음 (관리 화면 용도)
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total, max.get());
+    }
+
+    /**
+     * 기록과 동시에 호출되면 그 사이 기록 일부가 사라질 수 있음
+     */
+    public void reset() {
+        for(int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // [0, 32) 는 1µs 단위, 이후는 최상위 5bit 로 칸을 정함
+    static int index(long value) {
+        if(value < SUB_BUCKETS) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF + (int) (value >>> shift);
+    }
+
+    // 해당 칸에 들어가는 가장 큰 값
+    static long highestEquivalent(int index) {
+        if(index < SUB_BUCKETS) return index;
+        int shift = index / HALF - 1;
+        long sub = index % HALF + HALF;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    public record Snapshot(long[] counts, long total, long max) {
+
+        /**
+         * @param quantile 0.0 ~ 1.0
+         * @return 해당 분위수가 속한 칸의 상한 (µs). 기록이 없으면 0
+         */
+        public long percentile(double quantile) {
+            if(total == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for(int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if(seen >= rank) return Math.min(highestEquivalent(i), max);
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.service.profiler.utility;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate Session 마다 생성되는 listener (hibernate.session.events.auto)
+ * connection 획득 대기 + JDBC 실행 시간을 현재 요청의 DB 구간에 더함
+ * Session 은 한 스레드에서만 쓰이므로 시작 시각을 필드에 둠
+ */
+public class ProfilingSessionListener extends BaseSessionEventListener {
+
+    // FIELD
+    private long acquisitionStart;
+    private long statementStart;
+    private long batchStart;
+
+    // METHOD
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestSample.addDb(System.nanoTime() - acquisitionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSample.addDb(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSample.addDb(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.backend.service.profiler.utility;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 한 건의 구간별 시간
+ * 요청 스레드마다 하나를 만들어 두고 재사용해서 동기 요청 경로에서는 객체를 만들지 않음
+ * 비동기(Mono) 응답은 detach() 로 요청에 넘기고 스레드에는 새 객체를 둠
+ */
+public final class RequestSample {
+
+    private static final ThreadLocal<RequestSample> CURRENT = ThreadLocal.withInitial(RequestSample::new);
+
+    // FIELD
+    private volatile boolean active;
+    private long startNanos;
+    private long handlerNanos;
+    private EndpointStats endpoint;
+    private final AtomicLong dbNanos = new AtomicLong();
+    // 원격 호출은 reactor-netty 스레드에서 더해짐
+    private final AtomicLong remoteNanos = new AtomicLong();
+
+    // METHOD
+    /**
+     * 현재 스레드의 sample 을 초기화하고 측정 시작
+     */
+    public static RequestSample begin() {
+        RequestSample sample = CURRENT.get();
+        sample.startNanos = System.nanoTime();
+        sample.handlerNanos = 0;
+        sample.endpoint = null;
+        sample.dbNanos.set(0);
+        sample.remoteNanos.set(0);
+        sample.active = true;
+        return sample;
+    }
+
+    /**
+     * 측정 중인 요청 스레드가 아니면 null
+     */
+    public static RequestSample current() {
+        RequestSample sample = CURRENT.get();
+        return sample.active ? sample : null;
+    }
+
+    /**
+     * Hibernate JDBC 실행 시간. 요청 스레드 밖(배치, boundedElastic)에서는 무시
+     */
+    public static void addDb(long nanos) {
+        RequestSample sample = CURRENT.get();
+        if(sample.active) sample.dbNanos.addAndGet(nanos);
+    }
+
+    public void addRemote(long nanos) {
+        if(active) remoteNanos.addAndGet(nanos);
+    }
+
+    /**
+     * 컨트롤러 진입 시점. 이전까지가 filter 구간
+     */
+    public void enterHandler(EndpointStats endpoint) {
+        this.handlerNanos = System.nanoTime();
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * 비동기 응답으로 넘어간 요청: 이 객체는 요청이 끝날 때까지 유지하고 스레드에는 새 객체를 둠
+     */
+    public RequestSample detach() {
+        CURRENT.set(new RequestSample());
+        return this;
+    }
+
+    public void end() {
+        active = false;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    // 컨트롤러에 도달하지 못한 요청(404, 인증/요청 제한 거절)은 전체가 filter 구간
+    public long getFilterNanos(long endNanos) {
+        return (handlerNanos != 0 ? handlerNanos : endNanos) - startNanos;
+    }
+
+    public EndpointStats getEndpoint() {
+        return endpoint;
+    }
+
+    public long getDbNanos() {
+        return dbNanos.get();
+    }
+
+    public long getRemoteNanos() {
+        return remoteNanos.get();
+    }
+}
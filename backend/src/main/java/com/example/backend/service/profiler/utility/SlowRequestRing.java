@@ -0,0 +1,95 @@
+package com.example.backend.service.profiler.utility;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 느린 요청 고정 크기 ring buffer
+ * slot 을 미리 만들어 두고 값만 덮어씀. slot 마다 version(seqlock) 으로 읽기 중 덮어쓰기를 감지
+ * 같은 slot 을 두 요청이 동시에 쓰려 하면 늦은 쪽은 버림 (lock 없음)
+ */
+public final class SlowRequestRing {
+
+    // FIELD
+    private final Slot[] slots;
+    private final AtomicLong sequence = new AtomicLong();
+    // clear() 시점의 sequence. 이보다 앞선 기록은 snapshot 에서 제외
+    private volatile long clearedBefore;
+
+    public SlowRequestRing(int capacity) {
+        this.slots = new Slot[Math.max(capacity, 1)];
+        for(int i = 0; i < slots.length; i++) slots[i] = new Slot();
+    }
+
+    // METHOD
+    public void offer(EndpointStats endpoint, String method, String uri, int status, long epochMillis,
+                      long totalNanos, long filterNanos, long dbNanos, long remoteNanos) {
+        long seq = sequence.getAndIncrement();
+        Slot slot = slots[(int) (seq % slots.length)];
+        int version = slot.version.get();
+        if((version & 1) != 0 || !slot.version.compareAndSet(version, version + 1)) return;
+        VarHandle.storeStoreFence();
+
+        slot.sequence = seq;
+        slot.endpoint = endpoint;
+        slot.method = method;
+        slot.uri = uri;
+        slot.status = status;
+        slot.epochMillis = epochMillis;
+        slot.totalNanos = totalNanos;
+        slot.filterNanos = filterNanos;
+        slot.dbNanos = dbNanos;
+        slot.remoteNanos = remoteNanos;
+
+        slot.version.set(version + 2);
+    }
+
+    /**
+     * 쓰는 중이거나 읽는 사이 덮어쓴 slot 은 건너뜀
+     */
+    public List<Entry> snapshot() {
+        long from = clearedBefore;
+        List<Entry> entries = new ArrayList<>(slots.length);
+        for(Slot slot : slots) {
+            int before = slot.version.get();
+            if(before == 0 || (before & 1) != 0) continue;
+
+            long seq = slot.sequence;
+            Entry entry = new Entry(slot.endpoint, slot.method, slot.uri, slot.status, slot.epochMillis,
+                    slot.totalNanos, slot.filterNanos, slot.dbNanos, slot.remoteNanos);
+
+            VarHandle.loadLoadFence();
+            if(slot.version.get() == before && seq >= from) entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * slot 은 건드리지 않고 이후 기록만 보이도록 기준 sequence 를 옮김
+     */
+    public void clear() {
+        clearedBefore = sequence.get();
+    }
+
+    // version 0: 비어 있음, 홀수: 쓰는 중. 값은 계속 증가해서 읽는 사이 덮어쓰기를 놓치지 않음
+    private static final class Slot {
+        final AtomicInteger version = new AtomicInteger();
+        long sequence;
+        EndpointStats endpoint;
+        String method;
+        String uri;
+        int status;
+        long epochMillis;
+        long totalNanos;
+        long filterNanos;
+        long dbNanos;
+        long remoteNanos;
+    }
+
+    public record Entry(EndpointStats endpoint, String method, String uri, int status, long epochMillis,
+                        long totalNanos, long filterNanos, long dbNanos, long remoteNanos) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.backend.service.search;
+
+import com.example.backend.dto.book.AutocompleteStatsResponse;
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.repository.BookRepository;
+import com.example.backend.repository.FavoriteBookRepository;
+import com.example.backend.repository.RecentBookRepository;
+import com.example.backend.service.outbox.OutboxHandler;
+import com.example.backend.service.search.utility.PrefixIndex;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 제목/저자 자동완성
+ * 요청은 메모리의 PrefixIndex 만 조회하고, index 는 CatalogIndexRebuilder 가 백그라운드에서 새로 만들어 교체
+ * 책/즐겨찾기 변경(OutboxRelay)은 인스턴스마다 표시만 해두고 다음 점검 주기에 한 번 다시 만듦
+ */
+@Service
+public class AutocompleteService implements OutboxHandler {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    // FIELD
+    private final FavoriteBookRepository favoriteBookRepository;
+    private final RecentBookRepository recentBookRepository;
+    private final CatalogIndexRebuilder<PrefixIndex> rebuilder;
+
+    public AutocompleteService(BookRepository bookRepository,
+                               FavoriteBookRepository favoriteBookRepository,
+                               RecentBookRepository recentBookRepository) {
+        this.favoriteBookRepository = favoriteBookRepository;
+        this.recentBookRepository = recentBookRepository;
+        this.rebuilder = new CatalogIndexRebuilder<>("autocomplete", bookRepository, PrefixIndex.empty(), this::newBuild,
+                index -> index.size() + " entries, ~" + index.estimatedBytes() / (1024 * 1024) + " MB");
+    }
+
+    // METHOD
+    public List<PrefixIndex.Suggestion> suggest(String prefix, int size) {
+        return rebuilder.snapshot().index().suggest(prefix, Math.min(Math.max(size, 1), MAX_SUGGESTIONS));
+    }
+
+    public AutocompleteStatsResponse getStats() {
+        CatalogIndexRebuilder.Snapshot<PrefixIndex> current = rebuilder.snapshot();
+        return AutocompleteStatsResponse.builder()
+                .entries(current.index().size())
+                .estimatedBytes(current.index().estimatedBytes())
+                .buildMillis(current.buildMillis())
+                .builtAt(current.builtAt())
+                .rebuilding(rebuilder.isRebuilding())
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestRebuild() {
+        rebuilder.requestRebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${autocomplete.refresh-check-ms:300000}", initialDelayString = "${autocomplete.refresh-check-ms:300000}")
+    public void refreshIfCatalogChanged() {
+        rebuilder.refreshIfCatalogChanged();
+    }
+
+    @Override
+    public boolean supports(OutboxAggregate aggregate) {
+        return aggregate == OutboxAggregate.BOOK || aggregate == OutboxAggregate.FAVORITE_BOOK;
+    }
+
+    @Override
+    public boolean isPerInstance() {
+        return true;
+    }
+
+    @Override
+    public void apply(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted) {
+        rebuilder.markStale();
+    }
+
+    @Override
+    public void reconcile() {
+        rebuilder.markStale();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdown();
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // 즐겨찾기 2점, 최근 본 책 1점
+    private CatalogIndexRebuilder.Build<PrefixIndex> newBuild() {
+        Map<Long, Integer> popularity = new HashMap<>();
+        for(Object[] row : favoriteBookRepository.countGroupByBook()) {
+            popularity.merge((Long) row[0], 2 * ((Long) row[1]).intValue(), Integer::sum);
+        }
+        for(Object[] row : recentBookRepository.countGroupByBook()) {
+            popularity.merge((Long) row[0], ((Long) row[1]).intValue(), Integer::sum);
+        }
+
+        PrefixIndex.Builder builder = PrefixIndex.builder();
+        return new CatalogIndexRebuilder.Build<>() {
+            @Override
+            public void add(BookRepository.TitleAuthor book) {
+                int score = popularity.getOrDefault(book.getId(), 0);
+                if(book.getTitle() != null) builder.add(book.getTitle(), PrefixIndex.TITLE, book.getId(), score);
+                if(book.getAuthor() != null) builder.add(book.getAuthor(), PrefixIndex.AUTHOR, book.getId(), score);
+            }
+
+            @Override
+            public PrefixIndex build() {
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.backend.service.search;
+
+import com.example.backend.dto.book.BookFacetSearchResponse;
+import com.example.backend.dto.book.BookSearchItem;
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.book.BookChangedEvent;
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.repository.BookRepository;
+import com.example.backend.service.book.BookCatalogCache;
+import com.example.backend.service.book.utility.BookSnapshot;
+import com.example.backend.service.outbox.OutboxHandler;
+import com.example.backend.service.search.engine.BookSearchEngine;
+import com.example.backend.service.search.utility.FacetIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * facet 필터 + 건수
+ * 시작할 때 Book 전체로 FacetIndex 를 한 번 만들고, 이후에는 BookChangedEvent 로 변경된 책만 반영
+ * 다른 인스턴스에서 바뀐 책은 OutboxRelay 가 모든 인스턴스에 전달하므로 DB 에서 다시 읽어 반영
+ * 놓친 이벤트가 있을 수 있으므로 reconcile 때 새 FacetIndex 를 만들어 교체하고, 만드는 동안 바뀐 책은 교체 후 다시 읽어 반영
+ * 검색어가 있으면 검색 엔진의 관련도 상위 MAX_KEYWORD_HITS 건을 범위로, 없으면 카탈로그 전체를 id 순으로 탐색
+ */
+@Slf4j
+@Service
+public class BookFacetService implements OutboxHandler {
+
+    public static final String AUTHOR = "author";
+    public static final String LANGUAGE = "language";
+    public static final String DECADE = "decade";
+    public static final String RIGHTS = "rights";
+
+    public static final int MAX_KEYWORD_HITS = 10_000;
+    public static final int FACET_LIMIT = 20;
+    private static final int PAGE_SIZE = 10_000;
+
+    // FIELD
+    private final BookRepository bookRepository;
+    private final BookSearchEngine bookSearchEngine;
+    private final BookCatalogCache bookCatalogCache;
+
+    private volatile FacetIndex facetIndex = newIndex();
+    // reconcile 로 새 index 를 만드는 동안 바뀐 id. 교체와 변경 반영은 this 로 동기화
+    private Set<Long> changedDuringRebuild;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "facet-build");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BookFacetService(BookRepository bookRepository, BookSearchEngine bookSearchEngine, BookCatalogCache bookCatalogCache) {
+        this.bookRepository = bookRepository;
+        this.bookSearchEngine = bookSearchEngine;
+        this.bookCatalogCache = bookCatalogCache;
+    }
+
+    // METHOD
+
+    /**
+     * @param selections facet 이름 -> 선택 값. 같은 facet 은 OR, facet 끼리는 AND
+     * @param cursor     검색어가 있으면 관련도 순위 위치, 없으면 마지막 book id
+     */
+    public BookFacetSearchResponse search(String keyword, Language language, Map<String, List<String>> selections,
+                                          String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), BookSearchService.MAX_PAGE_SIZE);
+        long position = parseCursor(cursor);
+
+        long[] ranked = null;
+        RoaringBitmap base = null;
+        if(StringUtils.hasText(keyword)) {
+            ranked = bookSearchEngine.searchIds(keyword, language, MAX_KEYWORD_HITS);
+            base = new RoaringBitmap();
+            for(long id : ranked) {
+                if(fitsInt(id)) base.add((int) id);
+            }
+        }
+
+        FacetIndex.Result result = facetIndex.query(base, selections, FACET_LIMIT);
+        RoaringBitmap matched = result.matched();
+
+        List<Long> pageIds = new ArrayList<>(pageSize);
+        String nextCursor = null;
+        if(ranked != null) {
+            int index = (int) Math.min(Math.max(position, 0), ranked.length);
+            for(; index < ranked.length && pageIds.size() < pageSize; index++) {
+                if(fitsInt(ranked[index]) && matched.contains((int) ranked[index])) pageIds.add(ranked[index]);
+            }
+            if(pageIds.size() == pageSize && index < ranked.length) nextCursor = String.valueOf(index);
+        } else {
+            PeekableIntIterator iterator = matched.getIntIterator();
+            if(position >= 0) iterator.advanceIfNeeded((int) Math.min(position + 1, Integer.MAX_VALUE));
+            while(iterator.hasNext() && pageIds.size() < pageSize) {
+                pageIds.add((long) iterator.next());
+            }
+            if(pageIds.size() == pageSize && iterator.hasNext()) nextCursor = String.valueOf(pageIds.get(pageIds.size() - 1));
+        }
+
+        return BookFacetSearchResponse.builder()
+                .books(load(pageIds))
+                .totalHits(matched.getLongCardinality())
+                .nextCursor(nextCursor)
+                .facets(result.counts())
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        update(event.saved());
+        remove(event.removedIds());
+    }
+
+    @Override
+    public boolean supports(OutboxAggregate aggregate) {
+        return aggregate == OutboxAggregate.BOOK;
+    }
+
+    @Override
+    public boolean isPerInstance() {
+        return true;
+    }
+
+    /**
+     * 변경된 책을 DB 에서 다시 읽어 반영. 이벤트 이후 삭제되어 없는 책은 삭제로 처리
+     */
+    @Override
+    public synchronized void apply(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted) {
+        List<Book> books = upserted.isEmpty() ? List.of() : bookRepository.findAllById(upserted);
+        Set<Long> removed = new HashSet<>(upserted);
+        books.forEach(book -> removed.remove(book.getId()));
+        removed.addAll(deleted);
+
+        update(books);
+        remove(removed);
+    }
+
+    @Override
+    public void reconcile() {
+        executor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changedDuringRebuild = null;
+                }
+                log.error("facet index rebuild failed", e);
+            }
+        });
+    }
+
+    /**
+     * 추가/수정된 책 반영
+     */
+    public synchronized void update(Collection<Book> books) {
+        put(facetIndex, books);
+        if(changedDuringRebuild != null) books.forEach(book -> changedDuringRebuild.add(book.getId()));
+    }
+
+    public synchronized void remove(Collection<Long> bookIds) {
+        for(Long bookId : bookIds) {
+            if(fitsInt(bookId)) facetIndex.remove(bookId.intValue());
+        }
+        if(changedDuringRebuild != null) changedDuringRebuild.addAll(bookIds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestBuild() {
+        executor.execute(() -> {
+            try {
+                build();
+            } catch (RuntimeException e) {
+                log.error("facet index build failed", e);
+            }
+        });
+    }
+
+    void build() {
+        long start = System.currentTimeMillis();
+        FacetIndex index = facetIndex;
+        fill(index);
+        log.info("facet index built: {} books, ~{} MB, {} ms",
+                index.size(), index.estimatedBytes() / (1024 * 1024), System.currentTimeMillis() - start);
+    }
+
+    // 새 index 를 DB 에서 만들어 교체. 삭제된 책이나 놓친 수정도 이때 맞춰짐
+    void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        FacetIndex fresh = newIndex();
+        fill(fresh);
+        Set<Long> changed;
+        synchronized (this) {
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            facetIndex = fresh;
+        }
+        if(!changed.isEmpty()) apply(OutboxAggregate.BOOK, changed, Set.of());
+        log.info("facet index rebuilt: {} books, ~{} MB, {} ms",
+                fresh.size(), fresh.estimatedBytes() / (1024 * 1024), System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private void fill(FacetIndex index) {
+        long lastId = Long.MIN_VALUE;
+        while(true) {
+            List<Book> books = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(PAGE_SIZE));
+            if(books.isEmpty()) break;
+            put(index, books);
+            lastId = books.get(books.size() - 1).getId();
+        }
+    }
+
+    private static void put(FacetIndex index, Collection<Book> books) {
+        for(Book book : books) {
+            if(book.getId() != null && fitsInt(book.getId())) {
+                index.put(book.getId().intValue(), values(book));
+            }
+        }
+    }
+
+    private static FacetIndex newIndex() {
+        return new FacetIndex(List.of(AUTHOR, LANGUAGE, DECADE, RIGHTS));
+    }
+
+    static String[] values(Book book) {
+        return new String[]{
+                StringUtils.hasText(book.getAuthor()) ? book.getAuthor().trim() : null,
+                book.getLanguage() != null ? book.getLanguage().name() : null,
+                book.getPublicationYear() != null ? (book.getPublicationYear() / 10 * 10) + "s" : null,
+                book.getRightsStatus() != null ? book.getRightsStatus().name() : null
+        };
+    }
+
+    private List<BookSearchItem> load(List<Long> ids) {
+        Map<Long, BookSnapshot> books = bookCatalogCache.getAll(ids);
+        List<BookSearchItem> items = new ArrayList<>(ids.size());
+        for(Long id : ids) {
+            BookSnapshot book = books.get(id);
+            if(book == null) continue;
+            items.add(BookSearchItem.builder()
+                    .id(book.id())
+                    .title(book.title())
+                    .author(book.author())
+                    .build());
+        }
+        return items;
+    }
+
+    private static long parseCursor(String cursor) {
+        if(!StringUtils.hasText(cursor)) return -1;
+        try {
+            long position = Long.parseLong(cursor);
+            if(position < 0) throw new NumberFormatException();
+            return position;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+
+    private static boolean fitsInt(long id) {
+        return id >= 0 && id <= Integer.MAX_VALUE;
+    }
+}
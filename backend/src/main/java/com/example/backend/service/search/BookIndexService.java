@@ -0,0 +1,472 @@
+package com.example.backend.service.search;
+
+import com.example.backend.dto.book.BookReindexStatusResponse;
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.book.BookReindexChange;
+import com.example.backend.entity.book.BookReindexCheckpoint;
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.repository.BookReindexChangeRepository;
+import com.example.backend.repository.BookReindexCheckpointRepository;
+import com.example.backend.repository.BookRepository;
+import com.example.backend.service.outbox.OutboxHandler;
+import com.example.backend.service.search.engine.BookSearchEngine;
+import com.example.backend.service.search.engine.IndexBuild;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Book 테이블 전체 재색인
+ * id 범위를 partition 으로 나눠 여러 worker 가 keyset pagination 으로 읽고 BULK_SIZE 단위로 새 인덱스(IndexBuild)에 씀
+ * partition 마다 CHECKPOINT_INTERVAL bulk 마다 flush 후 checkpoint 를 저장해서, 실패 후 다시 시작하면 같은 build 를 이어서 색인
+ * 모든 partition 이 끝나면 검색 대상을 새 인덱스로 한 번에 교체하므로 검색에는 완성된 인덱스만 보임
+ * 책 단건 변경은 OutboxRelay 가 모아서 전달 (apply). 끝나지 않은 build 가 있으면 바뀐 id 를 book_reindex_change 에 남기고
+ * 모든 partition 이 끝난 뒤 DB 에서 다시 읽어 새 인덱스에 반영 (catch-up). 계획 당시 maxId 이후에 생긴 책도 이때 색인
+ * partition 이 읽은 옛 내용이 나중에 쓰여도 catch-up 이 마지막에 덮으므로, 중단/재시작 중에 바뀐 책도 publish 전에 최신으로 맞춰짐
+ * 끝나지 않은 build 가 있는지는 check-ms 주기로 checkpoint 를 보고 메모리에 기억 (apply 마다 조회하지 않음)
+ * 그래서 새 build 는 다른 인스턴스가 알아챌 때까지 check-ms 만큼 기다린 뒤 partition 을 읽기 시작
+ * abandon-after-ms 동안 checkpoint 가 갱신되지 않은 build 는 버림 (checkpoint, 변경 기록, 만들던 인덱스 삭제)
+ */
+@Slf4j
+@Service
+public class BookIndexService implements OutboxHandler {
+
+    public static final int BULK_SIZE = 1000;
+    public static final int CHECKPOINT_INTERVAL = 10;
+
+    private static final DateTimeFormatter BUILD_ID = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    // FIELD
+    private final BookRepository bookRepository;
+    private final BookReindexCheckpointRepository checkpointRepository;
+    private final BookReindexChangeRepository changeRepository;
+    private final BookSearchEngine bookSearchEngine;
+    private final SearchResultCache searchResultCache;
+    private final int partitions;
+    private final int parallelism;
+    private final long checkMillis;
+    private final long abandonAfterMillis;
+
+    // 끝나지 않은 build 가 있음 (다른 인스턴스/중단된 build 포함). 시작 직후 첫 점검 전에는 있다고 가정
+    private volatile boolean buildPending = true;
+    // 작업 조율 1 + partition worker
+    private final ExecutorService executor;
+    private final AtomicReference<ReindexProgress> current = new AtomicReference<>();
+
+    public BookIndexService(BookRepository bookRepository,
+                            BookReindexCheckpointRepository checkpointRepository,
+                            BookReindexChangeRepository changeRepository,
+                            BookSearchEngine bookSearchEngine,
+                            SearchResultCache searchResultCache,
+                            @Value("${search.reindex.partitions:16}") int partitions,
+                            @Value("${search.reindex.parallelism:4}") int parallelism,
+                            @Value("${search.reindex.check-ms:10000}") long checkMillis,
+                            @Value("${search.reindex.abandon-after-ms:86400000}") long abandonAfterMillis) {
+        this.bookRepository = bookRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.changeRepository = changeRepository;
+        this.bookSearchEngine = bookSearchEngine;
+        this.searchResultCache = searchResultCache;
+        this.partitions = Math.max(partitions, 1);
+        this.parallelism = Math.max(parallelism, 1);
+        this.checkMillis = Math.max(checkMillis, 0);
+        this.abandonAfterMillis = abandonAfterMillis;
+        this.executor = Executors.newFixedThreadPool(this.parallelism + 1, runnable -> {
+            Thread thread = new Thread(runnable, "book-reindex");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // METHOD
+
+    /**
+     * 백그라운드로 재색인 시작. 끝나지 않은 build 의 checkpoint 가 있으면 이어서 진행. 이미 진행 중이면 예외
+     */
+    public BookReindexStatusResponse start() {
+        ReindexProgress progress = begin();
+        executor.execute(() -> reindex(progress));
+        return progress.toResponse();
+    }
+
+    /**
+     * 호출 스레드에서 끝날 때까지 재색인 (worker 는 병렬)
+     * @return 이번 실행에서 색인된 문서 수
+     */
+    public long indexAll() {
+        ReindexProgress progress = begin();
+        reindex(progress);
+        Exception e = progress.error.get();
+        if(e != null) {
+            throw new IllegalStateException("재색인에 실패했습니다: " + e.getMessage(), e);
+        }
+        return progress.indexedBooks.get();
+    }
+
+    public BookReindexStatusResponse getStatus() {
+        ReindexProgress progress = current.get();
+        return progress != null ? progress.toResponse() : null;
+    }
+
+    /**
+     * 끝나지 않은 build 를 버림. checkpoint 와 변경 기록을 지우고 만들던 인덱스를 삭제. 이 인스턴스에서 진행 중이면 예외
+     */
+    public synchronized void abandon() {
+        ReindexProgress progress = current.get();
+        if(progress != null && progress.running) {
+            throw new IllegalArgumentException("재색인이 진행 중입니다.");
+        }
+        List<BookReindexCheckpoint> saved = checkpointRepository.findAllByOrderByModifiedDateDesc();
+        saved.stream().map(BookReindexCheckpoint::getBuildId).distinct().forEach(bookSearchEngine::discardBuild);
+        checkpointRepository.deleteAllInBatch(saved);
+        changeRepository.deleteAllInBatch();
+        buildPending = false;
+        log.info("book reindex abandoned: builds {}", saved.stream().map(BookReindexCheckpoint::getBuildId).distinct().toList());
+    }
+
+    /**
+     * 끝나지 않은 build 가 있는지 다시 확인하고, abandon-after-ms 동안 진행이 없던 build 는 버림
+     */
+    @Scheduled(fixedDelayString = "${search.reindex.check-ms:10000}")
+    public void checkPendingBuild() {
+        ReindexProgress progress = current.get();
+        if(progress != null && progress.running) return;
+
+        BookReindexCheckpoint latest = checkpointRepository.findFirstByOrderByModifiedDateDesc().orElse(null);
+        buildPending = latest != null;
+        if(latest == null || abandonAfterMillis < 0) return;
+
+        LocalDateTime expired = LocalDateTime.now().minus(abandonAfterMillis, ChronoUnit.MILLIS);
+        if(latest.getModifiedDate() == null || latest.getModifiedDate().isBefore(expired)) {
+            log.warn("book reindex build {} has not progressed since {}, abandoning", latest.getBuildId(), latest.getModifiedDate());
+            try {
+                abandon();
+            } catch (IllegalArgumentException e) {
+                // 점검 사이에 이 인스턴스에서 재색인이 시작됨
+            }
+        }
+    }
+
+    @Override
+    public boolean supports(OutboxAggregate aggregate) {
+        return aggregate == OutboxAggregate.BOOK;
+    }
+
+    /**
+     * 변경된 책을 DB 에서 다시 읽어 색인. 이벤트 이후 삭제되어 없는 책은 삭제로 처리
+     * 끝나지 않은 build 가 있으면 (다른 인스턴스/중단된 build 포함) 색인 전에 바뀐 id 를 먼저 기록
+     */
+    @Override
+    public void apply(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted) {
+        if(buildPending) {
+            recordChanges(upserted, deleted);
+        }
+
+        List<Book> books = upserted.isEmpty() ? List.of() : bookRepository.findAllById(upserted);
+        Set<Long> removed = new HashSet<>(upserted);
+        books.forEach(book -> removed.remove(book.getId()));
+        removed.addAll(deleted);
+        // 색인 전에 이미 있던 책은 수정
+        Set<Long> edited = bookSearchEngine.existingIds(books.stream().map(Book::getId).toList());
+
+        bookSearchEngine.index(books);
+        bookSearchEngine.delete(removed);
+        bookSearchEngine.refresh();
+
+        // 새 책은 어느 캐시된 결과에 들어갈지 역색인으로 알 수 없으므로, 새 책이나 삭제가 있을 때만 generation 을 올려 전체를 새로 채움
+        // 수정만 있으면 그 책이 포함된 결과만 무효화 (ingest/편집마다 모든 인스턴스의 캐시를 비우지 않음)
+        if(edited.size() < books.size() || !removed.isEmpty()) {
+            searchResultCache.advanceGeneration();
+        } else {
+            searchResultCache.invalidateBooks(edited);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized ReindexProgress begin() {
+        ReindexProgress progress = new ReindexProgress(parallelism);
+        ReindexProgress previous = current.get();
+        if((previous != null && previous.running) || !current.compareAndSet(previous, progress)) {
+            throw new IllegalArgumentException("이미 재색인이 진행 중입니다.");
+        }
+        return progress;
+    }
+
+    void reindex(ReindexProgress progress) {
+        try {
+            List<BookReindexCheckpoint> checkpoints = loadOrPlan(progress);
+            buildPending = true;
+            // 새 build 면 다른 인스턴스가 변경을 기록하기 시작한 뒤에 읽어야 그 사이 변경을 놓치지 않음
+            if(progress.planned && checkMillis > 0) Thread.sleep(checkMillis);
+            IndexBuild build = bookSearchEngine.openBuild(progress.buildId);
+            progress.target = build.name();
+
+            List<Future<?>> futures = new ArrayList<>();
+            for(BookReindexCheckpoint checkpoint : checkpoints) {
+                if(checkpoint.isCompleted()) continue;
+                futures.add(executor.submit(() -> indexPartition(build, checkpoint, progress)));
+            }
+            for(Future<?> future : futures) {
+                future.get();
+            }
+            if(progress.error.get() != null) return;
+
+            // partition 이 읽은 뒤에 바뀌었거나 계획 이후 새로 생긴 책을 최신 내용으로 덮어씀
+            long maxUpperId = checkpoints.stream().mapToLong(BookReindexCheckpoint::getUpperId).max().orElse(0);
+            indexNewBooks(build, maxUpperId, progress);
+            catchUp(build, progress);
+            build.flush();
+
+            build.publish();
+            checkpointRepository.deleteAll(checkpoints);
+            buildPending = false;
+            // catch-up 이후 publish 전까지 기록된 변경. checkpoint 를 지운 뒤의 변경은 apply 가 새 인덱스에 바로 반영
+            catchUp(null, progress);
+            changeRepository.deleteAllInBatch();
+            searchResultCache.invalidateAll();
+            progress.published = true;
+        } catch (ExecutionException e) {
+            progress.fail(e.getCause() instanceof Exception cause ? cause : e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.fail(e);
+        } catch (Exception e) {
+            progress.fail(e);
+        } finally {
+            progress.finish();
+            log.info("book reindex finished: build {} {} documents in {} ms ({} docs/sec, published {})",
+                    progress.buildId, progress.indexedBooks.get(), progress.elapsedMillis(),
+                    String.format("%.1f", progress.booksPerSecond()), progress.published);
+        }
+    }
+
+    // ***** <<<<<PARTITION>>>>> ***** //
+    // 가장 최근 미완료 build 의 checkpoint. 없으면 [minId, maxId] 를 같은 폭으로 나눠 새로 생성
+    private List<BookReindexCheckpoint> loadOrPlan(ReindexProgress progress) {
+        progress.totalBooks = bookRepository.count();
+
+        List<BookReindexCheckpoint> saved = checkpointRepository.findAllByOrderByModifiedDateDesc();
+        if(!saved.isEmpty()) {
+            String buildId = saved.get(0).getBuildId();
+            List<BookReindexCheckpoint> stale = saved.stream().filter(c -> !buildId.equals(c.getBuildId())).toList();
+            if(!stale.isEmpty()) {
+                stale.stream().map(BookReindexCheckpoint::getBuildId).distinct().forEach(bookSearchEngine::discardBuild);
+                checkpointRepository.deleteAll(stale);
+            }
+
+            List<BookReindexCheckpoint> checkpoints = checkpointRepository.findByBuildIdOrderByPartitionNoAsc(buildId);
+            progress.buildId = buildId;
+            progress.partitions = checkpoints.size();
+            for(BookReindexCheckpoint checkpoint : checkpoints) {
+                progress.resumedBooks += checkpoint.getIndexedBooks();
+                if(checkpoint.isCompleted()) progress.completedPartitions.incrementAndGet();
+            }
+            log.info("book reindex resumed: build {} ({} of {} partitions done, {} documents)",
+                    buildId, progress.completedPartitions.get(), checkpoints.size(), progress.resumedBooks);
+            return checkpoints;
+        }
+
+        progress.buildId = LocalDateTime.now().format(BUILD_ID);
+        progress.planned = true;
+        // 이전 build 에서 남은 변경 기록은 새 build 가 처음부터 다시 읽으므로 필요 없음
+        changeRepository.deleteAllInBatch();
+        Long minId = bookRepository.findMinId();
+        Long maxId = bookRepository.findMaxId();
+        List<BookReindexCheckpoint> checkpoints = new ArrayList<>();
+        if(minId != null && maxId != null) {
+            long lower = minId - 1;
+            long width = Math.max(1, (maxId - lower + partitions - 1) / partitions);
+            for(int no = 0; lower < maxId; no++) {
+                long upper = no == partitions - 1 ? maxId : Math.min(maxId, lower + width);
+                checkpoints.add(BookReindexCheckpoint.builder()
+                        .buildId(progress.buildId)
+                        .partitionNo(no)
+                        .lowerId(lower)
+                        .upperId(upper)
+                        .lastId(lower)
+                        .modifiedDate(LocalDateTime.now())
+                        .build());
+                lower = upper;
+            }
+        }
+        progress.partitions = checkpoints.size();
+        return checkpointRepository.saveAll(checkpoints);
+    }
+
+    private void indexPartition(IndexBuild build, BookReindexCheckpoint checkpoint, ReindexProgress progress) {
+        try {
+            long lastId = checkpoint.getLastId();
+            long indexed = checkpoint.getIndexedBooks();
+            int bulks = 0;
+
+            while(progress.error.get() == null) {
+                List<Book> books = bookRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                        lastId, checkpoint.getUpperId(), PageRequest.ofSize(BULK_SIZE));
+                if(books.isEmpty()) break;
+
+                build.index(books);
+
+                lastId = books.get(books.size() - 1).getId();
+                indexed += books.size();
+                progress.indexedBooks.addAndGet(books.size());
+                if(++bulks % CHECKPOINT_INTERVAL == 0) {
+                    build.flush();
+                    save(checkpoint, lastId, indexed, false);
+                }
+            }
+            if(progress.error.get() != null) return;
+
+            build.flush();
+            save(checkpoint, lastId, indexed, true);
+            progress.completedPartitions.incrementAndGet();
+        } catch (RuntimeException e) {
+            progress.fail(e);
+        }
+    }
+
+    // ***** <<<<<CATCH-UP>>>>> ***** //
+    // 계획 당시 maxId 이후에 생긴 책
+    private void indexNewBooks(IndexBuild build, long afterId, ReindexProgress progress) {
+        long lastId = afterId;
+        List<Book> books;
+        while(!(books = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(BULK_SIZE))).isEmpty()) {
+            build.index(books);
+            lastId = books.get(books.size() - 1).getId();
+            progress.indexedBooks.addAndGet(books.size());
+        }
+    }
+
+    // 기록된 변경을 id 순으로 읽어 DB 의 현재 내용으로 색인하고 처리한 기록은 삭제. 없어진 책은 삭제
+    // build 가 null 이면 publish 된 검색 엔진에 반영
+    private void catchUp(IndexBuild build, ReindexProgress progress) {
+        List<BookReindexChange> changes;
+        while(!(changes = changeRepository.findAllByOrderByIdAsc(PageRequest.ofSize(BULK_SIZE))).isEmpty()) {
+            Set<Long> ids = new HashSet<>();
+            changes.forEach(change -> ids.add(change.getBookId()));
+
+            List<Book> books = bookRepository.findAllById(ids);
+            books.forEach(book -> ids.remove(book.getId()));
+            if(build != null) {
+                build.index(books);
+                build.delete(ids);
+            } else {
+                bookSearchEngine.index(books);
+                bookSearchEngine.delete(ids);
+                bookSearchEngine.refresh();
+            }
+
+            progress.indexedBooks.addAndGet(books.size());
+            changeRepository.deleteAllInBatch(changes);
+        }
+    }
+
+    private void recordChanges(Set<Long> upserted, Set<Long> deleted) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BookReindexChange> changes = new ArrayList<>(upserted.size() + deleted.size());
+        for(Long id : upserted) changes.add(BookReindexChange.builder().bookId(id).createdDate(now).build());
+        for(Long id : deleted) changes.add(BookReindexChange.builder().bookId(id).createdDate(now).build());
+        changeRepository.saveAll(changes);
+    }
+
+    // flush 이후에만 호출. checkpoint 가 인덱스보다 앞서지 않음
+    private void save(BookReindexCheckpoint checkpoint, long lastId, long indexed, boolean completed) {
+        checkpoint.setLastId(lastId);
+        checkpoint.setIndexedBooks(indexed);
+        checkpoint.setCompleted(completed);
+        checkpoint.setModifiedDate(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    static class ReindexProgress {
+        final int parallelism;
+        final long startedAt = System.currentTimeMillis();
+        final AtomicLong indexedBooks = new AtomicLong();
+        final AtomicInteger completedPartitions = new AtomicInteger();
+        final AtomicReference<Exception> error = new AtomicReference<>();
+        volatile String buildId;
+        volatile String target;
+        volatile int partitions;
+        volatile long totalBooks;
+        volatile long resumedBooks;
+        volatile long finishedAt;
+        volatile boolean published;
+        volatile boolean planned;
+        volatile boolean running = true;
+
+        ReindexProgress(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        void fail(Exception e) {
+            if(error.compareAndSet(null, e)) {
+                log.error("book reindex failed: build {}", buildId, e);
+            }
+        }
+
+        void finish() {
+            finishedAt = System.currentTimeMillis();
+            running = false;
+        }
+
+        long elapsedMillis() {
+            return (running ? System.currentTimeMillis() : finishedAt) - startedAt;
+        }
+
+        double booksPerSecond() {
+            long elapsed = elapsedMillis();
+            return elapsed > 0 ? indexedBooks.get() * 1000.0 / elapsed : 0;
+        }
+
+        // 이번 실행의 처리 속도로 남은 문서 수를 나눔
+        Long etaMillis() {
+            if(!running) return 0L;
+            double rate = booksPerSecond();
+            if(rate <= 0) return null;
+            long remaining = Math.max(0, totalBooks - resumedBooks - indexedBooks.get());
+            return (long) (remaining / rate * 1000);
+        }
+
+        BookReindexStatusResponse toResponse() {
+            Exception e = error.get();
+            return BookReindexStatusResponse.builder()
+                    .buildId(buildId)
+                    .target(target)
+                    .running(running)
+                    .published(published)
+                    .parallelism(parallelism)
+                    .partitions(partitions)
+                    .completedPartitions(completedPartitions.get())
+                    .totalBooks(totalBooks)
+                    .resumedBooks(resumedBooks)
+                    .indexedBooks(indexedBooks.get())
+                    .elapsedMillis(elapsedMillis())
+                    .booksPerSecond(booksPerSecond())
+                    .etaMillis(etaMillis())
+                    .error(e != null ? e.getMessage() : null)
+                    .build();
+        }
+    }
+}
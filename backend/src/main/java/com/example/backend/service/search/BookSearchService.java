@@ -0,0 +1,119 @@
+package com.example.backend.service.search;
+
+import com.example.backend.dto.book.BookSearchResponse;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.service.search.engine.BookSearchEngine;
+import com.example.backend.service.search.engine.SearchAfter;
+import com.example.backend.service.search.engine.SearchPage;
+import com.example.backend.security.utility.TierTimers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+public class BookSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // FIELD
+    private final BookSearchEngine bookSearchEngine;
+    private final FuzzySearchService fuzzySearchService;
+    private final SearchResultCache searchResultCache;
+
+    // search.query{mode, tier}: 캐시 적중까지 포함한 사용자 체감 시간
+    private final TierTimers matchTimers;
+    private final TierTimers fuzzyTimers;
+
+    public BookSearchService(BookSearchEngine bookSearchEngine,
+                             FuzzySearchService fuzzySearchService,
+                             SearchResultCache searchResultCache,
+                             MeterRegistry meterRegistry) {
+        this.bookSearchEngine = bookSearchEngine;
+        this.fuzzySearchService = fuzzySearchService;
+        this.searchResultCache = searchResultCache;
+        this.matchTimers = new TierTimers(meterRegistry, "search.query", "도서 검색 처리 시간", Tags.of("mode", "match"));
+        this.fuzzyTimers = new TierTimers(meterRegistry, "search.query", "도서 검색 처리 시간", Tags.of("mode", "fuzzy"));
+    }
+
+    // METHOD
+
+    public BookSearchResponse search(String keyword, String cursor, int size) {
+        return search(keyword, cursor, size, Language.EN, false);
+    }
+
+    /**
+     * 제목/저자 관련도 검색
+     * from/size 대신 (score, id) 정렬값을 cursor 로 넘겨 search_after 로 다음 페이지를 조회
+     * 정규화한 검색어 + cursor + size + 언어 + 모드 단위로 SearchResultCache 를 거침
+     * @param fuzzy true 면 검색 엔진 대신 오타 허용 검색 (FuzzySearchService)
+     */
+    public BookSearchResponse search(String keyword, String cursor, int size, Language language, boolean fuzzy) {
+        if(!StringUtils.hasText(keyword)) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        SearchAfter after = decodeCursor(cursor);
+
+        String mode = fuzzy ? "fuzzy" : "match";
+        String key = SearchResultCache.key(normalizeQuery(keyword), cursor, pageSize, language.name(), mode);
+        Timer timer = (fuzzy ? fuzzyTimers : matchTimers).current();
+        long start = System.nanoTime();
+        try {
+            return searchResultCache.get(key, () -> doSearch(keyword, language, after, pageSize, fuzzy));
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private BookSearchResponse doSearch(String keyword, Language language, SearchAfter after, int pageSize, boolean fuzzy) {
+        SearchPage page = fuzzy
+                ? fuzzySearchService.search(keyword, after, pageSize)
+                : bookSearchEngine.search(keyword, language, after, pageSize);
+        return BookSearchResponse.builder()
+                .books(page.books())
+                .totalHits(page.totalHits())
+                .nextCursor(page.last() != null ? encodeCursor(page.last()) : null)
+                .build();
+    }
+
+    // 분석기가 결과를 바꾸지 않는 차이(대소문자, 공백, 유니코드 조합형)만 정규화해서 캐시 key 로 사용
+    static String normalizeQuery(String keyword) {
+        String composed = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // ***** <<<<<CURSOR>>>>> ***** //
+    // 정렬값 (score, id) 를 "score:id" 문자열로 만들어 URL-safe Base64 로 인코딩
+    static String encodeCursor(SearchAfter after) {
+        String raw = after.score() + ":" + after.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SearchAfter decodeCursor(String cursor) {
+        if(!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(':');
+            float score = Float.parseFloat(raw.substring(0, idx));
+            long id = Long.parseLong(raw.substring(idx + 1));
+            return new SearchAfter(score, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.service.search;
+
+import com.example.backend.repository.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 카탈로그 제목/저자로 만드는 메모리 index 의 백그라운드 rebuild (AutocompleteService, FuzzySearchService)
+ * 요청은 snapshot 만 읽고, rebuild 는 전용 스레드에서 Book 의 id/제목/저자만 keyset 으로 읽어 새로 만든 뒤 참조를 통째로 교체
+ * 변경 이벤트는 stale 표시만 하고, 점검 때 표시가 있거나 카탈로그 건수/최대 id 가 바뀌었으면 한 번 다시 만듦
+ */
+@Slf4j
+class CatalogIndexRebuilder<T> {
+
+    private static final int PAGE_SIZE = 10_000;
+
+    // FIELD
+    private final String name;
+    private final BookRepository bookRepository;
+    private final Supplier<Build<T>> newBuild;
+    private final Function<T, String> describe;
+
+    private volatile Snapshot<T> snapshot;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // 마지막 rebuild 이후 index 내용이 바뀜. 건수/최대 id 로는 알 수 없는 수정도 포함
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private final ExecutorService executor;
+
+    /**
+     * @param newBuild rebuild 마다 새 Build. 책 외의 데이터(인기도 등)는 여기서 미리 읽음
+     * @param describe 로그용 index 크기
+     */
+    CatalogIndexRebuilder(String name, BookRepository bookRepository, T empty,
+                          Supplier<Build<T>> newBuild, Function<T, String> describe) {
+        this.name = name;
+        this.bookRepository = bookRepository;
+        this.newBuild = newBuild;
+        this.describe = describe;
+        this.snapshot = new Snapshot<>(empty, null, 0, null);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // METHOD
+    Snapshot<T> snapshot() {
+        return snapshot;
+    }
+
+    boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    void markStale() {
+        stale.set(true);
+    }
+
+    void requestRebuild() {
+        if(!rebuilding.compareAndSet(false, true)) return;
+        executor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                stale.set(true);
+                log.error("{} index rebuild failed", name, e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    void refreshIfCatalogChanged() {
+        if(stale.get() || !Objects.equals(catalogVersion(), snapshot.catalogVersion())) {
+            requestRebuild();
+        }
+    }
+
+    void rebuild() {
+        long start = System.currentTimeMillis();
+        // 읽기 전에 내려야 rebuild 도중 들어온 변경이 다음 주기에 반영됨
+        stale.set(false);
+        String version = catalogVersion();
+
+        Build<T> build = newBuild.get();
+        long lastId = Long.MIN_VALUE;
+        while(true) {
+            List<BookRepository.TitleAuthor> books = bookRepository.findTitleAuthorByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(PAGE_SIZE));
+            if(books.isEmpty()) break;
+            books.forEach(build::add);
+            lastId = books.get(books.size() - 1).getId();
+        }
+
+        T index = build.build();
+        long buildMillis = System.currentTimeMillis() - start;
+        snapshot = new Snapshot<>(index, version, buildMillis, LocalDateTime.now());
+        log.info("{} index rebuilt: {}, {} ms", name, describe.apply(index), buildMillis);
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private String catalogVersion() {
+        return bookRepository.count() + ":" + bookRepository.findMaxId();
+    }
+
+    interface Build<T> {
+        void add(BookRepository.TitleAuthor book);
+
+        T build();
+    }
+
+    record Snapshot<T>(T index, String catalogVersion, long buildMillis, LocalDateTime builtAt) {
+    }
+}
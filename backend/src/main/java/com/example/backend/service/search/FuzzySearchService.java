@@ -0,0 +1,149 @@
+package com.example.backend.service.search;
+
+import com.example.backend.dto.book.BookSearchItem;
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.repository.BookRepository;
+import com.example.backend.service.book.BookCatalogCache;
+import com.example.backend.service.book.utility.BookSnapshot;
+import com.example.backend.service.outbox.OutboxHandler;
+import com.example.backend.service.search.engine.SearchAfter;
+import com.example.backend.service.search.engine.SearchPage;
+import com.example.backend.service.search.utility.FuzzyTermIndex;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 오타 허용 제목/저자 검색
+ * 검색어의 각 term 을 FuzzyTermIndex 에서 편집 거리 이내로 찾고, 가까울수록 높은 점수를 책별로 합산
+ * index 는 AutocompleteService 와 같은 CatalogIndexRebuilder 로 다시 만듦 (책 변경은 표시만 해두고 다음 점검 주기에 반영)
+ */
+@Service
+public class FuzzySearchService implements OutboxHandler {
+
+    // FIELD
+    private final BookCatalogCache bookCatalogCache;
+    private final CatalogIndexRebuilder<FuzzyTermIndex> rebuilder;
+
+    public FuzzySearchService(BookRepository bookRepository, BookCatalogCache bookCatalogCache) {
+        this.bookCatalogCache = bookCatalogCache;
+        this.rebuilder = new CatalogIndexRebuilder<>("fuzzy", bookRepository, FuzzyTermIndex.empty(), FuzzySearchService::newBuild,
+                index -> index.size() + " terms, ~" + index.estimatedBytes() / (1024 * 1024) + " MB");
+    }
+
+    // METHOD
+
+    /**
+     * (점수 desc, id asc) 정렬. 일치한 term 의 편집 거리 d 마다 1 / (1 + d) 점
+     */
+    public SearchPage search(String keyword, SearchAfter after, int size) {
+        FuzzyTermIndex index = rebuilder.snapshot().index();
+
+        Map<Long, Float> scores = new HashMap<>();
+        for(String token : FuzzyTermIndex.tokenize(keyword)) {
+            // 한 term 이 여러 변형과 일치해도 책마다 가장 가까운 것 하나만 반영
+            Map<Long, Float> best = new HashMap<>();
+            for(FuzzyTermIndex.Match match : index.lookup(token, FuzzyTermIndex.maxEditsFor(token))) {
+                float score = 1.0f / (1 + match.distance());
+                for(long bookId : match.bookIds()) {
+                    best.merge(bookId, score, Math::max);
+                }
+            }
+            best.forEach((bookId, score) -> scores.merge(bookId, score, Float::sum));
+        }
+
+        // cursor 이후 항목 중 상위 size 개만 유지
+        Comparator<Map.Entry<Long, Float>> order = Comparator
+                .comparing((Map.Entry<Long, Float> entry) -> entry.getValue()).reversed()
+                .thenComparing(Map.Entry::getKey);
+        PriorityQueue<Map.Entry<Long, Float>> top = new PriorityQueue<>(order.reversed());
+        for(Map.Entry<Long, Float> entry : scores.entrySet()) {
+            if(after != null && !isAfter(entry, after)) continue;
+            top.add(entry);
+            if(top.size() > size) top.poll();
+        }
+        List<Map.Entry<Long, Float>> page = new ArrayList<>(top);
+        page.sort(order);
+
+        Map<Long, BookSnapshot> books = bookCatalogCache.getAll(page.stream().map(Map.Entry::getKey).toList());
+        List<BookSearchItem> items = new ArrayList<>(page.size());
+        for(Map.Entry<Long, Float> entry : page) {
+            BookSnapshot book = books.get(entry.getKey());
+            if(book == null) continue;
+            items.add(BookSearchItem.builder()
+                    .id(book.id())
+                    .title(book.title())
+                    .author(book.author())
+                    .score(entry.getValue())
+                    .build());
+        }
+
+        SearchAfter last = null;
+        if(page.size() == size) {
+            Map.Entry<Long, Float> entry = page.get(page.size() - 1);
+            last = new SearchAfter(entry.getValue(), entry.getKey());
+        }
+        return new SearchPage(items, scores.size(), last);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestRebuild() {
+        rebuilder.requestRebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${fuzzy.refresh-check-ms:300000}", initialDelayString = "${fuzzy.refresh-check-ms:300000}")
+    public void refreshIfCatalogChanged() {
+        rebuilder.refreshIfCatalogChanged();
+    }
+
+    @Override
+    public boolean supports(OutboxAggregate aggregate) {
+        return aggregate == OutboxAggregate.BOOK;
+    }
+
+    @Override
+    public boolean isPerInstance() {
+        return true;
+    }
+
+    @Override
+    public void apply(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted) {
+        rebuilder.markStale();
+    }
+
+    @Override
+    public void reconcile() {
+        rebuilder.markStale();
+    }
+
+    private static boolean isAfter(Map.Entry<Long, Float> entry, SearchAfter after) {
+        float score = entry.getValue();
+        if(score != after.score()) return score < after.score();
+        return entry.getKey() > after.id();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdown();
+    }
+
+    private static CatalogIndexRebuilder.Build<FuzzyTermIndex> newBuild() {
+        FuzzyTermIndex.Builder builder = FuzzyTermIndex.builder();
+        return new CatalogIndexRebuilder.Build<>() {
+            @Override
+            public void add(BookRepository.TitleAuthor book) {
+                builder.add(book.getTitle(), book.getId());
+                builder.add(book.getAuthor(), book.getId());
+            }
+
+            @Override
+            public FuzzyTermIndex build() {
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.backend.service.search;
+
+import com.example.backend.dto.book.BookSearchItem;
+import com.example.backend.dto.book.BookSearchResponse;
+import com.example.backend.entity.book.BookChangedEvent;
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.service.outbox.OutboxHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 2단 캐시
+ * 1) 노드별 near-cache (Caffeine, 짧은 TTL)  2) 공유 Redis (긴 TTL)  3) 검색 엔진
+ * 같은 key 에 대한 동시 miss 는 하나의 검색으로 합침 (single-flight)
+ * 결과에 포함된 book id -> cache key 역색인을 유지해서 책이 바뀌거나 삭제되면 해당 key 만 무효화
+ * 새 책은 이전에 없던 결과에도 들어갈 수 있으므로, 새 책/삭제를 색인에 반영한 뒤 catalog generation 을 올려 전체를 새로 채움
+ * 수정된 책은 그 책이 포함된 key 만 무효화 (제목/저자가 바뀌어 새로 걸리게 된 검색어는 Redis TTL 동안 이전 결과일 수 있음)
+ * (Redis key 에 generation 을 넣고 다른 인스턴스는 주기적으로 generation 을 확인해서 near-cache 를 비움)
+ * Redis 는 색인을 반영한 BookIndexService 가 무효화하고, 다른 인스턴스의 near-cache 는 OutboxRelay 가 전달한 변경으로 무효화
+ * (색인 반영보다 먼저 무효화된 인스턴스는 near TTL 동안 이전 결과를 다시 캐시할 수 있음)
+ */
+@Slf4j
+@Component
+public class SearchResultCache implements OutboxHandler {
+
+    private static final String KEY_PREFIX = "sc:q:";
+    private static final String BOOK_PREFIX = "sc:book:";
+    // sc:* 전체 삭제(invalidateAll)에 포함되지 않도록 prefix 를 다르게 둠
+    private static final String GENERATION_KEY = "search-cache:generation";
+
+    // FIELD
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+
+    private final Cache<String, BookSearchResponse> nearCache;
+    private final Map<String, CompletableFuture<BookSearchResponse>> inFlight = new ConcurrentHashMap<>();
+    // near-cache 용 역색인 (book id -> key)
+    private final Map<Long, Set<String>> keysByBook = new ConcurrentHashMap<>();
+    // 마지막으로 확인한 catalog generation. 바뀌기 전에 시작한 검색 결과는 캐시하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter nearHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter joined;
+    private final Timer missTimer;
+
+    public SearchResultCache(ObjectProvider<StringRedisTemplate> redisTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${search.cache.redis-enabled:true}") boolean redisEnabled,
+                             @Value("${search.cache.near-max-size:10000}") long nearMaxSize,
+                             @Value("${search.cache.near-ttl-ms:30000}") long nearTtlMillis,
+                             @Value("${search.cache.redis-ttl-ms:300000}") long redisTtlMillis) {
+        this.redisTemplate = redisEnabled ? redisTemplate.getIfAvailable() : null;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofMillis(redisTtlMillis);
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearMaxSize)
+                .expireAfterWrite(Duration.ofMillis(nearTtlMillis))
+                // 교체(REPLACED)는 같은 key 가 다시 연결된 상태이므로 역색인을 건드리지 않음
+                .removalListener((String key, BookSearchResponse value, RemovalCause cause) -> {
+                    if(cause != RemovalCause.REPLACED) unlink(key, value);
+                })
+                .build();
+
+        this.nearHits = Counter.builder("search.cache.requests").tag("result", "near_hit").register(meterRegistry);
+        this.redisHits = Counter.builder("search.cache.requests").tag("result", "redis_hit").register(meterRegistry);
+        this.misses = Counter.builder("search.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.joined = Counter.builder("search.cache.requests").tag("result", "joined").register(meterRegistry);
+        this.missTimer = Timer.builder("search.cache.miss.latency")
+                .description("캐시 miss 시 검색 엔진 조회 시간")
+                .register(meterRegistry);
+        Gauge.builder("search.cache.hit.ratio", this, SearchResultCache::hitRatio).register(meterRegistry);
+        Gauge.builder("search.cache.near.size", nearCache, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    // METHOD
+    public static String key(String normalizedQuery, String cursor, int size, String language, String mode) {
+        return normalizedQuery + '\u0000' + (cursor != null ? cursor : "") + '\u0000' + size + '\u0000' + language + '\u0000' + mode;
+    }
+
+    public BookSearchResponse get(String key, Supplier<BookSearchResponse> loader) {
+        long startGeneration = generation.get();
+        BookSearchResponse cached = nearCache.getIfPresent(key);
+        if(cached != null) {
+            nearHits.increment();
+            return cached;
+        }
+
+        CompletableFuture<BookSearchResponse> mine = new CompletableFuture<>();
+        CompletableFuture<BookSearchResponse> existing = inFlight.putIfAbsent(key, mine);
+        if(existing != null) {
+            joined.increment();
+            return join(existing);
+        }
+
+        try {
+            // 앞선 single-flight 가 near 에 넣고 끝난 직후일 수 있으므로 한 번 더 확인
+            BookSearchResponse response = nearCache.getIfPresent(key);
+            if(response != null) {
+                nearHits.increment();
+                mine.complete(response);
+                return response;
+            }
+
+            response = readRedis(startGeneration, key);
+            if(response != null) {
+                redisHits.increment();
+            } else {
+                misses.increment();
+                response = missTimer.record(loader);
+                if(generation.get() == startGeneration) writeRedis(startGeneration, key, response);
+            }
+            // 검색 도중 generation 이 바뀌었으면 이전 카탈로그 기준 결과일 수 있음
+            if(generation.get() == startGeneration) putNear(key, response);
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * commit 이후에 무효화해야 다른 요청이 이전 값을 다시 캐시하지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        List<Long> bookIds = new ArrayList<>(event.saved().size() + event.removedIds().size());
+        event.saved().forEach(book -> bookIds.add(book.getId()));
+        bookIds.addAll(event.removedIds());
+        invalidateBooks(bookIds);
+    }
+
+    @Override
+    public boolean supports(OutboxAggregate aggregate) {
+        return aggregate == OutboxAggregate.BOOK;
+    }
+
+    @Override
+    public boolean isPerInstance() {
+        return true;
+    }
+
+    @Override
+    public void apply(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted) {
+        invalidateNear(upserted);
+        invalidateNear(deleted);
+    }
+
+    /**
+     * 새 책/삭제를 색인에 반영한 뒤 호출. generation 을 올려 이전 결과를 모두 쓰지 않음
+     * Redis 의 이전 generation 결과는 TTL 로 정리됨
+     */
+    public void advanceGeneration() {
+        long next = generation.get() + 1;
+        if(redisTemplate != null) {
+            try {
+                Long value = redisTemplate.opsForValue().increment(GENERATION_KEY);
+                if(value != null) next = value;
+            } catch (RuntimeException e) {
+                log.warn("search cache generation increment failed: {}", e.getMessage());
+            }
+        }
+        moveTo(next);
+    }
+
+    /**
+     * 다른 인스턴스가 올린 generation 반영
+     */
+    @Scheduled(fixedDelayString = "${search.cache.generation-check-ms:500}", initialDelayString = "${search.cache.generation-check-ms:500}")
+    public void syncGeneration() {
+        if(redisTemplate == null) return;
+        try {
+            String value = redisTemplate.opsForValue().get(GENERATION_KEY);
+            long latest = value != null ? Long.parseLong(value) : 0;
+            if(latest != generation.get()) moveTo(latest);
+        } catch (RuntimeException e) {
+            log.debug("search cache generation check failed: {}", e.getMessage());
+        }
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 책이 수정/삭제되면 그 책이 포함된 검색 결과만 무효화
+     */
+    public void invalidateBooks(Collection<Long> bookIds) {
+        if(bookIds.isEmpty()) return;
+
+        invalidateNear(bookIds);
+        if(redisTemplate == null) return;
+
+        try {
+            List<String> bookKeys = bookIds.stream().map(id -> BOOK_PREFIX + id).toList();
+            // book 별 SMEMBERS 를 pipeline 한 번으로
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for(String bookKey : bookKeys) {
+                    connection.setCommands().sMembers(bookKey.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            Set<String> cacheKeys = new HashSet<>();
+            for(Object members : results) {
+                if(members instanceof Collection<?> values) {
+                    values.forEach(value -> cacheKeys.add(String.valueOf(value)));
+                }
+            }
+            List<String> toDelete = new ArrayList<>(bookKeys);
+            cacheKeys.forEach(cacheKey -> toDelete.add(KEY_PREFIX + cacheKey));
+            redisTemplate.delete(toDelete);
+        } catch (RuntimeException e) {
+            log.warn("search cache redis invalidation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 재색인 후처럼 모든 결과가 바뀔 수 있을 때 사용
+     */
+    public void invalidateAll() {
+        // 진행 중인 검색 결과도 캐시되지 않도록 generation 부터 올림
+        advanceGeneration();
+        if(redisTemplate == null) return;
+
+        ScanOptions options = ScanOptions.scanOptions().match("sc:*").count(1000).build();
+        List<String> batch = new ArrayList<>(1000);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while(cursor.hasNext()) {
+                batch.add(cursor.next());
+                if(batch.size() == 1000) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+            if(!batch.isEmpty()) redisTemplate.delete(batch);
+        } catch (RuntimeException e) {
+            log.warn("search cache redis invalidation failed: {}", e.getMessage());
+        }
+    }
+
+    public double hitRatio() {
+        double hits = nearHits.count() + redisHits.count() + joined.count();
+        double total = hits + misses.count();
+        return total > 0 ? hits / total : 0;
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private synchronized void moveTo(long next) {
+        if(next == generation.get()) return;
+        generation.set(next);
+        nearCache.invalidateAll();
+        keysByBook.clear();
+    }
+
+    private void invalidateNear(Collection<Long> bookIds) {
+        for(Long bookId : bookIds) {
+            Set<String> keys = keysByBook.remove(bookId);
+            if(keys != null) nearCache.invalidateAll(keys);
+        }
+    }
+
+    private BookSearchResponse join(CompletableFuture<BookSearchResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw e;
+        }
+    }
+
+    private void putNear(String key, BookSearchResponse response) {
+        nearCache.put(key, response);
+        for(BookSearchItem item : response.getBooks()) {
+            keysByBook.computeIfAbsent(item.getId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private void unlink(String key, BookSearchResponse response) {
+        if(key == null || response == null) return;
+        for(BookSearchItem item : response.getBooks()) {
+            keysByBook.computeIfPresent(item.getId(), (id, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private BookSearchResponse readRedis(long version, String key) {
+        if(redisTemplate == null) return null;
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + version + ":" + key);
+            return json != null ? objectMapper.readValue(json, BookSearchResponse.class) : null;
+        } catch (Exception e) {
+            log.debug("search cache redis read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 결과와 book 역색인을 pipeline 한 번으로 저장
+    private void writeRedis(long version, String key, BookSearchResponse response) {
+        if(redisTemplate == null) return;
+        try {
+            // 역색인 member 도 generation 을 포함한 key (invalidateBooks 는 KEY_PREFIX + member 를 삭제)
+            String versionedKey = version + ":" + key;
+            byte[] cacheKey = (KEY_PREFIX + versionedKey).getBytes(StandardCharsets.UTF_8);
+            byte[] value = objectMapper.writeValueAsBytes(response);
+            byte[] member = versionedKey.getBytes(StandardCharsets.UTF_8);
+            long ttlMillis = redisTtl.toMillis();
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().pSetEx(cacheKey, ttlMillis, value);
+                for(BookSearchItem item : response.getBooks()) {
+                    byte[] bookKey = (BOOK_PREFIX + item.getId()).getBytes(StandardCharsets.UTF_8);
+                    connection.setCommands().sAdd(bookKey, member);
+                    connection.keyCommands().pExpire(bookKey, ttlMillis);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.debug("search cache redis write failed: {}", e.getMessage());
+        }
+    }
+}
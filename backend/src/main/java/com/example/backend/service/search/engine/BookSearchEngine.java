@@ -0,0 +1,54 @@
+package com.example.backend.service.search.engine;
+
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.user.enumeration.Language;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 책 검색 엔진 추상화. search.engine 설정으로 구현을 선택
+ * - elasticsearch (기본) : 외부 Elasticsearch 클러스터
+ * - lucene              : 로컬 디스크의 임베디드 Lucene 인덱스
+ */
+public interface BookSearchEngine {
+
+    /**
+     * 제목/저자 관련도 검색. (score desc, id asc) 정렬
+     * @param after 이전 페이지 마지막 정렬값. 첫 페이지면 null
+     */
+    SearchPage search(String keyword, Language language, SearchAfter after, int size);
+
+    /**
+     * 관련도 순 상위 limit 개의 book id (facet 계산용)
+     */
+    long[] searchIds(String keyword, Language language, int limit);
+
+    /**
+     * 검색 대상 인덱스에 이미 있는 book id (마지막 refresh 기준)
+     */
+    Set<Long> existingIds(Collection<Long> bookIds);
+
+    /**
+     * 문서 추가 또는 교체 (id 기준)
+     */
+    void index(List<Book> books);
+
+    void delete(Collection<Long> bookIds);
+
+    /**
+     * 지금까지 index/delete 한 내용을 검색에 반영
+     */
+    void refresh();
+
+    /**
+     * 전체 재색인용 새 인덱스. 같은 buildId 로 다시 열면 이전에 쓰던 인덱스를 이어서 사용
+     */
+    IndexBuild openBuild(String buildId);
+
+    /**
+     * openBuild 로 만든 인덱스를 publish 하지 않고 삭제 (중단 후 버린 재색인). 없거나 이미 검색 대상이면 그대로 둠
+     */
+    void discardBuild(String buildId);
+}
@@ -0,0 +1,234 @@
+package com.example.backend.service.search.engine;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import com.example.backend.dto.book.BookSearchItem;
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.book.BookDocument;
+import com.example.backend.entity.user.enumeration.Language;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j @RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "elasticsearch", matchIfMissing = true)
+public class ElasticsearchBookSearchEngine implements BookSearchEngine {
+
+    // FIELD
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private volatile boolean indexReady;
+
+    // METHOD
+    @Override
+    public SearchPage search(String keyword, Language language, SearchAfter after, int size) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(matchQuery(keyword))
+                .withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+                .withSort(s -> s.field(f -> f.field("id").order(SortOrder.Asc)))
+                .withPageable(PageRequest.of(0, size))
+                .withSearchAfter(after != null ? List.of(after.score(), after.id()) : null)
+                .withTrackScores(true)
+                .build();
+
+        SearchHits<BookDocument> hits = elasticsearchOperations.search(query, BookDocument.class);
+
+        List<BookSearchItem> books = hits.getSearchHits().stream()
+                .map(hit -> BookSearchItem.builder()
+                        .id(hit.getContent().getId())
+                        .title(hit.getContent().getTitle())
+                        .author(hit.getContent().getAuthor())
+                        .score(hit.getScore())
+                        .build())
+                .toList();
+
+        SearchAfter last = null;
+        if(books.size() == size) {
+            SearchHit<BookDocument> hit = hits.getSearchHit(books.size() - 1);
+            List<Object> sortValues = hit.getSortValues();
+            last = new SearchAfter(((Number) sortValues.get(0)).floatValue(), ((Number) sortValues.get(1)).longValue());
+        }
+        return new SearchPage(books, hits.getTotalHits(), last);
+    }
+
+    @Override
+    public long[] searchIds(String keyword, Language language, int limit) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(matchQuery(keyword))
+                .withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+                .withSort(s -> s.field(f -> f.field("id").order(SortOrder.Asc)))
+                .withPageable(PageRequest.of(0, limit))
+                .build();
+
+        return elasticsearchOperations.search(query, BookDocument.class).getSearchHits().stream()
+                .mapToLong(hit -> hit.getContent().getId())
+                .toArray();
+    }
+
+    @Override
+    public Set<Long> existingIds(Collection<Long> bookIds) {
+        if(bookIds.isEmpty()) return Set.of();
+        ensureIndex();
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(Query.of(q -> q.ids(i -> i.values(bookIds.stream().map(String::valueOf).toList()))))
+                .withPageable(PageRequest.of(0, bookIds.size()))
+                .build();
+
+        return elasticsearchOperations.search(query, BookDocument.class).getSearchHits().stream()
+                .map(hit -> hit.getContent().getId())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void index(List<Book> books) {
+        if(books.isEmpty()) return;
+        ensureIndex();
+        elasticsearchOperations.save(books.stream().map(BookDocument::from).toList());
+    }
+
+    @Override
+    public void delete(Collection<Long> bookIds) {
+        if(bookIds.isEmpty()) return;
+        ensureIndex();
+        // 삭제는 드물어서 id 단건 삭제로 충분
+        for(Long bookId : bookIds) {
+            elasticsearchOperations.delete(String.valueOf(bookId), BookDocument.class);
+        }
+    }
+
+    @Override
+    public void refresh() {
+        ensureIndex();
+        elasticsearchOperations.indexOps(BookDocument.class).refresh();
+    }
+
+    /**
+     * "books_{buildId}" 인덱스에 색인하고 publish 때 "books" alias 를 옮김
+     * 검색/단건 색인은 계속 alias 로 하므로 교체 전까지 새 인덱스는 보이지 않음
+     */
+    @Override
+    public IndexBuild openBuild(String buildId) {
+        String alias = elasticsearchOperations.getIndexCoordinatesFor(BookDocument.class).getIndexName();
+        IndexCoordinates target = IndexCoordinates.of(alias + "_" + buildId);
+        IndexOperations targetOps = elasticsearchOperations.indexOps(target);
+        if(!targetOps.exists()) {
+            targetOps.create();
+            targetOps.putMapping(targetOps.createMapping(BookDocument.class));
+        }
+        return new AliasIndexBuild(alias, target);
+    }
+
+    @Override
+    public void discardBuild(String buildId) {
+        String alias = elasticsearchOperations.getIndexCoordinatesFor(BookDocument.class).getIndexName();
+        String name = alias + "_" + buildId;
+        if(aliasTargets(alias).contains(name)) return;
+        IndexOperations targetOps = elasticsearchOperations.indexOps(IndexCoordinates.of(name));
+        if(targetOps.exists() && targetOps.delete()) {
+            log.info("search index build discarded: {}", name);
+        }
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private static Query matchQuery(String keyword) {
+        return Query.of(q -> q.multiMatch(m -> m
+                .query(keyword)
+                .fields("title^2", "author")
+                .type(TextQueryType.BestFields)));
+    }
+
+    // alias 가 가리키는 인덱스들. alias 대신 같은 이름의 인덱스가 있으면 그 이름 하나
+    private Set<String> aliasTargets(String alias) {
+        IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(alias));
+        if(!aliasOps.exists()) return Set.of();
+        return aliasOps.getAliasesForIndex(alias).keySet();
+    }
+
+    private void ensureIndex() {
+        if(indexReady) return;
+        IndexOperations indexOps = elasticsearchOperations.indexOps(BookDocument.class);
+        if(!indexOps.exists()) {
+            indexOps.createWithMapping();
+        }
+        indexReady = true;
+    }
+
+    private class AliasIndexBuild implements IndexBuild {
+
+        private final String alias;
+        private final IndexCoordinates target;
+
+        AliasIndexBuild(String alias, IndexCoordinates target) {
+            this.alias = alias;
+            this.target = target;
+        }
+
+        @Override
+        public String name() {
+            return target.getIndexName();
+        }
+
+        @Override
+        public void index(List<Book> books) {
+            if(books.isEmpty()) return;
+            elasticsearchOperations.save(books.stream().map(BookDocument::from).toList(), target);
+        }
+
+        @Override
+        public void delete(Collection<Long> bookIds) {
+            for(Long bookId : bookIds) {
+                elasticsearchOperations.delete(String.valueOf(bookId), target);
+            }
+        }
+
+        // bulk 응답 시점에 translog 에 기록되어 있으므로 추가 작업 없음
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void publish() {
+            String name = target.getIndexName();
+            elasticsearchOperations.indexOps(target).refresh();
+
+            // add + remove 를 한 요청으로 보내야 alias 가 비거나 두 인덱스를 동시에 가리키는 순간이 없음
+            Set<String> previous = aliasTargets(alias);
+            List<AliasAction> actions = new ArrayList<>();
+            actions.add(new AliasAction.Add(AliasActionParameters.builder().withIndices(name).withAliases(alias).build()));
+            for(String index : previous) {
+                if(index.equals(name)) continue;
+                actions.add(index.equals(alias)
+                        // 처음 교체: alias 없이 만들어진 "books" 인덱스는 같은 요청에서 삭제
+                        ? new AliasAction.RemoveIndex(AliasActionParameters.builder().withIndices(index).build())
+                        : new AliasAction.Remove(AliasActionParameters.builder().withIndices(index).withAliases(alias).build()));
+            }
+            elasticsearchOperations.indexOps(target).alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+            indexReady = true;
+
+            for(String index : previous) {
+                if(index.equals(name) || index.equals(alias)) continue;
+                elasticsearchOperations.indexOps(IndexCoordinates.of(index)).delete();
+            }
+            log.info("search alias {} -> {} (previous {})", alias, name, previous);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.service.search.engine;
+
+import com.example.backend.entity.book.Book;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검색에 노출되지 않는 새 인덱스 (BookSearchEngine.openBuild)
+ * 전체 재색인을 여기에 쓰고 publish() 로 검색 대상을 한 번에 교체
+ * 여러 스레드에서 동시에 index/flush 해도 됨
+ */
+public interface IndexBuild {
+
+    String name();
+
+    /**
+     * 문서 추가 또는 교체 (id 기준). 같은 문서를 다시 넣어도 결과가 같아서 재시작 시 중복 색인해도 됨
+     */
+    void index(List<Book> books);
+
+    /**
+     * 재색인 중 삭제된 책. 이미 지나간 partition 에 색인된 문서를 지움
+     */
+    void delete(Collection<Long> bookIds);
+
+    /**
+     * 지금까지 index 한 내용을 디스크에 확정. 반환 후 checkpoint 를 저장해야 재시작 시 유실이 없음
+     */
+    void flush();
+
+    /**
+     * 검색 대상을 이 인덱스로 원자적으로 교체하고 이전 인덱스를 정리
+     */
+    void publish();
+}
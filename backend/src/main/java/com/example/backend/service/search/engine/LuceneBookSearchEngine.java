@@ -0,0 +1,542 @@
+package com.example.backend.service.search.engine;
+
+import com.example.backend.dto.book.BookSearchItem;
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.user.enumeration.Language;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 임베디드 Lucene 검색 엔진 (search.engine=lucene)
+ * MMapDirectory 로 로컬 디스크 인덱스를 OS 페이지 캐시에 매핑하고
+ * ControlledRealTimeReopenThread 가 IndexWriter 변경분을 NRT reader 로 주기적으로 반영
+ * 책 언어(Language)에 따라 KO 는 nori(KoreanAnalyzer), EN 은 EnglishAnalyzer 필드에 색인
+ * 전체 재색인은 "{path}-{buildId}" 디렉터리에 만들고, "{path}.current" 파일로 사용 중인 디렉터리를 가리킴 (alias 역할)
+ * 단건 변경은 NRT reader 로만 검색에 반영하고 디스크 commit(fsync) 은 commit-interval-ms 마다 한 번
+ * live 를 쓰는 작업은 read lock, publish 의 교체/close 는 write lock 이라 닫힌 인덱스를 쓰지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+public class LuceneBookSearchEngine implements BookSearchEngine {
+
+    static final String FIELD_UID = "uid";
+    static final String FIELD_ID = "id";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_AUTHOR = "author";
+
+    private static final float TITLE_BOOST = 2.0f;
+    // 요청 언어와 같은 언어 필드에서 찾은 결과를 우선
+    private static final float PREFERRED_LANGUAGE_BOOST = 1.5f;
+
+    private static final Sort SORT = new Sort(SortField.FIELD_SCORE, new SortField(FIELD_ID, SortField.Type.LONG));
+
+    // FIELD
+    private final Path basePath;
+    private final Path pointerPath;
+    private final double maxStaleSeconds;
+    private final Map<Language, Analyzer> analyzers = new EnumMap<>(Language.class);
+    private final Analyzer indexAnalyzer;
+    // 검색/단건 색인 대상. 재색인 publish 때 통째로 교체
+    private volatile LiveIndex live;
+    private final ReadWriteLock liveLock = new ReentrantReadWriteLock();
+    private LuceneIndexBuild building;
+
+    public LuceneBookSearchEngine(@Value("${search.lucene.path:./data/lucene/books}") String path,
+                                  @Value("${search.lucene.max-stale-ms:1000}") long maxStaleMillis) throws IOException {
+        this.basePath = Path.of(path).toAbsolutePath().normalize();
+        this.pointerPath = basePath.resolveSibling(basePath.getFileName() + ".current");
+        this.maxStaleSeconds = maxStaleMillis / 1000.0;
+
+        analyzers.put(Language.EN, new EnglishAnalyzer());
+        analyzers.put(Language.KO, new KoreanAnalyzer());
+        Map<String, Analyzer> fieldAnalyzers = new HashMap<>();
+        for(Map.Entry<Language, Analyzer> entry : analyzers.entrySet()) {
+            fieldAnalyzers.put(field(FIELD_TITLE, entry.getKey()), entry.getValue());
+            fieldAnalyzers.put(field(FIELD_AUTHOR, entry.getKey()), entry.getValue());
+        }
+        this.indexAnalyzer = new PerFieldAnalyzerWrapper(new StandardAnalyzer(), fieldAnalyzers);
+
+        Path indexPath = currentPath();
+        Files.createDirectories(indexPath);
+        MMapDirectory directory = new MMapDirectory(indexPath);
+        this.live = attach(indexPath, directory, openWriter(directory));
+
+        log.info("lucene book index opened: {} ({} documents)", indexPath, live.writer().getDocStats().numDocs);
+    }
+
+    // METHOD
+    @Override
+    public SearchPage search(String keyword, Language language, SearchAfter after, int size) {
+        Query query = buildQuery(keyword, language);
+        if(query == null) {
+            return new SearchPage(List.of(), 0, null);
+        }
+
+        Lock lock = liveLock.readLock();
+        lock.lock();
+        try {
+            return search(live, query, after, size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private SearchPage search(LiveIndex index, Query query, SearchAfter after, int size) {
+        IndexSearcher searcher = index.acquire();
+        try {
+            FieldDoc afterDoc = after != null
+                    ? new FieldDoc(Integer.MAX_VALUE, after.score(), new Object[]{after.score(), after.id()})
+                    : null;
+            TopFieldDocs topDocs = searcher.searchAfter(afterDoc, query, size, SORT, true);
+
+            StoredFields storedFields = searcher.storedFields();
+            List<BookSearchItem> books = new ArrayList<>(topDocs.scoreDocs.length);
+            for(ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = storedFields.document(scoreDoc.doc);
+                books.add(BookSearchItem.builder()
+                        .id(document.getField(FIELD_ID).numericValue().longValue())
+                        .title(document.get(FIELD_TITLE))
+                        .author(document.get(FIELD_AUTHOR))
+                        .score(scoreDoc.score)
+                        .build());
+            }
+
+            SearchAfter last = null;
+            if(books.size() == size) {
+                FieldDoc lastDoc = (FieldDoc) topDocs.scoreDocs[books.size() - 1];
+                last = new SearchAfter((Float) lastDoc.fields[0], (Long) lastDoc.fields[1]);
+            }
+            return new SearchPage(books, topDocs.totalHits.value, last);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            index.release(searcher);
+        }
+    }
+
+    @Override
+    public long[] searchIds(String keyword, Language language, int limit) {
+        Query query = buildQuery(keyword, language);
+        if(query == null) return new long[0];
+
+        Lock lock = liveLock.readLock();
+        lock.lock();
+        try {
+            return searchIds(live, query, limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long[] searchIds(LiveIndex index, Query query, int limit) {
+        IndexSearcher searcher = index.acquire();
+        try {
+            TopFieldDocs topDocs = searcher.search(query, limit, SORT);
+            long[] ids = new long[topDocs.scoreDocs.length];
+            for(int i = 0; i < ids.length; i++) {
+                ids[i] = (Long) ((FieldDoc) topDocs.scoreDocs[i]).fields[1];
+            }
+            return ids;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            index.release(searcher);
+        }
+    }
+
+    @Override
+    public Set<Long> existingIds(Collection<Long> bookIds) {
+        if(bookIds.isEmpty()) return Set.of();
+        Query query = new TermInSetQuery(FIELD_UID, bookIds.stream().map(id -> new BytesRef(String.valueOf(id))).toList());
+
+        Lock lock = liveLock.readLock();
+        lock.lock();
+        LiveIndex index = live;
+        IndexSearcher searcher = index.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, bookIds.size());
+            StoredFields storedFields = searcher.storedFields();
+            Set<Long> ids = new HashSet<>(topDocs.scoreDocs.length * 2);
+            for(ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                ids.add(storedFields.document(scoreDoc.doc).getField(FIELD_ID).numericValue().longValue());
+            }
+            return ids;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            index.release(searcher);
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void index(List<Book> books) {
+        Lock lock = liveLock.readLock();
+        lock.lock();
+        try {
+            update(live.writer(), books);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(Collection<Long> bookIds) {
+        Lock lock = liveLock.readLock();
+        lock.lock();
+        try {
+            remove(live.writer(), bookIds);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * commit 없이 NRT reader 만 즉시 갱신. 디스크 확정은 commit() 이 주기적으로
+     */
+    @Override
+    public void refresh() {
+        Lock lock = liveLock.readLock();
+        lock.lock();
+        try {
+            live.searcherManager().maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 반영되지 않은 변경이 있을 때만 commit. 정상 종료 때는 IndexWriter.close 가 commit 하고,
+     * 비정상 종료면 마지막 commit 이후 단건 변경은 다음 재색인 때 반영됨
+     */
+    @Scheduled(fixedDelayString = "${search.lucene.commit-interval-ms:30000}", initialDelayString = "${search.lucene.commit-interval-ms:30000}")
+    public void commit() {
+        Lock lock = liveLock.readLock();
+        lock.lock();
+        try {
+            IndexWriter writer = live.writer();
+            if(writer.hasUncommittedChanges()) writer.commit();
+        } catch (IOException e) {
+            log.warn("lucene book index commit failed: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 같은 buildId 면 열려 있는 build 를 그대로 반환 (실패 후 재시작한 작업이 이어서 씀)
+     */
+    @Override
+    public synchronized IndexBuild openBuild(String buildId) {
+        Path path = buildPath(buildId);
+        if(building != null) {
+            if(building.path.equals(path)) return building;
+            building.close();
+        }
+        try {
+            Files.createDirectories(path);
+            MMapDirectory directory = new MMapDirectory(path);
+            building = new LuceneIndexBuild(path, directory, openWriter(directory));
+            return building;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void discardBuild(String buildId) {
+        Path path = buildPath(buildId);
+        if(building != null && building.path.equals(path)) {
+            building.close();
+            building = null;
+        }
+        if(live.path().equals(path)) return;
+        try {
+            if(FileSystemUtils.deleteRecursively(path)) {
+                log.info("lucene index build discarded: {}", path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if(building != null) building.close();
+        Lock lock = liveLock.writeLock();
+        lock.lock();
+        try {
+            live.close();
+        } finally {
+            lock.unlock();
+        }
+        indexAnalyzer.close();
+        for(Analyzer analyzer : analyzers.values()) {
+            analyzer.close();
+        }
+    }
+
+    // ***** <<<<<INDEX SWAP>>>>> ***** //
+    private Path buildPath(String buildId) {
+        return basePath.resolveSibling(basePath.getFileName() + "-" + buildId);
+    }
+
+    // 마지막 publish 한 디렉터리. 재색인한 적이 없으면 search.lucene.path
+    private Path currentPath() throws IOException {
+        if(!Files.isRegularFile(pointerPath)) return basePath;
+        String name = Files.readString(pointerPath, StandardCharsets.UTF_8).trim();
+        Path path = basePath.resolveSibling(name);
+        return Files.isDirectory(path) ? path : basePath;
+    }
+
+    private IndexWriter openWriter(MMapDirectory directory) throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(indexAnalyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        return new IndexWriter(directory, config);
+    }
+
+    private LiveIndex attach(Path path, MMapDirectory directory, IndexWriter writer) throws IOException {
+        SearcherManager searcherManager = new SearcherManager(writer, null);
+        ControlledRealTimeReopenThread<IndexSearcher> reopenThread =
+                new ControlledRealTimeReopenThread<>(writer, searcherManager, maxStaleSeconds, Math.min(0.1, maxStaleSeconds));
+        reopenThread.setName("lucene-nrt-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+        return new LiveIndex(path, directory, writer, searcherManager, reopenThread);
+    }
+
+    private synchronized void publish(LuceneIndexBuild build) throws IOException {
+        build.writer.commit();
+        LiveIndex next = attach(build.path, build.directory, build.writer);
+
+        // 재시작해도 새 디렉터리를 열도록 pointer 를 먼저 원자적으로 교체
+        Path temp = pointerPath.resolveSibling(pointerPath.getFileName() + ".tmp");
+        Files.writeString(temp, build.path.getFileName().toString(), StandardCharsets.UTF_8);
+        Files.move(temp, pointerPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // 이전 인덱스를 쓰는 검색/색인이 끝날 때까지 기다렸다가 교체 후 close
+        LiveIndex previous;
+        Lock lock = liveLock.writeLock();
+        lock.lock();
+        try {
+            previous = live;
+            live = next;
+            previous.close();
+        } finally {
+            lock.unlock();
+        }
+        if(building == build) building = null;
+
+        if(!previous.path().equals(basePath)) {
+            FileSystemUtils.deleteRecursively(previous.path());
+        }
+        log.info("lucene book index swapped: {} -> {} ({} documents)", previous.path(), build.path, build.writer.getDocStats().numDocs);
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    static String field(String name, Language language) {
+        return name + "_" + language.name().toLowerCase(Locale.ROOT);
+    }
+
+    private void update(IndexWriter writer, List<Book> books) {
+        try {
+            for(Book book : books) {
+                writer.updateDocument(new Term(FIELD_UID, String.valueOf(book.getId())), toDocument(book));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void remove(IndexWriter writer, Collection<Long> bookIds) {
+        if(bookIds.isEmpty()) return;
+        try {
+            Term[] terms = bookIds.stream().map(id -> new Term(FIELD_UID, String.valueOf(id))).toArray(Term[]::new);
+            writer.deleteDocuments(terms);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Document toDocument(Book book) {
+        Language language = book.getLanguage() != null ? book.getLanguage() : Language.EN;
+
+        Document document = new Document();
+        document.add(new StringField(FIELD_UID, String.valueOf(book.getId()), Field.Store.NO));
+        document.add(new NumericDocValuesField(FIELD_ID, book.getId()));
+        document.add(new StoredField(FIELD_ID, book.getId()));
+        if(book.getTitle() != null) {
+            document.add(new StoredField(FIELD_TITLE, book.getTitle()));
+            document.add(new TextField(field(FIELD_TITLE, language), book.getTitle(), Field.Store.NO));
+        }
+        if(book.getAuthor() != null) {
+            document.add(new StoredField(FIELD_AUTHOR, book.getAuthor()));
+            document.add(new TextField(field(FIELD_AUTHOR, language), book.getAuthor(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    /**
+     * 언어별로 검색어를 해당 analyzer 로 분석해 (title^2 | author) dis-max 를 만들고 언어끼리는 OR
+     * 책 언어를 모르는 상태에서 검색하므로 모든 언어 필드를 보되 요청 언어를 우선
+     */
+    private Query buildQuery(String keyword, Language preferred) {
+        BooleanQuery.Builder languages = new BooleanQuery.Builder();
+        boolean hasClause = false;
+
+        for(Map.Entry<Language, Analyzer> entry : analyzers.entrySet()) {
+            Language language = entry.getKey();
+            List<String> terms = analyze(entry.getValue(), field(FIELD_TITLE, language), keyword);
+            if(terms.isEmpty()) continue;
+
+            Query title = new BoostQuery(termsQuery(field(FIELD_TITLE, language), terms), TITLE_BOOST);
+            Query author = termsQuery(field(FIELD_AUTHOR, language), terms);
+            Query perLanguage = new DisjunctionMaxQuery(List.of(title, author), 0.0f);
+            if(language == preferred) {
+                perLanguage = new BoostQuery(perLanguage, PREFERRED_LANGUAGE_BOOST);
+            }
+            languages.add(perLanguage, BooleanClause.Occur.SHOULD);
+            hasClause = true;
+        }
+        return hasClause ? languages.build() : null;
+    }
+
+    private static Query termsQuery(String field, List<String> terms) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for(String term : terms) {
+            builder.add(new TermQuery(new Term(field, term)), BooleanClause.Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    private static List<String> analyze(Analyzer analyzer, String field, String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while(stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private record LiveIndex(Path path, MMapDirectory directory, IndexWriter writer,
+                             SearcherManager searcherManager, ControlledRealTimeReopenThread<IndexSearcher> reopenThread) {
+
+        IndexSearcher acquire() {
+            try {
+                return searcherManager.acquire();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void release(IndexSearcher searcher) {
+            try {
+                searcherManager.release(searcher);
+            } catch (IOException e) {
+                log.warn("lucene searcher release failed: {}", e.getMessage());
+            }
+        }
+
+        void close() throws IOException {
+            reopenThread.close();
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        }
+    }
+
+    private class LuceneIndexBuild implements IndexBuild {
+
+        private final Path path;
+        private final MMapDirectory directory;
+        private final IndexWriter writer;
+
+        LuceneIndexBuild(Path path, MMapDirectory directory, IndexWriter writer) {
+            this.path = path;
+            this.directory = directory;
+            this.writer = writer;
+        }
+
+        @Override
+        public String name() {
+            return path.getFileName().toString();
+        }
+
+        @Override
+        public void index(List<Book> books) {
+            update(writer, books);
+        }
+
+        @Override
+        public void delete(Collection<Long> bookIds) {
+            remove(writer, bookIds);
+        }
+
+        @Override
+        public void flush() {
+            try {
+                writer.commit();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void publish() {
+            try {
+                LuceneBookSearchEngine.this.publish(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() {
+            try {
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                log.warn("lucene index build close failed: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.service.search.engine;
+
+/**
+ * 한 페이지의 마지막 정렬값 (score, id). 다음 페이지 조회의 시작점
+ */
+public record SearchAfter(float score, long id) {
+}
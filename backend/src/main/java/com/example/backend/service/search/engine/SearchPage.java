@@ -0,0 +1,11 @@
+package com.example.backend.service.search.engine;
+
+import com.example.backend.dto.book.BookSearchItem;
+
+import java.util.List;
+
+/**
+ * @param last 다음 페이지가 있을 수 있으면 마지막 항목의 정렬값, 아니면 null
+ */
+public record SearchPage(List<BookSearchItem> books, long totalHits, SearchAfter last) {
+}
@@ -0,0 +1,220 @@
+package com.example.backend.service.search.utility;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * facet 값별 book id bitmap (RoaringBitmap)
+ * 필터는 같은 facet 안에서 OR, facet 끼리 AND 로 bitmap 연산만 수행하고
+ * facet 건수는 "자기 facet 선택을 뺀 나머지 필터" 범위와 값 bitmap 의 교집합 크기 (drill-sideways)
+ * book 마다 facet 별 값 ordinal 을 id 로 색인한 배열에 보관해서 값이 바뀌면 이전 bitmap 에서 빼고 새 bitmap 에 넣음
+ * book id 는 int 범위의 조밀한 번호(Gutenberg Text#)를 가정
+ */
+public final class FacetIndex {
+
+    private final List<String> facets;
+    private final Facet[] byOrdinal;
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public FacetIndex(List<String> facets) {
+        this.facets = List.copyOf(facets);
+        this.byOrdinal = new Facet[facets.size()];
+        for(int i = 0; i < byOrdinal.length; i++) {
+            byOrdinal[i] = new Facet();
+        }
+    }
+
+    public List<String> facets() {
+        return facets;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return all.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param values facets 순서의 값. null 이면 해당 facet 에 없음
+     */
+    public void put(int bookId, String[] values) {
+        lock.writeLock().lock();
+        try {
+            all.add(bookId);
+            for(int f = 0; f < byOrdinal.length; f++) {
+                byOrdinal[f].set(bookId, values[f]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int bookId) {
+        lock.writeLock().lock();
+        try {
+            all.remove(bookId);
+            for(Facet facet : byOrdinal) {
+                facet.set(bookId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param base       검색어 결과 등 시작 범위. null 이면 전체
+     * @param selections facet 이름 -> 선택한 값들
+     * @param limit      facet 별 반환할 값 개수 (건수 내림차순)
+     */
+    public Result query(RoaringBitmap base, Map<String, ? extends Collection<String>> selections, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap scope = base != null ? RoaringBitmap.and(base, all) : all.clone();
+
+            RoaringBitmap[] filters = new RoaringBitmap[byOrdinal.length];
+            for(int f = 0; f < byOrdinal.length; f++) {
+                Collection<String> selected = selections.get(facets.get(f));
+                if(selected != null && !selected.isEmpty()) {
+                    filters[f] = byOrdinal[f].union(selected);
+                }
+            }
+
+            RoaringBitmap matched = scope.clone();
+            for(RoaringBitmap filter : filters) {
+                if(filter != null) matched.and(filter);
+            }
+
+            Map<String, List<FacetCount>> counts = new LinkedHashMap<>();
+            for(int f = 0; f < byOrdinal.length; f++) {
+                RoaringBitmap facetScope = scope.clone();
+                for(int other = 0; other < filters.length; other++) {
+                    if(other != f && filters[other] != null) facetScope.and(filters[other]);
+                }
+                counts.put(facets.get(f), byOrdinal[f].count(facetScope, limit));
+            }
+            return new Result(matched, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대략적인 heap 사용량 (byte)
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = all.getSizeInBytes();
+            for(Facet facet : byOrdinal) {
+                bytes += facet.estimatedBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record FacetCount(String value, int count) {
+    }
+
+    public record Result(RoaringBitmap matched, Map<String, List<FacetCount>> counts) {
+    }
+
+    private static final class Facet {
+
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final List<RoaringBitmap> bitmaps = new ArrayList<>();
+        // ordinalByBook[bookId] = 값 ordinal, 없으면 -1
+        private int[] ordinalByBook = new int[0];
+
+        void set(int bookId, String value) {
+            int previous = bookId < ordinalByBook.length ? ordinalByBook[bookId] : -1;
+            int next = value != null ? ordinal(value) : -1;
+            if(previous == next) return;
+
+            if(previous >= 0) bitmaps.get(previous).remove(bookId);
+            if(next >= 0) {
+                bitmaps.get(next).add(bookId);
+                ensureCapacity(bookId);
+            }
+            if(bookId < ordinalByBook.length) ordinalByBook[bookId] = next;
+        }
+
+        RoaringBitmap union(Collection<String> selected) {
+            RoaringBitmap union = new RoaringBitmap();
+            for(String value : selected) {
+                Integer ordinal = ordinals.get(value);
+                if(ordinal != null) union.or(bitmaps.get(ordinal));
+            }
+            return union;
+        }
+
+        // 범위가 값 종류보다 작으면 범위의 book 을 순회, 아니면 값 bitmap 마다 교집합 크기
+        List<FacetCount> count(RoaringBitmap scope, int limit) {
+            int[] counts = new int[values.size()];
+            if(scope.getCardinality() < values.size()) {
+                IntIterator iterator = scope.getIntIterator();
+                while(iterator.hasNext()) {
+                    int bookId = iterator.next();
+                    int ordinal = bookId < ordinalByBook.length ? ordinalByBook[bookId] : -1;
+                    if(ordinal >= 0) counts[ordinal]++;
+                }
+            } else {
+                for(int ordinal = 0; ordinal < counts.length; ordinal++) {
+                    counts[ordinal] = RoaringBitmap.andCardinality(bitmaps.get(ordinal), scope);
+                }
+            }
+
+            PriorityQueue<Integer> top = new PriorityQueue<>(Comparator
+                    .comparingInt((Integer ordinal) -> counts[ordinal])
+                    .thenComparing(ordinal -> values.get(ordinal), Comparator.reverseOrder()));
+            for(int ordinal = 0; ordinal < counts.length; ordinal++) {
+                if(counts[ordinal] == 0) continue;
+                top.add(ordinal);
+                if(top.size() > limit) top.poll();
+            }
+            List<FacetCount> result = new ArrayList<>(top.size());
+            while(!top.isEmpty()) {
+                int ordinal = top.poll();
+                result.add(new FacetCount(values.get(ordinal), counts[ordinal]));
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        long estimatedBytes() {
+            long bytes = 16 + 4L * ordinalByBook.length;
+            for(RoaringBitmap bitmap : bitmaps) {
+                bytes += bitmap.getSizeInBytes();
+            }
+            for(String value : values) {
+                bytes += 40 + 2L * value.length();
+            }
+            return bytes;
+        }
+
+        private int ordinal(String value) {
+            Integer ordinal = ordinals.get(value);
+            if(ordinal != null) return ordinal;
+            values.add(value);
+            bitmaps.add(new RoaringBitmap());
+            ordinals.put(value, values.size() - 1);
+            return values.size() - 1;
+        }
+
+        private void ensureCapacity(int bookId) {
+            if(bookId < ordinalByBook.length) return;
+            int previousLength = ordinalByBook.length;
+            ordinalByBook = Arrays.copyOf(ordinalByBook, Math.max(bookId + 1, previousLength * 2));
+            Arrays.fill(ordinalByBook, previousLength, ordinalByBook.length, -1);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.backend.service.search.utility;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 오타 허용 검색용 읽기 전용 term 사전 (term -> book id 목록)
+ * term 을 정렬된 배열로 보관하면 공통 prefix 를 가진 term 이 연속하므로 배열 자체를 trie 처럼 순회할 수 있음
+ * 검색어에 대한 Levenshtein DP 행을 prefix 단위로 재사용하고 (= Levenshtein automaton 시뮬레이션),
+ * 행의 최솟값이 허용 거리를 넘는 prefix 는 그 prefix 로 시작하는 term 구간 전체를 binary search 로 건너뜀
+ * 전체 term 을 하나씩 비교하는 방식과 달리 거리 안에 들어올 수 있는 prefix 만 방문
+ */
+public final class FuzzyTermIndex {
+
+    public static final int MAX_EDITS = 2;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final String[] terms;
+    // postings[postingStart[i], postingStart[i + 1]) = terms[i] 를 가진 book id (오름차순)
+    private final int[] postingStart;
+    private final long[] postings;
+    private final int maxTermLength;
+
+    private FuzzyTermIndex(String[] terms, int[] postingStart, long[] postings) {
+        this.terms = terms;
+        this.postingStart = postingStart;
+        this.postings = postings;
+        int max = 0;
+        for(String term : terms) {
+            max = Math.max(max, term.length());
+        }
+        this.maxTermLength = max;
+    }
+
+    public static FuzzyTermIndex empty() {
+        return new FuzzyTermIndex(new String[0], new int[]{0}, new long[0]);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * 검색어/제목을 같은 방식으로 term 으로 분리 (PrefixIndex 정규화 후 문자/숫자 단위)
+     */
+    public static List<String> tokenize(String text) {
+        String normalized = PrefixIndex.normalize(text);
+        if(normalized.isEmpty()) return List.of();
+        List<String> tokens = new ArrayList<>();
+        for(String token : NON_WORD.split(normalized)) {
+            if(!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    /**
+     * term 길이에 따른 허용 거리. 짧은 term 에 큰 거리를 허용하면 거의 모든 term 이 일치
+     */
+    public static int maxEditsFor(String term) {
+        int length = term.length();
+        if(length <= 2) return 0;
+        if(length <= 5) return 1;
+        return MAX_EDITS;
+    }
+
+    /**
+     * 편집 거리 maxEdits 이내의 모든 term
+     */
+    public List<Match> lookup(String term, int maxEdits) {
+        int m = term.length();
+        int edits = Math.min(Math.max(maxEdits, 0), MAX_EDITS);
+        if(m == 0 || terms.length == 0) return List.of();
+
+        // rows[d] = term 과 (현재 term 의 길이 d prefix) 사이의 DP 행
+        int[][] rows = new int[maxTermLength + 1][m + 1];
+        for(int j = 0; j <= m; j++) {
+            rows[0][j] = j;
+        }
+
+        List<Match> matches = new ArrayList<>();
+        String previous = "";
+        int validDepth = 0;
+        int i = 0;
+        while(i < terms.length) {
+            String candidate = terms[i];
+            int depth = Math.min(validDepth, commonPrefixLength(previous, candidate));
+
+            int pruneAt = -1;
+            for(int d = depth + 1; d <= candidate.length(); d++) {
+                if(fillRow(rows[d - 1], rows[d], term, candidate.charAt(d - 1)) > edits) {
+                    pruneAt = d;
+                    break;
+                }
+            }
+
+            previous = candidate;
+            if(pruneAt > 0) {
+                // candidate 의 길이 pruneAt prefix 로 시작하는 term 은 모두 거리 초과
+                validDepth = pruneAt - 1;
+                i = endOfPrefix(candidate, pruneAt, i);
+                continue;
+            }
+
+            int distance = rows[candidate.length()][m];
+            if(distance <= edits) {
+                matches.add(new Match(candidate, distance, Arrays.copyOfRange(postings, postingStart[i], postingStart[i + 1])));
+            }
+            validDepth = candidate.length();
+            i++;
+        }
+        return matches;
+    }
+
+    /**
+     * 대략적인 heap 사용량 (byte). compressed oops 기준
+     */
+    public long estimatedBytes() {
+        long bytes = 16 + 4L * terms.length;
+        for(String term : terms) {
+            bytes += 40 + (long) term.length() * 2;
+        }
+        bytes += 16 + 4L * postingStart.length;
+        bytes += 16 + 8L * postings.length;
+        return bytes;
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // 이전 행과 추가된 문자 c 로 다음 행을 계산하고 행의 최솟값 반환
+    private static int fillRow(int[] previous, int[] current, String term, char c) {
+        current[0] = previous[0] + 1;
+        int min = current[0];
+        for(int j = 1; j < current.length; j++) {
+            int substitution = previous[j - 1] + (term.charAt(j - 1) == c ? 0 : 1);
+            int value = Math.min(substitution, Math.min(previous[j] + 1, current[j - 1] + 1));
+            current[j] = value;
+            if(value < min) min = value;
+        }
+        return min;
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while(i < length && a.charAt(i) == b.charAt(i)) i++;
+        return i;
+    }
+
+    // terms[from] 부터 시작하는 "prefix 의 길이 length 부분으로 시작하는 term" 구간의 끝 (exclusive)
+    private int endOfPrefix(String prefixSource, int length, int from) {
+        int low = from + 1, high = terms.length;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            String value = terms[mid];
+            if(value.length() >= length && value.regionMatches(0, prefixSource, 0, length)) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    public record Match(String term, int distance, long[] bookIds) {
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Postings> entries = new HashMap<>();
+
+        public Builder add(String text, long bookId) {
+            if(text == null) return this;
+            for(String token : tokenize(text)) {
+                entries.computeIfAbsent(token, key -> new Postings()).add(bookId);
+            }
+            return this;
+        }
+
+        public FuzzyTermIndex build() {
+            String[] terms = entries.keySet().toArray(new String[0]);
+            Arrays.sort(terms);
+
+            long[][] unique = new long[terms.length][];
+            int[] postingStart = new int[terms.length + 1];
+            int total = 0;
+            for(int i = 0; i < terms.length; i++) {
+                unique[i] = entries.get(terms[i]).sortedUnique();
+                postingStart[i] = total;
+                total += unique[i].length;
+            }
+            postingStart[terms.length] = total;
+
+            long[] postings = new long[total];
+            for(int i = 0; i < terms.length; i++) {
+                System.arraycopy(unique[i], 0, postings, postingStart[i], unique[i].length);
+            }
+            return new FuzzyTermIndex(terms, postingStart, postings);
+        }
+
+        private static final class Postings {
+            long[] ids = new long[2];
+            int size;
+
+            // 같은 책의 제목/저자에 같은 term 이 반복되면 한 번만
+            void add(long id) {
+                if(size > 0 && ids[size - 1] == id) return;
+                if(size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+                ids[size++] = id;
+            }
+
+            long[] sortedUnique() {
+                long[] sorted = Arrays.copyOf(ids, size);
+                Arrays.sort(sorted);
+                int count = 0;
+                for(int i = 0; i < sorted.length; i++) {
+                    if(count == 0 || sorted[count - 1] != sorted[i]) sorted[count++] = sorted[i];
+                }
+                return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.backend.service.search.utility;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 자동완성용 읽기 전용 prefix index
+ * 정규화된 key 를 정렬된 배열로 보관하고 (prefix 범위 = binary search 두 번),
+ * 인기도 argmax segment tree 로 범위 안의 top-N 을 O(N log n) 에 꺼냄
+ * 노드 객체 없이 배열만 사용하므로 trie 보다 메모리가 작고, 생성 후에는 변경하지 않아 lock 없이 공유 가능
+ */
+public final class PrefixIndex {
+
+    public static final byte TITLE = 0;
+    public static final byte AUTHOR = 1;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String[] keys;
+    private final String[] texts;
+    private final long[] bookIds;
+    private final int[] popularity;
+    private final byte[] types;
+    // tree[size + i] = i, tree[i] = 두 자식 중 인기도가 높은 entry index
+    private final int[] tree;
+
+    private PrefixIndex(String[] keys, String[] texts, long[] bookIds, int[] popularity, byte[] types) {
+        this.keys = keys;
+        this.texts = texts;
+        this.bookIds = bookIds;
+        this.popularity = popularity;
+        this.types = types;
+
+        int n = keys.length;
+        this.tree = new int[Math.max(2 * n, 2)];
+        for(int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for(int i = n - 1; i > 0; i--) {
+            tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    public static PrefixIndex empty() {
+        return new PrefixIndex(new String[0], new String[0], new long[0], new int[0], new byte[0]);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * prefix 로 시작하는 항목 중 인기도 상위 limit 개
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if(normalized.isEmpty() || limit <= 0 || keys.length == 0) return List.of();
+
+        int from = lowerBound(normalized);
+        int to = lowerBound(normalized + Character.MAX_VALUE);
+        if(from >= to) return List.of();
+
+        // 구간별 최댓값을 heap 에 넣고, 꺼낸 위치를 기준으로 구간을 둘로 나눔
+        PriorityQueue<int[]> heap = new PriorityQueue<>(Comparator
+                .comparingInt((int[] range) -> -popularity[range[2]])
+                .thenComparingInt(range -> range[2]));
+        heap.add(new int[]{from, to, argmax(from, to)});
+
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, to - from));
+        while(!heap.isEmpty() && result.size() < limit) {
+            int[] range = heap.poll();
+            int best = range[2];
+            result.add(new Suggestion(texts[best], types[best] == TITLE ? "TITLE" : "AUTHOR",
+                    bookIds[best] >= 0 ? bookIds[best] : null, popularity[best]));
+
+            if(range[0] < best) heap.add(new int[]{range[0], best, argmax(range[0], best)});
+            if(best + 1 < range[1]) heap.add(new int[]{best + 1, range[1], argmax(best + 1, range[1])});
+        }
+        return result;
+    }
+
+    /**
+     * 대략적인 heap 사용량 (byte). compressed oops 기준
+     */
+    public long estimatedBytes() {
+        long bytes = 0;
+        for(int i = 0; i < keys.length; i++) {
+            bytes += stringBytes(keys[i]);
+            // key 와 표시 문자열이 같으면 같은 인스턴스를 공유
+            if(texts[i] != keys[i]) bytes += stringBytes(texts[i]);
+        }
+        long n = keys.length;
+        bytes += 16 + 4 * n;        // keys
+        bytes += 16 + 4 * n;        // texts
+        bytes += 16 + 8 * n;        // bookIds
+        bytes += 16 + 4 * n;        // popularity
+        bytes += 16 + n;            // types
+        bytes += 16 + 4L * tree.length;
+        return bytes;
+    }
+
+    public static String normalize(String value) {
+        if(value == null) return "";
+        // NFKD 후 결합 문자 제거: 악센트 무시 (é -> e). 한글은 자모로 분해되어 입력 중인 음절도 prefix 로 일치
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private int lowerBound(String target) {
+        int low = 0, high = keys.length;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(keys[mid].compareTo(target) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // [from, to) 구간의 인기도 최댓값 위치
+    private int argmax(int from, int to) {
+        int n = keys.length;
+        int best = -1;
+        for(int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+            if((l & 1) == 1) best = better(best, tree[l++]);
+            if((r & 1) == 1) best = better(best, tree[--r]);
+        }
+        return best;
+    }
+
+    // 인기도가 같으면 앞쪽(사전순) 우선
+    private int better(int a, int b) {
+        if(a < 0) return b;
+        if(b < 0) return a;
+        if(popularity[a] != popularity[b]) return popularity[a] > popularity[b] ? a : b;
+        return Math.min(a, b);
+    }
+
+    private static long stringBytes(String value) {
+        boolean latin1 = true;
+        for(int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) < 256;
+        }
+        // String 객체 24 + byte[] header 16 + 내용
+        return 40 + (long) value.length() * (latin1 ? 1 : 2);
+    }
+
+    public record Suggestion(String text, String type, Long bookId, int popularity) {
+    }
+
+    public static final class Builder {
+
+        // (type, key) 로 중복 제거. 같은 제목의 여러 판본은 인기도를 합산하고 가장 인기 있는 book id 사용
+        private final Map<String, Entry> entries = new HashMap<>();
+
+        public Builder add(String text, byte type, long bookId, int popularity) {
+            String key = normalize(text);
+            if(key.isEmpty()) return this;
+
+            entries.merge(type + key, new Entry(key, text.trim(), type, bookId, popularity), (existing, added) -> {
+                if(added.bestPopularity > existing.bestPopularity) {
+                    existing.text = added.text;
+                    existing.bookId = added.bookId;
+                    existing.bestPopularity = added.bestPopularity;
+                }
+                existing.popularity += added.popularity;
+                return existing;
+            });
+            return this;
+        }
+
+        public PrefixIndex build() {
+            List<Entry> sorted = new ArrayList<>(entries.values());
+            sorted.sort(Comparator.comparing((Entry entry) -> entry.key).thenComparingInt(entry -> entry.type));
+
+            int n = sorted.size();
+            String[] keys = new String[n];
+            String[] texts = new String[n];
+            long[] bookIds = new long[n];
+            int[] popularity = new int[n];
+            byte[] types = new byte[n];
+            for(int i = 0; i < n; i++) {
+                Entry entry = sorted.get(i);
+                keys[i] = entry.key;
+                texts[i] = entry.key.equals(entry.text) ? entry.key : entry.text;
+                bookIds[i] = entry.type == TITLE ? entry.bookId : -1;
+                popularity[i] = entry.popularity;
+                types[i] = entry.type;
+            }
+            return new PrefixIndex(keys, texts, bookIds, popularity, types);
+        }
+
+        private static final class Entry {
+            final String key;
+            final byte type;
+            String text;
+            long bookId;
+            int popularity;
+            int bestPopularity;
+
+            Entry(String key, String text, byte type, long bookId, int popularity) {
+                this.key = key;
+                this.text = text;
+                this.type = type;
+                this.bookId = bookId;
+                this.popularity = popularity;
+                this.bestPopularity = popularity;
+            }
+        }
+    }
+}
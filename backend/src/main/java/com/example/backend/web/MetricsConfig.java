@@ -0,0 +1,52 @@
+package com.example.backend.web;
+
+import com.example.backend.service.profiler.utility.ProfilingSessionListener;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 인증/검색 경로 Timer 를 Prometheus histogram(_bucket) 으로 내보냄
+ * percentile 은 서버(histogram_quantile)에서 계산하고, 앱은 고정 bucket 카운트만 올림 -> 기록 비용이 일정
+ * /actuator/prometheus 를 쓰려면 management.endpoints.web.exposure.include 에 prometheus 추가
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final List<String> LATENCY_METERS = List.of(
+            "jwt.filter", "jwt.user.load", "auth.request", "oauth.remote", "user.db", "search.query",
+            "search.cache.miss.latency");
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(@NonNull Meter.Id id, @NonNull DistributionStatisticConfig config) {
+                if(id.getType() != Meter.Type.TIMER || !LATENCY_METERS.contains(id.getName())) return config;
+                // bucket 범위를 제한해 시계열 수를 줄임 (100µs ~ 10s)
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofNanos(100_000).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * 요청별 DB 시간 (RequestProfiler) 수집용 Session listener
+     */
+    @Bean
+    public HibernatePropertiesCustomizer profilingSessionListener() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, ProfilingSessionListener.class.getName());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.backend.web;
+
+import com.example.backend.service.auth.utility.OAuthHttpClientProperties;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth provider 별 WebClient
+ * provider 마다 connection pool 을 분리해서, 한 provider 가 느려져도 다른 provider 나 Tomcat 스레드가 같이 묶이지 않음
+ */
+@Configuration
+public class OAuthWebClientConfig {
+
+    @Bean
+    public WebClient naverWebClient(WebClient.Builder builder, OAuthHttpClientProperties properties) {
+        return create(builder, "naver", properties);
+    }
+
+    @Bean
+    public WebClient googleWebClient(WebClient.Builder builder, OAuthHttpClientProperties properties) {
+        return create(builder, "google", properties);
+    }
+
+    public static WebClient create(WebClient.Builder builder, String provider, OAuthHttpClientProperties properties) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("oauth-" + provider)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(properties.getResponseTimeoutMs()))
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(properties.getResponseTimeoutMs(), TimeUnit.MILLISECONDS)));
+
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.backend.web;
+
+import com.example.backend.service.profiler.RequestProfiler;
+import com.example.backend.service.profiler.utility.RequestSample;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 가장 바깥 filter. 요청 시작~응답 완료 시간을 RequestProfiler 에 기록
+ * 보안 filter(JWT, 요청 제한)를 지나 컨트롤러에 들어가기까지가 filter 구간 (RequestProfilingInterceptor 에서 표시)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    private final RequestProfiler requestProfiler;
+
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !requestProfiler.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestSample sample = RequestSample.begin();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if(!failed && request.isAsyncStarted()) {
+                // Mono 응답: 완료 시점에 기록. 이 경로만 listener 객체를 만듦
+                request.getAsyncContext().addListener(new CompletionListener(sample.detach(), request, response));
+            } else {
+                requestProfiler.record(sample, request.getMethod(), request.getRequestURI(),
+                        failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus());
+            }
+        }
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    // onTimeout/onError 뒤에도 onComplete 는 항상 호출되므로 한 번만 기록
+    private final class CompletionListener implements AsyncListener {
+
+        private final RequestSample sample;
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+
+        CompletionListener(RequestSample sample, HttpServletRequest request, HttpServletResponse response) {
+            this.sample = sample;
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            requestProfiler.record(sample, request.getMethod(), request.getRequestURI(), response.getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
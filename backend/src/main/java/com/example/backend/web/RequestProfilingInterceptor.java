@@ -0,0 +1,33 @@
+package com.example.backend.web;
+
+import com.example.backend.service.profiler.RequestProfiler;
+import com.example.backend.service.profiler.utility.RequestSample;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 컨트롤러 진입 시점과 endpoint 를 현재 요청 sample 에 표시
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestProfilingInterceptor implements HandlerInterceptor {
+
+    private final RequestProfiler requestProfiler;
+
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        RequestSample sample = RequestSample.current();
+        if(sample != null && handler instanceof HandlerMethod handlerMethod) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            sample.enterHandler(requestProfiler.endpoint(handlerMethod.getMethod(), request.getMethod(), pattern));
+        }
+        return true;
+    }
+}
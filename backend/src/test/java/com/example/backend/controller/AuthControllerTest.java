@@ -22,6 +22,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -119,13 +120,9 @@ class AuthControllerTest {
                 .password("password123")
                 .build();
 
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(new UsernamePasswordAuthenticationToken(dto.getEmail(), dto.getPassword()));
-        when(userService.checkAuthProvider(dto.getEmail(), AuthProvider.LOCAL))
-                .thenReturn(true);
-        when(customUserDetailsService.loadUserByUsername(dto.getEmail()))
-                .thenReturn(customUserDetails);
-        when(jwtProvider.tokenProvide(customUserDetails))
+        when(userService.loginByLocal(dto.getEmail(), dto.getPassword()))
+                .thenReturn(testUser);
+        when(jwtProvider.tokenProvide(any(CustomUserDetails.class)))
                 .thenReturn("test-jwt-token");
 
         // when
@@ -136,11 +133,12 @@ class AuthControllerTest {
         // then
         result.andExpect(status().isOk());
         result.andExpect(cookie().exists("ACCESS_TOKEN"));
-        verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userService, times(1)).checkAuthProvider(dto.getEmail(), AuthProvider.LOCAL);
+        verify(userService, times(1)).loginByLocal(dto.getEmail(), dto.getPassword());
+        verify(customUserDetailsService, never()).loadUserByUsername(anyString());
+        verify(authenticationManager, never()).authenticate(any(UsernamePasswordAuthenticationToken.class));
     }
 
-    @DisplayName("로컬 로그인 - 다른 인증 제공자로 가입된 경우")
+    @DisplayName("로컬 로그인 - 다른 인증 제공자로 가입된 경우도 비밀번호 불일치와 같은 401")
     @Test
     void testLoginByLocalWithDifferentAuthProvider() throws Exception {
         // given
@@ -149,10 +147,30 @@ class AuthControllerTest {
                 .password("password123")
                 .build();
 
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(new UsernamePasswordAuthenticationToken(dto.getEmail(), dto.getPassword()));
-        when(userService.checkAuthProvider(dto.getEmail(), AuthProvider.LOCAL))
-                .thenReturn(false);
+        when(userService.loginByLocal(dto.getEmail(), dto.getPassword()))
+                .thenThrow(new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다."));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/auth/login/local")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+
+        // then
+        result.andExpect(status().isUnauthorized());
+        verify(userService, times(1)).loginByLocal(dto.getEmail(), dto.getPassword());
+    }
+
+    @DisplayName("로컬 로그인 - 이메일 또는 비밀번호 불일치 시 401")
+    @Test
+    void testLoginByLocalBadCredentials() throws Exception {
+        // given
+        LocalLoginRequest dto = LocalLoginRequest.builder()
+                .email("test@example.com")
+                .password("wrong")
+                .build();
+
+        when(userService.loginByLocal(dto.getEmail(), dto.getPassword()))
+                .thenThrow(new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다."));
 
         // when
         ResultActions result = mockMvc.perform(post("/api/auth/login/local")
@@ -160,8 +178,8 @@ class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(dto)));
 
         // then
-        result.andExpect(status().isForbidden());
-        verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        result.andExpect(status().isUnauthorized());
+        result.andExpect(cookie().doesNotExist("ACCESS_TOKEN"));
     }
 
     @DisplayName("로그아웃 - 성공")
@@ -0,0 +1,131 @@
+package com.example.backend.controller;
+
+import com.example.backend.entity.user.User;
+import com.example.backend.entity.user.enumeration.AuthProvider;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로그인 폭주 중 다른 API 의 p99 측정
+ * BCrypt 가 전용 pool 에서만 돌기 때문에 /actuator/health 같은 일반 요청은 로그인 부하의 영향을 거의 받지 않아야 함
+ *
+ * ./gradlew loadTest
+ */
+@Tag("load")
+@DisplayName("로그인 폭주 부하 테스트")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "rate-limit.enabled=false")
+class LoginSpikeLoadTest {
+
+    private static final int LOGIN_CLIENTS = 64;
+    private static final int PROBE_REQUESTS = 2000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        if(!userRepository.existsByEmail("load@example.com")) {
+            userRepository.save(User.createUser(AuthProvider.LOCAL, "load@example.com", "loaduser",
+                    passwordEncoder.encode("password123"), Language.EN));
+        }
+    }
+
+    @DisplayName("로그인 폭주 중 health 요청 p99")
+    @Test
+    void testNonLoginLatencyDuringLoginSpike() throws Exception {
+        // given
+        List<Long> baseline = probe(PROBE_REQUESTS);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger loginOk = new AtomicInteger();
+        AtomicInteger loginRejected = new AtomicInteger();
+        ExecutorService loginClients = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for(int i = 0; i < LOGIN_CLIENTS; i++) {
+            loginClients.execute(() -> {
+                while(running.get()) {
+                    int status = login();
+                    if(status == 200) loginOk.incrementAndGet();
+                    else if(status == 503) loginRejected.incrementAndGet();
+                }
+            });
+        }
+
+        // when
+        Thread.sleep(1000);
+        List<Long> duringSpike = probe(PROBE_REQUESTS);
+        running.set(false);
+        loginClients.shutdown();
+        loginClients.awaitTermination(30, TimeUnit.SECONDS);
+
+        // then
+        long baselineP99 = percentile(baseline, 0.99);
+        long spikeP99 = percentile(duringSpike, 0.99);
+        System.out.printf("health p99 baseline=%.2fms, during login spike=%.2fms (login ok=%d, rejected 503=%d)%n",
+                baselineP99 / 1e6, spikeP99 / 1e6, loginOk.get(), loginRejected.get());
+
+        assertTrue(loginOk.get() > 0);
+        assertTrue(spikeP99 < TimeUnit.MILLISECONDS.toNanos(250), "health p99 during login spike: " + spikeP99 / 1e6 + "ms");
+    }
+
+    private List<Long> probe(int count) throws Exception {
+        List<Long> latencies = new ArrayList<>(count);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).GET().build();
+        for(int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies.add(System.nanoTime() - start);
+            assertEquals(200, response.statusCode());
+        }
+        return latencies;
+    }
+
+    private int login() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login/local"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"load@example.com\",\"password\":\"password123\"}"))
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static long percentile(List<Long> latencies, double percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+    }
+}
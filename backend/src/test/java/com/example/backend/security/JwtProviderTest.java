@@ -0,0 +1,166 @@
+package com.example.backend.security;
+
+import com.example.backend.entity.user.User;
+import com.example.backend.entity.user.enumeration.AuthProvider;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.entity.user.enumeration.Role;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Base64;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JwtProvider 테스트")
+class JwtProviderTest {
+
+    private static final long EXPIRATION = 3_600_000L;
+
+    private JwtProvider jwtProvider;
+    private TokenRevocationStore tokenRevocationStore;
+    private CustomUserDetails customUserDetails;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        String secret = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+        jwtProvider = new JwtProvider(secret, EXPIRATION, new SimpleMeterRegistry());
+        tokenRevocationStore = new TokenRevocationStore(mock(ObjectProvider.class), EXPIRATION, 5000);
+
+        customUserDetails = new CustomUserDetails(User.builder()
+                .id(7L)
+                .email("test@example.com")
+                .username("testuser")
+                .authProvider(AuthProvider.LOCAL)
+                .role(Role.ROLE_PREMIER)
+                .language(Language.KO)
+                .build());
+    }
+
+    @DisplayName("토큰에 role/language claim 포함 후 DB 조회 없이 principal 복원")
+    @Test
+    void testClaimsRoundTrip() {
+        // given
+        String token = jwtProvider.tokenProvide(customUserDetails);
+
+        // when
+        Claims claims = jwtProvider.validateAndGetClaims(token);
+        CustomUserDetails result = jwtProvider.toUserDetails(claims);
+
+        // then
+        assertNotNull(result);
+        assertEquals("test@example.com", result.getUsername());
+        assertEquals(7L, result.getUser().getId());
+        assertEquals(Role.ROLE_PREMIER, result.getUser().getRole());
+        assertEquals(Language.KO, result.getUser().getLanguage());
+        assertEquals(customUserDetails.getAuthorities(), result.getAuthorities());
+    }
+
+    @DisplayName("role claim 이 없는 토큰 - null 반환")
+    @Test
+    void testToUserDetailsWithoutRoleClaim() {
+        // given
+        String token = jwtProvider.tokenProvide(org.springframework.security.core.userdetails.User
+                .withUsername("test@example.com").password("x").build());
+
+        // when
+        CustomUserDetails result = jwtProvider.toUserDetails(jwtProvider.validateAndGetClaims(token));
+
+        // then
+        assertNull(result);
+    }
+
+    @DisplayName("폐기 시각 이전에 발급된 토큰은 폐기됨")
+    @Test
+    void testRevocation() {
+        // given
+        Date issuedBefore = new Date(System.currentTimeMillis() - 10_000);
+        Date issuedAfter = new Date(System.currentTimeMillis() + 10_000);
+
+        // when
+        tokenRevocationStore.revokeAll("test@example.com");
+
+        // then
+        assertTrue(tokenRevocationStore.isRevoked("test@example.com", issuedBefore));
+        assertFalse(tokenRevocationStore.isRevoked("test@example.com", issuedAfter));
+        // 폐기 직후 같은 초에 다시 발급된 토큰
+        assertFalse(tokenRevocationStore.isRevoked("test@example.com", new Date()));
+        assertFalse(tokenRevocationStore.isRevoked("other@example.com", issuedBefore));
+    }
+
+    @DisplayName("폐기는 Redis 로 공유되어 다른 인스턴스/재시작한 인스턴스에서도 거절")
+    @Test
+    void testRevocationSharedThroughRedis() {
+        // given
+        Map<String, String> redis = new HashMap<>();
+        ObjectProvider<StringRedisTemplate> redisTemplate = sharedRedis(redis);
+        TokenRevocationStore first = new TokenRevocationStore(redisTemplate, EXPIRATION, 5000);
+        TokenRevocationStore second = new TokenRevocationStore(redisTemplate, EXPIRATION, 5000);
+        Date issuedBefore = new Date(System.currentTimeMillis() - 10_000);
+
+        // when
+        first.revokeAll("test@example.com");
+
+        // then
+        assertTrue(second.isRevoked("test@example.com", issuedBefore));
+        assertTrue(new TokenRevocationStore(redisTemplate, EXPIRATION, 5000).isRevoked("test@example.com", issuedBefore));
+        assertFalse(second.isRevoked("other@example.com", issuedBefore));
+    }
+
+    @DisplayName("구조가 잘못된 토큰 - 파싱 전에 거절")
+    @Test
+    void testIsWellFormed() {
+        // given
+        String token = jwtProvider.tokenProvide(customUserDetails);
+
+        // then
+        assertTrue(JwtProvider.isWellFormed(token));
+        assertFalse(JwtProvider.isWellFormed(null));
+        assertFalse(JwtProvider.isWellFormed(""));
+        assertFalse(JwtProvider.isWellFormed("garbage"));
+        assertFalse(JwtProvider.isWellFormed("a.b.c.d"));
+        assertFalse(JwtProvider.isWellFormed(token + "="));
+        assertFalse(JwtProvider.isWellFormed("x".repeat(JwtProvider.MAX_TOKEN_LENGTH + 1)));
+    }
+
+    @DisplayName("서명이 변조된 토큰 - 예외 없이 null 반환")
+    @Test
+    void testVerifyTamperedToken() {
+        // given
+        String token = jwtProvider.tokenProvide(customUserDetails);
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        // when & then
+        assertNotNull(jwtProvider.verify(token));
+        assertNull(jwtProvider.verify(tampered));
+        assertNull(jwtProvider.verify("not.a.token"));
+    }
+
+    // 여러 인스턴스가 같은 Redis 를 보는 상황. set/get 만 사용
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<StringRedisTemplate> sharedRedis(Map<String, String> redis) {
+        ValueOperations<String, String> operations = mock(ValueOperations.class);
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(operations).set(anyString(), anyString(), any(Duration.class));
+        when(operations.get(anyString())).thenAnswer(invocation -> redis.get((String) invocation.getArgument(0)));
+
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        when(template.opsForValue()).thenReturn(operations);
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(template);
+        return provider;
+    }
+}
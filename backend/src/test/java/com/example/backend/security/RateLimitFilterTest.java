@@ -0,0 +1,64 @@
+package com.example.backend.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimitFilter 클라이언트 IP 테스트")
+class RateLimitFilterTest {
+
+    private static final String HEADER = "X-Forwarded-For";
+    private static final List<IpAddressMatcher> PROXIES = List.of(new IpAddressMatcher("10.0.0.0/8"));
+
+    @DisplayName("신뢰하는 proxy 가 없으면 header 를 무시하고 연결 주소 사용")
+    @Test
+    void testIgnoresHeaderWithoutTrustedProxies() {
+        // given
+        MockHttpServletRequest request = request("203.0.113.5", "198.51.100.1");
+
+        // when & then
+        assertEquals("203.0.113.5", RateLimitFilter.clientIp(request, List.of(), HEADER));
+    }
+
+    @DisplayName("신뢰하지 않는 주소에서 온 header 는 무시")
+    @Test
+    void testIgnoresHeaderFromUntrustedPeer() {
+        // given
+        MockHttpServletRequest request = request("203.0.113.5", "198.51.100.1");
+
+        // when & then
+        assertEquals("203.0.113.5", RateLimitFilter.clientIp(request, PROXIES, HEADER));
+    }
+
+    @DisplayName("proxy 뒤에서는 오른쪽부터 proxy 가 아닌 첫 주소 사용 (클라이언트가 넣은 왼쪽 값은 무시)")
+    @Test
+    void testUsesRightmostUntrustedHop() {
+        // given
+        MockHttpServletRequest request = request("10.0.0.2", "1.2.3.4, 198.51.100.1, 10.0.0.3");
+
+        // when & then
+        assertEquals("198.51.100.1", RateLimitFilter.clientIp(request, PROXIES, HEADER));
+    }
+
+    @DisplayName("proxy 뒤인데 header 가 없으면 연결 주소 사용")
+    @Test
+    void testFallsBackToRemoteWithoutHeader() {
+        // given
+        MockHttpServletRequest request = request("10.0.0.2", null);
+
+        // when & then
+        assertEquals("10.0.0.2", RateLimitFilter.clientIp(request, PROXIES, HEADER));
+    }
+
+    private static MockHttpServletRequest request(String remote, String forwarded) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/book/search");
+        request.setRemoteAddr(remote);
+        if(forwarded != null) request.addHeader(HEADER, forwarded);
+        return request;
+    }
+}
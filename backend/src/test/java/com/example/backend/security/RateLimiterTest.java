@@ -0,0 +1,106 @@
+package com.example.backend.security;
+
+import com.example.backend.security.utility.RateLimitProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("RateLimiter 테스트 (Redis 없이 로컬 카운트)")
+class RateLimiterTest {
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setWindowMs(60_000);
+        ObjectProvider<StringRedisTemplate> redisTemplate = mock(ObjectProvider.class);
+        rateLimiter = new RateLimiter(properties, redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.shutdown();
+    }
+
+    @DisplayName("limit 까지 허용 후 거절")
+    @Test
+    void testTryAcquireUpToLimit() {
+        // when
+        int allowed = 0;
+        for(int i = 0; i < 20; i++) {
+            if(rateLimiter.tryAcquire("ip:127.0.0.1", 5)) allowed++;
+        }
+
+        // then
+        assertEquals(5, allowed);
+    }
+
+    @DisplayName("key 별로 독립적으로 집계")
+    @Test
+    void testKeysAreIndependent() {
+        // given
+        for(int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("ip:10.0.0.1", 5);
+        }
+
+        // then
+        assertFalse(rateLimiter.tryAcquire("ip:10.0.0.1", 5));
+        assertTrue(rateLimiter.tryAcquire("ip:10.0.0.2", 5));
+    }
+
+    @DisplayName("Redis 가 없어도 sync 는 예외 없이 로컬 카운트 유지")
+    @Test
+    void testSyncWithoutRedis() {
+        // given
+        for(int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("user:test@example.com", 3);
+        }
+
+        // when
+        rateLimiter.sync();
+
+        // then
+        assertFalse(rateLimiter.tryAcquire("user:test@example.com", 3));
+    }
+
+    @DisplayName("window 가 바뀌어도 보내지 않은 카운트는 이전 window 몫으로 한 번만 보냄")
+    @Test
+    void testRotateKeepsPendingForPreviousWindow() {
+        // given
+        RateLimiter.WindowCounter counter = new RateLimiter.WindowCounter(10);
+        counter.globalCurrent = 4;
+        counter.unsynced.add(3);
+
+        // when
+        counter.rotate(11);
+
+        // then
+        assertEquals(7, counter.globalPrevious);
+        assertEquals(0, counter.globalCurrent);
+        assertEquals(3, counter.takePendingPrevious(10));
+        assertEquals(0, counter.takePendingPrevious(10));
+    }
+
+    @DisplayName("두 window 이상 지나면 이전 카운트는 버림")
+    @Test
+    void testRotateSkippingWindowsDropsPending() {
+        // given
+        RateLimiter.WindowCounter counter = new RateLimiter.WindowCounter(10);
+        counter.unsynced.add(3);
+
+        // when
+        counter.rotate(13);
+
+        // then
+        assertEquals(0, counter.globalPrevious);
+        assertEquals(0, counter.takePendingPrevious(12));
+    }
+}
@@ -3,20 +3,38 @@ package com.example.backend.service;
 import com.example.backend.dto.auth.AuthMyInfoResponse;
 import com.example.backend.entity.user.User;
 import com.example.backend.entity.user.enumeration.AuthProvider;
+import com.example.backend.entity.user.enumeration.Language;
 import com.example.backend.entity.user.enumeration.Role;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.security.PasswordHashingExecutor;
+import com.example.backend.security.RateLimitExceededException;
+import com.example.backend.security.RateLimiter;
+import com.example.backend.security.TokenRevocationStore;
+import com.example.backend.security.utility.RateLimitProperties;
+import com.example.backend.service.mail.MailOutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
 @DisplayName("UserService 테스트")
@@ -26,6 +44,24 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private RateLimitProperties rateLimitProperties;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private UserService userService;
 
@@ -43,7 +79,7 @@ class UserServiceTest {
                 .build();
     }
 
-    @DisplayName("새로운 사용자 생성 - 기존 사용자가 없을 때")
+    @DisplayName("새로운 사용자 생성 - 기존 사용자가 없을 때 (조회 1회 + 저장)")
     @Test
     void testCreateUserSuccess() {
         // given
@@ -52,20 +88,21 @@ class UserServiceTest {
         String password = "encodedPassword";
         AuthProvider authProvider = AuthProvider.LOCAL;
 
-        when(userRepository.existsByEmail(email)).thenReturn(false);
+        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // when
-        User result = userService.createUser(email, username, password, authProvider);
+        User result = userService.createUser(email, username, password, authProvider, Language.KO);
 
         // then
         assertNotNull(result);
         assertEquals("test@example.com", result.getEmail());
-        verify(userRepository, times(1)).existsByEmail(email);
+        verify(userRepository, times(1)).findByEmail(email);
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, never()).existsByEmail(anyString());
     }
 
-    @DisplayName("사용자 생성 - 이미 존재하는 이메일")
+    @DisplayName("사용자 생성 - 이미 존재하는 이메일 (조회 1회, 저장 안 함)")
     @Test
     void testCreateUserAlreadyExists() {
         // given
@@ -74,20 +111,48 @@ class UserServiceTest {
         String password = "encodedPassword";
         AuthProvider authProvider = AuthProvider.LOCAL;
 
-        when(userRepository.existsByEmail(email)).thenReturn(true);
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(testUser));
 
         // when
-        User result = userService.createUser(email, username, password, authProvider);
+        User result = userService.createUser(email, username, password, authProvider, Language.KO);
 
         // then
-        assertNotNull(result);
         assertEquals(testUser, result);
-        verify(userRepository, times(1)).existsByEmail(email);
         verify(userRepository, times(1)).findByEmail(email);
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @DisplayName("사용자 생성 - 동시에 먼저 저장된 사용자가 있으면 unique 위반 후 다시 조회")
+    @Test
+    void testCreateUserConcurrentFirstLogin() {
+        // given
+        String email = "test@example.com";
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.empty(), Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate email"));
+
+        // when
+        User result = userService.createUser(email, "testuser", null, AuthProvider.NAVER, Language.KO);
+
+        // then
+        assertEquals(testUser, result);
+        verify(userRepository, times(2)).findByEmail(email);
+    }
+
+    @DisplayName("사용자 생성 - 이메일이 아닌 다른 제약 위반은 그대로 예외")
+    @Test
+    void testCreateUserOtherConstraintViolation() {
+        // given
+        String email = "newuser@example.com";
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate username"));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> userService.createUser(email, "testuser", null, AuthProvider.NAVER, Language.KO));
+    }
+
     @DisplayName("인증 제공자 확인 - 일치할 때")
     @Test
     void testCheckAuthProviderMatches() {
@@ -173,5 +238,129 @@ class UserServiceTest {
         assertNull(result);
         verify(userRepository, times(1)).findByEmail(email);
     }
-}
 
+    @DisplayName("로컬 로그인 - 성공 (사용자 조회 1회)")
+    @Test
+    void testLoginByLocalSuccess() throws Exception {
+        // given
+        when(rateLimiter.tryAcquire(anyString(), anyLong())).thenReturn(true);
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingExecutor.matches("password123", "encodedPassword")).thenReturn(true);
+
+        // when
+        User result = userService.loginByLocal("test@example.com", "password123");
+
+        // then
+        assertEquals(testUser, result);
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+    }
+
+    @DisplayName("로컬 로그인 - 비밀번호 불일치")
+    @Test
+    void testLoginByLocalWrongPassword() {
+        // given
+        when(rateLimiter.tryAcquire(anyString(), anyLong())).thenReturn(true);
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingExecutor.matches("wrong", "encodedPassword")).thenReturn(false);
+
+        // when & then
+        assertThrows(BadCredentialsException.class, () -> userService.loginByLocal("test@example.com", "wrong"));
+    }
+
+    @DisplayName("로컬 로그인 - 없는 이메일도 dummy hash 로 BCrypt 를 수행한 뒤 실패")
+    @Test
+    void testLoginByLocalUnknownEmail() {
+        // given
+        when(rateLimiter.tryAcquire(anyString(), anyLong())).thenReturn(true);
+        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(BadCredentialsException.class, () -> userService.loginByLocal("unknown@example.com", "password123"));
+        verify(passwordHashingExecutor, times(1)).matches("password123", UserService.DUMMY_BCRYPT_HASH);
+    }
+
+    @DisplayName("로컬 로그인 - 다른 인증 제공자로 가입된 경우도 BCrypt 수행 후 같은 401 예외")
+    @Test
+    void testLoginByLocalWithDifferentAuthProvider() {
+        // given
+        when(rateLimiter.tryAcquire(anyString(), anyLong())).thenReturn(true);
+        User naverUser = User.builder()
+                .email("naver@example.com")
+                .authProvider(AuthProvider.NAVER)
+                .role(Role.ROLE_USER)
+                .build();
+        when(userRepository.findByEmail("naver@example.com")).thenReturn(Optional.of(naverUser));
+
+        // when & then
+        assertThrows(BadCredentialsException.class, () -> userService.loginByLocal("naver@example.com", "password123"));
+        verify(passwordHashingExecutor, times(1)).matches("password123", UserService.DUMMY_BCRYPT_HASH);
+    }
+
+    @DisplayName("로컬 로그인 - 계정 단위 요청 제한 초과 시 DB 조회 안 함")
+    @Test
+    void testLoginByLocalRateLimited() {
+        // given
+        when(rateLimitProperties.getAccountLimit()).thenReturn(10L);
+        when(rateLimiter.tryAcquire("account:test@example.com", 10L)).thenReturn(false);
+
+        // when & then
+        assertThrows(RateLimitExceededException.class, () -> userService.loginByLocal("test@example.com", "password123"));
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @DisplayName("비밀번호 재설정 - 비밀번호 저장, 알림 메일 outbox 저장, 기존 토큰 폐기")
+    @Test
+    void testResetPasswordSuccess() throws Exception {
+        // given
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+        // when
+        userService.resetPassword("test@example.com", "newEncodedPassword");
+
+        // then
+        assertEquals("newEncodedPassword", testUser.getPassword());
+        verify(userRepository, times(1)).save(testUser);
+        verify(mailOutboxService, times(1)).enqueue(startsWith("password-changed.1."), eq("test@example.com"), anyString(), anyString());
+        verify(tokenRevocationStore, times(1)).revokeAll("test@example.com");
+    }
+
+    @DisplayName("비밀번호 재설정 - 트랜잭션 안이면 commit 후에 토큰 폐기")
+    @Test
+    void testResetPasswordRevokesAfterCommit() throws Exception {
+        // given
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            userService.resetPassword("test@example.com", "newEncodedPassword");
+
+            // then
+            verify(tokenRevocationStore, never()).revokeAll(anyString());
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            verify(tokenRevocationStore, times(1)).revokeAll("test@example.com");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("비밀번호 재설정 - 소셜 가입 회원은 메일을 보내지 않음")
+    @Test
+    void testResetPasswordWithDifferentAuthProvider() {
+        // given
+        User naverUser = User.builder()
+                .email("naver@example.com")
+                .authProvider(AuthProvider.NAVER)
+                .role(Role.ROLE_USER)
+                .build();
+        when(userRepository.findByEmail("naver@example.com")).thenReturn(Optional.of(naverUser));
+
+        // when & then
+        assertThrows(IllegalAccessException.class, () -> userService.resetPassword("naver@example.com", "newEncodedPassword"));
+        verify(mailOutboxService, never()).enqueue(anyString(), anyString(), anyString(), anyString());
+        verify(tokenRevocationStore, never()).revokeAll(anyString());
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.backend.service.auth;
+
+import com.example.backend.dto.auth.google.GoogleUserInfoResponse;
+import com.example.backend.service.auth.utility.GoogleOAuthProviderProperties;
+import com.example.backend.service.auth.utility.GoogleOAuthRegistrationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.RsaPublicJwk;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GoogleIdTokenVerifier 테스트 (로컬 키 쌍 + stub JWKS)")
+class GoogleIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client-id";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+
+    private HttpServer server;
+    private KeyPair keyPair;
+    private GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        keyPair = Jwts.SIG.RS256.keyPair().build();
+        RsaPublicJwk jwk = Jwks.builder().key((RSAPublicKey) keyPair.getPublic()).id("kid-1").build();
+        byte[] jwks = ("{\"keys\":[" + Jwks.json(jwk) + "]}").getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/certs", exchange -> {
+            jwksRequests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            exchange.getResponseBody().write(jwks);
+            exchange.close();
+        });
+        server.start();
+
+        GoogleOAuthProviderProperties providerProperties = new GoogleOAuthProviderProperties();
+        providerProperties.setJwkSetUri("http://localhost:" + server.getAddress().getPort() + "/certs");
+        GoogleOAuthRegistrationProperties registrationProperties = new GoogleOAuthRegistrationProperties();
+        registrationProperties.setClientId(CLIENT_ID);
+
+        verifier = new GoogleIdTokenVerifier(WebClient.builder().build(), providerProperties, registrationProperties,
+                objectMapper, 3_600_000L);
+        verifier.refresh().block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @DisplayName("캐시된 키로 id_token 검증 - 원격 호출 없이 사용자 정보 반환")
+    @Test
+    void testVerifySuccess() throws Exception {
+        // given
+        String idToken = idToken("kid-1", "https://accounts.google.com", CLIENT_ID);
+        int requestsBefore = jwksRequests.get();
+
+        // when
+        GoogleUserInfoResponse result = verifier.verify(idToken);
+
+        // then
+        assertNotNull(result);
+        assertEquals("test@gmail.com", result.getEmail());
+        assertEquals("Tester", result.getName());
+        assertEquals("ko", result.getLocale());
+        assertEquals(requestsBefore, jwksRequests.get());
+    }
+
+    @DisplayName("알 수 없는 kid - null 반환 (userinfo 로 대체)")
+    @Test
+    void testVerifyUnknownKey() throws Exception {
+        // given
+        String idToken = idToken("kid-rotated", "https://accounts.google.com", CLIENT_ID);
+
+        // when
+        GoogleUserInfoResponse result = verifier.verify(idToken);
+
+        // then
+        assertNull(result);
+    }
+
+    @DisplayName("다른 client 에 발급된 id_token - IllegalAccessException")
+    @Test
+    void testVerifyWrongAudience() {
+        // given
+        String idToken = idToken("kid-1", "https://accounts.google.com", "other-client");
+
+        // when & then
+        assertThrows(IllegalAccessException.class, () -> verifier.verify(idToken));
+    }
+
+    @DisplayName("발급자가 Google 이 아닌 id_token - IllegalAccessException")
+    @Test
+    void testVerifyWrongIssuer() {
+        // given
+        String idToken = idToken("kid-1", "https://evil.example.com", CLIENT_ID);
+
+        // when & then
+        assertThrows(IllegalAccessException.class, () -> verifier.verify(idToken));
+    }
+
+    @DisplayName("id_token 이 없음 - null 반환")
+    @Test
+    void testVerifyMissingToken() throws Exception {
+        assertNull(verifier.verify(null));
+    }
+
+    private String idToken(String kid, String issuer, String audience) {
+        Date now = new Date();
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .issuer(issuer)
+                .audience().add(audience).and()
+                .subject("1234567890")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 3_600_000L))
+                .claim("email", "test@gmail.com")
+                .claim("email_verified", true)
+                .claim("name", "Tester")
+                .claim("locale", "ko")
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+}
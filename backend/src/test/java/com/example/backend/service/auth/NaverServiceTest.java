@@ -0,0 +1,148 @@
+package com.example.backend.service.auth;
+
+import com.example.backend.dto.auth.naver.NaverUserInfoResponse;
+import com.example.backend.service.auth.utility.NaverOAuthProviderProperties;
+import com.example.backend.service.auth.utility.NaverOAuthRegistrationProperties;
+import com.example.backend.service.auth.utility.OAuthHttpClientProperties;
+import com.example.backend.web.OAuthWebClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NaverService 테스트 (로컬 mock 서버)")
+class NaverServiceTest {
+
+    private HttpServer server;
+    // userinfo 응답 지연 (ms)
+    private final AtomicLong userInfoDelay = new AtomicLong();
+
+    private NaverOAuthRegistrationProperties registrationProperties;
+    private NaverOAuthProviderProperties providerProperties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/token", exchange -> {
+            respond(exchange, "{\"access_token\":\"naver-access-token\",\"token_type\":\"bearer\",\"expires_in\":3600}");
+        });
+        server.createContext("/me", exchange -> {
+            sleep(userInfoDelay.get());
+            assertEquals("Bearer naver-access-token", exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{\"id\":\"1\",\"email\":\"test@naver.com\",\"nickname\":\"tester\"}}");
+        });
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        registrationProperties = new NaverOAuthRegistrationProperties();
+        registrationProperties.setClientId("client-id");
+        registrationProperties.setClientSecret("client-secret");
+        registrationProperties.setAuthorizationGrantType("authorization_code");
+        providerProperties = new NaverOAuthProviderProperties();
+        providerProperties.setTokenUri(baseUrl + "/token");
+        providerProperties.setUserInfoUri(baseUrl + "/me");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @DisplayName("토큰 발급 후 사용자 정보 조회 - 성공")
+    @Test
+    void testGetUsernameAndEmailSuccess() {
+        // given
+        NaverService naverService = naverService(new OAuthHttpClientProperties());
+
+        // when
+        NaverUserInfoResponse result = naverService.getUsernameAndEmail("code", "state").block();
+
+        // then
+        assertNotNull(result);
+        assertEquals("test@naver.com", result.getEmail());
+        assertEquals("tester", result.getNickname());
+    }
+
+    @DisplayName("provider 응답 지연 - response timeout 후 RejectedExecutionException")
+    @Test
+    void testSlowProviderTimesOut() {
+        // given
+        OAuthHttpClientProperties properties = new OAuthHttpClientProperties();
+        properties.setResponseTimeoutMs(200);
+        NaverService naverService = naverService(properties);
+        userInfoDelay.set(1000);
+
+        // when
+        long start = System.currentTimeMillis();
+        assertThrows(RejectedExecutionException.class, () -> naverService.getUsernameAndEmail("code", "state").block());
+
+        // then
+        assertTrue(System.currentTimeMillis() - start < 900);
+    }
+
+    @DisplayName("동시 호출 수 제한 - pool 과 대기열이 가득 차면 즉시 거절")
+    @Test
+    void testConcurrencyIsBounded() {
+        // given
+        OAuthHttpClientProperties properties = new OAuthHttpClientProperties();
+        properties.setMaxConnections(2);
+        properties.setPendingAcquireMaxCount(1);
+        NaverService naverService = naverService(properties);
+        userInfoDelay.set(500);
+
+        // when
+        List<Object> results = Flux.range(0, 6)
+                .flatMap(i -> naverService.getUsernameAndEmail("code", "state")
+                        .<Object>map(response -> response)
+                        .onErrorResume(e -> Mono.just(e))
+                        .subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block();
+
+        // then
+        assertNotNull(results);
+        long rejected = results.stream().filter(RejectedExecutionException.class::isInstance).count();
+        long succeeded = results.stream().filter(NaverUserInfoResponse.class::isInstance).count();
+        assertTrue(rejected > 0, "pool 포화 시 거절되어야 함");
+        assertTrue(succeeded > 0);
+    }
+
+    private NaverService naverService(OAuthHttpClientProperties properties) {
+        WebClient webClient = OAuthWebClientConfig.create(WebClient.builder(), "naver-test", properties);
+        return new NaverService(webClient, registrationProperties, providerProperties, new SimpleMeterRegistry());
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.backend.service.book;
+
+import com.example.backend.dto.book.LibraryBookItem;
+import com.example.backend.dto.book.LibraryPageResponse;
+import com.example.backend.dto.book.LibraryResponse;
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.book.FavoriteBook;
+import com.example.backend.entity.book.RecentBook;
+import com.example.backend.entity.user.User;
+import com.example.backend.entity.user.enumeration.AuthProvider;
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.service.outbox.OutboxWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LibraryService 테스트 (SQL 실행 횟수)")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+// Book/FavoriteBook 의 OutboxEntityListener 가 OutboxWriter 를 주입받음
+@Import({LibraryService.class, OutboxWriter.class})
+class LibraryServiceTest {
+
+    private static final int ENTRIES = 30;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LibraryService libraryService;
+
+    private Long userId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.createUser(AuthProvider.LOCAL, "reader@example.com", "reader", "encoded", Language.EN);
+        entityManager.persist(user);
+        for(long i = 1; i <= ENTRIES; i++) {
+            Book book = Book.builder().id(i).title("Title " + i).author("Author " + i).build();
+            entityManager.persist(book);
+            entityManager.persist(FavoriteBook.builder().book(book).user(user).build());
+            entityManager.persist(RecentBook.builder().book(book).user(user).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        userId = user.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("서재 첫 화면 - 행 수와 무관하게 쿼리 2번")
+    @Test
+    void testGetLibraryStatementCount() {
+        // when
+        LibraryResponse library = libraryService.getLibrary(userId, 20);
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(20, library.getFavorites().getBooks().size());
+        assertEquals(20, library.getRecents().getBooks().size());
+        assertEquals("Title 30", library.getFavorites().getBooks().get(0).getTitle());
+    }
+
+    @DisplayName("cursor 로 다음 페이지 - 페이지당 쿼리 1번, 중복/누락 없음")
+    @Test
+    void testFavoritesPagination() {
+        // when
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            LibraryPageResponse page = libraryService.getFavorites(userId, cursor, 7);
+            for(LibraryBookItem item : page.getBooks()) {
+                assertTrue(seen.add(item.getBookId()));
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while(cursor != null);
+
+        // then
+        assertEquals(ENTRIES, seen.size());
+        assertEquals(5, pages);
+        assertEquals(pages, statistics.getPrepareStatementCount());
+    }
+
+    @DisplayName("Book/User 엔티티를 로딩하지 않음")
+    @Test
+    void testNoEntityLoads() {
+        // when
+        List<LibraryBookItem> books = libraryService.getRecents(userId, null, 50).getBooks();
+
+        // then
+        assertEquals(ENTRIES, books.size());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.backend.service.book.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ByteRange 테스트")
+class ByteRangeTest {
+
+    @DisplayName("시작-끝, 열린 끝, suffix 구간 파싱")
+    @Test
+    void testParseSingleRange() {
+        // when & then
+        assertEquals(new ByteRange(0, 99), ByteRange.parse("bytes=0-99", 1000));
+        assertEquals(new ByteRange(500, 999), ByteRange.parse("bytes=500-", 1000));
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=-100", 1000));
+        assertEquals(100, ByteRange.parse("bytes=0-99", 1000).length());
+    }
+
+    @DisplayName("끝이 파일 크기를 넘으면 마지막 byte 로 자름")
+    @Test
+    void testParseClampsEnd() {
+        // when & then
+        assertEquals(new ByteRange(10, 19), ByteRange.parse("bytes=10-5000", 20));
+        assertEquals(new ByteRange(0, 19), ByteRange.parse("bytes=-5000", 20));
+    }
+
+    @DisplayName("시작이 파일 크기 이상이면 만족 불가")
+    @Test
+    void testParseUnsatisfiable() {
+        // when & then
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=1000-", 1000));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-0", 1000));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-10", 0));
+    }
+
+    @DisplayName("여러 구간, 잘못된 형식, 다른 단위는 무시")
+    @Test
+    void testParseIgnored() {
+        // when & then
+        assertNull(ByteRange.parse(null, 1000));
+        assertNull(ByteRange.parse("bytes=0-9,20-29", 1000));
+        assertNull(ByteRange.parse("bytes=9-0", 1000));
+        assertNull(ByteRange.parse("bytes=abc-", 1000));
+        assertNull(ByteRange.parse("items=0-9", 1000));
+    }
+}
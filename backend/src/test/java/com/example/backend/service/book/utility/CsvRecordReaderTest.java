@@ -0,0 +1,81 @@
+package com.example.backend.service.book.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvRecordReader 테스트")
+class CsvRecordReaderTest {
+
+    @DisplayName("헤더와 일반 레코드 파싱")
+    @Test
+    void testReadSimpleRecords() throws IOException {
+        // given
+        String csv = "Text#,Type,Title,Authors\n1,Text,Moby Dick,\"Melville, Herman\"\n";
+
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv))) {
+            // when & then
+            assertEquals(List.of("Text#", "Type", "Title", "Authors"), reader.next());
+            assertEquals(List.of("1", "Text", "Moby Dick", "Melville, Herman"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @DisplayName("따옴표 안의 줄바꿈과 \"\" 이스케이프")
+    @Test
+    void testReadQuotedNewlineAndEscapedQuote() throws IOException {
+        // given
+        String csv = "2,\"The \"\"Raven\"\"\r\nand Other Poems\",Poe\r\n3,Emma,Austen";
+
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv))) {
+            // when & then
+            assertEquals(List.of("2", "The \"Raven\"\r\nand Other Poems", "Poe"), reader.next());
+            assertEquals(List.of("3", "Emma", "Austen"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @DisplayName("닫히지 않은 따옴표 - IOException")
+    @Test
+    void testUnclosedQuote() {
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader("1,\"broken"))) {
+            assertThrows(IOException.class, reader::next);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @DisplayName("길이 제한을 넘은 레코드는 그 줄만 실패하고 다음 레코드부터 계속 읽음")
+    @Test
+    void testRecordTooLong() throws IOException {
+        // given
+        String csv = "1," + "x".repeat(100) + "\n2,Emma,Austen\n";
+
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv), 10, 1000)) {
+            // when & then
+            assertThrows(CsvRecordReader.RecordTooLongException.class, reader::next);
+            assertEquals(List.of("2", "Emma", "Austen"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @DisplayName("따옴표 안 줄바꿈이 있는 긴 필드도 닫는 따옴표까지 버리고 바로 다음 레코드를 반환")
+    @Test
+    void testQuotedMultilineRecordTooLong() throws IOException {
+        // given
+        String csv = "1,\"" + "x".repeat(20) + "\n123,\"\"fake\"\"\n456,bogus\n" + "y".repeat(20) + "\",Poe\n"
+                + "2,Emma,Austen\n";
+
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv), 10, 1000)) {
+            // when & then
+            assertThrows(CsvRecordReader.RecordTooLongException.class, reader::next);
+            assertEquals(List.of("2", "Emma", "Austen"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.backend.service.book.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExportWriter 테스트")
+class ExportWriterTest {
+
+    private static final List<String> COLUMNS = List.of("entryId", "bookId", "title", "author");
+
+    @DisplayName("NDJSON 은 한 행에 JSON 객체 하나")
+    @Test
+    void testNdjson() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ExportWriter writer = ExportWriter.open(ExportFormat.NDJSON, out, COLUMNS)) {
+            writer.row(2L, 11L, "Moby Dick", "Melville, Herman");
+            writer.row(1L, 12L, "Emma", null);
+        }
+
+        // then
+        assertEquals("{\"entryId\":2,\"bookId\":11,\"title\":\"Moby Dick\",\"author\":\"Melville, Herman\"}\n"
+                        + "{\"entryId\":1,\"bookId\":12,\"title\":\"Emma\",\"author\":null}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("CSV 는 header 후 한 행씩, 쉼표가 있는 값은 따옴표로 감쌈")
+    @Test
+    void testCsv() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ExportWriter writer = ExportWriter.open(ExportFormat.CSV, out, COLUMNS)) {
+            writer.row(2L, 11L, "Moby Dick", "Melville, Herman");
+            writer.row(1L, 12L, "한글 제목", null);
+        }
+
+        // then
+        assertEquals("entryId,bookId,title,author\n"
+                        + "2,11,\"Moby Dick\",\"Melville, Herman\"\n"
+                        + "1,12,\"한글 제목\",\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("알 수 없는 형식은 IllegalArgumentException, 없으면 NDJSON")
+    @Test
+    void testFormat() {
+        // when & then
+        assertEquals(ExportFormat.NDJSON, ExportFormat.from(null));
+        assertEquals(ExportFormat.CSV, ExportFormat.from("csv"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.from("xml"));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.backend.service.book.utility;
+
+import com.example.backend.entity.user.enumeration.Language;
+import com.example.backend.service.book.utility.GutenbergTextProcessor.TextStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GutenbergTextProcessor 테스트")
+class GutenbergTextProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    private final GutenbergTextProcessor processor = new GutenbergTextProcessor(200);
+
+    @DisplayName("라이선스 header/footer 를 제거하고 장 위치와 단어 수 계산")
+    @Test
+    void testStripHeaderAndFooter() throws IOException {
+        // given
+        Path source = directory.resolve("pg1.txt");
+        Files.writeString(source, "\uFEFFThe Project Gutenberg eBook of Moby Dick\r\n"
+                + "*** START OF THE PROJECT GUTENBERG EBOOK MOBY DICK ***\r\n\r\n\r\n"
+                + "CHAPTER I. Loomings.\r\n\r\n"
+                + "Call me Ishmael. Don't ask.   \r\n\r\n"
+                + "CHAPTER 2\r\nThe Carpet-Bag.\r\n\r\n"
+                + "*** END OF THE PROJECT GUTENBERG EBOOK MOBY DICK ***\r\nlicense text\r\n");
+        Path target = directory.resolve("1.txt");
+        Path gzip = directory.resolve("1.txt.gz");
+
+        // when
+        TextStats stats = processor.process(source, target, gzip);
+
+        // then
+        String body = Files.readString(target);
+        assertEquals("CHAPTER I. Loomings.\n\nCall me Ishmael. Don't ask.\n\nCHAPTER 2\nThe Carpet-Bag.\n", body);
+        assertEquals(List.of(0L, (long) body.indexOf("CHAPTER 2")), stats.chapterOffsets());
+        assertEquals(13, stats.wordCount());
+        assertEquals(1, stats.readingMinutes());
+        assertEquals(Language.EN, stats.language());
+        assertEquals(Files.size(target), stats.bytesWritten());
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gzip))) {
+            assertEquals(body, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @DisplayName("시작 표시가 없으면 전체를 본문으로 보고 한글 비율로 언어 판정")
+    @Test
+    void testKoreanWithoutHeader() throws IOException {
+        // given
+        Path source = directory.resolve("2.txt");
+        Files.writeString(source, "제 1 장 시작\n한글 본문 입니다 hello\n");
+
+        // when
+        TextStats stats = processor.process(source, directory.resolve("2.out"), null);
+
+        // then
+        assertEquals(Language.KO, stats.language());
+        assertEquals(List.of(0L), stats.chapterOffsets());
+        assertEquals(8, stats.wordCount());
+    }
+
+    @DisplayName("header 에 선언된 문자셋으로 읽어 UTF-8 로 기록")
+    @Test
+    void testDeclaredCharset() throws IOException {
+        // given
+        Path source = directory.resolve("3.txt");
+        Files.write(source, ("Character set encoding: ISO-8859-1\n"
+                + "*** START OF THIS PROJECT GUTENBERG EBOOK CAFE ***\ncafé\n").getBytes(StandardCharsets.ISO_8859_1));
+        Path target = directory.resolve("3.out");
+
+        // when
+        processor.process(source, target, null);
+
+        // then
+        assertEquals("café\n", Files.readString(target, StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("최대 길이를 넘는 줄은 나눠 읽고, 줄바꿈 종류는 \\n 으로 통일")
+    @Test
+    void testLineReaderCapsLineLength() throws IOException {
+        // given
+        String text = "abcdefghij" + "\r\n" + "kl\rmn\n";
+
+        try (GutenbergTextProcessor.LineReader reader = new GutenbergTextProcessor.LineReader(new StringReader(text), 4)) {
+            // when & then
+            assertEquals("abcd", reader.readLine());
+            assertEquals("efgh", reader.readLine());
+            assertEquals("ij", reader.readLine());
+            assertEquals("kl", reader.readLine());
+            assertEquals("mn", reader.readLine());
+            assertNull(reader.readLine());
+        }
+    }
+
+    @DisplayName("줄바꿈이 없는 긴 원문도 전체를 본문으로 기록")
+    @Test
+    void testSingleLongLine() throws IOException {
+        // given
+        Path source = directory.resolve("long.txt");
+        // 잘리는 자리가 단어 사이가 되도록 4글자 단위
+        String line = "abc ".repeat(GutenbergTextProcessor.MAX_LINE_LENGTH / 4 * 3);
+        Files.writeString(source, line);
+        Path target = directory.resolve("long-out.txt");
+
+        // when
+        TextStats stats = processor.process(source, target, null);
+
+        // then
+        assertEquals(line.strip(), Files.readString(target).replace("\n", " ").strip());
+        assertEquals(GutenbergTextProcessor.MAX_LINE_LENGTH / 4 * 3, stats.wordCount());
+    }
+}
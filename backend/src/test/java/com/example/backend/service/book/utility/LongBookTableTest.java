@@ -0,0 +1,108 @@
+package com.example.backend.service.book.utility;
+
+import com.example.backend.entity.book.enumeration.RightsStatus;
+import com.example.backend.entity.user.enumeration.Language;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongBookTable 테스트")
+class LongBookTableTest {
+
+    @DisplayName("저장한 값을 그대로 복원 (null 필드 포함)")
+    @ParameterizedTest(name = "offHeap={0}")
+    @ValueSource(booleans = {false, true})
+    void testRoundTrip(boolean offHeap) {
+        // given
+        LongBookTable table = new LongBookTable(16, offHeap);
+        BookSnapshot full = new BookSnapshot(2600L, "War and Peace", "Tolstoy, Leo", Language.EN, 1869, RightsStatus.PUBLIC_DOMAIN);
+        BookSnapshot sparse = new BookSnapshot(7L, "운수 좋은 날", null, null, null, null);
+
+        // when
+        table.put(full);
+        table.put(sparse);
+
+        // then
+        assertEquals(full, table.get(2600L));
+        assertEquals(sparse, table.get(7L));
+        assertNull(table.get(1L));
+    }
+
+    @DisplayName("확장/수정/삭제 후에도 모든 id 조회 가능")
+    @ParameterizedTest(name = "offHeap={0}")
+    @ValueSource(booleans = {false, true})
+    void testGrowUpdateRemove(boolean offHeap) {
+        // given
+        LongBookTable table = new LongBookTable(4, offHeap);
+        for(long id = 1; id <= 10_000; id++) {
+            table.put(new BookSnapshot(id, "Title " + id, "Author", Language.EN, null, null));
+        }
+
+        // when
+        for(long id = 1; id <= 10_000; id += 2) {
+            table.put(new BookSnapshot(id, "Updated " + id, "Author", Language.KO, null, null));
+        }
+        for(long id = 2; id <= 10_000; id += 4) {
+            table.remove(id);
+        }
+
+        // then
+        assertEquals(10_000 - 2_500, table.size());
+        for(long id = 1; id <= 10_000; id++) {
+            BookSnapshot book = table.get(id);
+            if(id % 2 == 1) assertEquals("Updated " + id, book.title());
+            else if(id % 4 == 2) assertNull(book);
+            else assertEquals("Title " + id, book.title());
+        }
+    }
+
+    @DisplayName("쓰기 중 동시 읽기 - 항상 일관된 값")
+    @ParameterizedTest(name = "offHeap={0}")
+    @ValueSource(booleans = {false, true})
+    void testConcurrentReads(boolean offHeap) throws Exception {
+        // given
+        LongBookTable table = new LongBookTable(16, offHeap);
+        for(long id = 1; id <= 1_000; id++) {
+            table.put(new BookSnapshot(id, "Title " + id, "Author " + id, Language.EN, null, null));
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        Future<?> writer = executor.submit(() -> {
+            for(int round = 0; round < 50; round++) {
+                for(long id = 1; id <= 1_000; id++) {
+                    table.put(new BookSnapshot(id, "Title " + id, "Author " + id + " rev" + round, Language.EN, null, null));
+                }
+            }
+            running.set(false);
+        });
+        Future<?>[] readers = new Future<?>[3];
+        for(int r = 0; r < readers.length; r++) {
+            readers[r] = executor.submit(() -> {
+                while(running.get()) {
+                    for(long id = 1; id <= 1_000; id++) {
+                        BookSnapshot book = table.get(id);
+                        assertEquals("Title " + id, book.title());
+                        assertTrue(book.author().startsWith("Author " + id));
+                    }
+                }
+            });
+        }
+
+        // then
+        writer.get(30, TimeUnit.SECONDS);
+        for(Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
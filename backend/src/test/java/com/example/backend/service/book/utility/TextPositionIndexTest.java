@@ -0,0 +1,102 @@
+package com.example.backend.service.book.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TextPositionIndex 테스트")
+class TextPositionIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("구절 검색은 연속된 위치만 일치하고 byte 위치와 강조 구간을 돌려줌")
+    @Test
+    void testSearchPhrase() throws IOException {
+        // given
+        Path text = write("1.txt", "Call me Ishmael. Some years ago,\n\n call ME   ishmael again. Ishmael me call.");
+        TextPositionIndex index = TextPositionIndex.open(text, directory.resolve("1.txt.idx"));
+
+        // when
+        TextPositionIndex.Result result = index.search("call me ishmael", 0, 10);
+
+        // then
+        assertEquals(2, result.totalHits());
+        assertEquals(0, result.hits().get(0).offset());
+        assertEquals("Call me Ishmael".length(), result.hits().get(0).length());
+
+        TextPositionIndex.Snippet snippet = index.snippet(result.hits().get(1), 10);
+        assertEquals("call ME ishmael", snippet.text().substring(snippet.highlightStart(), snippet.highlightEnd()));
+        assertTrue(snippet.text().startsWith("…"));
+    }
+
+    @DisplayName("한글/악센트 본문은 UTF-8 byte 위치 기준으로 자름")
+    @Test
+    void testSearchMultiByte() throws IOException {
+        // given
+        Path text = write("2.txt", "été café — 한글 본문 검색 테스트 입니다.");
+        TextPositionIndex index = TextPositionIndex.open(text, directory.resolve("2.txt.idx"));
+
+        // when
+        TextPositionIndex.Result result = index.search("본문 검색", 0, 10);
+
+        // then
+        assertEquals(1, result.totalHits());
+        TextPositionIndex.Hit hit = result.hits().get(0);
+        byte[] bytes = Files.readAllBytes(text);
+        assertEquals("본문 검색", new String(bytes, hit.offset(), hit.length(), StandardCharsets.UTF_8));
+
+        TextPositionIndex.Snippet snippet = index.snippet(hit, 4);
+        assertEquals("본문 검색", snippet.text().substring(snippet.highlightStart(), snippet.highlightEnd()));
+        assertEquals(1, index.search("CAFÉ", 0, 10).totalHits());
+    }
+
+    @DisplayName("from/limit 로 hit 를 나누고 전체 건수는 유지")
+    @Test
+    void testSearchPaging() throws IOException {
+        // given
+        Path text = write("3.txt", "whale ".repeat(25));
+        TextPositionIndex index = TextPositionIndex.open(text, directory.resolve("3.txt.idx"));
+
+        // when
+        TextPositionIndex.Result result = index.search("whale", 20, 10);
+
+        // then
+        assertEquals(25, result.totalHits());
+        assertEquals(5, result.hits().size());
+        assertEquals(20, result.hits().get(0).ordinal());
+        assertEquals(0, index.search("moby", 0, 10).totalHits());
+    }
+
+    @DisplayName("본문이 바뀌면 색인을 다시 생성")
+    @Test
+    void testRebuildWhenTextChanges() throws IOException {
+        // given
+        Path text = write("4.txt", "old text");
+        Path indexPath = directory.resolve("4.txt.idx");
+        TextPositionIndex.open(text, indexPath);
+
+        // when
+        Files.writeString(text, "brand new text");
+        Files.setLastModifiedTime(text, FileTime.fromMillis(Files.getLastModifiedTime(text).toMillis() + 1000));
+        TextPositionIndex index = TextPositionIndex.open(text, indexPath);
+
+        // then
+        assertEquals(1, index.search("brand new", 0, 10).totalHits());
+        assertEquals(0, index.search("old", 0, 10).totalHits());
+        assertTrue(TextPositionIndex.isCurrent(indexPath, Files.size(text), Files.getLastModifiedTime(text).toMillis()));
+    }
+
+    // ***** <<<<<UTILITY>>>>> ***** //
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+}
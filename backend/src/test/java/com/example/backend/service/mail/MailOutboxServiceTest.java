@@ -0,0 +1,53 @@
+package com.example.backend.service.mail;
+
+import com.example.backend.repository.MailMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("MailOutboxService 테스트")
+@DataJpaTest
+class MailOutboxServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MailOutboxService mailOutboxService;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        // 중복 확인을 통과한 두 요청이 같은 key 로 동시에 insert 하는 상황을 만들기 위해 repository 는 항상 "없음"
+        MailMessageRepository mailMessageRepository = mock(MailMessageRepository.class);
+        mailOutboxService = new MailOutboxService(mailMessageRepository, jdbcTemplate, mock(ObjectProvider.class),
+                "no-reply@example.com", 1, 100, 20, 6, 30_000, 300_000, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxService.shutdown();
+    }
+
+    @DisplayName("같은 key 가 unique 제약에 걸리면 이미 저장된 것으로 보고, 호출한 트랜잭션은 계속 사용 가능")
+    @Test
+    void testEnqueueDuplicateKey() {
+        // when
+        boolean first = mailOutboxService.enqueue("password-changed.1.100", "test@example.com", "제목", "본문");
+        boolean second = mailOutboxService.enqueue("password-changed.1.100", "test@example.com", "제목", "본문");
+
+        // then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from mail_message where idempotency_key = ?", Integer.class, "password-changed.1.100"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.service.mail.utility;
+
+import com.example.backend.service.mail.utility.MailBatchSender.OutgoingMail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MailBatchSender 테스트 (로컬 SMTP 서버)")
+class MailBatchSenderTest {
+
+    private SmtpStandIn smtp;
+    private MailBatchSender sender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new SmtpStandIn();
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.getPort());
+        sender = new MailBatchSender(mailSender, "no-reply@example.com");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtp.close();
+    }
+
+    @DisplayName("여러 메일을 SMTP connection 하나로 발송")
+    @Test
+    void testSendBatchOverOneConnection() {
+        // given
+        List<OutgoingMail> mails = List.of(mail(1, "a@example.com"), mail(2, "b@example.com"), mail(3, "c@example.com"));
+
+        // when
+        Map<Long, Exception> failed = sender.send(mails);
+
+        // then
+        assertTrue(failed.isEmpty());
+        assertEquals(3, smtp.getMessages().size());
+        assertEquals(1, smtp.getConnections());
+        assertEquals(List.of("b@example.com"), smtp.getMessages().get(1).recipients());
+    }
+
+    @DisplayName("거절된 수신자만 실패하고 나머지는 발송")
+    @Test
+    void testRejectedRecipientFailsOnlyThatMail() {
+        // given
+        smtp.reject("unknown@example.com");
+        List<OutgoingMail> mails = List.of(mail(1, "a@example.com"), mail(2, "unknown@example.com"), mail(3, "c@example.com"));
+
+        // when
+        Map<Long, Exception> failed = sender.send(mails);
+
+        // then
+        assertEquals(1, failed.size());
+        assertTrue(failed.containsKey(2L));
+        assertEquals(2, smtp.getMessages().size());
+        assertEquals(1, smtp.getConnections());
+    }
+
+    @DisplayName("idempotency key 로 고정된 Message-ID 사용")
+    @Test
+    void testMessageIdFromIdempotencyKey() {
+        // when
+        sender.send(List.of(mail(1, "a@example.com")));
+
+        // then
+        String data = smtp.getMessages().get(0).data();
+        assertTrue(data.contains("Message-ID: <password-changed.1@example.com>"), data);
+    }
+
+    @DisplayName("SMTP 서버에 연결할 수 없으면 전체 실패")
+    @Test
+    void testConnectionFailureFailsAll() throws IOException {
+        // given
+        smtp.close();
+
+        // when
+        Map<Long, Exception> failed = sender.send(List.of(mail(1, "a@example.com"), mail(2, "b@example.com")));
+
+        // then
+        assertEquals(2, failed.size());
+    }
+
+    private static OutgoingMail mail(long id, String recipient) {
+        return new OutgoingMail(id, "password-changed." + id, recipient, "비밀번호가 변경되었습니다", "본문");
+    }
+}
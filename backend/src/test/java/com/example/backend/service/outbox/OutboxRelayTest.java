@@ -0,0 +1,250 @@
+package com.example.backend.service.outbox;
+
+import com.example.backend.entity.outbox.enumeration.OutboxAggregate;
+import com.example.backend.entity.outbox.enumeration.OutboxOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OutboxRelay 테스트")
+@DataJpaTest
+@Import(OutboxWriter.class)
+class OutboxRelayTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @DisplayName("같은 id 의 이벤트는 마지막 operation 만 남음")
+    @Test
+    void testCoalesceLastWriteWins() {
+        // given
+        List<OutboxRelay.OutboxRow> rows = List.of(
+                new OutboxRelay.OutboxRow(1, OutboxAggregate.BOOK, 10, OutboxOperation.UPSERT, 0),
+                new OutboxRelay.OutboxRow(2, OutboxAggregate.BOOK, 10, OutboxOperation.UPSERT, 0),
+                new OutboxRelay.OutboxRow(3, OutboxAggregate.BOOK, 11, OutboxOperation.UPSERT, 0),
+                new OutboxRelay.OutboxRow(4, OutboxAggregate.BOOK, 11, OutboxOperation.DELETE, 0),
+                new OutboxRelay.OutboxRow(5, OutboxAggregate.BOOK, 12, OutboxOperation.DELETE, 0),
+                new OutboxRelay.OutboxRow(6, OutboxAggregate.BOOK, 12, OutboxOperation.UPSERT, 0));
+
+        // when
+        Map<OutboxAggregate, OutboxRelay.Changes> changes = OutboxRelay.coalesce(rows);
+
+        // then
+        OutboxRelay.Changes book = changes.get(OutboxAggregate.BOOK);
+        assertEquals(Set.of(10L, 12L), book.upserted());
+        assertEquals(Set.of(11L), book.deleted());
+    }
+
+    @DisplayName("대상 종류별로 따로 모음")
+    @Test
+    void testCoalesceByAggregate() {
+        // given
+        List<OutboxRelay.OutboxRow> rows = List.of(
+                new OutboxRelay.OutboxRow(1, OutboxAggregate.BOOK, 1, OutboxOperation.UPSERT, 0),
+                new OutboxRelay.OutboxRow(2, OutboxAggregate.FAVORITE_BOOK, 1, OutboxOperation.DELETE, 0));
+
+        // when
+        Map<OutboxAggregate, OutboxRelay.Changes> changes = OutboxRelay.coalesce(rows);
+
+        // then
+        assertEquals(Set.of(1L), changes.get(OutboxAggregate.BOOK).upserted());
+        assertTrue(changes.get(OutboxAggregate.BOOK).deleted().isEmpty());
+        assertEquals(Set.of(1L), changes.get(OutboxAggregate.FAVORITE_BOOK).deleted());
+    }
+
+    @DisplayName("반영한 이벤트는 다시 읽지 않고 보관 기간이 지나면 삭제됨")
+    @Test
+    void testDrainMarksAndPurgesAppliedEvents() {
+        // given
+        RecordingHandler handler = new RecordingHandler();
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, List.of(handler), 500, 3, 60_000, 60_000, 600_000, 10_000);
+        outboxWriter.appendAll(OutboxAggregate.BOOK, OutboxOperation.UPSERT, List.of(1L, 2L));
+        outboxWriter.append(OutboxAggregate.BOOK, OutboxOperation.DELETE, 3L);
+
+        // when
+        int drained = relay.drain();
+        int again = relay.drain();
+
+        // then
+        assertEquals(3, drained);
+        assertEquals(0, again);
+        assertEquals(Set.of(1L, 2L, 3L), handler.applied);
+        assertEquals(3, relay.getRelayedEvents());
+        assertEquals(3, countEvents());
+
+        // 보관 기간이 이미 지난 것으로 보고 정리
+        new OutboxRelay(jdbcTemplate, List.of(handler), 500, 3, 60_000, 60_000, -1, 10_000).purgeRelayed();
+        assertEquals(0, countEvents());
+    }
+
+    @DisplayName("handler 가 실패한 id 의 행만 남고 나머지와 뒤의 이벤트는 계속 반영됨")
+    @Test
+    void testDrainSkipsFailingRow() {
+        // given
+        RecordingHandler handler = new RecordingHandler(2L);
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, List.of(handler), 500, 3, 60_000, 60_000, 600_000, 10_000);
+        outboxWriter.appendAll(OutboxAggregate.BOOK, OutboxOperation.UPSERT, List.of(1L, 2L, 3L));
+
+        // when
+        relay.drain();
+        outboxWriter.append(OutboxAggregate.BOOK, OutboxOperation.UPSERT, 4L);
+        int drained = relay.drain();
+
+        // then
+        assertEquals(1, drained);
+        assertEquals(Set.of(1L, 3L, 4L), handler.applied);
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from outbox_event where relayed = false", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("select attempts from outbox_event where aggregate_id = 2", Integer.class));
+        assertEquals(0, relay.countDeadLetters());
+    }
+
+    @DisplayName("max-attempts 를 넘으면 dead letter 로 남고 더는 읽지 않음")
+    @Test
+    void testDrainMovesToDeadLetter() {
+        // given
+        RecordingHandler handler = new RecordingHandler(1L);
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, List.of(handler), 500, 2, 0, 60_000, 600_000, 10_000);
+        outboxWriter.append(OutboxAggregate.BOOK, OutboxOperation.UPSERT, 1L);
+
+        // when
+        relay.drain();
+        relay.drain();
+        int drained = relay.drain();
+
+        // then
+        assertEquals(0, drained);
+        assertEquals(1, relay.countDeadLetters());
+        assertEquals(2, relay.getFailedEvents());
+    }
+
+    @DisplayName("한 인스턴스가 가져간 행은 반영하는 동안 다른 인스턴스가 다시 가져가지 않음")
+    @Test
+    void testDrainClaimsRowsForOneInstance() {
+        // given
+        RecordingHandler otherHandler = new RecordingHandler();
+        OutboxRelay other = new OutboxRelay(jdbcTemplate, List.of(otherHandler), 500, 3, 60_000, 60_000, 600_000, 10_000);
+        List<Integer> drainedByOther = new ArrayList<>();
+        RecordingHandler handler = new RecordingHandler() {
+            @Override
+            public void apply(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted) {
+                // 반영 도중 다른 인스턴스의 relay 주기가 돌아옴
+                drainedByOther.add(other.drain());
+                super.apply(aggregate, upserted, deleted);
+            }
+        };
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, List.of(handler), 500, 3, 60_000, 60_000, 600_000, 10_000);
+        outboxWriter.appendAll(OutboxAggregate.BOOK, OutboxOperation.UPSERT, List.of(1L, 2L));
+
+        // when
+        int drained = relay.drain();
+
+        // then
+        assertEquals(2, drained);
+        assertEquals(List.of(0), drainedByOther);
+        assertEquals(Set.of(1L, 2L), handler.applied);
+        assertTrue(otherHandler.applied.isEmpty());
+        assertEquals(0, other.drain());
+    }
+
+    @DisplayName("점유가 만료된 행은 다른 인스턴스가 가져가서 반영함")
+    @Test
+    void testDrainReclaimsExpiredLease() {
+        // given
+        RecordingHandler handler = new RecordingHandler();
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, List.of(handler), 500, 3, 60_000, 60_000, 600_000, 10_000);
+        outboxWriter.append(OutboxAggregate.BOOK, OutboxOperation.UPSERT, 1L);
+        // 가져간 뒤 반영하지 못하고 죽은 인스턴스
+        jdbcTemplate.update("update outbox_event set claim_owner = 'crashed', next_attempt_date = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+
+        // when
+        int drained = relay.drain();
+
+        // then
+        assertEquals(1, drained);
+        assertEquals(Set.of(1L), handler.applied);
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from outbox_event where relayed = false", Integer.class));
+    }
+
+    @DisplayName("노드별 handler 는 공유 relay 와 상관없이 모든 이벤트를 한 번씩 받음")
+    @Test
+    void testPollLocalAppliesEachEventOnce() {
+        // given
+        RecordingHandler shared = new RecordingHandler();
+        RecordingHandler local = new RecordingHandler();
+        local.perInstance = true;
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, List.of(shared, local), 500, 3, 60_000, 60_000, 600_000, 10_000);
+        outboxWriter.appendAll(OutboxAggregate.BOOK, OutboxOperation.UPSERT, List.of(1L, 2L));
+        relay.drain();
+
+        // when
+        int first = relay.pollLocal();
+        outboxWriter.append(OutboxAggregate.BOOK, OutboxOperation.DELETE, 3L);
+        int second = relay.pollLocal();
+
+        // then
+        assertEquals(2, first);
+        assertEquals(1, second);
+        assertEquals(Set.of(1L, 2L), shared.applied);
+        assertEquals(Set.of(1L, 2L, 3L), local.applied);
+        assertEquals(3, local.calls);
+    }
+
+    @DisplayName("재시도 대기 시간은 두 배씩 늘고 최대값에서 멈춤")
+    @Test
+    void testBackoff() {
+        assertEquals(1000, OutboxRelay.backoffMillis(1000, 1));
+        assertEquals(4000, OutboxRelay.backoffMillis(1000, 3));
+        assertEquals(600_000, OutboxRelay.backoffMillis(1000, 30));
+    }
+
+    private int countEvents() {
+        return jdbcTemplate.queryForObject("select count(*) from outbox_event", Integer.class);
+    }
+
+    // failing 에 든 id 가 포함되면 예외
+    private static class RecordingHandler implements OutboxHandler {
+        private final Set<Long> failing;
+        private final Set<Long> applied = new HashSet<>();
+        private boolean perInstance;
+        private int calls;
+
+        RecordingHandler(Long... failing) {
+            this.failing = Set.of(failing);
+        }
+
+        @Override
+        public boolean supports(OutboxAggregate aggregate) {
+            return aggregate == OutboxAggregate.BOOK;
+        }
+
+        @Override
+        public boolean isPerInstance() {
+            return perInstance;
+        }
+
+        @Override
+        public void apply(OutboxAggregate aggregate, Set<Long> upserted, Set<Long> deleted) {
+            for(Long id : failing) {
+                if(upserted.contains(id) || deleted.contains(id)) {
+                    throw new IllegalStateException("cannot apply " + id);
+                }
+            }
+            applied.addAll(upserted);
+            applied.addAll(deleted);
+            calls += upserted.size() + deleted.size();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.backend.service.profiler.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyHistogram 테스트")
+class LatencyHistogramTest {
+
+    @DisplayName("칸 index 는 값 순서대로 이어지고 칸 상한은 다음 칸 시작 - 1")
+    @Test
+    void testIndexIsContiguous() {
+        // when & then
+        for(long value = 1; value <= 1_000_000; value++) {
+            int index = LatencyHistogram.index(value);
+            int previous = LatencyHistogram.index(value - 1);
+            assertTrue(index == previous || index == previous + 1, "value " + value);
+            if(index != previous) assertEquals(value - 1, LatencyHistogram.highestEquivalent(previous));
+        }
+    }
+
+    @DisplayName("칸 상한과 실제 값의 상대 오차는 1/16 이내")
+    @Test
+    void testRelativeError() {
+        // when & then
+        for(long value = 32; value <= LatencyHistogram.MAX_MICROS; value = value * 3 / 2) {
+            long upper = LatencyHistogram.highestEquivalent(LatencyHistogram.index(value));
+            assertTrue(upper >= value);
+            assertTrue(upper - value <= value / 16, "value " + value);
+        }
+    }
+
+    @DisplayName("1~1000µs 균등 분포의 p50/p99 와 max")
+    @Test
+    void testPercentiles() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for(long micros = 1; micros <= 1000; micros++) histogram.record(micros);
+
+        // when
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertEquals(1000, snapshot.total());
+        assertEquals(1000, snapshot.max());
+        assertEquals(500, snapshot.percentile(0.5), 500 / 16.0);
+        assertEquals(990, snapshot.percentile(0.99), 990 / 16.0);
+        assertEquals(1000, snapshot.percentile(1.0));
+        assertEquals(500_500, histogram.getSum());
+    }
+
+    @DisplayName("범위를 넘는 값은 마지막 칸, 음수는 0 으로 기록")
+    @Test
+    void testClamp() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        // then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.percentile(0.5));
+        assertEquals(LatencyHistogram.MAX_MICROS, snapshot.percentile(1.0));
+    }
+
+    @DisplayName("reset 후 비어 있음")
+    @Test
+    void testReset() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(123);
+
+        // when
+        histogram.reset();
+
+        // then
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.snapshot().percentile(0.99));
+    }
+}
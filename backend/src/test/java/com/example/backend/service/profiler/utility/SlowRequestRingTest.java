@@ -0,0 +1,51 @@
+package com.example.backend.service.profiler.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SlowRequestRing 테스트")
+class SlowRequestRingTest {
+
+    private final EndpointStats endpoint = new EndpointStats("BookController.search", "GET /api/book/search");
+
+    @DisplayName("용량을 넘으면 가장 오래된 기록부터 덮어씀")
+    @Test
+    void testOverwriteOldest() {
+        // given
+        SlowRequestRing ring = new SlowRequestRing(3);
+
+        // when
+        for(int i = 1; i <= 5; i++) offer(ring, i);
+
+        // then
+        List<Long> totals = ring.snapshot().stream().map(SlowRequestRing.Entry::totalNanos).sorted().toList();
+        assertEquals(List.of(3L, 4L, 5L), totals);
+    }
+
+    @DisplayName("clear 이후 기록만 보임")
+    @Test
+    void testClear() {
+        // given
+        SlowRequestRing ring = new SlowRequestRing(4);
+        offer(ring, 1);
+        offer(ring, 2);
+
+        // when
+        ring.clear();
+        offer(ring, 3);
+
+        // then
+        List<SlowRequestRing.Entry> entries = ring.snapshot();
+        assertEquals(1, entries.size());
+        assertEquals(3, entries.get(0).totalNanos());
+        assertSame(endpoint, entries.get(0).endpoint());
+    }
+
+    private void offer(SlowRequestRing ring, long total) {
+        ring.offer(endpoint, "GET", "/api/book/search", 200, 0L, total, 0, 0, 0);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.backend.service.search;
+
+import com.example.backend.dto.book.BookSearchItem;
+import com.example.backend.dto.book.BookSearchResponse;
+import com.example.backend.entity.book.Book;
+import com.example.backend.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookSearchService 통합 테스트 (single-node Elasticsearch)")
+@SpringBootTest(properties = {"search.cache.redis-enabled=false", "search.reindex.check-ms=100"})
+@Testcontainers(disabledWithoutDocker = true)
+class BookSearchServiceIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static ElasticsearchContainer elasticsearch =
+            new ElasticsearchContainer("docker.elastic.co/elasticsearch/elasticsearch:8.18.1")
+                    .withEnv("xpack.security.enabled", "false")
+                    .withEnv("ES_JAVA_OPTS", "-Xms512m -Xmx512m");
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookIndexService bookIndexService;
+
+    @Autowired
+    private BookSearchService bookSearchService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        List<Book> books = new ArrayList<>();
+        for(long i = 1; i <= 25; i++) {
+            books.add(Book.builder().id(i).title("War and Peace vol." + i).author("Leo Tolstoy").build());
+        }
+        books.add(Book.builder().id(100L).title("Crime and Punishment").author("Fyodor Dostoevsky").build());
+        bookRepository.saveAll(books);
+    }
+
+    @DisplayName("JPA Book 테이블 bulk 색인")
+    @Test
+    void testIndexAll() {
+        // when
+        long indexed = bookIndexService.indexAll();
+
+        // then
+        assertEquals(26, indexed);
+    }
+
+    @DisplayName("제목 검색 - 관련도 순 정렬")
+    @Test
+    void testSearchByTitle() {
+        // given
+        bookIndexService.indexAll();
+
+        // when
+        BookSearchResponse result = bookSearchService.search("crime punishment", null, 10);
+
+        // then
+        assertFalse(result.getBooks().isEmpty());
+        assertEquals(100L, result.getBooks().get(0).getId());
+    }
+
+    @DisplayName("search_after cursor 로 전체 결과를 중복 없이 순회")
+    @Test
+    void testSearchAfterPagination() {
+        // given
+        bookIndexService.indexAll();
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+
+        // when
+        do {
+            BookSearchResponse page = bookSearchService.search("tolstoy", cursor, 10);
+            for(BookSearchItem item : page.getBooks()) {
+                assertTrue(seen.add(item.getId()), "중복된 결과: " + item.getId());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while(cursor != null);
+
+        // then
+        assertEquals(25, seen.size());
+        assertEquals(3, pages);
+    }
+
+    @DisplayName("잘못된 cursor - IllegalArgumentException")
+    @Test
+    void testSearchWithInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> bookSearchService.search("tolstoy", "not-a-cursor", 10));
+    }
+}
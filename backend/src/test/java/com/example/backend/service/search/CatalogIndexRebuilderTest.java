@@ -0,0 +1,108 @@
+package com.example.backend.service.search;
+
+import com.example.backend.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CatalogIndexRebuilder 테스트")
+class CatalogIndexRebuilderTest {
+
+    private BookRepository bookRepository;
+    private CatalogIndexRebuilder<List<String>> rebuilder;
+    private int builds;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        when(bookRepository.count()).thenReturn(2L);
+        when(bookRepository.findMaxId()).thenReturn(2L);
+        when(bookRepository.findTitleAuthorByIdGreaterThanOrderByIdAsc(eq(Long.MIN_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(book(1L, "War and Peace"), book(2L, "Anna Karenina")));
+        when(bookRepository.findTitleAuthorByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        rebuilder = new CatalogIndexRebuilder<>("test", bookRepository, List.of(), this::newBuild, index -> index.size() + " titles");
+    }
+
+    @DisplayName("id/제목/저자 projection 을 keyset 으로 끝까지 읽어 snapshot 교체")
+    @Test
+    void testRebuild() {
+        // when
+        rebuilder.rebuild();
+
+        // then
+        assertEquals(List.of("War and Peace", "Anna Karenina"), rebuilder.snapshot().index());
+        assertEquals("2:2", rebuilder.snapshot().catalogVersion());
+        verify(bookRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @DisplayName("카탈로그가 그대로면 다시 만들지 않고, 변경 표시가 있으면 다시 만듦")
+    @Test
+    void testRefreshIfCatalogChanged() throws Exception {
+        // given
+        rebuilder.rebuild();
+
+        // when
+        rebuilder.refreshIfCatalogChanged();
+        awaitRebuild();
+        int unchanged = builds;
+        rebuilder.markStale();
+        rebuilder.refreshIfCatalogChanged();
+        awaitRebuild();
+
+        // then
+        assertEquals(1, unchanged);
+        assertEquals(2, builds);
+    }
+
+    private void awaitRebuild() throws InterruptedException {
+        for(int i = 0; i < 100 && rebuilder.isRebuilding(); i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private CatalogIndexRebuilder.Build<List<String>> newBuild() {
+        builds++;
+        List<String> titles = new ArrayList<>();
+        return new CatalogIndexRebuilder.Build<>() {
+            @Override
+            public void add(BookRepository.TitleAuthor book) {
+                titles.add(book.getTitle());
+            }
+
+            @Override
+            public List<String> build() {
+                return titles;
+            }
+        };
+    }
+
+    private static BookRepository.TitleAuthor book(Long id, String title) {
+        return new BookRepository.TitleAuthor() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getAuthor() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.backend.service.search;
+
+import com.example.backend.dto.book.BookSearchItem;
+import com.example.backend.dto.book.BookSearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SearchResultCache 테스트 (near-cache 단독)")
+class SearchResultCacheTest {
+
+    private SearchResultCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<StringRedisTemplate> redisTemplate = mock(ObjectProvider.class);
+        cache = new SearchResultCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                false, 1000, 60_000, 300_000);
+    }
+
+    @DisplayName("두 번째 조회는 loader 를 호출하지 않음")
+    @Test
+    void testNearCacheHit() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        String key = SearchResultCache.key("tolstoy", null, 20, "EN", "match");
+
+        // when
+        cache.get(key, () -> { loads.incrementAndGet(); return response(1L); });
+        BookSearchResponse second = cache.get(key, () -> { loads.incrementAndGet(); return response(1L); });
+
+        // then
+        assertEquals(1, loads.get());
+        assertEquals(1L, second.getBooks().get(0).getId());
+        assertEquals(0.5, cache.hitRatio(), 0.0001);
+    }
+
+    @DisplayName("동시 miss 는 한 번만 검색 (single-flight)")
+    @Test
+    void testSingleFlight() throws Exception {
+        // given
+        int threads = 16;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        String key = SearchResultCache.key("war and peace", null, 20, "EN", "match");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<BookSearchResponse>> futures = new ArrayList<>();
+        for(int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> cache.get(key, () -> {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return response(7L);
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        for(Future<BookSearchResponse> future : futures) {
+            assertEquals(7L, future.get(5, TimeUnit.SECONDS).getBooks().get(0).getId());
+        }
+        assertEquals(1, loads.get());
+        executor.shutdownNow();
+    }
+
+    @DisplayName("loader 예외는 대기 중인 호출에도 전달되고 캐시되지 않음")
+    @Test
+    void testLoaderFailureNotCached() {
+        // given
+        String key = SearchResultCache.key("dostoevsky", null, 20, "EN", "match");
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> cache.get(key, () -> { throw new IllegalStateException("down"); }));
+        assertEquals(3L, cache.get(key, () -> response(3L)).getBooks().get(0).getId());
+    }
+
+    @DisplayName("책 변경 시 그 책이 포함된 결과만 무효화")
+    @Test
+    void testInvalidateBooks() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        String first = SearchResultCache.key("a", null, 20, "EN", "match");
+        String second = SearchResultCache.key("b", null, 20, "EN", "match");
+        cache.get(first, () -> { loads.incrementAndGet(); return response(1L); });
+        cache.get(second, () -> { loads.incrementAndGet(); return response(2L); });
+
+        // when
+        cache.invalidateBooks(List.of(1L));
+        cache.get(first, () -> { loads.incrementAndGet(); return response(1L); });
+        cache.get(second, () -> { loads.incrementAndGet(); return response(2L); });
+
+        // then
+        assertEquals(3, loads.get());
+    }
+
+    @DisplayName("generation 이 오르면 새 책이 들어갈 수 있는 결과도 모두 다시 검색")
+    @Test
+    void testAdvanceGeneration() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        String key = SearchResultCache.key("tolstoy", null, 20, "EN", "match");
+        cache.get(key, () -> { loads.incrementAndGet(); return response(1L); });
+
+        // when
+        cache.advanceGeneration();
+        cache.get(key, () -> { loads.incrementAndGet(); return response(2L); });
+
+        // then
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getGeneration());
+    }
+
+    @DisplayName("검색 도중 generation 이 오르면 그 결과는 캐시하지 않음")
+    @Test
+    void testResultLoadedAcrossGenerationNotCached() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        String key = SearchResultCache.key("chekhov", null, 20, "EN", "match");
+
+        // when
+        cache.get(key, () -> {
+            loads.incrementAndGet();
+            cache.advanceGeneration();
+            return response(1L);
+        });
+        cache.get(key, () -> { loads.incrementAndGet(); return response(1L); });
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    private static BookSearchResponse response(long bookId) {
+        return BookSearchResponse.builder()
+                .books(List.of(BookSearchItem.builder().id(bookId).title("t" + bookId).author("a").score(1f).build()))
+                .totalHits(1)
+                .nextCursor(null)
+                .build();
+    }
+}
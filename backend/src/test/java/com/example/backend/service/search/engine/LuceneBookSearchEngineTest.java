@@ -0,0 +1,182 @@
+package com.example.backend.service.search.engine;
+
+import com.example.backend.dto.book.BookSearchItem;
+import com.example.backend.entity.book.Book;
+import com.example.backend.entity.user.enumeration.Language;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LuceneBookSearchEngine 테스트 (임베디드 인덱스)")
+class LuceneBookSearchEngineTest {
+
+    @TempDir
+    Path indexDir;
+
+    private LuceneBookSearchEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 재색인 디렉터리와 pointer 파일이 같은 TempDir 안에 생기도록 한 단계 아래에 둠
+        engine = new LuceneBookSearchEngine(indexDir.resolve("books").toString(), 1000);
+
+        List<Book> books = new ArrayList<>();
+        for(long i = 1; i <= 25; i++) {
+            books.add(Book.builder().id(i).title("War and Peace vol." + i).author("Leo Tolstoy").language(Language.EN).build());
+        }
+        books.add(Book.builder().id(100L).title("Crime and Punishment").author("Fyodor Dostoevsky").language(Language.EN).build());
+        books.add(Book.builder().id(200L).title("한국 단편 소설 모음").author("김동인").language(Language.KO).build());
+        engine.index(books);
+        engine.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        engine.close();
+    }
+
+    @DisplayName("영어 analyzer - 어간 추출로 일치")
+    @Test
+    void testEnglishStemming() {
+        // when
+        SearchPage page = engine.search("punishments", Language.EN, null, 10);
+
+        // then
+        assertEquals(100L, page.books().get(0).getId());
+    }
+
+    @DisplayName("nori analyzer - 한국어 형태소 단위 일치")
+    @Test
+    void testKoreanAnalyzer() {
+        // when
+        SearchPage page = engine.search("소설", Language.KO, null, 10);
+
+        // then
+        assertEquals(1, page.books().size());
+        assertEquals(200L, page.books().get(0).getId());
+    }
+
+    @DisplayName("search after 로 중복/누락 없이 전체 페이지 순회")
+    @Test
+    void testPagination() {
+        // when
+        Set<Long> seen = new HashSet<>();
+        SearchAfter after = null;
+        int pages = 0;
+        do {
+            SearchPage page = engine.search("tolstoy", Language.EN, after, 10);
+            for(BookSearchItem item : page.books()) {
+                assertTrue(seen.add(item.getId()));
+            }
+            after = page.last();
+            pages++;
+        } while(after != null && pages < 10);
+
+        // then
+        assertEquals(25, seen.size());
+    }
+
+    @DisplayName("같은 id 재색인은 교체, 삭제 후 검색되지 않음")
+    @Test
+    void testUpdateAndDelete() {
+        // when
+        engine.index(List.of(Book.builder().id(100L).title("The Idiot").author("Fyodor Dostoevsky").language(Language.EN).build()));
+        engine.refresh();
+
+        // then
+        assertTrue(engine.search("crime", Language.EN, null, 10).books().isEmpty());
+        assertEquals("The Idiot", engine.search("idiot", Language.EN, null, 10).books().get(0).getTitle());
+
+        // when
+        engine.delete(List.of(100L));
+        engine.refresh();
+
+        // then
+        assertTrue(engine.search("dostoevsky", Language.EN, null, 10).books().isEmpty());
+    }
+
+    @DisplayName("refresh 는 commit 없이 바로 검색되고, 주기적 commit 이후 재시작해도 유지")
+    @Test
+    void testRefreshAndScheduledCommit() throws Exception {
+        // when
+        engine.index(List.of(Book.builder().id(400L).title("Dead Souls").author("Nikolai Gogol").language(Language.EN).build()));
+        engine.refresh();
+
+        // then
+        assertEquals(400L, engine.search("gogol", Language.EN, null, 10).books().get(0).getId());
+
+        // when
+        engine.commit();
+        engine.close();
+        engine = new LuceneBookSearchEngine(indexDir.resolve("books").toString(), 1000);
+
+        // then
+        assertEquals(1, engine.search("gogol", Language.EN, null, 10).totalHits());
+    }
+
+    @DisplayName("재색인 build 는 publish 전까지 검색되지 않고, publish 후 교체되어 재시작해도 유지")
+    @Test
+    void testBuildAndPublish() throws Exception {
+        // given
+        IndexBuild build = engine.openBuild("test");
+        build.index(List.of(Book.builder().id(300L).title("Anna Karenina").author("Leo Tolstoy").language(Language.EN).build()));
+        build.flush();
+
+        // then
+        assertTrue(engine.search("karenina", Language.EN, null, 10).books().isEmpty());
+        assertSame(build, engine.openBuild("test"));
+
+        // when
+        build.publish();
+
+        // then
+        assertEquals(300L, engine.search("karenina", Language.EN, null, 10).books().get(0).getId());
+        assertTrue(engine.search("punishment", Language.EN, null, 10).books().isEmpty());
+
+        // when
+        engine.close();
+        engine = new LuceneBookSearchEngine(indexDir.resolve("books").toString(), 1000);
+
+        // then
+        assertEquals(1, engine.search("karenina", Language.EN, null, 10).totalHits());
+    }
+
+    @DisplayName("버린 build 는 디렉터리가 삭제되고 검색 대상은 그대로 유지")
+    @Test
+    void testDiscardBuild() {
+        // given
+        IndexBuild build = engine.openBuild("abandoned");
+        build.index(List.of(Book.builder().id(300L).title("Anna Karenina").author("Leo Tolstoy").language(Language.EN).build()));
+        build.flush();
+
+        // when
+        engine.discardBuild("abandoned");
+
+        // then
+        assertFalse(Files.exists(indexDir.resolve("books-abandoned")));
+        assertEquals(100L, engine.search("punishment", Language.EN, null, 10).books().get(0).getId());
+        assertNotSame(build, engine.openBuild("abandoned"));
+    }
+
+    @DisplayName("existingIds 는 검색 대상 인덱스에 있는 id 만 돌려줌")
+    @Test
+    void testExistingIds() {
+        // when
+        Set<Long> existing = engine.existingIds(List.of(1L, 100L, 999L));
+
+        // then
+        assertEquals(Set.of(1L, 100L), existing);
+        assertTrue(engine.existingIds(List.of()).isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.backend.service.search.utility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FacetIndex 테스트")
+class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FacetIndex(List.of("author", "language"));
+        index.put(1, new String[]{"Leo Tolstoy", "EN"});
+        index.put(2, new String[]{"Leo Tolstoy", "KO"});
+        index.put(3, new String[]{"Fyodor Dostoevsky", "EN"});
+        index.put(4, new String[]{"Fyodor Dostoevsky", "EN"});
+        index.put(5, new String[]{"Anton Chekhov", null});
+    }
+
+    @DisplayName("선택 없으면 전체 + 값별 건수 (건수 내림차순, 같으면 이름순)")
+    @Test
+    void testCountsWithoutSelection() {
+        // when
+        FacetIndex.Result result = index.query(null, Map.of(), 10);
+
+        // then
+        assertEquals(5, result.matched().getCardinality());
+        assertEquals(List.of(
+                new FacetIndex.FacetCount("Fyodor Dostoevsky", 2),
+                new FacetIndex.FacetCount("Leo Tolstoy", 2),
+                new FacetIndex.FacetCount("Anton Chekhov", 1)), result.counts().get("author"));
+        assertEquals(List.of(
+                new FacetIndex.FacetCount("EN", 3),
+                new FacetIndex.FacetCount("KO", 1)), result.counts().get("language"));
+    }
+
+    @DisplayName("facet 끼리 AND, 자기 facet 건수는 자기 선택을 제외하고 계산")
+    @Test
+    void testDrillSideways() {
+        // when
+        FacetIndex.Result result = index.query(null, Map.of("language", List.of("EN")), 10);
+
+        // then
+        assertArrayEquals(new int[]{1, 3, 4}, result.matched().toArray());
+        assertEquals(List.of(
+                new FacetIndex.FacetCount("Fyodor Dostoevsky", 2),
+                new FacetIndex.FacetCount("Leo Tolstoy", 1)), result.counts().get("author"));
+        // language 건수는 language 선택과 무관
+        assertEquals(3, result.counts().get("language").get(0).count());
+        assertEquals(1, result.counts().get("language").get(1).count());
+    }
+
+    @DisplayName("같은 facet 안에서는 OR")
+    @Test
+    void testSameFacetUnion() {
+        // when
+        FacetIndex.Result result = index.query(null, Map.of("author", List.of("Leo Tolstoy", "Anton Chekhov")), 10);
+
+        // then
+        assertArrayEquals(new int[]{1, 2, 5}, result.matched().toArray());
+    }
+
+    @DisplayName("검색 결과 범위로 제한")
+    @Test
+    void testBase() {
+        // when
+        FacetIndex.Result result = index.query(RoaringBitmap.bitmapOf(2, 3, 99), Map.of(), 10);
+
+        // then
+        assertArrayEquals(new int[]{2, 3}, result.matched().toArray());
+        assertEquals(2, result.counts().get("author").size());
+    }
+
+    @DisplayName("값 변경/삭제는 이전 bitmap 에서 제거")
+    @Test
+    void testIncrementalUpdate() {
+        // when
+        index.put(3, new String[]{"Anton Chekhov", "EN"});
+        index.remove(4);
+
+        // then
+        FacetIndex.Result result = index.query(null, Map.of("author", List.of("Fyodor Dostoevsky")), 10);
+        assertTrue(result.matched().isEmpty());
+        assertEquals(4, index.size());
+        assertEquals(new FacetIndex.FacetCount("Anton Chekhov", 2), index.query(null, Map.of(), 10).counts().get("author").get(0));
+    }
+}
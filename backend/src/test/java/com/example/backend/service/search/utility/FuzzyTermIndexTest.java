@@ -0,0 +1,129 @@
+package com.example.backend.service.search.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FuzzyTermIndex 테스트")
+class FuzzyTermIndexTest {
+
+    @DisplayName("철자 변형 - 편집 거리 1 로 일치")
+    @Test
+    void testTransliterationVariant() {
+        // given
+        FuzzyTermIndex index = FuzzyTermIndex.builder()
+                .add("Fyodor Dostoyevsky", 1L)
+                .add("Leo Tolstoy", 2L)
+                .build();
+
+        // when
+        List<FuzzyTermIndex.Match> matches = index.lookup("dostoevsky", 2);
+
+        // then
+        assertEquals(1, matches.size());
+        assertEquals("dostoyevsky", matches.get(0).term());
+        assertEquals(1, matches.get(0).distance());
+        assertArrayEquals(new long[]{1L}, matches.get(0).bookIds());
+    }
+
+    @DisplayName("허용 거리를 넘는 term 은 제외")
+    @Test
+    void testMaxEdits() {
+        // given
+        FuzzyTermIndex index = FuzzyTermIndex.builder().add("Punishment", 1L).build();
+
+        // then
+        assertTrue(index.lookup("punshmnt", 1).isEmpty());
+        assertEquals(2, index.lookup("punshmnt", 2).get(0).distance());
+    }
+
+    @DisplayName("같은 term 의 book id 는 중복 없이 오름차순")
+    @Test
+    void testPostingsSortedUnique() {
+        // given
+        FuzzyTermIndex index = FuzzyTermIndex.builder()
+                .add("War and War", 5L)
+                .add("War Poems", 3L)
+                .add("Peace after War", 5L)
+                .build();
+
+        // then
+        assertArrayEquals(new long[]{3L, 5L}, index.lookup("war", 0).get(0).bookIds());
+    }
+
+    @DisplayName("전체 비교 결과와 동일 (무작위 term)")
+    @Test
+    void testMatchesNaiveScan() {
+        // given
+        SplittableRandom random = new SplittableRandom(7);
+        FuzzyTermIndex.Builder builder = FuzzyTermIndex.builder();
+        String[] words = new String[5_000];
+        for(int i = 0; i < words.length; i++) {
+            words[i] = randomWord(random);
+            builder.add(words[i], i);
+        }
+        FuzzyTermIndex index = builder.build();
+
+        for(int q = 0; q < 200; q++) {
+            String query = randomWord(random);
+
+            // when
+            Map<String, Integer> actual = index.lookup(query, 2).stream()
+                    .collect(Collectors.toMap(FuzzyTermIndex.Match::term, FuzzyTermIndex.Match::distance));
+
+            // then
+            for(String word : words) {
+                int distance = levenshtein(query, word);
+                if(distance <= 2) assertEquals(distance, actual.get(word), query + " / " + word);
+                else assertFalse(actual.containsKey(word), query + " / " + word);
+            }
+        }
+    }
+
+    @DisplayName("한글은 자모 단위로 비교")
+    @Test
+    void testKoreanJamo() {
+        // given
+        FuzzyTermIndex index = FuzzyTermIndex.builder().add("운수 좋은 날", 1L).build();
+
+        // when
+        List<FuzzyTermIndex.Match> matches = index.lookup(FuzzyTermIndex.tokenize("운수").get(0), 1);
+        List<FuzzyTermIndex.Match> typo = index.lookup(FuzzyTermIndex.tokenize("운스").get(0), 1);
+
+        // then
+        assertEquals(0, matches.get(0).distance());
+        assertEquals(1, typo.get(0).distance());
+    }
+
+    private static String randomWord(SplittableRandom random) {
+        int length = 3 + random.nextInt(6);
+        StringBuilder builder = new StringBuilder(length);
+        for(int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(6)));
+        }
+        return builder.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for(int j = 0; j <= b.length(); j++) previous[j] = j;
+        for(int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for(int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(previous[j - 1] + cost, Math.min(previous[j] + 1, current[j - 1] + 1));
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
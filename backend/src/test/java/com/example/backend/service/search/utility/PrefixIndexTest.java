@@ -0,0 +1,94 @@
+package com.example.backend.service.search.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrefixIndex 테스트")
+class PrefixIndexTest {
+
+    @DisplayName("prefix 일치 항목을 인기도 순으로 반환")
+    @Test
+    void testSuggestOrderedByPopularity() {
+        // given
+        PrefixIndex index = PrefixIndex.builder()
+                .add("War and Peace", PrefixIndex.TITLE, 1, 10)
+                .add("Wuthering Heights", PrefixIndex.TITLE, 2, 30)
+                .add("Walden", PrefixIndex.TITLE, 3, 20)
+                .add("Wells, H. G.", PrefixIndex.AUTHOR, 4, 5)
+                .add("Moby Dick", PrefixIndex.TITLE, 5, 100)
+                .build();
+
+        // when
+        List<PrefixIndex.Suggestion> result = index.suggest("w", 3);
+
+        // then
+        assertEquals(List.of("Wuthering Heights", "Walden", "War and Peace"),
+                result.stream().map(PrefixIndex.Suggestion::text).toList());
+        assertEquals(2L, result.get(0).bookId());
+    }
+
+    @DisplayName("대소문자/악센트/공백 무시")
+    @Test
+    void testNormalization() {
+        // given
+        PrefixIndex index = PrefixIndex.builder()
+                .add("Les Misérables", PrefixIndex.TITLE, 1, 1)
+                .build();
+
+        // then
+        assertEquals(1, index.suggest("  les   MISERA", 10).size());
+    }
+
+    @DisplayName("같은 제목은 하나로 합치고 인기도 합산")
+    @Test
+    void testDuplicateTitlesMerged() {
+        // given
+        PrefixIndex index = PrefixIndex.builder()
+                .add("Hamlet", PrefixIndex.TITLE, 1, 3)
+                .add("hamlet", PrefixIndex.TITLE, 2, 5)
+                .add("Hamlet", PrefixIndex.AUTHOR, 3, 1)
+                .build();
+
+        // when
+        List<PrefixIndex.Suggestion> result = index.suggest("ham", 10);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals("TITLE", result.get(0).type());
+        assertEquals(8, result.get(0).popularity());
+        assertEquals(2L, result.get(0).bookId());
+        assertNull(result.get(1).bookId());
+    }
+
+    @DisplayName("한글 - 입력 중인 음절도 prefix 로 일치")
+    @Test
+    void testKoreanPartialSyllable() {
+        // given
+        PrefixIndex index = PrefixIndex.builder()
+                .add("한국 단편 소설", PrefixIndex.TITLE, 1, 1)
+                .build();
+
+        // then
+        assertEquals(1, index.suggest("하", 10).size());
+        assertEquals(1, index.suggest("한국", 10).size());
+        assertTrue(index.suggest("국", 10).isEmpty());
+    }
+
+    @DisplayName("일치 항목 없음 / 빈 prefix")
+    @Test
+    void testNoMatch() {
+        // given
+        PrefixIndex index = PrefixIndex.builder()
+                .add("Emma", PrefixIndex.TITLE, 1, 1)
+                .build();
+
+        // then
+        assertTrue(index.suggest("z", 10).isEmpty());
+        assertTrue(index.suggest(" ", 10).isEmpty());
+        assertTrue(PrefixIndex.empty().suggest("a", 10).isEmpty());
+    }
+}